@@ -201,6 +201,10 @@ public class ConnectorServiceImpl implements ConnectorService {
       eventProducer.send(
           Message.newBuilder()
               .putAllMetadata(ImmutableMap.of("accountId", accountIdentifier,
+                  EventsFrameworkMetadataConstants.ENTITY_IDENTIFIER_METADATA_KEY,
+                  FullyQualifiedIdentifierHelper.getFullyQualifiedIdentifier(accountIdentifier,
+                      savedConnector.getOrgIdentifier(), savedConnector.getProjectIdentifier(),
+                      savedConnector.getIdentifier()),
                   EventsFrameworkMetadataConstants.ENTITY_TYPE, EventsFrameworkMetadataConstants.CONNECTOR_ENTITY,
                   EventsFrameworkMetadataConstants.ACTION, EventsFrameworkMetadataConstants.UPDATE_ACTION))
               .setData(connectorUpdateDTOBuilder.build().toByteString())
@@ -3,6 +3,8 @@ package io.harness.ng;
 import static io.harness.AuthorizationServiceHeader.BEARER;
 import static io.harness.AuthorizationServiceHeader.DEFAULT;
 import static io.harness.AuthorizationServiceHeader.IDENTITY_SERVICE;
+import static io.harness.eventsframework.EventsFrameworkConstants.ENTITY_CRUD;
+import static io.harness.eventsframework.EventsFrameworkConstants.SETUP_USAGE;
 import static io.harness.logging.LoggingInitializer.initializeLogging;
 import static io.harness.ng.NextGenConfiguration.getResourceClasses;
 import static io.harness.waiter.NgOrchestrationNotifyEventListener.NG_ORCHESTRATION;
@@ -15,9 +17,11 @@ import io.harness.cdng.creator.filters.CDNGFilterCreationResponseMerger;
 import io.harness.cdng.executionplan.ExecutionPlanCreatorRegistrar;
 import io.harness.cdng.orchestration.NgStepRegistrar;
 import io.harness.engine.events.OrchestrationEventListener;
+import io.harness.eventsframework.api.Consumer;
 import io.harness.gitsync.core.runnable.GitChangeSetRunnable;
 import io.harness.health.HealthService;
 import io.harness.maintenance.MaintenanceController;
+import io.harness.mongo.queue.MongoChangeStreamQueueWakeupSignal;
 import io.harness.ng.core.CorrelationFilter;
 import io.harness.ng.core.EtagFilter;
 import io.harness.ng.core.event.NGEventConsumerService;
@@ -64,6 +68,7 @@ import io.harness.yaml.YamlSdkInitHelper;
 import software.wings.app.CharsetResponseFilter;
 import software.wings.jersey.KryoFeature;
 
+import com.codahale.metrics.MetricSet;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.inject.Guice;
@@ -177,9 +182,19 @@ public class NextGenApplication extends Application<NextGenConfiguration> {
   }
 
   private void createConsumerThreadsToListenToEvents(Environment environment, Injector injector) {
+    registerEventsFrameworkMetrics(environment, injector);
     environment.lifecycle().manage(injector.getInstance(NGEventConsumerService.class));
   }
 
+  private void registerEventsFrameworkMetrics(Environment environment, Injector injector) {
+    for (String topicName : new String[] {ENTITY_CRUD, SETUP_USAGE}) {
+      Consumer consumer = injector.getInstance(Key.get(Consumer.class, Names.named(topicName)));
+      if (consumer instanceof MetricSet) {
+        environment.metrics().registerAll((MetricSet) consumer);
+      }
+    }
+  }
+
   private void registerYamlSdk(Injector injector) {
     YamlSdkConfiguration yamlSdkConfiguration = YamlSdkConfiguration.builder()
                                                     .requireSchemaInit(true)
@@ -223,6 +238,7 @@ public class NextGenApplication extends Application<NextGenConfiguration> {
   }
 
   private void registerManagedBeans(Environment environment, Injector injector) {
+    environment.lifecycle().manage(injector.getInstance(MongoChangeStreamQueueWakeupSignal.class));
     environment.lifecycle().manage(injector.getInstance(QueueListenerController.class));
     environment.lifecycle().manage(injector.getInstance(NotifierScheduledExecutorService.class));
     createConsumerThreadsToListenToEvents(environment, injector);
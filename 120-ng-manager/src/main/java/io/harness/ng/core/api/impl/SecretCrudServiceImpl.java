@@ -42,6 +42,7 @@ import io.harness.secretmanagerclient.dto.SecretFileUpdateDTO;
 import io.harness.secretmanagerclient.remote.SecretManagerClient;
 import io.harness.serializer.JsonUtils;
 import io.harness.stream.BoundedInputStream;
+import io.harness.utils.FullyQualifiedIdentifierHelper;
 import io.harness.utils.PageUtils;
 
 import software.wings.app.FileUploadLimit;
@@ -314,6 +315,9 @@ public class SecretCrudServiceImpl implements SecretCrudService {
       eventProducer.send(
           Message.newBuilder()
               .putAllMetadata(ImmutableMap.of("accountId", secret.getAccountIdentifier(),
+                  EventsFrameworkMetadataConstants.ENTITY_IDENTIFIER_METADATA_KEY,
+                  FullyQualifiedIdentifierHelper.getFullyQualifiedIdentifier(secret.getAccountIdentifier(),
+                      secret.getOrgIdentifier(), secret.getProjectIdentifier(), secret.getIdentifier()),
                   EventsFrameworkMetadataConstants.ENTITY_TYPE, EventsFrameworkMetadataConstants.PROJECT_ENTITY,
                   EventsFrameworkMetadataConstants.ACTION, action))
               .setData(secretEntityChangeDTOBuilder.build().toByteString())
@@ -78,6 +78,7 @@ public class SecretEntityReferenceHelper {
       eventProducer.send(
           Message.newBuilder()
               .putAllMetadata(ImmutableMap.of("accountId", encryptedDataDTO.getAccount(),
+                  EventsFrameworkMetadataConstants.ENTITY_IDENTIFIER_METADATA_KEY, secretFQN,
                   EventsFrameworkMetadataConstants.REFERRED_ENTITY_TYPE, EntityTypeProtoEnum.CONNECTORS.name(),
                   EventsFrameworkMetadataConstants.ACTION, EventsFrameworkMetadataConstants.FLUSH_CREATE_ACTION))
               .setData(entityReferenceDTO.toByteString())
@@ -106,6 +107,7 @@ public class SecretEntityReferenceHelper {
       eventProducer.send(
           Message.newBuilder()
               .putAllMetadata(ImmutableMap.of("accountId", encryptedDataDTO.getAccount(),
+                  EventsFrameworkMetadataConstants.ENTITY_IDENTIFIER_METADATA_KEY, secretFQN,
                   EventsFrameworkMetadataConstants.REFERRED_ENTITY_TYPE, EntityTypeProtoEnum.SECRETS.name(),
                   EventsFrameworkMetadataConstants.ACTION, EventsFrameworkMetadataConstants.DELETE_ACTION))
               .setData(deleteSetupUsageDTO.toByteString())
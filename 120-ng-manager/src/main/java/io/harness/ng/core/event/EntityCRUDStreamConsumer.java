@@ -11,6 +11,7 @@ import static io.harness.eventsframework.EventsFrameworkMetadataConstants.SETUP_
 import io.harness.eventsframework.api.Consumer;
 import io.harness.eventsframework.api.ConsumerShutdownException;
 import io.harness.eventsframework.consumer.Message;
+import io.harness.eventsframework.impl.redis.RedisBatchConsumer;
 import io.harness.security.SecurityContextBuilder;
 import io.harness.security.dto.ServicePrincipal;
 
@@ -63,6 +64,11 @@ public class EntityCRUDStreamConsumer implements Runnable {
   }
 
   private void pollAndProcessMessages() throws ConsumerShutdownException {
+    if (redisConsumer instanceof RedisBatchConsumer) {
+      ((RedisBatchConsumer) redisConsumer).consume(Duration.ofSeconds(10), this::handleMessageInContext);
+      return;
+    }
+
     List<Message> messages;
     String messageId;
     boolean messageProcessed;
@@ -76,6 +82,16 @@ public class EntityCRUDStreamConsumer implements Runnable {
     }
   }
 
+  // Handlers of the batch consumer run on its own pool, the security context has to be set up for each of them
+  private boolean handleMessageInContext(Message message) {
+    SecurityContextBuilder.setContext(new ServicePrincipal(NG_MANAGER.getServiceId()));
+    try {
+      return handleMessage(message);
+    } finally {
+      SecurityContextBuilder.unsetContext();
+    }
+  }
+
   private boolean handleMessage(Message message) {
     try {
       return processMessage(message);
@@ -29,6 +29,7 @@ import io.harness.ng.core.user.services.api.NgUserService;
 import io.harness.repositories.core.spring.OrganizationRepository;
 import io.harness.security.SecurityContextBuilder;
 import io.harness.security.dto.PrincipalType;
+import io.harness.utils.FullyQualifiedIdentifierHelper;
 
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
@@ -90,6 +91,9 @@ public class OrganizationServiceImpl implements OrganizationService {
       eventProducer.send(
           Message.newBuilder()
               .putAllMetadata(ImmutableMap.of("accountId", organization.getAccountIdentifier(),
+                  EventsFrameworkMetadataConstants.ENTITY_IDENTIFIER_METADATA_KEY,
+                  FullyQualifiedIdentifierHelper.getFullyQualifiedIdentifier(
+                      organization.getAccountIdentifier(), null, null, organization.getIdentifier()),
                   EventsFrameworkMetadataConstants.ENTITY_TYPE, EventsFrameworkMetadataConstants.ORGANIZATION_ENTITY,
                   EventsFrameworkMetadataConstants.ACTION, action))
               .setData(getOrganizationPayload(organization))
@@ -39,6 +39,7 @@ import io.harness.ng.core.user.services.api.NgUserService;
 import io.harness.repositories.core.spring.ProjectRepository;
 import io.harness.security.SecurityContextBuilder;
 import io.harness.security.dto.PrincipalType;
+import io.harness.utils.FullyQualifiedIdentifierHelper;
 
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
@@ -165,6 +166,9 @@ public class ProjectServiceImpl implements ProjectService {
       eventProducer.send(
           Message.newBuilder()
               .putAllMetadata(ImmutableMap.of("accountId", project.getAccountIdentifier(),
+                  EventsFrameworkMetadataConstants.ENTITY_IDENTIFIER_METADATA_KEY,
+                  FullyQualifiedIdentifierHelper.getFullyQualifiedIdentifier(
+                      project.getAccountIdentifier(), project.getOrgIdentifier(), null, project.getIdentifier()),
                   EventsFrameworkMetadataConstants.ENTITY_TYPE, EventsFrameworkMetadataConstants.PROJECT_ENTITY,
                   EventsFrameworkMetadataConstants.ACTION, action))
               .setData(getProjectPayload(project))
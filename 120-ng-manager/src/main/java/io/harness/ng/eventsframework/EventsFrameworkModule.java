@@ -8,6 +8,7 @@ import io.harness.eventsframework.api.Consumer;
 import io.harness.eventsframework.api.Producer;
 import io.harness.eventsframework.impl.noop.NoOpConsumer;
 import io.harness.eventsframework.impl.noop.NoOpProducer;
+import io.harness.eventsframework.impl.redis.RedisBatchConsumer;
 import io.harness.eventsframework.impl.redis.RedisConsumer;
 import io.harness.eventsframework.impl.redis.RedisProducer;
 import io.harness.redis.RedisConfig;
@@ -56,9 +57,10 @@ public class EventsFrameworkModule extends AbstractModule {
               EventsFrameworkConstants.ENTITY_CRUD, redisConfig, EventsFrameworkConstants.ENTITY_CRUD_MAX_TOPIC_SIZE));
       bind(Consumer.class)
           .annotatedWith(Names.named(EventsFrameworkConstants.ENTITY_CRUD))
-          .toInstance(RedisConsumer.of(EventsFrameworkConstants.ENTITY_CRUD, NG_MANAGER.getServiceId(), redisConfig,
-              EventsFrameworkConstants.ENTITY_CRUD_MAX_PROCESSING_TIME,
-              EventsFrameworkConstants.ENTITY_CRUD_READ_BATCH_SIZE));
+          .toInstance(RedisBatchConsumer.of(EventsFrameworkConstants.ENTITY_CRUD, NG_MANAGER.getServiceId(),
+              redisConfig, EventsFrameworkConstants.ENTITY_CRUD_MAX_PROCESSING_TIME,
+              EventsFrameworkConstants.ENTITY_CRUD_READ_BATCH_SIZE,
+              EventsFrameworkConstants.ENTITY_CRUD_HANDLER_THREADS));
       bind(Consumer.class)
           .annotatedWith(Names.named(EventsFrameworkConstants.FEATURE_FLAG_STREAM))
           .toInstance(RedisConsumer.of(EventsFrameworkConstants.FEATURE_FLAG_STREAM, NG_MANAGER.getServiceId(),
@@ -70,9 +72,10 @@ public class EventsFrameworkModule extends AbstractModule {
               EventsFrameworkConstants.SETUP_USAGE, redisConfig, EventsFrameworkConstants.ENTITY_CRUD_MAX_TOPIC_SIZE));
       bind(Consumer.class)
           .annotatedWith(Names.named(EventsFrameworkConstants.SETUP_USAGE))
-          .toInstance(RedisConsumer.of(EventsFrameworkConstants.SETUP_USAGE, NG_MANAGER.getServiceId(), redisConfig,
-              EventsFrameworkConstants.SETUP_USAGE_MAX_PROCESSING_TIME,
-              EventsFrameworkConstants.SETUP_USAGE_READ_BATCH_SIZE));
+          .toInstance(RedisBatchConsumer.of(EventsFrameworkConstants.SETUP_USAGE, NG_MANAGER.getServiceId(),
+              redisConfig, EventsFrameworkConstants.SETUP_USAGE_MAX_PROCESSING_TIME,
+              EventsFrameworkConstants.SETUP_USAGE_READ_BATCH_SIZE,
+              EventsFrameworkConstants.SETUP_USAGE_HANDLER_THREADS));
       bind(Producer.class)
           .annotatedWith(Names.named(EventsFrameworkConstants.ENTITY_ACTIVITY))
           .toInstance(RedisProducer.of(EventsFrameworkConstants.ENTITY_ACTIVITY, redisConfig,
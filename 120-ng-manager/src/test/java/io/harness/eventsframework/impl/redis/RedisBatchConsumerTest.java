@@ -0,0 +1,242 @@
+package io.harness.eventsframework.impl.redis;
+
+import static io.harness.eventsframework.EventsFrameworkMetadataConstants.ACCOUNT_IDENTIFIER_METADATA_KEY;
+import static io.harness.eventsframework.EventsFrameworkMetadataConstants.CONNECTOR_ENTITY;
+import static io.harness.eventsframework.EventsFrameworkMetadataConstants.ENTITY_IDENTIFIER_METADATA_KEY;
+import static io.harness.eventsframework.EventsFrameworkMetadataConstants.ENTITY_TYPE;
+import static io.harness.rule.OwnerRule.GEORGE;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.eventsframework.consumer.Message;
+import io.harness.redis.RedisConfig;
+import io.harness.rule.Owner;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.mockito.InOrder;
+import org.mockito.Matchers;
+import org.powermock.api.mockito.PowerMockito;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+import org.redisson.Redisson;
+import org.redisson.api.BatchOptions;
+import org.redisson.api.PendingEntry;
+import org.redisson.api.RBatch;
+import org.redisson.api.RFuture;
+import org.redisson.api.RStream;
+import org.redisson.api.RStreamAsync;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.StreamMessageId;
+import org.redisson.client.codec.Codec;
+import org.redisson.config.Config;
+
+@RunWith(PowerMockRunner.class)
+@PrepareForTest(Redisson.class)
+public class RedisBatchConsumerTest extends CategoryTest {
+  private static final String TOPIC = "topic";
+  private static final String GROUP = "group";
+
+  private RedissonClient client;
+  private RStream<String, String> stream;
+  private RBatch batch;
+  private RFuture<Map<StreamMessageId, Map<String, String>>> readFuture;
+  private RedisBatchConsumer consumer;
+
+  @Before
+  @SuppressWarnings("unchecked")
+  public void setUp() {
+    PowerMockito.mockStatic(Redisson.class);
+    client = mock(RedissonClient.class);
+    when(Redisson.create(any(Config.class))).thenReturn(client);
+
+    stream = mock(RStream.class);
+    when(stream.getName()).thenReturn("streams:" + TOPIC);
+    doReturn(stream).when(client).getStream(anyString(), any(Codec.class));
+
+    batch = mock(RBatch.class);
+    when(client.createBatch(any(BatchOptions.class))).thenReturn(batch);
+    RStreamAsync<String, String> batchStream = mock(RStreamAsync.class);
+    doReturn(batchStream).when(batch).getStream(anyString(), any(Codec.class));
+    readFuture = mock(RFuture.class);
+    doReturn(readFuture)
+        .when(batchStream)
+        .readGroupAsync(anyString(), anyString(), anyInt(), anyLong(), any(TimeUnit.class));
+    when(readFuture.getNow()).thenReturn(Collections.emptyMap());
+
+    RedisConfig redisConfig = RedisConfig.builder().redisUrl("redis://localhost:6379").envNamespace("").build();
+    consumer = new RedisBatchConsumer(TOPIC, GROUP, redisConfig, Duration.ofSeconds(10), 10, 1, Duration.ofMinutes(1),
+        RedisBatchConsumer::entityOrderingKey);
+  }
+
+  @After
+  public void tearDown() {
+    consumer.shutdown();
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldHandleBatchKeepingOrderOfAccount() throws Exception {
+    Map<StreamMessageId, Map<String, String>> messages = new LinkedHashMap<>();
+    messages.put(new StreamMessageId(1, 0), message("account1"));
+    messages.put(new StreamMessageId(2, 0), message("account2"));
+    messages.put(new StreamMessageId(3, 0), message("account1"));
+    messages.put(new StreamMessageId(4, 0), message("account2"));
+    when(readFuture.getNow()).thenReturn(messages);
+
+    Map<String, List<String>> handled = new ConcurrentHashMap<>();
+    int count = consumer.consume(Duration.ofSeconds(1), message -> {
+      handled.computeIfAbsent(RedisBatchConsumer.entityOrderingKey(message), key -> new ArrayList<>())
+          .add(message.getId());
+      return true;
+    });
+
+    assertThat(count).isEqualTo(4);
+    assertThat(handled.get("account1")).containsExactly("1-0", "3-0");
+    assertThat(handled.get("account2")).containsExactly("2-0", "4-0");
+    verify(client, times(1)).createBatch(any(BatchOptions.class));
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldHandleEntitiesOfOneAccountInParallelKeepingOrderOfEntity() throws Exception {
+    Map<StreamMessageId, Map<String, String>> messages = new LinkedHashMap<>();
+    messages.put(new StreamMessageId(1, 0), message("account1", "connector1"));
+    messages.put(new StreamMessageId(2, 0), message("account1", "connector2"));
+    messages.put(new StreamMessageId(3, 0), message("account1", "connector1"));
+    messages.put(new StreamMessageId(4, 0), message("account1", "connector2"));
+    when(readFuture.getNow()).thenReturn(messages);
+
+    RedisConfig redisConfig = RedisConfig.builder().redisUrl("redis://localhost:6379").envNamespace("").build();
+    RedisBatchConsumer parallelConsumer = new RedisBatchConsumer(TOPIC, GROUP, redisConfig, Duration.ofSeconds(10),
+        10, 2, Duration.ofMinutes(1), RedisBatchConsumer::entityOrderingKey);
+    try {
+      // The first message of each connector waits for the other one, which only completes when both run at once
+      CountDownLatch bothStarted = new CountDownLatch(2);
+      Map<String, List<String>> handled = new ConcurrentHashMap<>();
+      int count = parallelConsumer.consume(Duration.ofSeconds(1), message -> {
+        List<String> entityHandled = handled.computeIfAbsent(
+            RedisBatchConsumer.entityOrderingKey(message), key -> Collections.synchronizedList(new ArrayList<>()));
+        if (entityHandled.isEmpty()) {
+          bothStarted.countDown();
+          try {
+            bothStarted.await(10, TimeUnit.SECONDS);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+        }
+        entityHandled.add(message.getId());
+        return true;
+      });
+
+      assertThat(count).isEqualTo(4);
+      assertThat(bothStarted.getCount()).isEqualTo(0);
+      assertThat(handled).hasSize(2);
+      assertThat(handled.get("connector/connector1")).containsExactly("1-0", "3-0");
+      assertThat(handled.get("connector/connector2")).containsExactly("2-0", "4-0");
+    } finally {
+      parallelConsumer.shutdown();
+    }
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldOnlyAcknowledgeMessagesBeforeTheFailureOfAnAccount() throws Exception {
+    Map<StreamMessageId, Map<String, String>> messages = new LinkedHashMap<>();
+    messages.put(new StreamMessageId(1, 0), message("account1"));
+    messages.put(new StreamMessageId(2, 0), message("account2"));
+    messages.put(new StreamMessageId(3, 0), message("account1"));
+    messages.put(new StreamMessageId(4, 0), message("account1"));
+    messages.put(new StreamMessageId(5, 0), message("account2"));
+    when(readFuture.getNow()).thenReturn(messages);
+
+    int count = consumer.consume(Duration.ofSeconds(1), message -> !message.getId().equals("3-0"));
+    consumer.flushAcknowledgements();
+
+    assertThat(count).isEqualTo(3);
+    // A single handler thread runs the accounts one after the other, in the order they first show up in the batch
+    verify(stream).ack(GROUP, new StreamMessageId(1, 0), new StreamMessageId(2, 0), new StreamMessageId(5, 0));
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldReclaimPendingEntriesOncePerInterval() throws Exception {
+    StreamMessageId pendingId = new StreamMessageId(1, 0);
+    PendingEntry pendingEntry = mock(PendingEntry.class);
+    when(pendingEntry.getId()).thenReturn(pendingId);
+    when(stream.listPending(eq(GROUP), any(StreamMessageId.class), any(StreamMessageId.class), anyInt()))
+        .thenReturn(Collections.singletonList(pendingEntry));
+    Map<StreamMessageId, Map<String, String>> claimed = new HashMap<>();
+    claimed.put(pendingId, message("account1"));
+    when(stream.claim(eq(GROUP), anyString(), anyLong(), any(TimeUnit.class), Matchers.<StreamMessageId>anyVararg()))
+        .thenReturn(claimed);
+
+    List<Message> reclaimed = consumer.read(Duration.ofSeconds(1));
+    assertThat(reclaimed).extracting(Message::getId).containsExactly("1-0");
+    verify(client, never()).createBatch(any(BatchOptions.class));
+
+    assertThat(consumer.read(Duration.ofSeconds(1))).isEmpty();
+    verify(stream, times(1)).listPending(eq(GROUP), any(StreamMessageId.class), any(StreamMessageId.class), anyInt());
+    verify(client, times(1)).createBatch(any(BatchOptions.class));
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldFlushAcknowledgementsBeforeReclaimingPendingEntries() throws Exception {
+    consumer.acknowledge("1-0");
+
+    consumer.read(Duration.ofSeconds(1));
+
+    // Handled messages are still pending until their acknowledgement reaches redis
+    InOrder inOrder = inOrder(stream);
+    inOrder.verify(stream).ack(GROUP, new StreamMessageId(1, 0));
+    inOrder.verify(stream).listPending(eq(GROUP), any(StreamMessageId.class), any(StreamMessageId.class), anyInt());
+  }
+
+  private static Map<String, String> message(String accountId) {
+    Map<String, String> message = new HashMap<>();
+    message.put(RedisUtils.REDIS_STREAM_INTERNAL_KEY, Base64.getEncoder().encodeToString(accountId.getBytes()));
+    message.put(ACCOUNT_IDENTIFIER_METADATA_KEY, accountId);
+    return message;
+  }
+
+  private static Map<String, String> message(String accountId, String connectorIdentifier) {
+    Map<String, String> message = message(accountId);
+    message.put(ENTITY_TYPE, CONNECTOR_ENTITY);
+    message.put(ENTITY_IDENTIFIER_METADATA_KEY, connectorIdentifier);
+    return message;
+  }
+}
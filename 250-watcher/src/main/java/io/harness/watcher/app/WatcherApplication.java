@@ -144,6 +144,7 @@ public class WatcherApplication {
                                                             .orElse(EventPublisherConstants.DEFAULT_QUEUE_FILE_PATH))
                                          .publishTarget(publishTarget)
                                          .publishAuthority(publishAuthority)
+                                         .maxInFlightBatches(4)
                                          .build()));
       } else {
         log.warn("Unable to configure event publisher configs. Event publisher will be disabled");
@@ -15,6 +15,7 @@ import io.harness.perpetualtask.grpc.PerpetualTaskServiceGrpcClient;
 import io.harness.threading.Schedulable;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.Lists;
 import com.google.common.util.concurrent.AbstractScheduledService;
 import com.google.common.util.concurrent.MoreExecutors;
 import com.google.common.util.concurrent.SimpleTimeLimiter;
@@ -24,7 +25,10 @@ import com.google.inject.Singleton;
 import com.google.inject.name.Named;
 import com.google.protobuf.util.Durations;
 import com.google.protobuf.util.Timestamps;
+import io.grpc.Context;
+import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
+import io.grpc.stub.StreamObserver;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashSet;
@@ -40,6 +44,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.Marker;
@@ -50,6 +55,12 @@ import org.slf4j.MarkerFactory;
 @TargetModule(Module._930_DELEGATE_TASKS)
 public class PerpetualTaskWorker {
   private static final Marker THROTTLED = MarkerFactory.getMarker("THROTTLED");
+  private static final int CONTEXT_BATCH_SIZE = 100;
+  private static final long MAX_FEED_RECONNECT_DELAY_SECONDS = 60;
+  // The manager compares the assignments at least every 10 minutes, a feed quiet for longer than this is reopened.
+  private static final long MAX_FEED_IDLE_MINUTES = 30;
+  // Broadcasts that arrive together are handled with a single reopen of the feed.
+  private static final long FEED_REFRESH_DELAY_MILLIS = 500;
   @Getter private final Map<PerpetualTaskId, PerpetualTaskAssignRecord> runningTaskMap = new ConcurrentHashMap<>();
 
   private final TimeLimiter perpetualTaskTimeLimiter;
@@ -65,6 +76,13 @@ public class PerpetualTaskWorker {
   private String accountId;
   @Getter private final AtomicInteger currentlyExecutingPerpetualTasksCount = new AtomicInteger();
 
+  // The open assignment feed, null while the assignments have to be polled.
+  private final AtomicReference<Context.CancellableContext> assignmentFeed = new AtomicReference<>();
+  private final AtomicInteger feedFailures = new AtomicInteger();
+  private volatile long assignmentFeedActiveAt;
+  private volatile boolean feedUnsupported;
+  private final AtomicBoolean feedRefreshPending = new AtomicBoolean();
+
   private class PerpetualTaskWorkerService extends AbstractScheduledService {
     PerpetualTaskWorkerService() {
       addListener(new LoggingListener(this), MoreExecutors.directExecutor());
@@ -72,6 +90,10 @@ public class PerpetualTaskWorker {
 
     @Override
     protected void runOneIteration() {
+      closeIdleAssignmentFeed();
+      if (assignmentFeed.get() != null || openAssignmentFeed()) {
+        return;
+      }
       handleTasks();
     }
 
@@ -166,6 +188,141 @@ public class PerpetualTaskWorker {
     }
   }
 
+  /**
+   * Opens the feed that streams the changes to the assigned tasks, instead of polling the whole list. The tasks that
+   * already run are passed along, so a restarted feed only brings what changed in between. Returns false when the
+   * manager does not support the feed.
+   */
+  @VisibleForTesting
+  synchronized boolean openAssignmentFeed() {
+    if (feedUnsupported || !running.get()) {
+      return false;
+    }
+    if (assignmentFeed.get() != null) {
+      return true;
+    }
+    List<PerpetualTaskAssignDetails> knownAssignments;
+    synchronized (runningTaskMap) {
+      knownAssignments = runningTaskMap.values()
+                             .stream()
+                             .map(PerpetualTaskAssignRecord::getPerpetualTaskAssignDetails)
+                             .collect(Collectors.toList());
+    }
+    String delegateId = getDelegateId().orElse("UNREGISTERED");
+    Context.CancellableContext feedContext = Context.current().withCancellation();
+    assignmentFeedActiveAt = currentTimeMillis();
+    assignmentFeed.set(feedContext);
+    log.info("Opening the perpetual task assignment feed with {} running tasks", knownAssignments.size());
+    feedContext.run(()
+                        -> perpetualTaskServiceGrpcClient.perpetualTaskAssignments(
+                            delegateId, knownAssignments, new AssignmentFeedObserver(feedContext)));
+    return true;
+  }
+
+  /**
+   * Closes the feed when nothing came through it for {@link #MAX_FEED_IDLE_MINUTES}, in case the stream is broken
+   * without either side noticing. The feed that is opened instead brings the tasks in line with the manager, like a
+   * poll would.
+   */
+  private void closeIdleAssignmentFeed() {
+    if (assignmentFeed.get() != null
+        && currentTimeMillis() - assignmentFeedActiveAt > TimeUnit.MINUTES.toMillis(MAX_FEED_IDLE_MINUTES)) {
+      log.info("No perpetual task assignments received for {} minutes, reopening the feed", MAX_FEED_IDLE_MINUTES);
+      closeAssignmentFeed();
+    }
+  }
+
+  private void closeAssignmentFeed() {
+    Context.CancellableContext feedContext = assignmentFeed.getAndSet(null);
+    if (feedContext != null) {
+      feedContext.cancel(null);
+    }
+  }
+
+  private class AssignmentFeedObserver implements StreamObserver<PerpetualTaskAssignmentsResponse> {
+    private final Context.CancellableContext feedContext;
+
+    AssignmentFeedObserver(Context.CancellableContext feedContext) {
+      this.feedContext = feedContext;
+    }
+
+    @Override
+    public void onNext(PerpetualTaskAssignmentsResponse response) {
+      feedFailures.set(0);
+      assignmentFeedActiveAt = currentTimeMillis();
+      try {
+        applyAssignments(response);
+      } catch (Exception ex) {
+        // The manager considers the changes delivered, reopen the feed to get what was missed.
+        log.error("Exception applying perpetual task assignments, reopening the feed", ex);
+        feedContext.cancel(ex);
+      }
+    }
+
+    @Override
+    public void onError(Throwable t) {
+      if (!assignmentFeed.compareAndSet(feedContext, null)) {
+        return;
+      }
+      if (Status.fromThrowable(t).getCode() == Status.Code.UNIMPLEMENTED) {
+        log.info("Perpetual task assignment feed is not supported by the manager, polling the assigned tasks");
+        feedUnsupported = true;
+        handleTasks();
+        return;
+      }
+      log.warn(THROTTLED, "Perpetual task assignment feed failed for account:{}", accountId, t);
+      reopenAssignmentFeedLater();
+    }
+
+    @Override
+    public void onCompleted() {
+      if (assignmentFeed.compareAndSet(feedContext, null)) {
+        reopenAssignmentFeedLater();
+      }
+    }
+  }
+
+  private void reopenAssignmentFeedLater() {
+    if (!running.get()) {
+      return;
+    }
+    long delay = Math.min(MAX_FEED_RECONNECT_DELAY_SECONDS, 1L << Math.min(feedFailures.getAndIncrement(), 6));
+    perpetualTaskTimeoutExecutor.schedule(
+        new Schedulable("Throwable while opening perpetual task assignment feed", this::openAssignmentFeed), delay,
+        TimeUnit.SECONDS);
+  }
+
+  /**
+   * Stops the removed tasks and (re)starts the assigned ones, with their contexts fetched in batches.
+   */
+  @VisibleForTesting
+  void applyAssignments(PerpetualTaskAssignmentsResponse response) {
+    for (PerpetualTaskId taskId : response.getRemovedList()) {
+      log.info("Stopping the task with id: {}", taskId.getId());
+      stopTask(taskId);
+    }
+
+    for (List<PerpetualTaskAssignDetails> batch : Lists.partition(response.getAssignedList(), CONTEXT_BATCH_SIZE)) {
+      Map<String, PerpetualTaskExecutionContext> contexts = perpetualTaskServiceGrpcClient.perpetualTaskContexts(
+          batch.stream().map(PerpetualTaskAssignDetails::getTaskId).collect(Collectors.toList()));
+      for (PerpetualTaskAssignDetails task : batch) {
+        PerpetualTaskExecutionContext context = contexts.get(task.getTaskId().getId());
+        if (context == null) {
+          // Deleted after it was sent.
+          continue;
+        }
+        if (runningTaskMap.containsKey(task.getTaskId())) {
+          logPullDelay(task, "update for task");
+          stopTask(task.getTaskId());
+        } else if (!firstFillUp.get()) {
+          logPullDelay(task, "first poll from this delegate for task");
+        }
+        startTask(task, context);
+      }
+    }
+    firstFillUp.set(false);
+  }
+
   List<PerpetualTaskAssignDetails> fetchAssignedTask() {
     String delegateId = getDelegateId().orElse("UNREGISTERED");
     List<PerpetualTaskAssignDetails> assignedTasks = perpetualTaskServiceGrpcClient.perpetualTaskList(delegateId);
@@ -177,8 +334,18 @@ public class PerpetualTaskWorker {
 
   @VisibleForTesting
   void startTask(PerpetualTaskAssignDetails task) {
+    PerpetualTaskExecutionContext context;
+    try (AutoLogContext ignore1 = new PerpetualTaskLogContext(task.getTaskId().getId(), OVERRIDE_ERROR)) {
+      context = perpetualTaskServiceGrpcClient.perpetualTaskContext(task.getTaskId());
+    } catch (Exception ex) {
+      log.error("Exception in starting perpetual task ", ex);
+      return;
+    }
+    startTask(task, context);
+  }
+
+  private void startTask(PerpetualTaskAssignDetails task, PerpetualTaskExecutionContext context) {
     try (AutoLogContext ignore1 = new PerpetualTaskLogContext(task.getTaskId().getId(), OVERRIDE_ERROR)) {
-      PerpetualTaskExecutionContext context = perpetualTaskServiceGrpcClient.perpetualTaskContext(task.getTaskId());
       PerpetualTaskSchedule schedule = context.getTaskSchedule();
       long intervalSeconds = Durations.toSeconds(schedule.getInterval());
 
@@ -224,7 +391,29 @@ public class PerpetualTaskWorker {
   }
 
   public void updateTasks() {
-    handleTasks();
+    if (assignmentFeed.get() == null) {
+      handleTasks();
+      return;
+    }
+    // The feed only brings the changes made on the manager that holds it right away, those made on another manager
+    // wait for its next reconciliation. Reopening the feed compares the running tasks with the assignments now.
+    if (feedRefreshPending.compareAndSet(false, true)) {
+      perpetualTaskTimeoutExecutor.schedule(
+          new Schedulable("Throwable while refreshing perpetual task assignment feed", this::refreshAssignmentFeed),
+          FEED_REFRESH_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  @VisibleForTesting
+  synchronized void refreshAssignmentFeed() {
+    feedRefreshPending.set(false);
+    // A feed that is being reopened anyway brings the changes as well.
+    if (assignmentFeed.get() == null) {
+      return;
+    }
+    log.info("Perpetual tasks changed, reopening the assignment feed");
+    closeAssignmentFeed();
+    openAssignmentFeed();
   }
 
   public void start() {
@@ -238,6 +427,7 @@ public class PerpetualTaskWorker {
     if (running.compareAndSet(true, false)) {
       PerpetualTaskWorkerService perpetualTaskWorkerService = this.svcHolder.get();
       perpetualTaskWorkerService.stopAsync().awaitTerminated();
+      closeAssignmentFeed();
       while (true) {
         synchronized (runningTaskMap) {
           Iterator<PerpetualTaskId> iterator = runningTaskMap.keySet().iterator();
@@ -3,6 +3,7 @@ package io.harness.perpetualtask;
 import io.harness.annotations.dev.Module;
 import io.harness.annotations.dev.TargetModule;
 import io.harness.perpetualtask.PerpetualTaskServiceGrpc.PerpetualTaskServiceBlockingStub;
+import io.harness.perpetualtask.PerpetualTaskServiceGrpc.PerpetualTaskServiceStub;
 import io.harness.perpetualtask.artifact.ArtifactCollectionTaskParams;
 import io.harness.perpetualtask.artifact.ArtifactPerpetualTaskExecutor;
 import io.harness.perpetualtask.connector.ConnectorHeartbeatPerpetualTaskExecutor;
@@ -95,4 +96,11 @@ public class PerpetualTaskWorkerModule extends AbstractModule {
       @Named("manager-channel") Channel channel, CallCredentials callCredentials) {
     return PerpetualTaskServiceGrpc.newBlockingStub(channel).withCallCredentials(callCredentials);
   }
+
+  @Provides
+  @Singleton
+  PerpetualTaskServiceStub perpetualTaskServiceStub(
+      @Named("manager-channel") Channel channel, CallCredentials callCredentials) {
+    return PerpetualTaskServiceGrpc.newStub(channel).withCallCredentials(callCredentials);
+  }
 }
@@ -6,18 +6,25 @@ import io.harness.delegate.DelegateId;
 import io.harness.grpc.utils.HTimestamps;
 import io.harness.perpetualtask.HeartbeatRequest;
 import io.harness.perpetualtask.PerpetualTaskAssignDetails;
+import io.harness.perpetualtask.PerpetualTaskAssignmentsRequest;
+import io.harness.perpetualtask.PerpetualTaskAssignmentsResponse;
 import io.harness.perpetualtask.PerpetualTaskContextRequest;
+import io.harness.perpetualtask.PerpetualTaskContextsRequest;
 import io.harness.perpetualtask.PerpetualTaskExecutionContext;
 import io.harness.perpetualtask.PerpetualTaskId;
 import io.harness.perpetualtask.PerpetualTaskListRequest;
 import io.harness.perpetualtask.PerpetualTaskListResponse;
 import io.harness.perpetualtask.PerpetualTaskResponse;
 import io.harness.perpetualtask.PerpetualTaskServiceGrpc.PerpetualTaskServiceBlockingStub;
+import io.harness.perpetualtask.PerpetualTaskServiceGrpc.PerpetualTaskServiceStub;
 
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
+import io.grpc.stub.StreamObserver;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import lombok.extern.slf4j.Slf4j;
 
@@ -26,10 +33,13 @@ import lombok.extern.slf4j.Slf4j;
 @TargetModule(Module._930_DELEGATE_TASKS)
 public class PerpetualTaskServiceGrpcClient {
   private final PerpetualTaskServiceBlockingStub serviceBlockingStub;
+  private final PerpetualTaskServiceStub serviceStub;
 
   @Inject
-  public PerpetualTaskServiceGrpcClient(PerpetualTaskServiceBlockingStub perpetualTaskServiceBlockingStub) {
+  public PerpetualTaskServiceGrpcClient(PerpetualTaskServiceBlockingStub perpetualTaskServiceBlockingStub,
+      PerpetualTaskServiceStub perpetualTaskServiceStub) {
     serviceBlockingStub = perpetualTaskServiceBlockingStub;
+    serviceStub = perpetualTaskServiceStub;
   }
 
   public List<PerpetualTaskAssignDetails> perpetualTaskList(String delegateId) {
@@ -47,6 +57,25 @@ public class PerpetualTaskServiceGrpcClient {
         .getPerpetualTaskContext();
   }
 
+  /**
+   * Opens the feed of the changes to the tasks assigned to the delegate, relative to the tasks it already knows. The
+   * feed stays open until it fails or the current grpc context is cancelled.
+   */
+  public void perpetualTaskAssignments(String delegateId, Collection<PerpetualTaskAssignDetails> knownAssignments,
+      StreamObserver<PerpetualTaskAssignmentsResponse> responseObserver) {
+    serviceStub.perpetualTaskAssignments(PerpetualTaskAssignmentsRequest.newBuilder()
+                                             .setDelegateId(DelegateId.newBuilder().setId(delegateId).build())
+                                             .addAllKnownAssignments(knownAssignments)
+                                             .build(),
+        responseObserver);
+  }
+
+  public Map<String, PerpetualTaskExecutionContext> perpetualTaskContexts(List<PerpetualTaskId> taskIds) {
+    return serviceBlockingStub.withDeadlineAfter(60, TimeUnit.SECONDS)
+        .perpetualTaskContexts(PerpetualTaskContextsRequest.newBuilder().addAllPerpetualTaskIds(taskIds).build())
+        .getPerpetualTaskContextsMap();
+  }
+
   public void heartbeat(PerpetualTaskId taskId, Instant taskStartTime, PerpetualTaskResponse perpetualTaskResponse) {
     serviceBlockingStub.withDeadlineAfter(60, TimeUnit.SECONDS)
         .heartbeat(HeartbeatRequest.newBuilder()
@@ -150,10 +150,12 @@ public class K8sRollingDeployTaskHandler extends K8sTaskHandler {
           k8sTaskHelper.getExecutionLogCallback(k8sRollingDeployTaskParameters, WaitForSteadyState);
 
       success = k8sTaskHelperBase.doStatusCheckForAllResources(client, managedWorkloadKubernetesResourceIds,
-          k8sDelegateTaskParams, kubernetesConfig.getNamespace(), executionLogCallback, customWorkloads.isEmpty());
+          k8sDelegateTaskParams, kubernetesConfig.getNamespace(), executionLogCallback, customWorkloads.isEmpty(),
+          kubernetesConfig);
 
-      boolean customWorkloadsStatusSuccess = k8sTaskHelperBase.doStatusCheckForAllCustomResources(
-          client, customWorkloads, k8sDelegateTaskParams, executionLogCallback, true, steadyStateTimeoutInMillis);
+      boolean customWorkloadsStatusSuccess = k8sTaskHelperBase.doStatusCheckForAllCustomResources(client,
+          customWorkloads, k8sDelegateTaskParams, executionLogCallback, true, steadyStateTimeoutInMillis,
+          kubernetesConfig);
 
       // We have to update the workload revision again as the rollout history command sometimes gives the older
       // revision (known issue at least for Deployment and DeploymentConfig). There seems to be delay in handling of
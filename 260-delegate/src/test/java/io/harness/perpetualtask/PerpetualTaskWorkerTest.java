@@ -4,8 +4,14 @@ import static io.harness.rule.OwnerRule.GEORGE;
 import static io.harness.rule.OwnerRule.VUK;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.joor.Reflect.on;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyCollectionOf;
+import static org.mockito.Matchers.anyListOf;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Matchers.isA;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -20,6 +26,7 @@ import io.harness.threading.Concurrent;
 
 import software.wings.beans.KubernetesClusterConfig;
 
+import com.google.common.collect.ImmutableMap;
 import com.google.inject.Inject;
 import com.google.inject.name.Named;
 import com.google.protobuf.Any;
@@ -34,6 +41,7 @@ import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.Before;
 import org.junit.Rule;
@@ -123,6 +131,48 @@ public class PerpetualTaskWorkerTest extends DelegateTest {
     verify(perpetualTaskServiceGrpcClient).perpetualTaskList(anyString());
   }
 
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testApplyAssignments() {
+    when(perpetualTaskServiceGrpcClient.perpetualTaskContexts(anyListOf(PerpetualTaskId.class)))
+        .thenReturn(ImmutableMap.of(taskIdString1, context, taskIdString2, context));
+
+    worker.applyAssignments(
+        PerpetualTaskAssignmentsResponse.newBuilder().addAssigned(task1).addAssigned(task2).build());
+    assertThat(worker.getRunningTaskMap()).containsOnlyKeys(taskId1, taskId2);
+    verify(perpetualTaskServiceGrpcClient, times(1)).perpetualTaskContexts(anyListOf(PerpetualTaskId.class));
+    verify(perpetualTaskServiceGrpcClient, never()).perpetualTaskContext(isA(PerpetualTaskId.class));
+
+    PerpetualTaskAssignDetails updatedTask1 = PerpetualTaskAssignDetails.newBuilder()
+                                                  .setTaskId(taskId1)
+                                                  .setLastContextUpdated(Timestamp.newBuilder().setSeconds(2222))
+                                                  .build();
+    worker.applyAssignments(
+        PerpetualTaskAssignmentsResponse.newBuilder().addAssigned(updatedTask1).addRemoved(taskId2).build());
+    assertThat(worker.getRunningTaskMap()).containsOnlyKeys(taskId1);
+    assertThat(worker.getRunningTaskMap().get(taskId1).getPerpetualTaskAssignDetails()).isEqualTo(updatedTask1);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testRefreshAssignmentFeedReopensOpenFeed() {
+    on(worker).<AtomicBoolean>get("running").set(true);
+    worker.startTask(task1);
+
+    // Without an open feed there is nothing to refresh
+    worker.refreshAssignmentFeed();
+    verify(perpetualTaskServiceGrpcClient, never())
+        .perpetualTaskAssignments(anyString(), anyCollectionOf(PerpetualTaskAssignDetails.class), any());
+
+    assertThat(worker.openAssignmentFeed()).isTrue();
+    worker.refreshAssignmentFeed();
+    verify(perpetualTaskServiceGrpcClient, times(2))
+        .perpetualTaskAssignments(anyString(), anyCollectionOf(PerpetualTaskAssignDetails.class), any());
+    assertThat(worker.getRunningTaskMap()).containsOnlyKeys(taskId1);
+  }
+
   @Test
   @Owner(developers = GEORGE)
   @Category(UnitTests.class)
@@ -351,11 +351,11 @@ public class K8sApplyTaskHandlerTest extends WingsBaseTest {
     doReturn(true)
         .when(k8sTaskHelperBase)
         .doStatusCheckForAllResources(any(Kubectl.class), anyList(), any(K8sDelegateTaskParams.class), anyString(),
-            any(ExecutionLogCallback.class), anyBoolean());
+            any(ExecutionLogCallback.class), anyBoolean(), any(KubernetesConfig.class));
     doReturn(true)
         .when(k8sTaskHelperBase)
         .doStatusCheckForAllCustomResources(any(Kubectl.class), anyList(), any(K8sDelegateTaskParams.class),
-            any(ExecutionLogCallback.class), anyBoolean(), anyLong());
+            any(ExecutionLogCallback.class), anyBoolean(), anyLong(), any(KubernetesConfig.class));
 
     K8sApplyHandlerConfig k8sApplyHandlerConfig = new K8sApplyHandlerConfig();
     k8sApplyHandlerConfig.setWorkloads(
@@ -374,7 +374,7 @@ public class K8sApplyTaskHandlerTest extends WingsBaseTest {
 
     verify(k8sTaskHelperBase, times(1))
         .doStatusCheckForAllResources(any(Kubectl.class), captor.capture(), any(K8sDelegateTaskParams.class),
-            anyString(), any(ExecutionLogCallback.class), anyBoolean());
+            anyString(), any(ExecutionLogCallback.class), anyBoolean(), any(KubernetesConfig.class));
 
     @SuppressWarnings("unchecked")
     final List<KubernetesResourceId> capturedResources = (List<KubernetesResourceId>) captor.getValue();
@@ -390,11 +390,11 @@ public class K8sApplyTaskHandlerTest extends WingsBaseTest {
     doReturn(true)
         .when(k8sTaskHelperBase)
         .doStatusCheckForAllResources(any(Kubectl.class), anyList(), any(K8sDelegateTaskParams.class), anyString(),
-            any(ExecutionLogCallback.class), eq(false));
+            any(ExecutionLogCallback.class), eq(false), any(KubernetesConfig.class));
     doReturn(true)
         .when(k8sTaskHelperBase)
         .doStatusCheckForAllCustomResources(any(Kubectl.class), anyList(), any(K8sDelegateTaskParams.class),
-            any(ExecutionLogCallback.class), eq(true), anyLong());
+            any(ExecutionLogCallback.class), eq(true), anyLong(), any(KubernetesConfig.class));
 
     K8sApplyHandlerConfig k8sApplyHandlerConfig = new K8sApplyHandlerConfig();
     k8sApplyHandlerConfig.setWorkloads(
@@ -419,7 +419,7 @@ public class K8sApplyTaskHandlerTest extends WingsBaseTest {
 
     verify(k8sTaskHelperBase, times(1))
         .doStatusCheckForAllCustomResources(any(Kubectl.class), captor.capture(), any(K8sDelegateTaskParams.class),
-            any(ExecutionLogCallback.class), eq(true), anyLong());
+            any(ExecutionLogCallback.class), eq(true), anyLong(), any(KubernetesConfig.class));
 
     @SuppressWarnings("unchecked")
     final List<KubernetesResourceId> capturedResources = (List<KubernetesResourceId>) captor.getValue();
@@ -436,11 +436,11 @@ public class K8sApplyTaskHandlerTest extends WingsBaseTest {
     doReturn(false)
         .when(k8sTaskHelperBase)
         .doStatusCheckForAllResources(any(Kubectl.class), anyList(), any(K8sDelegateTaskParams.class), anyString(),
-            any(ExecutionLogCallback.class), anyBoolean());
+            any(ExecutionLogCallback.class), anyBoolean(), any(KubernetesConfig.class));
     doReturn(false)
         .when(k8sTaskHelperBase)
         .doStatusCheckForAllCustomResources(any(Kubectl.class), anyList(), any(K8sDelegateTaskParams.class),
-            any(ExecutionLogCallback.class), eq(true), anyLong());
+            any(ExecutionLogCallback.class), eq(true), anyLong(), any(KubernetesConfig.class));
 
     List<KubernetesResource> managedResources = ManifestHelper.processYaml("apiVersion: apps/v1\n"
         + "kind: Foo\n"
@@ -465,7 +465,7 @@ public class K8sApplyTaskHandlerTest extends WingsBaseTest {
     ArgumentCaptor<List> captor = ArgumentCaptor.forClass(List.class);
     verify(k8sTaskHelperBase, times(1))
         .doStatusCheckForAllCustomResources(any(Kubectl.class), captor.capture(), any(K8sDelegateTaskParams.class),
-            any(ExecutionLogCallback.class), eq(true), anyLong());
+            any(ExecutionLogCallback.class), eq(true), anyLong(), any(KubernetesConfig.class));
 
     @SuppressWarnings("unchecked")
     final List<KubernetesResourceId> capturedResources = (List<KubernetesResourceId>) captor.getValue();
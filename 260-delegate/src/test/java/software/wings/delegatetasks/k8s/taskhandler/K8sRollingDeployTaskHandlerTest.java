@@ -341,12 +341,12 @@ public class K8sRollingDeployTaskHandlerTest extends WingsBaseTest {
     doReturn(true)
         .when(k8sTaskHelperBase)
         .doStatusCheckForAllResources(any(Kubectl.class), anyList(), any(K8sDelegateTaskParams.class), anyString(),
-            any(ExecutionLogCallback.class), anyBoolean());
+            any(ExecutionLogCallback.class), anyBoolean(), any(KubernetesConfig.class));
 
     doReturn(true)
         .when(k8sTaskHelperBase)
         .doStatusCheckForAllCustomResources(any(Kubectl.class), anyList(), any(K8sDelegateTaskParams.class),
-            any(ExecutionLogCallback.class), anyBoolean(), anyLong());
+            any(ExecutionLogCallback.class), anyBoolean(), anyLong(), any(KubernetesConfig.class));
 
     K8sTaskExecutionResponse response = handler.executeTask(rollingDeployTaskParams, delegateTaskParams);
 
@@ -390,12 +390,12 @@ public class K8sRollingDeployTaskHandlerTest extends WingsBaseTest {
     doReturn(true)
         .when(k8sTaskHelperBase)
         .doStatusCheckForAllResources(any(Kubectl.class), anyList(), any(K8sDelegateTaskParams.class), anyString(),
-            any(ExecutionLogCallback.class), anyBoolean());
+            any(ExecutionLogCallback.class), anyBoolean(), any(KubernetesConfig.class));
 
     doReturn(false)
         .when(k8sTaskHelperBase)
         .doStatusCheckForAllCustomResources(any(Kubectl.class), anyList(), any(K8sDelegateTaskParams.class),
-            any(ExecutionLogCallback.class), anyBoolean(), anyLong());
+            any(ExecutionLogCallback.class), anyBoolean(), anyLong(), any(KubernetesConfig.class));
 
     K8sTaskExecutionResponse response = handler.executeTask(rollingDeployTaskParams, delegateTaskParams);
 
@@ -439,12 +439,12 @@ public class K8sRollingDeployTaskHandlerTest extends WingsBaseTest {
     doReturn(false)
         .when(k8sTaskHelperBase)
         .doStatusCheckForAllResources(any(Kubectl.class), anyList(), any(K8sDelegateTaskParams.class), anyString(),
-            any(ExecutionLogCallback.class), anyBoolean());
+            any(ExecutionLogCallback.class), anyBoolean(), any(KubernetesConfig.class));
 
     doReturn(true)
         .when(k8sTaskHelperBase)
         .doStatusCheckForAllCustomResources(any(Kubectl.class), anyList(), any(K8sDelegateTaskParams.class),
-            any(ExecutionLogCallback.class), anyBoolean(), anyLong());
+            any(ExecutionLogCallback.class), anyBoolean(), anyLong(), any(KubernetesConfig.class));
 
     K8sTaskExecutionResponse response = handler.executeTask(rollingDeployTaskParams, delegateTaskParams);
 
@@ -3,6 +3,7 @@ package io.harness.batch.processing.config;
 import io.harness.batch.processing.ccm.BatchJobType;
 import io.harness.batch.processing.reader.EventReaderFactory;
 import io.harness.batch.processing.reader.K8sGranularUtilizationMetricsReader;
+import io.harness.batch.processing.reader.PublishedMessageTimeRangePartitioner;
 import io.harness.batch.processing.writer.K8sPVUtilizationAggregationTasklet;
 import io.harness.batch.processing.writer.K8sUtilizationMetricsWriter;
 import io.harness.batch.processing.writer.NodeUtilizationMetricsWriter;
@@ -19,20 +20,25 @@ import org.springframework.batch.core.configuration.annotation.JobBuilderFactory
 import org.springframework.batch.core.configuration.annotation.StepBuilderFactory;
 import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.launch.support.RunIdIncrementer;
+import org.springframework.batch.core.partition.support.Partitioner;
 import org.springframework.batch.core.step.tasklet.Tasklet;
 import org.springframework.batch.item.ItemReader;
+import org.springframework.batch.item.ItemStreamReader;
 import org.springframework.batch.item.ItemWriter;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 @Slf4j
 @Configuration
 public class K8sUtilizationConfiguration {
   private static final int BATCH_SIZE = 50;
   private static final int GRANULAR_BATCH_SIZE = 2000;
+  private static final int PARTITION_GRID_SIZE = 4;
 
   @Autowired @Qualifier("mongoEventReader") private EventReaderFactory eventReaderFactory;
   @Autowired private StepBuilderFactory stepBuilderFactory;
@@ -44,9 +50,10 @@ public class K8sUtilizationConfiguration {
   //  READER
   @Bean
   @StepScope
-  public ItemReader<PublishedMessage> k8sPodUtilizationEventMessageReader(
-      @Value("#{jobParameters[accountId]}") String accountId, @Value("#{jobParameters[startDate]}") Long startDate,
-      @Value("#{jobParameters[endDate]}") Long endDate) {
+  public ItemStreamReader<PublishedMessage> k8sPodUtilizationEventMessageReader(
+      @Value("#{jobParameters[accountId]}") String accountId,
+      @Value("#{stepExecutionContext[startDate]}") Long startDate,
+      @Value("#{stepExecutionContext[endDate]}") Long endDate) {
     return eventReaderFactory.getEventReader(accountId, EventTypeConstants.POD_UTILIZATION, startDate, endDate);
   }
 
@@ -59,7 +66,12 @@ public class K8sUtilizationConfiguration {
   // STEP
   @Bean
   public Step k8sPodUtilizationEventStep() {
-    return stepBuilderFactory.get("k8sPodUtilizationEventStep")
+    return partitionedStep("k8sPodUtilizationEventStep", k8sPodUtilizationEventWorkerStep());
+  }
+
+  @Bean
+  public Step k8sPodUtilizationEventWorkerStep() {
+    return stepBuilderFactory.get("k8sPodUtilizationEventWorkerStep")
         .<PublishedMessage, PublishedMessage>chunk(GRANULAR_BATCH_SIZE)
         .reader(k8sPodUtilizationEventMessageReader(null, null, null))
         .writer(podUtilizationMetricsWriter())
@@ -73,9 +85,10 @@ public class K8sUtilizationConfiguration {
   //  READER
   @Bean
   @StepScope
-  public ItemReader<PublishedMessage> k8sNodeUtilizationEventMessageReader(
-      @Value("#{jobParameters[accountId]}") String accountId, @Value("#{jobParameters[startDate]}") Long startDate,
-      @Value("#{jobParameters[endDate]}") Long endDate) {
+  public ItemStreamReader<PublishedMessage> k8sNodeUtilizationEventMessageReader(
+      @Value("#{jobParameters[accountId]}") String accountId,
+      @Value("#{stepExecutionContext[startDate]}") Long startDate,
+      @Value("#{stepExecutionContext[endDate]}") Long endDate) {
     return eventReaderFactory.getEventReader(
         accountId, EventTypeConstants.NODE_UTILIZATION, startDate, endDate, GRANULAR_BATCH_SIZE);
   }
@@ -89,7 +102,12 @@ public class K8sUtilizationConfiguration {
   // STEP
   @Bean
   public Step k8sNodeUtilizationEventStep() {
-    return stepBuilderFactory.get("k8sNodeUtilizationEventStep")
+    return partitionedStep("k8sNodeUtilizationEventStep", k8sNodeUtilizationEventWorkerStep());
+  }
+
+  @Bean
+  public Step k8sNodeUtilizationEventWorkerStep() {
+    return stepBuilderFactory.get("k8sNodeUtilizationEventWorkerStep")
         .<PublishedMessage, PublishedMessage>chunk(GRANULAR_BATCH_SIZE)
         .reader(k8sNodeUtilizationEventMessageReader(null, null, null))
         .writer(nodeUtilizationMetricsWriter())
@@ -103,9 +121,10 @@ public class K8sUtilizationConfiguration {
   //  READER
   @Bean
   @StepScope
-  public ItemReader<PublishedMessage> k8sPVUtilizationEventMessageReader(
-      @Value("#{jobParameters[accountId]}") String accountId, @Value("#{jobParameters[startDate]}") Long startDate,
-      @Value("#{jobParameters[endDate]}") Long endDate) {
+  public ItemStreamReader<PublishedMessage> k8sPVUtilizationEventMessageReader(
+      @Value("#{jobParameters[accountId]}") String accountId,
+      @Value("#{stepExecutionContext[startDate]}") Long startDate,
+      @Value("#{stepExecutionContext[endDate]}") Long endDate) {
     return eventReaderFactory.getEventReader(
         accountId, EventTypeConstants.PV_UTILIZATION, startDate, endDate, GRANULAR_BATCH_SIZE);
   }
@@ -119,13 +138,48 @@ public class K8sUtilizationConfiguration {
   // STEP
   @Bean
   public Step k8sPVUtilizationGranularStep() {
-    return stepBuilderFactory.get("k8sPVUtilizationGranularStep")
+    return partitionedStep("k8sPVUtilizationGranularStep", k8sPVUtilizationGranularWorkerStep());
+  }
+
+  @Bean
+  public Step k8sPVUtilizationGranularWorkerStep() {
+    return stepBuilderFactory.get("k8sPVUtilizationGranularWorkerStep")
         .<PublishedMessage, PublishedMessage>chunk(GRANULAR_BATCH_SIZE)
         .reader(k8sPVUtilizationEventMessageReader(null, null, null))
         .writer(pvUtilizationMetricsWriter())
         .build();
   }
 
+  /*
+   * ****************** Partitioning ******************
+   */
+
+  // Each worker reads its own range of the job window, so the granular steps are not bound to a single cursor
+  private Step partitionedStep(String name, Step workerStep) {
+    return stepBuilderFactory.get(name)
+        .partitioner(workerStep.getName(), k8sUtilizationTimeRangePartitioner(null, null))
+        .step(workerStep)
+        .gridSize(PARTITION_GRID_SIZE)
+        .taskExecutor(k8sUtilizationPartitionTaskExecutor())
+        .build();
+  }
+
+  @Bean
+  @StepScope
+  public Partitioner k8sUtilizationTimeRangePartitioner(
+      @Value("#{jobParameters[startDate]}") Long startDate, @Value("#{jobParameters[endDate]}") Long endDate) {
+    return new PublishedMessageTimeRangePartitioner(startDate, endDate);
+  }
+
+  @Bean
+  public TaskExecutor k8sUtilizationPartitionTaskExecutor() {
+    ThreadPoolTaskExecutor taskExecutor = new ThreadPoolTaskExecutor();
+    taskExecutor.setCorePoolSize(PARTITION_GRID_SIZE);
+    taskExecutor.setMaxPoolSize(PARTITION_GRID_SIZE);
+    taskExecutor.setThreadNamePrefix("k8s-utilization-partition-");
+    return taskExecutor;
+  }
+
   /*
    * ****************** K8sUtilizationAggregation ******************
    */
@@ -45,7 +45,7 @@ public class ContainerStateV2 {
   ContainerCheckpoint toContainerCheckpoint() {
     return ContainerCheckpoint.builder()
         .lastUpdateTime(lastUpdateTime)
-        .cpuHistogram(cpuHistogram.saveToCheckpoint())
+        .cpuHistogram(cpuHistogram.saveToCompactCheckpoint())
         .firstSampleStart(firstSampleStart)
         .lastSampleStart(lastSampleStart)
         .totalSamplesCount(totalSamplesCount)
@@ -5,7 +5,6 @@ import static io.harness.batch.processing.tasklet.util.InstanceMetaDataUtils.get
 import static io.harness.ccm.recommender.k8sworkload.RecommenderUtils.MEMORY_AGGREGATION_INTERVAL;
 import static io.harness.ccm.recommender.k8sworkload.RecommenderUtils.RECOMMENDER_VERSION;
 import static io.harness.ccm.recommender.k8sworkload.RecommenderUtils.newCpuHistogram;
-import static io.harness.ccm.recommender.k8sworkload.RecommenderUtils.newCpuHistogramV2;
 import static io.harness.ccm.recommender.k8sworkload.RecommenderUtils.protoToCheckpoint;
 import static io.harness.time.DurationUtils.truncate;
 
@@ -182,10 +181,9 @@ class ContainerStateWriter implements ItemWriter<PublishedMessage> {
           containerState.getTotalSamplesCount() + containerStateProto.getTotalSamplesCount());
 
       // Handle cpu
-      // Just merge the histogram received from delegate into the existing histogram
-      Histogram protoHistogram = newCpuHistogramV2();
-      protoHistogram.loadFromCheckPoint(protoToCheckpoint(containerStateProto.getCpuHistogramV2()));
-      containerState.getCpuHistogram().merge(protoHistogram);
+      // Just merge the histogram received from delegate into the existing histogram. Loading a checkpoint adds to
+      // the weights already there, so it is loaded in place instead of through a temporary histogram.
+      containerState.getCpuHistogram().loadFromCheckPoint(protoToCheckpoint(containerStateProto.getCpuHistogramV2()));
 
       // Just store a single value for memory - max memory for the day
       containerState.setMemoryPeak(Math.max(containerStateProto.getMemoryPeak(), containerState.getMemoryPeak()));
@@ -12,6 +12,7 @@ import java.util.List;
 import lombok.extern.slf4j.Slf4j;
 import org.mongodb.morphia.query.FindOptions;
 import org.mongodb.morphia.query.Query;
+import org.mongodb.morphia.query.Sort;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 
@@ -32,4 +33,26 @@ public class PublishedMessageDaoImpl implements PublishedMessageDao {
         query.criteria(PublishedMessageKeys.createdAt).lessThan(endTime));
     return query.asList(new FindOptions().limit(batchSize));
   }
+
+  @Override
+  public List<PublishedMessage> fetchPublishedMessageAfter(String accountId, String messageType, Long startTime,
+      Long endTime, Long lastCreatedAt, String lastUuid, int batchSize) {
+    Query<PublishedMessage> query =
+        hPersistence.createQuery(PublishedMessage.class, excludeCount)
+            .filter(PublishedMessageKeys.accountId, accountId)
+            .filter(PublishedMessageKeys.type, messageType)
+            .order(Sort.ascending(PublishedMessageKeys.createdAt), Sort.ascending(PublishedMessageKeys.uuid));
+
+    if (lastUuid == null) {
+      query.and(query.criteria(PublishedMessageKeys.createdAt).greaterThanOrEq(startTime),
+          query.criteria(PublishedMessageKeys.createdAt).lessThan(endTime));
+    } else {
+      // (createdAt, _id) > (lastCreatedAt, lastUuid), written so that the createdAt bounds still use the index
+      query.and(query.criteria(PublishedMessageKeys.createdAt).greaterThanOrEq(lastCreatedAt),
+          query.criteria(PublishedMessageKeys.createdAt).lessThan(endTime));
+      query.or(query.criteria(PublishedMessageKeys.createdAt).greaterThan(lastCreatedAt),
+          query.criteria(PublishedMessageKeys.uuid).greaterThan(lastUuid));
+    }
+    return query.asList(new FindOptions().limit(batchSize));
+  }
 }
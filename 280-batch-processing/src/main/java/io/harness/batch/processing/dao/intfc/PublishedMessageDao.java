@@ -7,4 +7,11 @@ import java.util.List;
 public interface PublishedMessageDao {
   List<PublishedMessage> fetchPublishedMessage(
       String accountId, String messageType, Long startTime, Long endTime, int batchSize);
+
+  /**
+   * Keyset page of messages ordered by createdAt and id. The page starts right after the given createdAt and id, or
+   * at startTime when lastUuid is null.
+   */
+  List<PublishedMessage> fetchPublishedMessageAfter(String accountId, String messageType, Long startTime,
+      Long endTime, Long lastCreatedAt, String lastUuid, int batchSize);
 }
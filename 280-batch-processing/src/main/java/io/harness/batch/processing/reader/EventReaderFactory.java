@@ -2,10 +2,10 @@ package io.harness.batch.processing.reader;
 
 import io.harness.event.grpc.PublishedMessage;
 
-import org.springframework.batch.item.ItemReader;
+import org.springframework.batch.item.ItemStreamReader;
 
 public interface EventReaderFactory {
-  ItemReader<PublishedMessage> getEventReader(String accountId, String messageType, Long startDate, Long endDate);
-  ItemReader<PublishedMessage> getEventReader(
+  ItemStreamReader<PublishedMessage> getEventReader(String accountId, String messageType, Long startDate, Long endDate);
+  ItemStreamReader<PublishedMessage> getEventReader(
       String accountId, String messageType, Long startDate, Long endDate, int batchSize);
 }
@@ -0,0 +1,103 @@
+package io.harness.batch.processing.reader;
+
+import io.harness.batch.processing.dao.intfc.PublishedMessageDao;
+import io.harness.event.grpc.PublishedMessage;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.batch.item.support.ItemStreamSupport;
+
+/**
+ * Reads the published messages of an account and type in [startDate, endDate) ordered by (createdAt, _id). Every page
+ * resumes right after the last key read instead of skipping over the earlier pages, so the cost of a page does not
+ * grow with its position. The last key handed to the writer is saved with each chunk commit, and a restarted step
+ * continues from it.
+ */
+@Slf4j
+public class PublishedMessageCursorReader extends ItemStreamSupport implements ItemStreamReader<PublishedMessage> {
+  private static final String LAST_CREATED_AT = "lastCreatedAt";
+  private static final String LAST_UUID = "lastUuid";
+
+  private final PublishedMessageDao publishedMessageDao;
+  private final String accountId;
+  private final String messageType;
+  private final Long startDate;
+  private final Long endDate;
+  private final int batchSize;
+
+  private final Deque<PublishedMessage> page = new ArrayDeque<>();
+  private boolean exhausted;
+  // Key of the last fetched message, used for the next page
+  private Long fetchedCreatedAt;
+  private String fetchedUuid;
+  // Key of the last message returned by read, saved for restarts
+  private Long readCreatedAt;
+  private String readUuid;
+
+  public PublishedMessageCursorReader(PublishedMessageDao publishedMessageDao, String accountId, String messageType,
+      Long startDate, Long endDate, int batchSize) {
+    this.publishedMessageDao = publishedMessageDao;
+    this.accountId = accountId;
+    this.messageType = messageType;
+    this.startDate = startDate;
+    this.endDate = endDate;
+    this.batchSize = batchSize;
+    setName(PublishedMessageCursorReader.class.getSimpleName());
+  }
+
+  @Override
+  public PublishedMessage read() {
+    if (page.isEmpty() && !exhausted) {
+      fetchNextPage();
+    }
+    PublishedMessage publishedMessage = page.poll();
+    if (publishedMessage != null) {
+      readCreatedAt = publishedMessage.getCreatedAt();
+      readUuid = publishedMessage.getUuid();
+    }
+    return publishedMessage;
+  }
+
+  private void fetchNextPage() {
+    List<PublishedMessage> publishedMessages = publishedMessageDao.fetchPublishedMessageAfter(
+        accountId, messageType, startDate, endDate, fetchedCreatedAt, fetchedUuid, batchSize);
+    page.addAll(publishedMessages);
+    if (publishedMessages.size() < batchSize) {
+      exhausted = true;
+    }
+    if (!publishedMessages.isEmpty()) {
+      PublishedMessage last = publishedMessages.get(publishedMessages.size() - 1);
+      fetchedCreatedAt = last.getCreatedAt();
+      fetchedUuid = last.getUuid();
+    }
+  }
+
+  @Override
+  public void open(ExecutionContext executionContext) {
+    String lastUuidKey = getExecutionContextKey(LAST_UUID);
+    if (executionContext.containsKey(lastUuidKey)) {
+      readUuid = executionContext.getString(lastUuidKey);
+      readCreatedAt = executionContext.getLong(getExecutionContextKey(LAST_CREATED_AT));
+      fetchedUuid = readUuid;
+      fetchedCreatedAt = readCreatedAt;
+      log.info("Resuming {} messages of {} after {}", messageType, accountId, readUuid);
+    }
+  }
+
+  @Override
+  public void update(ExecutionContext executionContext) {
+    if (readUuid != null) {
+      executionContext.putLong(getExecutionContextKey(LAST_CREATED_AT), readCreatedAt);
+      executionContext.putString(getExecutionContextKey(LAST_UUID), readUuid);
+    }
+  }
+
+  @Override
+  public void close() {
+    page.clear();
+  }
+}
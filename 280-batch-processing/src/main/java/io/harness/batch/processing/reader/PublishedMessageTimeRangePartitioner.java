@@ -0,0 +1,38 @@
+package io.harness.batch.processing.reader;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+
+/**
+ * Splits the [startDate, endDate) window of a job into contiguous ranges of createdAt, so that the messages of each
+ * range can be read by its own worker step. The partitions are keyed by their index, which keeps their step names
+ * stable across restarts.
+ */
+public class PublishedMessageTimeRangePartitioner implements Partitioner {
+  public static final String START_DATE = "startDate";
+  public static final String END_DATE = "endDate";
+
+  private final long startDate;
+  private final long endDate;
+
+  public PublishedMessageTimeRangePartitioner(long startDate, long endDate) {
+    this.startDate = startDate;
+    this.endDate = endDate;
+  }
+
+  @Override
+  public Map<String, ExecutionContext> partition(int gridSize) {
+    long window = Math.max(0, endDate - startDate);
+    int partitions = (int) Math.max(1, Math.min(gridSize, window));
+    Map<String, ExecutionContext> contexts = new HashMap<>();
+    for (int i = 0; i < partitions; i++) {
+      ExecutionContext context = new ExecutionContext();
+      context.putLong(START_DATE, startDate + window * i / partitions);
+      context.putLong(END_DATE, i == partitions - 1 ? endDate : startDate + window * (i + 1) / partitions);
+      contexts.put("partition" + i, context);
+    }
+    return contexts;
+  }
+}
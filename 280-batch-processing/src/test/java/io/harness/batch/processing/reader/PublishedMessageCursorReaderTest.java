@@ -0,0 +1,95 @@
+package io.harness.batch.processing.reader;
+
+import static io.harness.rule.OwnerRule.HITESH;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Matchers.isNull;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.harness.CategoryTest;
+import io.harness.batch.processing.dao.intfc.PublishedMessageDao;
+import io.harness.category.element.UnitTests;
+import io.harness.event.grpc.PublishedMessage;
+import io.harness.rule.Owner;
+
+import com.google.common.collect.ImmutableList;
+import java.util.Collections;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.batch.item.ExecutionContext;
+
+@RunWith(MockitoJUnitRunner.class)
+public class PublishedMessageCursorReaderTest extends CategoryTest {
+  private static final String ACCOUNT_ID = "ACCOUNT_ID";
+  private static final String MESSAGE_TYPE = "MESSAGE_TYPE";
+  private static final long START_DATE = 1000L;
+  private static final long END_DATE = 2000L;
+
+  @Mock private PublishedMessageDao publishedMessageDao;
+
+  private PublishedMessageCursorReader reader;
+
+  @Before
+  public void setUp() {
+    reader = new PublishedMessageCursorReader(publishedMessageDao, ACCOUNT_ID, MESSAGE_TYPE, START_DATE, END_DATE, 2);
+  }
+
+  @Test
+  @Owner(developers = HITESH)
+  @Category(UnitTests.class)
+  public void shouldPageAfterLastKey() {
+    PublishedMessage first = message("id1", 1100L);
+    PublishedMessage second = message("id2", 1100L);
+    PublishedMessage third = message("id3", 1200L);
+    when(publishedMessageDao.fetchPublishedMessageAfter(
+             eq(ACCOUNT_ID), eq(MESSAGE_TYPE), eq(START_DATE), eq(END_DATE), (Long) isNull(), (String) isNull(), eq(2)))
+        .thenReturn(ImmutableList.of(first, second));
+    when(publishedMessageDao.fetchPublishedMessageAfter(
+             ACCOUNT_ID, MESSAGE_TYPE, START_DATE, END_DATE, 1100L, "id2", 2))
+        .thenReturn(ImmutableList.of(third));
+
+    assertThat(reader.read()).isSameAs(first);
+    assertThat(reader.read()).isSameAs(second);
+    assertThat(reader.read()).isSameAs(third);
+    assertThat(reader.read()).isNull();
+  }
+
+  @Test
+  @Owner(developers = HITESH)
+  @Category(UnitTests.class)
+  public void shouldResumeFromSavedKey() {
+    when(publishedMessageDao.fetchPublishedMessageAfter(
+             eq(ACCOUNT_ID), eq(MESSAGE_TYPE), eq(START_DATE), eq(END_DATE), (Long) isNull(), (String) isNull(), eq(2)))
+        .thenReturn(ImmutableList.of(message("id1", 1100L), message("id2", 1150L)));
+    ExecutionContext executionContext = new ExecutionContext();
+    reader.open(executionContext);
+    reader.read();
+    reader.update(executionContext);
+
+    PublishedMessageCursorReader restarted =
+        new PublishedMessageCursorReader(publishedMessageDao, ACCOUNT_ID, MESSAGE_TYPE, START_DATE, END_DATE, 2);
+    when(publishedMessageDao.fetchPublishedMessageAfter(
+             anyString(), anyString(), anyLong(), anyLong(), anyLong(), anyString(), anyInt()))
+        .thenReturn(Collections.emptyList());
+    restarted.open(executionContext);
+
+    assertThat(restarted.read()).isNull();
+    verify(publishedMessageDao)
+        .fetchPublishedMessageAfter(ACCOUNT_ID, MESSAGE_TYPE, START_DATE, END_DATE, 1100L, "id1", 2);
+  }
+
+  private static PublishedMessage message(String uuid, long createdAt) {
+    PublishedMessage publishedMessage = PublishedMessage.builder().uuid(uuid).accountId(ACCOUNT_ID).build();
+    publishedMessage.setCreatedAt(createdAt);
+    return publishedMessage;
+  }
+}
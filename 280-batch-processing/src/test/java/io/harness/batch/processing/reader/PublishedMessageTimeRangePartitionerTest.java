@@ -0,0 +1,51 @@
+package io.harness.batch.processing.reader;
+
+import static io.harness.batch.processing.reader.PublishedMessageTimeRangePartitioner.END_DATE;
+import static io.harness.batch.processing.reader.PublishedMessageTimeRangePartitioner.START_DATE;
+import static io.harness.rule.OwnerRule.HITESH;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.springframework.batch.item.ExecutionContext;
+
+public class PublishedMessageTimeRangePartitionerTest extends CategoryTest {
+  @Test
+  @Owner(developers = HITESH)
+  @Category(UnitTests.class)
+  public void shouldSplitWindowIntoContiguousRanges() {
+    Map<String, ExecutionContext> partitions = new PublishedMessageTimeRangePartitioner(1000L, 2001L).partition(4);
+
+    assertThat(partitions).hasSize(4);
+    List<ExecutionContext> ranges = partitions.values()
+                                        .stream()
+                                        .sorted(Comparator.comparingLong(context -> context.getLong(START_DATE)))
+                                        .collect(Collectors.toList());
+    assertThat(ranges.get(0).getLong(START_DATE)).isEqualTo(1000L);
+    for (int i = 1; i < ranges.size(); i++) {
+      assertThat(ranges.get(i).getLong(START_DATE)).isEqualTo(ranges.get(i - 1).getLong(END_DATE));
+    }
+    assertThat(ranges.get(3).getLong(END_DATE)).isEqualTo(2001L);
+  }
+
+  @Test
+  @Owner(developers = HITESH)
+  @Category(UnitTests.class)
+  public void shouldUseSinglePartitionForEmptyWindow() {
+    Map<String, ExecutionContext> partitions = new PublishedMessageTimeRangePartitioner(1000L, 1000L).partition(4);
+
+    assertThat(partitions).hasSize(1);
+    ExecutionContext context = partitions.values().iterator().next();
+    assertThat(context.getLong(START_DATE)).isEqualTo(1000L);
+    assertThat(context.getLong(END_DATE)).isEqualTo(1000L);
+  }
+}
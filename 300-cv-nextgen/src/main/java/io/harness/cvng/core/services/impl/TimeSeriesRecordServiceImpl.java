@@ -33,51 +33,85 @@ import io.harness.cvng.core.services.api.HostRecordService;
 import io.harness.cvng.core.services.api.MetricPackService;
 import io.harness.cvng.core.services.api.TimeSeriesRecordService;
 import io.harness.cvng.core.utils.DateTimeUtils;
+import io.harness.cvng.utils.CVNGParallelExecutor;
+import io.harness.metrics.HarnessMetricRegistry;
 import io.harness.persistence.HPersistence;
 
+import com.codahale.metrics.MetricRegistry;
 import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.Lists;
 import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import com.mongodb.BulkWriteOperation;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import lombok.Builder;
 import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
-import org.mongodb.morphia.UpdateOptions;
 import org.mongodb.morphia.query.Query;
+import org.mongodb.morphia.query.UpdateOperations;
+import org.mongodb.morphia.query.UpdateOpsImpl;
 
 @Slf4j
+@Singleton
 public class TimeSeriesRecordServiceImpl implements TimeSeriesRecordService {
   @Inject private HPersistence hPersistence;
   @Inject private CVConfigService cvConfigService;
   @Inject private MetricPackService metricPackService;
   @Inject private HostRecordService hostRecordService;
   @Inject private TimeSeriesAnalysisService timeSeriesAnalysisService;
+  @Inject private CVNGParallelExecutor cvngParallelExecutor;
+  @Inject private HarnessMetricRegistry harnessMetricRegistry;
+
+  // The metric template only changes when the metric packs of the config change, every data collection batch of a
+  // verification task would otherwise resolve it again. Only templates that know every metric of the records are kept.
+  private final Cache<String, Map<String, TimeSeriesMetricType>> metricTypeCache =
+      CacheBuilder.newBuilder().maximumSize(10000).expireAfterWrite(5, TimeUnit.MINUTES).build();
 
   @Override
   public boolean save(List<TimeSeriesDataCollectionRecord> dataRecords) {
     log.info("Saving {} data records", dataRecords.size());
-    UpdateOptions options = new UpdateOptions();
-    options.upsert(true);
-    Map<TimeSeriesRecordBucketKey, TimeSeriesRecord> timeSeriesRecordMap = bucketTimeSeriesRecords(dataRecords);
+    Map<String, List<TimeSeriesDataCollectionRecord>> dataRecordsByTask =
+        dataRecords.stream().collect(Collectors.groupingBy(
+            TimeSeriesDataCollectionRecord::getVerificationTaskId, LinkedHashMap::new, Collectors.toList()));
+    if (dataRecordsByTask.size() <= 1) {
+      dataRecordsByTask.values().forEach(this::saveVerificationTaskRecords);
+      return true;
+    }
+    List<Callable<Void>> callables = new ArrayList<>();
+    dataRecordsByTask.values().forEach(taskRecords -> callables.add(() -> {
+      saveVerificationTaskRecords(taskRecords);
+      return null;
+    }));
+    cvngParallelExecutor.executeParallel(callables);
+    return true;
+  }
+
+  /**
+   * Upserts all the buckets of one verification task with a single unordered bulk write. Buckets are independent
+   * documents, so the order in which mongo applies them does not matter.
+   */
+  private void saveVerificationTaskRecords(List<TimeSeriesDataCollectionRecord> dataRecords) {
+    String verificationTaskId = dataRecords.get(0).getVerificationTaskId();
+    long startTime = System.nanoTime();
+    Map<String, TimeSeriesMetricType> metricTypes = getMetricTypes(verificationTaskId, dataRecords);
+    Map<TimeSeriesRecordBucketKey, TimeSeriesRecord> timeSeriesRecordMap =
+        bucketTimeSeriesRecords(dataRecords, metricTypes);
+    BulkWriteOperation bulkWriteOperation =
+        hPersistence.getCollection(TimeSeriesRecord.class).initializeUnorderedBulkOperation();
     timeSeriesRecordMap.forEach((timeSeriesRecordBucketKey, timeSeriesRecord) -> {
-      List<TimeSeriesMetricDefinition> metricTemplates =
-          timeSeriesAnalysisService.getMetricTemplate(timeSeriesRecord.getVerificationTaskId());
-      TimeSeriesMetricDefinition timeSeriesMetricDefinition =
-          metricTemplates.stream()
-              .filter(metricTemplate -> metricTemplate.getMetricName().equals(timeSeriesRecord.getMetricName()))
-              .findFirst()
-              .orElse(null);
-      TimeSeriesMetricType metricType =
-          timeSeriesMetricDefinition != null ? timeSeriesMetricDefinition.getMetricType() : null;
       Query<TimeSeriesRecord> query =
           hPersistence.createQuery(TimeSeriesRecord.class)
               .filter(
@@ -87,21 +121,62 @@ public class TimeSeriesRecordServiceImpl implements TimeSeriesRecordService {
       if (timeSeriesRecord.getHost() != null) {
         query = query.filter(TimeSeriesRecordKeys.host, timeSeriesRecord.getHost());
       }
-      hPersistence.getDatastore(TimeSeriesRecord.class)
-          .update(query,
-              hPersistence.createUpdateOperations(TimeSeriesRecord.class)
-                  .setOnInsert(TimeSeriesRecordKeys.uuid, generateUuid())
-                  .setOnInsert(TimeSeriesRecordKeys.createdAt, Instant.now().toEpochMilli())
-                  .setOnInsert(TimeSeriesRecordKeys.metricType, metricType)
-                  .setOnInsert(TimeSeriesRecordKeys.validUntil, TimeSeriesRecord.builder().build().getValidUntil())
-                  .set(TimeSeriesRecordKeys.accountId, timeSeriesRecord.getAccountId())
-                  .addToSet(TimeSeriesRecordKeys.timeSeriesGroupValues,
-                      Lists.newArrayList(timeSeriesRecord.getTimeSeriesGroupValues())),
-              options);
+      UpdateOperations<TimeSeriesRecord> updateOperations =
+          hPersistence.createUpdateOperations(TimeSeriesRecord.class)
+              .setOnInsert(TimeSeriesRecordKeys.uuid, generateUuid())
+              .setOnInsert(TimeSeriesRecordKeys.createdAt, Instant.now().toEpochMilli())
+              .setOnInsert(TimeSeriesRecordKeys.validUntil, TimeSeriesRecord.builder().build().getValidUntil())
+              .set(TimeSeriesRecordKeys.accountId, timeSeriesRecord.getAccountId())
+              .addToSet(TimeSeriesRecordKeys.timeSeriesGroupValues,
+                  Lists.newArrayList(timeSeriesRecord.getTimeSeriesGroupValues()));
+      // A bucket written before its metric was in the template gets the type once it is known
+      TimeSeriesMetricType metricType = metricTypes.get(timeSeriesRecord.getMetricName());
+      if (metricType != null) {
+        updateOperations.set(TimeSeriesRecordKeys.metricType, metricType);
+      }
+      bulkWriteOperation.find(query.getQueryObject())
+          .upsert()
+          .updateOne(((UpdateOpsImpl<TimeSeriesRecord>) updateOperations).getOps());
     });
+    if (!timeSeriesRecordMap.isEmpty()) {
+      bulkWriteOperation.execute();
+    }
 
     saveHosts(dataRecords);
-    return true;
+    long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+    harnessMetricRegistry.getMetricRegistry()
+        .timer(MetricRegistry.name("timeseries_records", "save", "latency"))
+        .update(elapsedMillis, TimeUnit.MILLISECONDS);
+    harnessMetricRegistry.getMetricRegistry()
+        .histogram(MetricRegistry.name("timeseries_records", "save", "buckets"))
+        .update(timeSeriesRecordMap.size());
+    log.info("Saved {} buckets of {} data records for verification task {} in {} ms", timeSeriesRecordMap.size(),
+        dataRecords.size(), verificationTaskId, elapsedMillis);
+  }
+
+  private Map<String, TimeSeriesMetricType> getMetricTypes(
+      String verificationTaskId, List<TimeSeriesDataCollectionRecord> dataRecords) {
+    Set<String> metricNames = dataRecords.stream()
+                                  .flatMap(dataRecord -> dataRecord.getMetricValues().stream())
+                                  .map(TimeSeriesDataRecordMetricValue::getMetricName)
+                                  .collect(Collectors.toSet());
+    Map<String, TimeSeriesMetricType> cachedMetricTypes = metricTypeCache.getIfPresent(verificationTaskId);
+    if (cachedMetricTypes != null && cachedMetricTypes.keySet().containsAll(metricNames)) {
+      return cachedMetricTypes;
+    }
+
+    Map<String, TimeSeriesMetricType> metricTypes = new HashMap<>();
+    timeSeriesAnalysisService.getMetricTemplate(verificationTaskId)
+        .forEach(timeSeriesMetricDefinition
+            -> metricTypes.putIfAbsent(
+                timeSeriesMetricDefinition.getMetricName(), timeSeriesMetricDefinition.getMetricType()));
+    // An empty template or one that misses a metric is loaded again next time, the metric packs may not be set up yet
+    if (!metricTypes.isEmpty() && metricTypes.keySet().containsAll(metricNames)) {
+      metricTypeCache.put(verificationTaskId, Collections.unmodifiableMap(metricTypes));
+    } else {
+      metricTypeCache.invalidate(verificationTaskId);
+    }
+    return metricTypes;
   }
 
   @Value
@@ -143,12 +218,7 @@ public class TimeSeriesRecordServiceImpl implements TimeSeriesRecordService {
   }
 
   private Map<TimeSeriesRecordBucketKey, TimeSeriesRecord> bucketTimeSeriesRecords(
-      List<TimeSeriesDataCollectionRecord> dataRecords) {
-    Map<String, TimeSeriesMetricType> metricTypeMap = new HashMap<>();
-    List<TimeSeriesMetricDefinition> metricDefinitions =
-        timeSeriesAnalysisService.getMetricTemplate(dataRecords.get(0).getVerificationTaskId());
-    metricDefinitions.forEach(timeSeriesMetricDefinition
-        -> metricTypeMap.put(timeSeriesMetricDefinition.getMetricName(), timeSeriesMetricDefinition.getMetricType()));
+      List<TimeSeriesDataCollectionRecord> dataRecords, Map<String, TimeSeriesMetricType> metricTypeMap) {
     populatePercent(metricTypeMap, dataRecords);
     Map<TimeSeriesRecordBucketKey, TimeSeriesRecord> rv = new HashMap<>();
     dataRecords.forEach(dataRecord -> {
@@ -6,6 +6,7 @@ import static io.harness.cvng.core.services.CVNextGenConstants.CV_ANALYSIS_WINDO
 import static io.harness.cvng.core.services.CVNextGenConstants.PERFORMANCE_PACK_IDENTIFIER;
 import static io.harness.data.structure.UUIDGenerator.generateUuid;
 import static io.harness.persistence.HQuery.excludeAuthority;
+import static io.harness.rule.OwnerRule.GEORGE;
 import static io.harness.rule.OwnerRule.KAMAL;
 import static io.harness.rule.OwnerRule.PRAVEEN;
 import static io.harness.rule.OwnerRule.RAGHU;
@@ -15,6 +16,8 @@ import static io.harness.rule.TestUserProvider.testUserProvider;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.data.Offset.offset;
 import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.harness.CvNextGenTestBase;
@@ -180,6 +183,100 @@ public class TimeSeriesRecordServiceImplTest extends CvNextGenTestBase {
     validateSavedRecords(numOfMetrics, numOfTxnx, numOfMins, timeSeriesRecords);
   }
 
+  @Test
+  @Owner(developers = RAGHU)
+  @Category(UnitTests.class)
+  public void testSave_multipleVerificationTasks() {
+    int numOfMetrics = 4;
+    List<String> verificationTaskIds = Lists.newArrayList(verificationTaskId, generateUuid(), generateUuid());
+    List<TimeSeriesDataCollectionRecord> collectionRecords = new ArrayList<>();
+    for (String taskId : verificationTaskIds) {
+      for (int i = 0; i < CV_ANALYSIS_WINDOW_MINUTES; i++) {
+        TimeSeriesDataCollectionRecord collectionRecord = TimeSeriesDataCollectionRecord.builder()
+                                                              .accountId(accountId)
+                                                              .verificationTaskId(taskId)
+                                                              .timeStamp(TimeUnit.MINUTES.toMillis(i))
+                                                              .metricValues(new HashSet<>())
+                                                              .build();
+        for (int j = 0; j < numOfMetrics; j++) {
+          collectionRecord.getMetricValues().add(
+              TimeSeriesDataRecordMetricValue.builder()
+                  .metricName("metric-" + j)
+                  .timeSeriesValues(Sets.newHashSet(
+                      TimeSeriesDataRecordGroupValue.builder().value(random.nextDouble()).groupName("group").build()))
+                  .build());
+        }
+        collectionRecords.add(collectionRecord);
+      }
+    }
+    timeSeriesRecordService.save(collectionRecords);
+    timeSeriesRecordService.save(collectionRecords);
+
+    for (String taskId : verificationTaskIds) {
+      List<TimeSeriesRecord> timeSeriesRecords = hPersistence.createQuery(TimeSeriesRecord.class, excludeAuthority)
+                                                     .filter(TimeSeriesRecordKeys.verificationTaskId, taskId)
+                                                     .asList();
+      assertThat(timeSeriesRecords).hasSize(numOfMetrics);
+      timeSeriesRecords.forEach(timeSeriesRecord -> {
+        assertThat(timeSeriesRecord.getMetricType()).isNotNull();
+        assertThat(timeSeriesRecord.getTimeSeriesGroupValues()).hasSize((int) CV_ANALYSIS_WINDOW_MINUTES);
+      });
+      verify(timeSeriesAnalysisService, times(1)).getMetricTemplate(taskId);
+    }
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testSave_setsMetricTypeOnceTemplateIsAvailable() {
+    int numOfMetrics = 4;
+    List<TimeSeriesDataCollectionRecord> collectionRecords = new ArrayList<>();
+    for (int i = 0; i < CV_ANALYSIS_WINDOW_MINUTES; i++) {
+      TimeSeriesDataCollectionRecord collectionRecord = TimeSeriesDataCollectionRecord.builder()
+                                                            .accountId(accountId)
+                                                            .verificationTaskId(verificationTaskId)
+                                                            .timeStamp(TimeUnit.MINUTES.toMillis(i))
+                                                            .metricValues(new HashSet<>())
+                                                            .build();
+      for (int j = 0; j < numOfMetrics; j++) {
+        collectionRecord.getMetricValues().add(
+            TimeSeriesDataRecordMetricValue.builder()
+                .metricName("metric-" + j)
+                .timeSeriesValues(Sets.newHashSet(
+                    TimeSeriesDataRecordGroupValue.builder().value(random.nextDouble()).groupName("group").build()))
+                .build());
+      }
+      collectionRecords.add(collectionRecord);
+    }
+    List<TimeSeriesMetricDefinition> metricTemplate = new ArrayList<>();
+    for (int j = 0; j < numOfMetrics; j++) {
+      metricTemplate.add(TimeSeriesMetricDefinition.builder()
+                             .metricName("metric-" + j)
+                             .metricType(TimeSeriesMetricType.RESP_TIME)
+                             .build());
+    }
+    when(timeSeriesAnalysisService.getMetricTemplate(verificationTaskId))
+        .thenReturn(Collections.emptyList())
+        .thenReturn(metricTemplate);
+
+    timeSeriesRecordService.save(collectionRecords);
+    assertThat(hPersistence.createQuery(TimeSeriesRecord.class, excludeAuthority)
+                   .filter(TimeSeriesRecordKeys.verificationTaskId, verificationTaskId)
+                   .asList())
+        .hasSize(numOfMetrics)
+        .allSatisfy(timeSeriesRecord -> assertThat(timeSeriesRecord.getMetricType()).isNull());
+
+    // The empty template was not cached, the existing buckets get their type
+    timeSeriesRecordService.save(collectionRecords);
+    timeSeriesRecordService.save(collectionRecords);
+    assertThat(hPersistence.createQuery(TimeSeriesRecord.class, excludeAuthority)
+                   .filter(TimeSeriesRecordKeys.verificationTaskId, verificationTaskId)
+                   .asList())
+        .hasSize(numOfMetrics)
+        .allSatisfy(timeSeriesRecord -> assertThat(timeSeriesRecord.getMetricType()).isNotNull());
+    verify(timeSeriesAnalysisService, times(2)).getMetricTemplate(verificationTaskId);
+  }
+
   @Test
   @Owner(developers = RAGHU)
   @Category(UnitTests.class)
@@ -13,6 +13,7 @@ import io.harness.factory.ClosingFactory;
 import io.harness.factory.ClosingFactoryModule;
 import io.harness.govern.ProviderModule;
 import io.harness.govern.ServersModule;
+import io.harness.metrics.MetricRegistryModule;
 import io.harness.mongo.MongoPersistence;
 import io.harness.morphia.MorphiaRegistrar;
 import io.harness.notification.MongoBackendConfiguration;
@@ -30,6 +31,7 @@ import io.harness.testlib.module.TestMongoModule;
 import io.harness.threading.CurrentThreadExecutor;
 import io.harness.threading.ExecutorModule;
 
+import com.codahale.metrics.MetricRegistry;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableSet;
 import com.google.inject.AbstractModule;
@@ -104,6 +106,7 @@ public class CvNextGenRule implements MethodRule, InjectorRuleMixin, MongoRuleMi
     modules.add(new CVNextGenCommonsServiceModule());
 
     modules.add(TestMongoModule.getInstance());
+    modules.add(new MetricRegistryModule(new MetricRegistry()));
     VerificationConfiguration verificationConfiguration = getVerificationConfiguration();
     modules.add(new CVServiceModule(verificationConfiguration));
     MongoBackendConfiguration mongoBackendConfiguration =
@@ -3,6 +3,7 @@ package io.harness.event.app;
 import io.harness.event.MessageProcessorType;
 import io.harness.event.grpc.EventPublisherServerImpl;
 import io.harness.event.grpc.MessageProcessor;
+import io.harness.event.grpc.PublishedMessageIngestor;
 import io.harness.event.service.impl.LastReceivedPublishedMessageRepositoryImpl;
 import io.harness.event.service.intfc.LastReceivedPublishedMessageRepository;
 import io.harness.grpc.auth.DelegateAuthServerInterceptor;
@@ -54,6 +55,9 @@ public class EventServiceModule extends AbstractModule {
     Multibinder<BindableService> bindableServiceMultibinder = Multibinder.newSetBinder(binder(), BindableService.class);
     bindableServiceMultibinder.addBinding().to(EventPublisherServerImpl.class);
 
+    Multibinder<Service> serviceMultibinder = Multibinder.newSetBinder(binder(), Service.class);
+    serviceMultibinder.addBinding().to(PublishedMessageIngestor.class);
+
     Multibinder<ServerInterceptor> serverInterceptorMultibinder =
         Multibinder.newSetBinder(binder(), ServerInterceptor.class);
     serverInterceptorMultibinder.addBinding().to(DelegateAuthServerInterceptor.class);
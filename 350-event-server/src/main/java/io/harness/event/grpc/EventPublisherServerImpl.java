@@ -1,7 +1,6 @@
 package io.harness.event.grpc;
 
 import static io.harness.data.structure.EmptyPredicate.isEmpty;
-import static io.harness.data.structure.EmptyPredicate.isNotEmpty;
 import static io.harness.data.structure.UUIDGenerator.generateUuid;
 import static io.harness.grpc.IdentifierKeys.DELEGATE_ID;
 import static io.harness.grpc.auth.DelegateAuthServerInterceptor.ACCOUNT_ID_CTX_KEY;
@@ -11,42 +10,40 @@ import static java.util.Objects.requireNonNull;
 
 import io.harness.delegate.task.DelegateLogContext;
 import io.harness.event.EventPublisherGrpc;
-import io.harness.event.MessageProcessorType;
 import io.harness.event.PublishMessage;
 import io.harness.event.PublishRequest;
 import io.harness.event.PublishResponse;
-import io.harness.event.service.intfc.LastReceivedPublishedMessageRepository;
 import io.harness.grpc.utils.AnyUtils;
 import io.harness.grpc.utils.HTimestamps;
 import io.harness.logging.AccountLogContext;
 import io.harness.logging.AutoLogContext;
-import io.harness.persistence.HPersistence;
 
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import io.grpc.Context;
 import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
 import io.grpc.stub.StreamObserver;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 
 @Slf4j
 @Singleton
 public class EventPublisherServerImpl extends EventPublisherGrpc.EventPublisherImplBase {
-  private final HPersistence hPersistence;
-  private final LastReceivedPublishedMessageRepository lastReceivedPublishedMessageRepository;
-  private final MessageProcessorRegistry messageProcessorRegistry;
+  // Requests of a single stream that may be queued for ingestion before reading the next one
+  private static final int MAX_IN_FLIGHT_STREAM_REQUESTS = 4;
+
+  private final PublishedMessageIngestor publishedMessageIngestor;
 
   @Inject
-  public EventPublisherServerImpl(HPersistence hPersistence,
-      LastReceivedPublishedMessageRepository lastReceivedPublishedMessageRepository,
-      MessageProcessorRegistry messageProcessorRegistry) {
-    this.hPersistence = hPersistence;
-    this.lastReceivedPublishedMessageRepository = lastReceivedPublishedMessageRepository;
-    this.messageProcessorRegistry = messageProcessorRegistry;
+  public EventPublisherServerImpl(PublishedMessageIngestor publishedMessageIngestor) {
+    this.publishedMessageIngestor = publishedMessageIngestor;
   }
 
   @Override
@@ -57,50 +54,53 @@ public class EventPublisherServerImpl extends EventPublisherGrpc.EventPublisherI
          AutoLogContext ignore1 = new DelegateLogContext(delegateId, OVERRIDE_ERROR)) {
       log.info("Received publish request with {} messages", request.getMessagesCount());
 
-      List<PublishedMessage> withoutCategory = new ArrayList<>();
-      List<PublishedMessage> withCategory = new ArrayList<>();
-      request.getMessagesList()
-          .stream()
-          .map(publishMessage -> toPublishedMessage(accountId, publishMessage))
-          .filter(Objects::nonNull)
-          .forEach(publishedMessage -> {
-            if (isEmpty(publishedMessage.getCategory())) {
-              withoutCategory.add(publishedMessage);
-            } else {
-              withCategory.add(publishedMessage);
-            }
-          });
-
-      if (isNotEmpty(withoutCategory)) {
-        try {
-          hPersistence.saveIgnoringDuplicateKeys(withoutCategory);
-        } catch (Exception e) {
-          log.warn("Encountered error while persisting messages", e);
-          responseObserver.onError(Status.INTERNAL.withCause(e).asException());
+      CompletableFuture<Void> persisted;
+      try {
+        persisted = submit(accountId, request);
+      } catch (RejectedExecutionException e) {
+        log.warn("Rejecting publish request as the ingestion queue is full");
+        responseObserver.onError(Status.RESOURCE_EXHAUSTED.withDescription(e.getMessage()).asException());
+        return;
+      }
+
+      // Respond from the ingestion thread, so that the grpc thread is not held while the messages are persisted
+      persisted.whenComplete((ignored, throwable) -> {
+        if (throwable != null) {
+          responseObserver.onError(Status.INTERNAL.withCause(unwrap(throwable)).asException());
           return;
         }
-      }
+        responseObserver.onNext(PublishResponse.newBuilder().build());
+        responseObserver.onCompleted();
+      });
+    }
+  }
 
-      try {
-        lastReceivedPublishedMessageRepository.updateLastReceivedPublishedMessages(withoutCategory);
-      } catch (Exception e) {
-        log.warn("Error while persisting last received data", e);
-      }
+  @Override
+  public StreamObserver<PublishRequest> publishStream(StreamObserver<PublishResponse> responseObserver) {
+    String accountId = requireNonNull(ACCOUNT_ID_CTX_KEY.get(Context.current()));
+    return new PublishStreamObserver(accountId, responseObserver);
+  }
 
-      try {
-        withCategory.forEach(publishedMessage -> {
-          MessageProcessor processor =
-              messageProcessorRegistry.getProcessor(MessageProcessorType.valueOf(publishedMessage.getCategory()));
-          processor.process(publishedMessage);
+  private CompletableFuture<Void> submit(String accountId, PublishRequest request) {
+    List<PublishedMessage> withoutCategory = new ArrayList<>();
+    List<PublishedMessage> withCategory = new ArrayList<>();
+    request.getMessagesList()
+        .stream()
+        .map(publishMessage -> toPublishedMessage(accountId, publishMessage))
+        .filter(Objects::nonNull)
+        .forEach(publishedMessage -> {
+          if (isEmpty(publishedMessage.getCategory())) {
+            withoutCategory.add(publishedMessage);
+          } else {
+            withCategory.add(publishedMessage);
+          }
         });
-      } catch (Exception e) {
-        log.warn("Error while processing messages", e);
-      }
+    return publishedMessageIngestor.submit(withoutCategory, withCategory);
+  }
 
-      log.info("Published messages persisted");
-      responseObserver.onNext(PublishResponse.newBuilder().build());
-      responseObserver.onCompleted();
-    }
+  private static Throwable unwrap(Throwable throwable) {
+    return throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause()
+                                                                                   : throwable;
   }
 
   public PublishedMessage toPublishedMessage(String accountId, PublishMessage publishMessage) {
@@ -119,4 +119,96 @@ public class EventPublisherServerImpl extends EventPublisherGrpc.EventPublisherI
       return null;
     }
   }
+
+  /**
+   * Submits the requests of a stream as they arrive. Inbound flow control keeps at most a few of them queued for
+   * ingestion; once the ingestion queue rejects a request the rest of the stream is ignored and the response tells
+   * the client how many messages, from the start of the stream, made it to the database.
+   */
+  private class PublishStreamObserver implements StreamObserver<PublishRequest> {
+    private final String accountId;
+    private final StreamObserver<PublishResponse> responseObserver;
+    private final ServerCallStreamObserver<PublishResponse> flowControl;
+
+    private final List<CompletableFuture<Void>> submitted = new ArrayList<>();
+    private final List<Integer> submittedCounts = new ArrayList<>();
+    private boolean rejected;
+    private boolean finished;
+
+    PublishStreamObserver(String accountId, StreamObserver<PublishResponse> responseObserver) {
+      this.accountId = accountId;
+      this.responseObserver = responseObserver;
+      if (responseObserver instanceof ServerCallStreamObserver) {
+        flowControl = (ServerCallStreamObserver<PublishResponse>) responseObserver;
+        flowControl.disableAutoInboundFlowControl();
+        flowControl.request(MAX_IN_FLIGHT_STREAM_REQUESTS);
+      } else {
+        flowControl = null;
+      }
+    }
+
+    @Override
+    public synchronized void onNext(PublishRequest request) {
+      if (rejected || finished) {
+        return;
+      }
+      try (AutoLogContext ignore = new AccountLogContext(accountId, OVERRIDE_ERROR)) {
+        log.info("Received streamed publish request with {} messages", request.getMessagesCount());
+        CompletableFuture<Void> persisted = submit(accountId, request);
+        submitted.add(persisted);
+        submittedCounts.add(request.getMessagesCount());
+        persisted.whenComplete((ignored, throwable) -> requestNext());
+      } catch (RejectedExecutionException e) {
+        log.warn("Ingestion queue is full, not accepting the rest of the stream");
+        rejected = true;
+        finish();
+      }
+    }
+
+    private void requestNext() {
+      if (flowControl != null && !flowControl.isCancelled()) {
+        flowControl.request(1);
+      }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+      log.warn("Publish stream failed for account {}", accountId, throwable);
+    }
+
+    @Override
+    public synchronized void onCompleted() {
+      finish();
+    }
+
+    private void finish() {
+      if (finished) {
+        return;
+      }
+      finished = true;
+      CompletableFuture
+          .allOf(submitted.stream()
+                     .map(future -> future.handle((ignored, throwable) -> null))
+                     .toArray(CompletableFuture[] ::new))
+          .thenRun(this::respond);
+    }
+
+    private void respond() {
+      int acceptedCount = 0;
+      for (int i = 0; i < submitted.size(); i++) {
+        CompletableFuture<Void> persisted = submitted.get(i);
+        if (persisted.isCompletedExceptionally()) {
+          if (acceptedCount == 0) {
+            Throwable cause = persisted.handle((ignored, throwable) -> unwrap(throwable)).join();
+            responseObserver.onError(Status.INTERNAL.withCause(cause).asException());
+            return;
+          }
+          break;
+        }
+        acceptedCount += submittedCounts.get(i);
+      }
+      responseObserver.onNext(PublishResponse.newBuilder().setAcceptedCount(acceptedCount).build());
+      responseObserver.onCompleted();
+    }
+  }
 }
@@ -40,6 +40,12 @@ import org.mongodb.morphia.annotations.PostLoad;
       , @Field(PublishedMessageKeys.type), @Field(PublishedMessageKeys.createdAt),
           @Field(PublishedMessageKeys.occurredAt)
     })
+@CdIndex(name = "accountId_type_createdAt_uuid",
+    fields =
+    {
+      @Field(PublishedMessageKeys.accountId)
+      , @Field(PublishedMessageKeys.type), @Field(PublishedMessageKeys.createdAt), @Field(PublishedMessageKeys.uuid)
+    })
 @FieldNameConstants(innerTypeName = "PublishedMessageKeys")
 @Slf4j
 public class PublishedMessage implements PersistentEntity, CreatedAtAware, UuidAware, AccountAccess {
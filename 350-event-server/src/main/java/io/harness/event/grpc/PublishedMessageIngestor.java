@@ -0,0 +1,235 @@
+package io.harness.event.grpc;
+
+import static io.harness.data.structure.EmptyPredicate.isNotEmpty;
+import static io.harness.grpc.IdentifierKeys.DELEGATE_ID;
+
+import io.harness.event.MessageProcessorType;
+import io.harness.event.service.intfc.LastReceivedPublishedMessageRepository;
+import io.harness.persistence.HPersistence;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.AbstractExecutionThreadService;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Decouples persisting published messages from the gRPC threads. Submissions from all the requests are queued, and a
+ * single ingestion thread coalesces them into large unordered bulk inserts. Categorized messages are handed to the
+ * {@link MessageProcessor}s on their own bounded executors, partitioned by the publishing delegate so that the
+ * messages of a delegate are processed one at a time and in the order they were published.
+ * <p/>
+ * The number of queued messages is bounded; when the bound is reached submissions are rejected so that the publisher
+ * backs off instead of piling up requests in memory.
+ */
+@Slf4j
+@Singleton
+public class PublishedMessageIngestor extends AbstractExecutionThreadService {
+  private static final int MAX_QUEUED_MESSAGES = 50_000;
+  private static final int MAX_BULK_INSERT_SIZE = 5_000;
+  private static final Duration FLUSH_INTERVAL = Duration.ofMillis(50);
+
+  private static final int PROCESSOR_THREADS = 4;
+  private static final int MAX_QUEUED_PROCESSOR_TASKS_PER_THREAD = 250;
+
+  private final HPersistence hPersistence;
+  private final LastReceivedPublishedMessageRepository lastReceivedPublishedMessageRepository;
+  private final MessageProcessorRegistry messageProcessorRegistry;
+
+  private final Semaphore capacity = new Semaphore(MAX_QUEUED_MESSAGES);
+  private final BlockingQueue<Submission> submissions = new LinkedBlockingQueue<>();
+  private final ThreadPoolExecutor[] processorExecutors = new ThreadPoolExecutor[PROCESSOR_THREADS];
+
+  @Value
+  private static class Submission {
+    List<PublishedMessage> withoutCategory;
+    List<PublishedMessage> withCategory;
+    CompletableFuture<Void> persisted;
+
+    int size() {
+      return withoutCategory.size() + withCategory.size();
+    }
+  }
+
+  @Inject
+  public PublishedMessageIngestor(HPersistence hPersistence,
+      LastReceivedPublishedMessageRepository lastReceivedPublishedMessageRepository,
+      MessageProcessorRegistry messageProcessorRegistry) {
+    this.hPersistence = hPersistence;
+    this.lastReceivedPublishedMessageRepository = lastReceivedPublishedMessageRepository;
+    this.messageProcessorRegistry = messageProcessorRegistry;
+    for (int i = 0; i < PROCESSOR_THREADS; i++) {
+      // Waiting for room when a processor falls behind slows down the ingestion thread, which in turn fills the
+      // submission queue and rejects new publish requests. Running on the caller instead would overtake the tasks
+      // already queued for the same delegates.
+      processorExecutors[i] = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+          new ArrayBlockingQueue<>(MAX_QUEUED_PROCESSOR_TASKS_PER_THREAD),
+          new ThreadFactoryBuilder().setNameFormat("message-processor-" + i).build(),
+          PublishedMessageIngestor::waitForRoom);
+    }
+  }
+
+  private static void waitForRoom(Runnable task, ThreadPoolExecutor executor) {
+    if (executor.isShutdown()) {
+      throw new RejectedExecutionException("Message processor is shut down");
+    }
+    try {
+      executor.getQueue().put(task);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RejectedExecutionException("Interrupted while waiting for the message processor", e);
+    }
+  }
+
+  /**
+   * Queues the messages of one publish request.
+   *
+   * @return a future completed once the uncategorized messages are persisted
+   * @throws RejectedExecutionException if there is no room left in the queue
+   */
+  public CompletableFuture<Void> submit(List<PublishedMessage> withoutCategory, List<PublishedMessage> withCategory) {
+    Submission submission = new Submission(withoutCategory, withCategory, new CompletableFuture<>());
+    int permits = permits(submission);
+    if (!capacity.tryAcquire(permits)) {
+      throw new RejectedExecutionException("Ingestion queue is full");
+    }
+    submissions.add(submission);
+    return submission.getPersisted();
+  }
+
+  // A single request bigger than the whole queue is still accepted once the queue is empty
+  private static int permits(Submission submission) {
+    return Math.min(submission.size(), MAX_QUEUED_MESSAGES);
+  }
+
+  @Override
+  protected void run() {
+    while (isRunning()) {
+      ingestOnce(FLUSH_INTERVAL);
+    }
+    // Do not leave the accepted submissions behind
+    while (ingestOnce(Duration.ZERO)) {
+      log.info("Draining ingestion queue on shutdown");
+    }
+  }
+
+  @Override
+  protected void shutDown() throws InterruptedException {
+    for (ThreadPoolExecutor processorExecutor : processorExecutors) {
+      processorExecutor.shutdown();
+    }
+    for (ThreadPoolExecutor processorExecutor : processorExecutors) {
+      processorExecutor.awaitTermination(30, TimeUnit.SECONDS);
+    }
+  }
+
+  /**
+   * Persists everything that was queued in the wait interval, up to the bulk insert size, with a single insert.
+   *
+   * @return false if nothing was queued
+   */
+  @VisibleForTesting
+  boolean ingestOnce(Duration wait) {
+    List<Submission> bulk = new ArrayList<>();
+    try {
+      Submission first = submissions.poll(wait.toMillis(), TimeUnit.MILLISECONDS);
+      if (first == null) {
+        return false;
+      }
+      bulk.add(first);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+
+    int bulkSize = bulk.get(0).size();
+    Submission next;
+    while (bulkSize < MAX_BULK_INSERT_SIZE && (next = submissions.poll()) != null) {
+      bulk.add(next);
+      bulkSize += next.size();
+    }
+
+    List<PublishedMessage> withoutCategory = new ArrayList<>(bulkSize);
+    bulk.forEach(submission -> withoutCategory.addAll(submission.getWithoutCategory()));
+    try {
+      persist(withoutCategory);
+      bulk.forEach(submission -> submission.getPersisted().complete(null));
+    } catch (Exception e) {
+      log.warn("Encountered error while persisting {} messages", withoutCategory.size(), e);
+      bulk.forEach(submission -> submission.getPersisted().completeExceptionally(e));
+    }
+
+    for (Submission submission : bulk) {
+      capacity.release(permits(submission));
+      if (isNotEmpty(submission.getWithCategory())) {
+        dispatch(submission.getWithCategory());
+      }
+    }
+    return true;
+  }
+
+  private void dispatch(List<PublishedMessage> withCategory) {
+    Map<String, List<PublishedMessage>> byPartition = new LinkedHashMap<>();
+    withCategory.forEach(publishedMessage
+        -> byPartition.computeIfAbsent(partitionKey(publishedMessage), key -> new ArrayList<>()).add(publishedMessage));
+    byPartition.forEach((partitionKey, messages) -> {
+      try {
+        processorExecutors[Math.floorMod(partitionKey.hashCode(), PROCESSOR_THREADS)].execute(() -> process(messages));
+      } catch (RejectedExecutionException e) {
+        log.warn("Dropping {} categorized messages", messages.size(), e);
+      }
+    });
+  }
+
+  // Messages of older delegates that do not send their id are still kept in order per account
+  @VisibleForTesting
+  static String partitionKey(PublishedMessage publishedMessage) {
+    Map<String, String> attributes = publishedMessage.getAttributes();
+    String delegateId = attributes == null ? null : attributes.get(DELEGATE_ID);
+    return isNotEmpty(delegateId) ? delegateId : String.valueOf(publishedMessage.getAccountId());
+  }
+
+  private void persist(List<PublishedMessage> withoutCategory) {
+    if (withoutCategory.isEmpty()) {
+      return;
+    }
+    hPersistence.saveIgnoringDuplicateKeys(withoutCategory);
+    try {
+      lastReceivedPublishedMessageRepository.updateLastReceivedPublishedMessages(withoutCategory);
+    } catch (Exception e) {
+      log.warn("Error while persisting last received data", e);
+    }
+  }
+
+  private void process(List<PublishedMessage> withCategory) {
+    try {
+      withCategory.forEach(publishedMessage -> {
+        MessageProcessor processor =
+            messageProcessorRegistry.getProcessor(MessageProcessorType.valueOf(publishedMessage.getCategory()));
+        processor.process(publishedMessage);
+      });
+    } catch (Exception e) {
+      log.warn("Error while processing messages", e);
+    }
+  }
+
+  @VisibleForTesting
+  int availableCapacity() {
+    return capacity.availablePermits();
+  }
+}
@@ -9,9 +9,12 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyListOf;
+import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import io.harness.CategoryTest;
 import io.harness.category.element.UnitTests;
@@ -19,10 +22,8 @@ import io.harness.event.PublishMessage;
 import io.harness.event.PublishRequest;
 import io.harness.event.PublishResponse;
 import io.harness.event.payloads.Lifecycle;
-import io.harness.event.service.intfc.LastReceivedPublishedMessageRepository;
 import io.harness.grpc.auth.DelegateAuthServerInterceptor;
 import io.harness.grpc.utils.HTimestamps;
-import io.harness.persistence.HPersistence;
 import io.harness.rule.Owner;
 
 import com.google.common.collect.ImmutableMap;
@@ -36,8 +37,11 @@ import io.grpc.stub.StreamObserver;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import org.apache.commons.lang3.tuple.ImmutablePair;
@@ -53,10 +57,8 @@ import org.mockito.runners.MockitoJUnitRunner;
 public class EventPublisherServerImplTest extends CategoryTest {
   private static final String TEST_ACC_ID = UUID.randomUUID().toString();
 
-  @Mock private HPersistence hPersistence;
+  @Mock private PublishedMessageIngestor publishedMessageIngestor;
   @Mock private StreamObserver<PublishResponse> observer;
-  @Mock private LastReceivedPublishedMessageRepository lastReceivedPublishedMessageRepository;
-  @Mock private MessageProcessorRegistry messageProcessorRegistry;
 
   @InjectMocks private EventPublisherServerImpl publisherServer;
 
@@ -90,8 +92,12 @@ public class EventPublisherServerImplTest extends CategoryTest {
                                              .build())
                                   .collect(toList()))
               .build();
+      when(publishedMessageIngestor.submit(anyListOf(PublishedMessage.class), anyListOf(PublishedMessage.class)))
+          .thenReturn(CompletableFuture.completedFuture(null));
       publisherServer.publish(publishRequest, observer);
-      verify(hPersistence).saveIgnoringDuplicateKeys(captor.capture());
+      verify(publishedMessageIngestor).submit(captor.capture(), eq(Collections.emptyList()));
+      verify(observer).onNext(PublishResponse.newBuilder().build());
+      verify(observer).onCompleted();
       List<PublishedMessage> captured = captor.getValue();
       assertThat(captured).containsExactlyElementsOf(
           streamWithIndex(testMessages().stream())
@@ -114,7 +120,10 @@ public class EventPublisherServerImplTest extends CategoryTest {
   @Category(UnitTests.class)
   public void shouldRespondErrorWhenPersistFail() {
     RuntimeException exception = new RuntimeException("Persistence error");
-    doThrow(exception).when(hPersistence).saveIgnoringDuplicateKeys(anyListOf(PublishedMessage.class));
+    CompletableFuture<Void> failed = new CompletableFuture<>();
+    failed.completeExceptionally(exception);
+    when(publishedMessageIngestor.submit(anyListOf(PublishedMessage.class), anyListOf(PublishedMessage.class)))
+        .thenReturn(failed);
     ArgumentCaptor<StatusException> captor = ArgumentCaptor.forClass(StatusException.class);
     Context.current().withValue(DelegateAuthServerInterceptor.ACCOUNT_ID_CTX_KEY, TEST_ACC_ID).run(() -> {
       publisherServer.publish(
@@ -133,6 +142,49 @@ public class EventPublisherServerImplTest extends CategoryTest {
     });
   }
 
+  @Test
+  @Owner(developers = AVMOHAN)
+  @Category(UnitTests.class)
+  public void shouldRespondResourceExhaustedWhenIngestionQueueIsFull() {
+    doThrow(new RejectedExecutionException("Ingestion queue is full"))
+        .when(publishedMessageIngestor)
+        .submit(anyListOf(PublishedMessage.class), anyListOf(PublishedMessage.class));
+    ArgumentCaptor<StatusException> captor = ArgumentCaptor.forClass(StatusException.class);
+    Context.current().withValue(DelegateAuthServerInterceptor.ACCOUNT_ID_CTX_KEY, TEST_ACC_ID).run(() -> {
+      publisherServer.publish(publishRequest(testMessages()), observer);
+      verify(observer).onError(captor.capture());
+      assertThat(captor.getValue().getStatus().getCode()).isEqualTo(Code.RESOURCE_EXHAUSTED);
+      verify(observer, never()).onNext(any());
+    });
+  }
+
+  @Test
+  @Owner(developers = AVMOHAN)
+  @Category(UnitTests.class)
+  public void shouldRespondAcceptedCountOfStreamWhenIngestionQueueIsFull() {
+    when(publishedMessageIngestor.submit(anyListOf(PublishedMessage.class), anyListOf(PublishedMessage.class)))
+        .thenReturn(CompletableFuture.completedFuture(null))
+        .thenThrow(new RejectedExecutionException("Ingestion queue is full"));
+    Context.current().withValue(DelegateAuthServerInterceptor.ACCOUNT_ID_CTX_KEY, TEST_ACC_ID).run(() -> {
+      StreamObserver<PublishRequest> requestObserver = publisherServer.publishStream(observer);
+      requestObserver.onNext(publishRequest(testMessages()));
+      requestObserver.onNext(publishRequest(testMessages()));
+      requestObserver.onNext(publishRequest(testMessages()));
+      requestObserver.onCompleted();
+      verify(publishedMessageIngestor, times(2))
+          .submit(anyListOf(PublishedMessage.class), anyListOf(PublishedMessage.class));
+      verify(observer).onNext(PublishResponse.newBuilder().setAcceptedCount(testMessages().size()).build());
+      verify(observer).onCompleted();
+    });
+  }
+
+  private PublishRequest publishRequest(List<Message> messages) {
+    return PublishRequest.newBuilder()
+        .addAllMessages(
+            messages.stream().map(x -> PublishMessage.newBuilder().setPayload(Any.pack(x)).build()).collect(toList()))
+        .build();
+  }
+
   private List<Message> testMessages() {
     return Arrays.asList(Lifecycle.newBuilder().setType(EVENT_TYPE_START).setInstanceId("instance-1").build(),
         Lifecycle.newBuilder().setType(EVENT_TYPE_START).setInstanceId("instance-2").build(),
@@ -0,0 +1,175 @@
+package io.harness.event.grpc;
+
+import static io.harness.grpc.IdentifierKeys.DELEGATE_ID;
+import static io.harness.rule.OwnerRule.AVMOHAN;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.Matchers.anyListOf;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.event.MessageProcessorType;
+import io.harness.event.service.intfc.LastReceivedPublishedMessageRepository;
+import io.harness.persistence.HPersistence;
+import io.harness.rule.Owner;
+
+import com.google.common.collect.ImmutableMap;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class PublishedMessageIngestorTest extends CategoryTest {
+  @Mock private HPersistence hPersistence;
+  @Mock private LastReceivedPublishedMessageRepository lastReceivedPublishedMessageRepository;
+  @Mock private MessageProcessorRegistry messageProcessorRegistry;
+
+  @InjectMocks private PublishedMessageIngestor publishedMessageIngestor;
+
+  @Test
+  @Owner(developers = AVMOHAN)
+  @Category(UnitTests.class)
+  public void shouldCoalesceSubmissionsIntoSingleBulkInsert() {
+    List<PublishedMessage> first = messages(0, 3);
+    List<PublishedMessage> second = messages(3, 2);
+    CompletableFuture<Void> firstPersisted = publishedMessageIngestor.submit(first, Collections.emptyList());
+    CompletableFuture<Void> secondPersisted = publishedMessageIngestor.submit(second, Collections.emptyList());
+
+    assertThat(publishedMessageIngestor.ingestOnce(Duration.ZERO)).isTrue();
+
+    @SuppressWarnings("unchecked") // Casting as we can't use List<PublishedMessage> as the class type.
+    ArgumentCaptor<List<PublishedMessage>> captor = ArgumentCaptor.forClass((Class) List.class);
+    verify(hPersistence).saveIgnoringDuplicateKeys(captor.capture());
+    List<PublishedMessage> expected = new ArrayList<>(first);
+    expected.addAll(second);
+    assertThat(captor.getValue()).containsExactlyElementsOf(expected);
+    verify(lastReceivedPublishedMessageRepository).updateLastReceivedPublishedMessages(expected);
+
+    assertThat(firstPersisted).isCompleted();
+    assertThat(secondPersisted).isCompleted();
+    assertThat(publishedMessageIngestor.ingestOnce(Duration.ZERO)).isFalse();
+  }
+
+  @Test
+  @Owner(developers = AVMOHAN)
+  @Category(UnitTests.class)
+  public void shouldFailSubmissionsOfFailedBulkInsertAndReleaseCapacity() {
+    int capacity = publishedMessageIngestor.availableCapacity();
+    RuntimeException exception = new RuntimeException("Persistence error");
+    doThrow(exception).when(hPersistence).saveIgnoringDuplicateKeys(anyListOf(PublishedMessage.class));
+
+    CompletableFuture<Void> persisted = publishedMessageIngestor.submit(messages(0, 3), Collections.emptyList());
+    assertThat(publishedMessageIngestor.availableCapacity()).isEqualTo(capacity - 3);
+    publishedMessageIngestor.ingestOnce(Duration.ZERO);
+
+    assertThat(persisted).hasFailedWithThrowableThat().isSameAs(exception);
+    assertThat(publishedMessageIngestor.availableCapacity()).isEqualTo(capacity);
+    verifyZeroInteractions(lastReceivedPublishedMessageRepository);
+  }
+
+  @Test
+  @Owner(developers = AVMOHAN)
+  @Category(UnitTests.class)
+  public void shouldRejectSubmissionWhenQueueIsFull() {
+    publishedMessageIngestor.submit(messages(0, publishedMessageIngestor.availableCapacity()), Collections.emptyList());
+
+    assertThatExceptionOfType(RejectedExecutionException.class)
+        .isThrownBy(() -> publishedMessageIngestor.submit(messages(0, 1), Collections.emptyList()));
+
+    publishedMessageIngestor.ingestOnce(Duration.ZERO);
+    assertThat(publishedMessageIngestor.submit(messages(0, 1), Collections.emptyList())).isNotNull();
+  }
+
+  @Test
+  @Owner(developers = AVMOHAN)
+  @Category(UnitTests.class)
+  public void shouldProcessCategorizedMessagesOfDelegateInOrder() throws Exception {
+    Map<String, List<String>> processed = new ConcurrentHashMap<>();
+    Map<String, Set<String>> threads = new ConcurrentHashMap<>();
+    MessageProcessor messageProcessor = publishedMessage -> {
+      String delegateId = publishedMessage.getAttributes().get(DELEGATE_ID);
+      processed.computeIfAbsent(delegateId, key -> new CopyOnWriteArrayList<>()).add(publishedMessage.getUuid());
+      threads.computeIfAbsent(delegateId, key -> ConcurrentHashMap.newKeySet()).add(Thread.currentThread().getName());
+    };
+    when(messageProcessorRegistry.getProcessor(MessageProcessorType.EXCEPTION)).thenReturn(messageProcessor);
+
+    List<String> delegateIds = IntStream.range(0, 8).mapToObj(i -> "delegate-" + i).collect(Collectors.toList());
+    for (int batch = 0; batch < 50; batch++) {
+      for (String delegateId : delegateIds) {
+        publishedMessageIngestor.submit(
+            Collections.emptyList(), categorizedMessages(delegateId, batch * 10, (batch + 1) * 10));
+      }
+    }
+    while (publishedMessageIngestor.ingestOnce(Duration.ZERO)) {
+      // Drain all the submissions
+    }
+    publishedMessageIngestor.shutDown();
+
+    List<String> expected = IntStream.range(0, 500).mapToObj(i -> "id-" + i).collect(Collectors.toList());
+    for (String delegateId : delegateIds) {
+      assertThat(processed.get(delegateId)).containsExactlyElementsOf(expected);
+      assertThat(threads.get(delegateId)).hasSize(1);
+    }
+  }
+
+  @Test
+  @Owner(developers = AVMOHAN)
+  @Category(UnitTests.class)
+  public void shouldPartitionByAccountWhenDelegateIdIsMissing() {
+    PublishedMessage withoutDelegate =
+        PublishedMessage.builder().uuid("id").accountId("accountId").attributes(ImmutableMap.of()).build();
+    PublishedMessage withDelegate = withoutDelegate.toBuilder().attributes(ImmutableMap.of(DELEGATE_ID, "d1")).build();
+
+    assertThat(PublishedMessageIngestor.partitionKey(withoutDelegate)).isEqualTo("accountId");
+    assertThat(PublishedMessageIngestor.partitionKey(withDelegate)).isEqualTo("d1");
+  }
+
+  private List<PublishedMessage> categorizedMessages(String delegateId, int from, int to) {
+    return IntStream.range(from, to)
+        .mapToObj(i
+            -> PublishedMessage.builder()
+                   .uuid("id-" + i)
+                   .accountId("accountId")
+                   .type("type")
+                   .data(new byte[0])
+                   .attributes(ImmutableMap.of(DELEGATE_ID, delegateId))
+                   .category(MessageProcessorType.EXCEPTION.name())
+                   .build())
+        .collect(Collectors.toList());
+  }
+
+  private List<PublishedMessage> messages(int from, int count) {
+    return IntStream.range(from, from + count)
+        .mapToObj(i
+            -> PublishedMessage.builder()
+                   .uuid("id-" + i)
+                   .accountId("accountId")
+                   .type("type")
+                   .data(new byte[0])
+                   .attributes(ImmutableMap.of())
+                   .category("")
+                   .build())
+        .collect(Collectors.toList());
+  }
+}
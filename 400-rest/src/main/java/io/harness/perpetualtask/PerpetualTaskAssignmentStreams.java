@@ -0,0 +1,202 @@
+package io.harness.perpetualtask;
+
+import static io.harness.logging.AutoLogContext.OverrideBehavior.OVERRIDE_ERROR;
+
+import io.harness.annotations.dev.Module;
+import io.harness.annotations.dev.TargetModule;
+import io.harness.delegate.task.DelegateLogContext;
+import io.harness.grpc.utils.HTimestamps;
+import io.harness.logging.AccountLogContext;
+import io.harness.logging.AutoLogContext;
+import io.harness.perpetualtask.internal.PerpetualTaskRecord;
+import io.harness.perpetualtask.internal.PerpetualTaskRecordDao;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * The open perpetual task assignment feeds of the delegates connected to this manager.
+ *
+ * Every feed remembers what it has sent to its delegate and only streams the differences to the current assignments.
+ * The assignments of a delegate are compared again shortly after a change made on this manager. A change made on
+ * another manager reaches the delegate through the UPDATE_PERPETUAL_TASK broadcast, on which the delegate reopens its
+ * feed, and the open compares the assignments again. The comparison every {@link #RECONCILE_INTERVAL_MINUTES} only
+ * catches what both missed.
+ */
+@Singleton
+@Slf4j
+@TargetModule(Module._420_DELEGATE_SERVICE)
+public class PerpetualTaskAssignmentStreams {
+  static final long RECONCILE_INTERVAL_MINUTES = 10;
+  static final long COALESCE_MILLIS = 500;
+
+  private final PerpetualTaskRecordDao perpetualTaskRecordDao;
+  private final Map<String, Set<AssignmentStream>> accountStreams = new ConcurrentHashMap<>();
+  private final ScheduledExecutorService executorService = Executors.newScheduledThreadPool(
+      4, new ThreadFactoryBuilder().setNameFormat("perpetual-task-assignments-%d").build());
+
+  @Inject
+  public PerpetualTaskAssignmentStreams(PerpetualTaskRecordDao perpetualTaskRecordDao) {
+    this.perpetualTaskRecordDao = perpetualTaskRecordDao;
+  }
+
+  static PerpetualTaskAssignDetails assignDetails(PerpetualTaskRecord task) {
+    return PerpetualTaskAssignDetails.newBuilder()
+        .setTaskId(PerpetualTaskId.newBuilder().setId(task.getUuid()))
+        .setLastContextUpdated(HTimestamps.fromMillis(task.getClientContext().getLastContextUpdated()))
+        .build();
+  }
+
+  private class AssignmentStream {
+    private final String accountId;
+    private final String delegateId;
+    private final StreamObserver<PerpetualTaskAssignmentsResponse> responseObserver;
+    // Task id to the last context update sent for it.
+    private final Map<String, Long> sent = new HashMap<>();
+    private final AtomicBoolean refreshPending = new AtomicBoolean();
+    private ScheduledFuture<?> reconcile;
+    private boolean closed;
+
+    AssignmentStream(String accountId, String delegateId, List<PerpetualTaskAssignDetails> knownAssignments,
+        StreamObserver<PerpetualTaskAssignmentsResponse> responseObserver) {
+      this.accountId = accountId;
+      this.delegateId = delegateId;
+      this.responseObserver = responseObserver;
+      for (PerpetualTaskAssignDetails known : knownAssignments) {
+        sent.put(known.getTaskId().getId(), HTimestamps.toMillis(known.getLastContextUpdated()));
+      }
+    }
+
+    void requestRefresh() {
+      if (refreshPending.compareAndSet(false, true)) {
+        executorService.schedule(() -> {
+          refreshPending.set(false);
+          refresh();
+        }, COALESCE_MILLIS, TimeUnit.MILLISECONDS);
+      }
+    }
+
+    synchronized void refresh() {
+      if (closed) {
+        return;
+      }
+      try (AutoLogContext ignore0 = new AccountLogContext(accountId, OVERRIDE_ERROR);
+           AutoLogContext ignore1 = new DelegateLogContext(delegateId, OVERRIDE_ERROR)) {
+        PerpetualTaskAssignmentsResponse response;
+        try {
+          response = diff(perpetualTaskRecordDao.listAssignedTasks(delegateId, accountId));
+        } catch (Exception e) {
+          log.error("Failed to list the perpetual tasks assigned to the delegate", e);
+          return;
+        }
+        if (response.getAssignedCount() == 0 && response.getRemovedCount() == 0) {
+          return;
+        }
+        try {
+          responseObserver.onNext(response);
+        } catch (Exception e) {
+          log.warn("Closing the perpetual task assignment feed of the delegate", e);
+          close();
+        }
+      }
+    }
+
+    private PerpetualTaskAssignmentsResponse diff(List<PerpetualTaskRecord> assignedTasks) {
+      PerpetualTaskAssignmentsResponse.Builder response = PerpetualTaskAssignmentsResponse.newBuilder();
+      Map<String, Long> current = new HashMap<>();
+      for (PerpetualTaskRecord task : assignedTasks) {
+        long lastContextUpdated = task.getClientContext().getLastContextUpdated();
+        current.put(task.getUuid(), lastContextUpdated);
+        Long sentLastContextUpdated = sent.get(task.getUuid());
+        if (sentLastContextUpdated == null || sentLastContextUpdated < lastContextUpdated) {
+          response.addAssigned(assignDetails(task));
+        }
+      }
+      for (Iterator<String> iterator = sent.keySet().iterator(); iterator.hasNext();) {
+        String taskId = iterator.next();
+        if (!current.containsKey(taskId)) {
+          response.addRemoved(PerpetualTaskId.newBuilder().setId(taskId));
+          iterator.remove();
+        }
+      }
+      sent.putAll(current);
+      return response.build();
+    }
+
+    synchronized void close() {
+      if (closed) {
+        return;
+      }
+      closed = true;
+      if (reconcile != null) {
+        reconcile.cancel(false);
+      }
+      Set<AssignmentStream> streams = accountStreams.get(accountId);
+      if (streams != null) {
+        streams.remove(this);
+      }
+    }
+  }
+
+  /**
+   * Registers the feed of a delegate and sends it the differences between the tasks it already runs and the tasks
+   * assigned to it. Has to be called from the rpc handler, before it returns.
+   */
+  public void open(String accountId, String delegateId, List<PerpetualTaskAssignDetails> knownAssignments,
+      StreamObserver<PerpetualTaskAssignmentsResponse> responseObserver) {
+    AssignmentStream stream = new AssignmentStream(accountId, delegateId, knownAssignments, responseObserver);
+    if (responseObserver instanceof ServerCallStreamObserver) {
+      ((ServerCallStreamObserver<PerpetualTaskAssignmentsResponse>) responseObserver).setOnCancelHandler(stream::close);
+    }
+    accountStreams.computeIfAbsent(accountId, key -> ConcurrentHashMap.newKeySet()).add(stream);
+
+    // Spread the reconciliation of the delegates that connected together.
+    long initialDelay = ThreadLocalRandom.current().nextLong(TimeUnit.MINUTES.toMillis(RECONCILE_INTERVAL_MINUTES));
+    synchronized (stream) {
+      stream.reconcile = executorService.scheduleWithFixedDelay(
+          stream::refresh, initialDelay, TimeUnit.MINUTES.toMillis(RECONCILE_INTERVAL_MINUTES), TimeUnit.MILLISECONDS);
+    }
+    stream.refresh();
+  }
+
+  /**
+   * Called when the tasks assigned to the delegate may have changed.
+   */
+  public void delegateChanged(String accountId, String delegateId) {
+    Set<AssignmentStream> streams = accountStreams.get(accountId);
+    if (streams == null) {
+      return;
+    }
+    for (AssignmentStream stream : streams) {
+      if (stream.delegateId.equals(delegateId)) {
+        stream.requestRefresh();
+      }
+    }
+  }
+
+  /**
+   * Called when a task of the account changed without knowing the delegate it was assigned to.
+   */
+  public void accountChanged(String accountId) {
+    Set<AssignmentStream> streams = accountStreams.get(accountId);
+    if (streams != null) {
+      streams.forEach(AssignmentStream::requestRefresh);
+    }
+  }
+}
@@ -5,6 +5,7 @@ import io.harness.annotations.dev.TargetModule;
 import io.harness.perpetualtask.internal.PerpetualTaskRecord;
 
 import java.util.List;
+import java.util.Map;
 
 @TargetModule(Module._420_DELEGATE_SERVICE)
 public interface PerpetualTaskService {
@@ -31,6 +32,8 @@ public interface PerpetualTaskService {
 
   PerpetualTaskExecutionContext perpetualTaskContext(String taskId);
 
+  Map<String, PerpetualTaskExecutionContext> perpetualTaskContexts(List<String> taskIds);
+
   boolean triggerCallback(String taskId, long heartbeatMillis, PerpetualTaskResponse perpetualTaskResponse);
 
   void appointDelegate(String accountId, String taskId, String delegateId, long lastContextUpdated);
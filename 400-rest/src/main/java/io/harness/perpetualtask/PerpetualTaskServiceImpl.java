@@ -26,8 +26,10 @@ import com.google.protobuf.InvalidProtocolBufferException;
 import com.google.protobuf.Message;
 import com.google.protobuf.util.Durations;
 import io.grpc.Context;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -46,13 +48,16 @@ public class PerpetualTaskServiceImpl implements PerpetualTaskService, DelegateO
   private PerpetualTaskRecordDao perpetualTaskRecordDao;
   private PerpetualTaskServiceClientRegistry clientRegistry;
   private final BroadcasterFactory broadcasterFactory;
+  private final PerpetualTaskAssignmentStreams assignmentStreams;
 
   @Inject
   public PerpetualTaskServiceImpl(PerpetualTaskRecordDao perpetualTaskRecordDao,
-      PerpetualTaskServiceClientRegistry clientRegistry, BroadcasterFactory broadcasterFactory) {
+      PerpetualTaskServiceClientRegistry clientRegistry, BroadcasterFactory broadcasterFactory,
+      PerpetualTaskAssignmentStreams assignmentStreams) {
     this.perpetualTaskRecordDao = perpetualTaskRecordDao;
     this.clientRegistry = clientRegistry;
     this.broadcasterFactory = broadcasterFactory;
+    this.assignmentStreams = assignmentStreams;
   }
 
   @Getter private Subject<PerpetualTaskCrudObserver> perpetualTaskCrudSubject = new Subject<>();
@@ -61,6 +66,7 @@ public class PerpetualTaskServiceImpl implements PerpetualTaskService, DelegateO
   public void appointDelegate(String accountId, String taskId, String delegateId, long lastContextUpdated) {
     perpetualTaskRecordDao.appointDelegate(taskId, delegateId, lastContextUpdated);
 
+    assignmentStreams.delegateChanged(accountId, delegateId);
     broadcastAggregateSet.add(Pair.of(accountId, delegateId));
   }
 
@@ -117,7 +123,11 @@ public class PerpetualTaskServiceImpl implements PerpetualTaskService, DelegateO
     try (AutoLogContext ignore0 = new AccountLogContext(accountId, OVERRIDE_ERROR);
          AutoLogContext ignore1 = new PerpetualTaskLogContext(taskId, OVERRIDE_ERROR)) {
       log.info("Resetting the perpetual task");
-      return perpetualTaskRecordDao.resetDelegateIdForTask(accountId, taskId, taskExecutionBundle);
+      boolean reset = perpetualTaskRecordDao.resetDelegateIdForTask(accountId, taskId, taskExecutionBundle);
+      if (reset) {
+        assignmentStreams.accountChanged(accountId);
+      }
+      return reset;
     }
   }
 
@@ -128,6 +138,7 @@ public class PerpetualTaskServiceImpl implements PerpetualTaskService, DelegateO
       boolean hasDeleted = perpetualTaskRecordDao.remove(accountId, taskId);
       if (hasDeleted) {
         log.info("Deleted the perpetual task");
+        assignmentStreams.accountChanged(accountId);
       }
       return hasDeleted;
     }
@@ -138,7 +149,11 @@ public class PerpetualTaskServiceImpl implements PerpetualTaskService, DelegateO
     try (AutoLogContext ignore0 = new AccountLogContext(accountId, OVERRIDE_ERROR);
          AutoLogContext ignore1 = new PerpetualTaskLogContext(taskId, OVERRIDE_ERROR)) {
       log.info("Pausing the perpetual task");
-      return perpetualTaskRecordDao.pauseTask(accountId, taskId);
+      boolean paused = perpetualTaskRecordDao.pauseTask(accountId, taskId);
+      if (paused) {
+        assignmentStreams.accountChanged(accountId);
+      }
+      return paused;
     }
   }
 
@@ -149,7 +164,9 @@ public class PerpetualTaskServiceImpl implements PerpetualTaskService, DelegateO
 
   @Override
   public boolean deleteAllTasksForAccount(String accountId) {
-    return perpetualTaskRecordDao.removeAllTasksForAccount(accountId);
+    boolean removed = perpetualTaskRecordDao.removeAllTasksForAccount(accountId);
+    assignmentStreams.accountChanged(accountId);
+    return removed;
   }
 
   @Override
@@ -158,13 +175,7 @@ public class PerpetualTaskServiceImpl implements PerpetualTaskService, DelegateO
 
     List<PerpetualTaskRecord> taskRecords = perpetualTaskRecordDao.listAssignedTasks(delegateId, accountId);
 
-    return taskRecords.stream()
-        .map(task
-            -> PerpetualTaskAssignDetails.newBuilder()
-                   .setTaskId(PerpetualTaskId.newBuilder().setId(task.getUuid()))
-                   .setLastContextUpdated(HTimestamps.fromMillis(task.getClientContext().getLastContextUpdated()))
-                   .build())
-        .collect(Collectors.toList());
+    return taskRecords.stream().map(PerpetualTaskAssignmentStreams::assignDetails).collect(Collectors.toList());
   }
 
   @Override
@@ -185,8 +196,19 @@ public class PerpetualTaskServiceImpl implements PerpetualTaskService, DelegateO
 
   @Override
   public PerpetualTaskExecutionContext perpetualTaskContext(String taskId) {
-    PerpetualTaskRecord perpetualTaskRecord = perpetualTaskRecordDao.getTask(taskId);
+    return perpetualTaskContext(perpetualTaskRecordDao.getTask(taskId));
+  }
+
+  @Override
+  public Map<String, PerpetualTaskExecutionContext> perpetualTaskContexts(List<String> taskIds) {
+    Map<String, PerpetualTaskExecutionContext> contexts = new HashMap<>();
+    for (PerpetualTaskRecord perpetualTaskRecord : perpetualTaskRecordDao.getTasks(taskIds)) {
+      contexts.put(perpetualTaskRecord.getUuid(), perpetualTaskContext(perpetualTaskRecord));
+    }
+    return contexts;
+  }
 
+  private PerpetualTaskExecutionContext perpetualTaskContext(PerpetualTaskRecord perpetualTaskRecord) {
     PerpetualTaskExecutionParams params = getTaskParams(perpetualTaskRecord);
 
     PerpetualTaskSchedule schedule = PerpetualTaskSchedule.newBuilder()
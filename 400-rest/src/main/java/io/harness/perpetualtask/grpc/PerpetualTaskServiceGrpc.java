@@ -2,12 +2,19 @@ package io.harness.perpetualtask.grpc;
 
 import io.harness.annotations.dev.Module;
 import io.harness.annotations.dev.TargetModule;
+import io.harness.grpc.auth.DelegateAuthServerInterceptor;
 import io.harness.grpc.utils.HTimestamps;
 import io.harness.perpetualtask.HeartbeatRequest;
 import io.harness.perpetualtask.HeartbeatResponse;
 import io.harness.perpetualtask.PerpetualTaskAssignDetails;
+import io.harness.perpetualtask.PerpetualTaskAssignmentStreams;
+import io.harness.perpetualtask.PerpetualTaskAssignmentsRequest;
+import io.harness.perpetualtask.PerpetualTaskAssignmentsResponse;
 import io.harness.perpetualtask.PerpetualTaskContextRequest;
 import io.harness.perpetualtask.PerpetualTaskContextResponse;
+import io.harness.perpetualtask.PerpetualTaskContextsRequest;
+import io.harness.perpetualtask.PerpetualTaskContextsResponse;
+import io.harness.perpetualtask.PerpetualTaskId;
 import io.harness.perpetualtask.PerpetualTaskListRequest;
 import io.harness.perpetualtask.PerpetualTaskListResponse;
 import io.harness.perpetualtask.PerpetualTaskResponse;
@@ -15,10 +22,12 @@ import io.harness.perpetualtask.PerpetualTaskService;
 
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
+import io.grpc.Context;
 import io.grpc.stub.StreamObserver;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
+import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 
 @Singleton
@@ -27,6 +36,7 @@ import lombok.extern.slf4j.Slf4j;
 public class PerpetualTaskServiceGrpc
     extends io.harness.perpetualtask.PerpetualTaskServiceGrpc.PerpetualTaskServiceImplBase {
   @Inject private PerpetualTaskService perpetualTaskService;
+  @Inject private PerpetualTaskAssignmentStreams perpetualTaskAssignmentStreams;
 
   @Override
   public void perpetualTaskList(
@@ -54,6 +64,26 @@ public class PerpetualTaskServiceGrpc
     responseObserver.onCompleted();
   }
 
+  @Override
+  public void perpetualTaskAssignments(
+      PerpetualTaskAssignmentsRequest request, StreamObserver<PerpetualTaskAssignmentsResponse> responseObserver) {
+    String accountId = DelegateAuthServerInterceptor.ACCOUNT_ID_CTX_KEY.get(Context.current());
+    log.info("perpetualTaskAssignments opened with {} known tasks", request.getKnownAssignmentsCount());
+    perpetualTaskAssignmentStreams.open(
+        accountId, request.getDelegateId().getId(), request.getKnownAssignmentsList(), responseObserver);
+  }
+
+  @Override
+  public void perpetualTaskContexts(
+      PerpetualTaskContextsRequest request, StreamObserver<PerpetualTaskContextsResponse> responseObserver) {
+    List<String> taskIds =
+        request.getPerpetualTaskIdsList().stream().map(PerpetualTaskId::getId).collect(Collectors.toList());
+    responseObserver.onNext(PerpetualTaskContextsResponse.newBuilder()
+                                .putAllPerpetualTaskContexts(perpetualTaskService.perpetualTaskContexts(taskIds))
+                                .build());
+    responseObserver.onCompleted();
+  }
+
   @Override
   public void heartbeat(HeartbeatRequest request, StreamObserver<HeartbeatResponse> responseObserver) {
     PerpetualTaskResponse perpetualTaskResponse = PerpetualTaskResponse.builder()
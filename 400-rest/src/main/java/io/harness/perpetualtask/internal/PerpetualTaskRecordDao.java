@@ -154,6 +154,10 @@ public class PerpetualTaskRecordDao {
     return persistence.createQuery(PerpetualTaskRecord.class).field(PerpetualTaskRecordKeys.uuid).equal(taskId).get();
   }
 
+  public List<PerpetualTaskRecord> getTasks(List<String> taskIds) {
+    return persistence.createQuery(PerpetualTaskRecord.class).field(PerpetualTaskRecordKeys.uuid).in(taskIds).asList();
+  }
+
   public Optional<PerpetualTaskRecord> getExistingPerpetualTask(
       String accountId, String perpetualTaskType, PerpetualTaskClientContext clientContext) {
     Query<PerpetualTaskRecord> perpetualTaskRecordQuery = persistence.createQuery(PerpetualTaskRecord.class)
@@ -74,6 +74,7 @@ public class ArtifactCollectionHandler implements Handler<ArtifactStream> {
             .entityProcessController(new AccountStatusBasedEntityProcessController<>(accountService))
             .schedulingType(REGULAR)
             .persistenceProvider(persistenceProvider)
+            .partitionCount(16)
             .redistribute(true));
 
     if (iterator != null) {
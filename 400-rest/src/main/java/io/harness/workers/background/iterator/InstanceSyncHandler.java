@@ -52,6 +52,7 @@ public class InstanceSyncHandler implements Handler<InfrastructureMapping> {
             .entityProcessController(new AccountStatusBasedEntityProcessController<>(accountService))
             .schedulingType(REGULAR)
             .persistenceProvider(persistenceProvider)
+            .partitionCount(16)
             .redistribute(true));
   }
 
@@ -227,7 +227,9 @@ public class DelegateQueueTask implements Runnable {
                 .set(DelegateTaskKeys.broadcastCount, delegateTask.getBroadcastCount() + 1)
                 .set(DelegateTaskKeys.nextBroadcast, broadcastHelper.findNextBroadcastTimeForTask(delegateTask));
 
-        if (delegateTask.getPreAssignedDelegateId() != null && delegateTask.getBroadcastCount() > 0) {
+        // Pollers other than the pre-assigned delegate only see the task once the pre-assignment is cleared, the
+        // picked delegate gets a single broadcast to take it.
+        if (delegateTask.getPreAssignedDelegateId() != null) {
           updateOperations.unset(DelegateTaskKeys.preAssignedDelegateId);
         }
 
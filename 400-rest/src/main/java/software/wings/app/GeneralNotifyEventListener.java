@@ -21,6 +21,7 @@ public final class GeneralNotifyEventListener extends NotifyEventListener {
   public GeneralNotifyEventListener(
       Injector injector, VersionInfoManager versionInfoManager, PublisherConfiguration config) {
     super(QueueFactory.createQueueConsumer(injector, NotifyEvent.class, ofSeconds(5),
-        asList(asList(versionInfoManager.getVersionInfo().getVersion()), asList(GENERAL)), config));
+        asList(asList(versionInfoManager.getVersionInfo().getVersion()), asList(GENERAL)), config),
+        BATCH_SIZE, WORKERS);
   }
 }
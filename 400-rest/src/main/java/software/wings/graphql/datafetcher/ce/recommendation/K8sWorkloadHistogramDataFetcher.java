@@ -29,7 +29,6 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.stream.Collectors;
 import lombok.Builder;
 import lombok.Value;
@@ -71,13 +70,13 @@ public class K8sWorkloadHistogramDataFetcher
           String containerName = stringContainerCheckpointEntry.getKey();
           ContainerCheckpoint containerCheckpoint = stringContainerCheckpointEntry.getValue();
 
-          // merge the day's cpu histogram into the aggregate cpu histogram
+          // merge the day's cpu histogram into the aggregate cpu histogram. Loading a checkpoint adds to the existing
+          // weights, so each day is loaded straight into the aggregate.
           HistogramCheckpoint cpuHistogramPartialCheckpoint = containerCheckpoint.getCpuHistogram();
-          if (cpuHistogramPartialCheckpoint.getBucketWeights() != null) {
-            Histogram cpuHistogramPartial = RecommenderUtils.loadFromCheckpointV2(cpuHistogramPartialCheckpoint);
-            Histogram cpuHistogram = cpuHistograms.getOrDefault(containerName, RecommenderUtils.newCpuHistogramV2());
-            cpuHistogram.merge(cpuHistogramPartial);
-            cpuHistograms.put(containerName, cpuHistogram);
+          if (cpuHistogramPartialCheckpoint.getBucketWeights() != null
+              || cpuHistogramPartialCheckpoint.getCompactBucketWeights() != null) {
+            cpuHistograms.computeIfAbsent(containerName, name -> RecommenderUtils.newCpuHistogramV2())
+                .loadFromCheckPoint(cpuHistogramPartialCheckpoint);
           }
 
           // add the day's memory peak into the aggregate memory histogram
@@ -136,23 +135,26 @@ public class K8sWorkloadHistogramDataFetcher
   }
 
   private double[] getPrecomputedPercentiles(Histogram histogram) {
-    double[] result = new double[101];
+    double[] percentiles = new double[101];
     for (int p = 1; p <= 100; p++) {
-      result[p] = histogram.getPercentile(p / 100.0);
+      percentiles[p] = p / 100.0;
     }
+    double[] result = histogram.getPercentiles(percentiles);
+    result[0] = 0;
     return result;
   }
 
   private double[] bucketWeightsMapToArr(HistogramCheckpoint histogram, int numBuckets) {
     double[] bucketWeightsArr = new double[numBuckets];
-    long sum = 0;
-    for (Integer weight : histogram.getBucketWeights().values()) {
-      sum += weight;
-    }
-    if (sum != 0) {
-      double ratio = histogram.getTotalWeight() / sum;
+    long[] sum = new long[1];
+    histogram.forEachBucketWeight((bucket, weight) -> {
+      bucketWeightsArr[bucket] = weight;
+      sum[0] += weight;
+    });
+    if (sum[0] != 0) {
+      double ratio = histogram.getTotalWeight() / sum[0];
       for (int i = 0; i < numBuckets; i++) {
-        bucketWeightsArr[i] = Optional.ofNullable(histogram.getBucketWeights().get(i)).orElse(0) * ratio;
+        bucketWeightsArr[i] *= ratio;
       }
     }
     return bucketWeightsArr;
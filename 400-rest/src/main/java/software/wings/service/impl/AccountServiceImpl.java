@@ -320,8 +320,10 @@ public class AccountServiceImpl implements AccountService {
     try {
       eventProducer.send(
           Message.newBuilder()
-              .putAllMetadata(ImmutableMap.of(EventsFrameworkMetadataConstants.ENTITY_TYPE,
-                  EventsFrameworkMetadataConstants.ACCOUNT_ENTITY, EventsFrameworkMetadataConstants.ACTION, action))
+              .putAllMetadata(ImmutableMap.of(EventsFrameworkMetadataConstants.ACCOUNT_IDENTIFIER_METADATA_KEY,
+                  accountId, EventsFrameworkMetadataConstants.ENTITY_IDENTIFIER_METADATA_KEY, accountId,
+                  EventsFrameworkMetadataConstants.ENTITY_TYPE, EventsFrameworkMetadataConstants.ACCOUNT_ENTITY,
+                  EventsFrameworkMetadataConstants.ACTION, action))
               .setData(AccountEntityChangeDTO.newBuilder().setAccountId(accountId).build().toByteString())
               .build());
     } catch (Exception ex) {
@@ -53,6 +53,7 @@ import software.wings.service.intfc.EnvironmentService;
 import software.wings.service.intfc.InfrastructureMappingService;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
@@ -64,6 +65,7 @@ import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -72,6 +74,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.tuple.ImmutablePair;
@@ -123,6 +126,11 @@ public class AssignDelegateServiceImpl implements AssignDelegateService, Delegat
                 }
               });
 
+  // Tasks executing on each delegate as of its last heartbeat, plus the tasks picked for it since then. Delegates that
+  // stopped reporting age out together with their heartbeat.
+  private final Cache<String, AtomicInteger> delegateTaskLoads =
+      CacheBuilder.newBuilder().expireAfterWrite(MAX_DELEGATE_LAST_HEARTBEAT, TimeUnit.MILLISECONDS).build();
+
   private LoadingCache<String, List<Delegate>> accountDelegatesCache =
       CacheBuilder.newBuilder()
           .maximumSize(1000)
@@ -550,12 +558,47 @@ public class AssignDelegateServiceImpl implements AssignDelegateService, Delegat
 
   @Override
   public String pickFirstAttemptDelegate(DelegateTask task) {
-    List<String> delegates = connectedWhitelistedDelegates(task);
+    Set<String> alreadyTriedDelegates = task.getAlreadyTriedDelegates();
+    List<String> delegates =
+        connectedWhitelistedDelegates(task)
+            .stream()
+            .filter(delegateId -> isEmpty(alreadyTriedDelegates) || !alreadyTriedDelegates.contains(delegateId))
+            .collect(toList());
     if (delegates.isEmpty()) {
       log.info("No first attempt delegate was picked");
       return null;
     }
-    return delegates.get(random.nextInt(delegates.size()));
+
+    // The least loaded delegate gets the task, a random one among those with the same load. The load is counted up
+    // right away, so that a burst of tasks is spread before the delegates report again.
+    Collections.shuffle(delegates, random);
+    String delegateId = delegates.get(0);
+    int leastLoad = delegateTaskLoad(delegateId).get();
+    for (String candidate : delegates) {
+      int load = delegateTaskLoad(candidate).get();
+      if (load < leastLoad) {
+        delegateId = candidate;
+        leastLoad = load;
+      }
+    }
+    delegateTaskLoad(delegateId).incrementAndGet();
+    return delegateId;
+  }
+
+  @Override
+  public void recordExecutingTasks(String delegateId, List<String> delegateTaskIds) {
+    if (isBlank(delegateId) || delegateTaskIds == null) {
+      return;
+    }
+    delegateTaskLoads.put(delegateId, new AtomicInteger(delegateTaskIds.size()));
+  }
+
+  private AtomicInteger delegateTaskLoad(String delegateId) {
+    try {
+      return delegateTaskLoads.get(delegateId, AtomicInteger::new);
+    } catch (ExecutionException e) {
+      return new AtomicInteger();
+    }
   }
 
   private static final FindAndModifyOptions findAndModifyOptions = new FindAndModifyOptions();
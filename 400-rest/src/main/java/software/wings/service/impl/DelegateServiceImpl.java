@@ -921,6 +921,7 @@ public class DelegateServiceImpl implements DelegateService {
             .set(DelegateKeys.validUntil, Date.from(OffsetDateTime.now().plusDays(Delegate.TTL.toDays()).toInstant())));
     delegateTaskService.touchExecutingTasks(
         delegate.getAccountId(), delegate.getUuid(), delegate.getCurrentlyExecutingDelegateTasks());
+    assignDelegateService.recordExecutingTasks(delegate.getUuid(), delegate.getCurrentlyExecutingDelegateTasks());
 
     Delegate existingDelegate = delegateCache.get(delegate.getAccountId(), delegate.getUuid(), false);
 
@@ -1013,6 +1014,7 @@ public class DelegateServiceImpl implements DelegateService {
         updateOperations);
     delegateTaskService.touchExecutingTasks(
         delegate.getAccountId(), delegate.getUuid(), delegate.getCurrentlyExecutingDelegateTasks());
+    assignDelegateService.recordExecutingTasks(delegate.getUuid(), delegate.getCurrentlyExecutingDelegateTasks());
 
     eventEmitter.send(Channel.DELEGATES,
         anEvent().withOrgId(delegate.getAccountId()).withUuid(delegate.getUuid()).withType(Type.UPDATE).build());
@@ -3196,9 +3198,9 @@ public class DelegateServiceImpl implements DelegateService {
 
   @Override
   public List<DelegateTaskEvent> getDelegateTaskEvents(String accountId, String delegateId, boolean syncOnly) {
-    List<DelegateTaskEvent> delegateTaskEvents = new ArrayList<>(getQueuedEvents(accountId, true));
+    List<DelegateTaskEvent> delegateTaskEvents = new ArrayList<>(getQueuedEvents(accountId, delegateId, true));
     if (!syncOnly) {
-      delegateTaskEvents.addAll(getQueuedEvents(accountId, false));
+      delegateTaskEvents.addAll(getQueuedEvents(accountId, delegateId, false));
       delegateTaskEvents.addAll(getAbortedEvents(accountId, delegateId));
     }
 
@@ -3208,7 +3210,7 @@ public class DelegateServiceImpl implements DelegateService {
     return delegateTaskEvents;
   }
 
-  private List<DelegateTaskEvent> getQueuedEvents(String accountId, boolean sync) {
+  private List<DelegateTaskEvent> getQueuedEvents(String accountId, String delegateId, boolean sync) {
     // TODO - add assignment filter here (scopes. selectors, ...)
     Query<DelegateTask> delegateTaskQuery =
         persistence.createQuery(DelegateTask.class)
@@ -3221,6 +3223,10 @@ public class DelegateServiceImpl implements DelegateService {
             .field(DelegateTaskKeys.expiry)
             .greaterThan(currentTimeMillis());
 
+    // A task picked for another delegate is only handed out to everyone once it is broadcast again without it
+    delegateTaskQuery.or(delegateTaskQuery.criteria(DelegateTaskKeys.preAssignedDelegateId).doesNotExist(),
+        delegateTaskQuery.criteria(DelegateTaskKeys.preAssignedDelegateId).equal(delegateId));
+
     return delegateTaskQuery.asKeyList()
         .stream()
         .map(taskKey
@@ -1,5 +1,10 @@
 package software.wings.service.impl;
 
+import static io.harness.data.structure.EmptyPredicate.isNotEmpty;
+
+import static java.util.stream.Collectors.toSet;
+import static org.apache.commons.lang3.StringUtils.isNotBlank;
+
 import io.harness.annotations.dev.Module;
 import io.harness.annotations.dev.TargetModule;
 import io.harness.beans.DelegateTask;
@@ -10,9 +15,11 @@ import software.wings.service.intfc.AssignDelegateService;
 
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
+import java.util.Set;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 import lombok.extern.slf4j.Slf4j;
+import org.atmosphere.cpr.AtmosphereResource;
 import org.atmosphere.cpr.Broadcaster;
 import org.atmosphere.cpr.BroadcasterFactory;
 
@@ -57,6 +64,20 @@ public class DelegateTaskBroadcastHelper {
                                                       .build();
 
     Broadcaster broadcaster = broadcasterFactory.lookup(STREAM_DELEGATE_PATH + delegateTask.getAccountId(), true);
+    if (isNotBlank(delegateTask.getPreAssignedDelegateId())) {
+      // Push straight to the picked delegate when it is connected to this manager, instead of filtering the task out
+      // for every other delegate of the account
+      Set<AtmosphereResource> resources =
+          broadcaster.getAtmosphereResources()
+              .stream()
+              .filter(resource
+                  -> delegateTask.getPreAssignedDelegateId().equals(resource.getRequest().getParameter("delegateId")))
+              .collect(toSet());
+      if (isNotEmpty(resources)) {
+        broadcaster.broadcast(delegateTaskBroadcast, resources);
+        return;
+      }
+    }
     broadcaster.broadcast(delegateTaskBroadcast);
   }
 
@@ -30,6 +30,8 @@ public interface AssignDelegateService {
 
   String pickFirstAttemptDelegate(DelegateTask task);
 
+  void recordExecutingTasks(String delegateId, List<String> delegateTaskIds);
+
   void refreshWhitelist(DelegateTask task, String delegateId);
 
   void saveConnectionResults(List<DelegateConnectionResult> results);
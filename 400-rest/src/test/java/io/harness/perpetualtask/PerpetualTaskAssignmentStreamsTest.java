@@ -0,0 +1,179 @@
+package io.harness.perpetualtask;
+
+import static io.harness.rule.OwnerRule.GEORGE;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.grpc.utils.HTimestamps;
+import io.harness.perpetualtask.internal.PerpetualTaskRecord;
+import io.harness.perpetualtask.internal.PerpetualTaskRecordDao;
+import io.harness.rule.Owner;
+
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.ArgumentCaptor;
+
+public class PerpetualTaskAssignmentStreamsTest extends CategoryTest {
+  private static final String ACCOUNT_ID = "ACCOUNT_ID";
+  private static final String DELEGATE_ID = "DELEGATE_ID";
+
+  private PerpetualTaskRecordDao perpetualTaskRecordDao;
+  private PerpetualTaskAssignmentStreams assignmentStreams;
+
+  @Before
+  public void setUp() {
+    perpetualTaskRecordDao = mock(PerpetualTaskRecordDao.class);
+    assignmentStreams = new PerpetualTaskAssignmentStreams(perpetualTaskRecordDao);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldOnlySendDifferencesToKnownAssignments() {
+    when(perpetualTaskRecordDao.listAssignedTasks(DELEGATE_ID, ACCOUNT_ID))
+        .thenReturn(asList(task("unchanged", 1), task("updated", 2), task("added", 1)));
+    RecordingObserver observer = new RecordingObserver();
+
+    assignmentStreams.open(ACCOUNT_ID, DELEGATE_ID,
+        asList(assignDetails("unchanged", 1), assignDetails("updated", 1), assignDetails("removed", 1)), observer);
+
+    assertThat(observer.responses).hasSize(1);
+    assertThat(assignedIds(observer.responses.get(0))).containsExactlyInAnyOrder("updated", "added");
+    assertThat(removedIds(observer.responses.get(0))).containsExactly("removed");
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldSendChangesOfTheDelegate() {
+    when(perpetualTaskRecordDao.listAssignedTasks(DELEGATE_ID, ACCOUNT_ID))
+        .thenReturn(asList(task("first", 1), task("second", 1)));
+    RecordingObserver observer = new RecordingObserver();
+    assignmentStreams.open(ACCOUNT_ID, DELEGATE_ID, Collections.emptyList(), observer);
+    assertThat(observer.responses).hasSize(1);
+
+    when(perpetualTaskRecordDao.listAssignedTasks(DELEGATE_ID, ACCOUNT_ID)).thenReturn(asList(task("first", 2)));
+    assignmentStreams.delegateChanged(ACCOUNT_ID, DELEGATE_ID);
+    assignmentStreams.delegateChanged(ACCOUNT_ID, DELEGATE_ID);
+    await().atMost(5, TimeUnit.SECONDS).until(() -> observer.responses.size() == 2);
+    assertThat(assignedIds(observer.responses.get(1))).containsExactly("first");
+    assertThat(removedIds(observer.responses.get(1))).containsExactly("second");
+
+    // Nothing is sent when nothing changed, and changes of other delegates do not touch the feed
+    assignmentStreams.accountChanged(ACCOUNT_ID);
+    assignmentStreams.delegateChanged(ACCOUNT_ID, "OTHER_DELEGATE_ID");
+    sleepPastCoalescing();
+    assertThat(observer.responses).hasSize(2);
+    verify(perpetualTaskRecordDao, times(3)).listAssignedTasks(DELEGATE_ID, ACCOUNT_ID);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  @SuppressWarnings("unchecked")
+  public void shouldForgetCancelledFeed() {
+    when(perpetualTaskRecordDao.listAssignedTasks(DELEGATE_ID, ACCOUNT_ID)).thenReturn(asList(task("first", 1)));
+    ServerCallStreamObserver<PerpetualTaskAssignmentsResponse> observer = mock(ServerCallStreamObserver.class);
+    assignmentStreams.open(ACCOUNT_ID, DELEGATE_ID, Collections.emptyList(), observer);
+    ArgumentCaptor<Runnable> onCancel = ArgumentCaptor.forClass(Runnable.class);
+    verify(observer).setOnCancelHandler(onCancel.capture());
+
+    onCancel.getValue().run();
+    assignmentStreams.delegateChanged(ACCOUNT_ID, DELEGATE_ID);
+    sleepPastCoalescing();
+
+    verify(perpetualTaskRecordDao, times(1)).listAssignedTasks(DELEGATE_ID, ACCOUNT_ID);
+    verify(observer, times(1)).onNext(any(PerpetualTaskAssignmentsResponse.class));
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  @SuppressWarnings("unchecked")
+  public void shouldCloseFeedThatFailsToSend() {
+    when(perpetualTaskRecordDao.listAssignedTasks(DELEGATE_ID, ACCOUNT_ID)).thenReturn(asList(task("first", 1)));
+    StreamObserver<PerpetualTaskAssignmentsResponse> observer = mock(StreamObserver.class);
+    doThrow(new IllegalStateException("call closed"))
+        .when(observer)
+        .onNext(any(PerpetualTaskAssignmentsResponse.class));
+    assignmentStreams.open(ACCOUNT_ID, DELEGATE_ID, Collections.emptyList(), observer);
+
+    when(perpetualTaskRecordDao.listAssignedTasks(DELEGATE_ID, ACCOUNT_ID)).thenReturn(asList(task("first", 2)));
+    assignmentStreams.accountChanged(ACCOUNT_ID);
+    sleepPastCoalescing();
+
+    verify(perpetualTaskRecordDao, times(1)).listAssignedTasks(DELEGATE_ID, ACCOUNT_ID);
+  }
+
+  private static class RecordingObserver implements StreamObserver<PerpetualTaskAssignmentsResponse> {
+    private final List<PerpetualTaskAssignmentsResponse> responses = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void onNext(PerpetualTaskAssignmentsResponse response) {
+      responses.add(response);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+      // Feeds are not failed by the manager
+    }
+
+    @Override
+    public void onCompleted() {
+      // Feeds are not completed by the manager
+    }
+  }
+
+  private static void sleepPastCoalescing() {
+    try {
+      Thread.sleep(PerpetualTaskAssignmentStreams.COALESCE_MILLIS * 3);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static PerpetualTaskRecord task(String taskId, long lastContextUpdated) {
+    return PerpetualTaskRecord.builder()
+        .uuid(taskId)
+        .accountId(ACCOUNT_ID)
+        .delegateId(DELEGATE_ID)
+        .clientContext(PerpetualTaskClientContext.builder().lastContextUpdated(lastContextUpdated).build())
+        .build();
+  }
+
+  private static PerpetualTaskAssignDetails assignDetails(String taskId, long lastContextUpdated) {
+    return PerpetualTaskAssignDetails.newBuilder()
+        .setTaskId(PerpetualTaskId.newBuilder().setId(taskId))
+        .setLastContextUpdated(HTimestamps.fromMillis(lastContextUpdated))
+        .build();
+  }
+
+  private static List<String> assignedIds(PerpetualTaskAssignmentsResponse response) {
+    return response.getAssignedList()
+        .stream()
+        .map(assigned -> assigned.getTaskId().getId())
+        .collect(Collectors.toList());
+  }
+
+  private static List<String> removedIds(PerpetualTaskAssignmentsResponse response) {
+    return response.getRemovedList().stream().map(PerpetualTaskId::getId).collect(Collectors.toList());
+  }
+}
@@ -1,6 +1,8 @@
 package software.wings.app;
 
+import static io.harness.beans.DelegateTask.Status.QUEUED;
 import static io.harness.rule.OwnerRule.GEORGE;
+import static io.harness.rule.OwnerRule.YOGESH;
 
 import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -11,8 +13,10 @@ import io.harness.category.element.UnitTests;
 import io.harness.delegate.beans.TaskData;
 import io.harness.persistence.HPersistence;
 import io.harness.rule.Owner;
+import io.harness.version.VersionInfoManager;
 
 import software.wings.WingsBaseTest;
+import software.wings.beans.TaskType;
 
 import com.google.inject.Inject;
 import org.junit.Test;
@@ -21,6 +25,7 @@ import org.junit.experimental.categories.Category;
 public class DelegateQueueTaskTest extends WingsBaseTest {
   @Inject DelegateQueueTask delegateQueueTask;
   @Inject HPersistence persistence;
+  @Inject VersionInfoManager versionInfoManager;
 
   @Test
   @Owner(developers = GEORGE)
@@ -40,4 +45,26 @@ public class DelegateQueueTaskTest extends WingsBaseTest {
 
     assertThat(persistence.createQuery(DelegateTask.class).count()).isEqualTo(0);
   }
+
+  @Test
+  @Owner(developers = YOGESH)
+  @Category(UnitTests.class)
+  public void shouldClearPreAssignedDelegateOnFirstRebroadcast() {
+    DelegateTask delegateTask = DelegateTask.builder()
+                                    .accountId("FOO")
+                                    .status(QUEUED)
+                                    .version(versionInfoManager.getVersionInfo().getVersion())
+                                    .preAssignedDelegateId("DELEGATE_ID")
+                                    .nextBroadcast(System.currentTimeMillis() - 10)
+                                    .expiry(System.currentTimeMillis() + 60000)
+                                    .data(TaskData.builder().async(true).taskType(TaskType.HTTP.name()).build())
+                                    .build();
+    persistence.save(delegateTask);
+
+    delegateQueueTask.run();
+
+    DelegateTask rebroadcast = persistence.get(DelegateTask.class, delegateTask.getUuid());
+    assertThat(rebroadcast.getBroadcastCount()).isEqualTo(1);
+    assertThat(rebroadcast.getPreAssignedDelegateId()).isNull();
+  }
 }
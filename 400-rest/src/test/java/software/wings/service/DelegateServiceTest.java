@@ -26,6 +26,7 @@ import static io.harness.rule.OwnerRule.NIKOLA;
 import static io.harness.rule.OwnerRule.PUNEET;
 import static io.harness.rule.OwnerRule.SANJA;
 import static io.harness.rule.OwnerRule.VUK;
+import static io.harness.rule.OwnerRule.YOGESH;
 
 import static software.wings.beans.Account.Builder.anAccount;
 import static software.wings.beans.Application.GLOBAL_APP_ID;
@@ -1172,6 +1173,22 @@ public class DelegateServiceTest extends WingsBaseTest {
     assertThat(delegateTaskEvents.get(0).getDelegateTaskId()).isEqualTo(delegateTask.getUuid());
   }
 
+  @Test
+  @Owner(developers = YOGESH)
+  @Category(UnitTests.class)
+  public void shouldNotGetDelegateTaskEventsPreAssignedToOtherDelegate() {
+    String delegateId = generateUuid();
+    String preAssignedDelegateId = generateUuid();
+    when(assignDelegateService.pickFirstAttemptDelegate(any(DelegateTask.class))).thenReturn(preAssignedDelegateId);
+    DelegateTask delegateTask = saveDelegateTask(true, emptySet(), QUEUED);
+
+    assertThat(delegateService.getDelegateTaskEvents(ACCOUNT_ID, delegateId, false)).isEmpty();
+    List<DelegateTaskEvent> delegateTaskEvents =
+        delegateService.getDelegateTaskEvents(ACCOUNT_ID, preAssignedDelegateId, false);
+    assertThat(delegateTaskEvents).hasSize(1);
+    assertThat(delegateTaskEvents.get(0).getDelegateTaskId()).isEqualTo(delegateTask.getUuid());
+  }
+
   @Test
   @Owner(developers = GEORGE)
   @Category(UnitTests.class)
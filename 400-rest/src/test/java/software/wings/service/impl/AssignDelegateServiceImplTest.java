@@ -16,6 +16,7 @@ import static io.harness.rule.OwnerRule.PRASHANT;
 import static io.harness.rule.OwnerRule.PUNEET;
 import static io.harness.rule.OwnerRule.SANJA;
 import static io.harness.rule.OwnerRule.VUK;
+import static io.harness.rule.OwnerRule.YOGESH;
 
 import static software.wings.beans.Environment.Builder.anEnvironment;
 import static software.wings.beans.GcpKubernetesInfrastructureMapping.Builder.aGcpKubernetesInfrastructureMapping;
@@ -1027,6 +1028,31 @@ public class AssignDelegateServiceImplTest extends WingsBaseTest {
     assertThat(delegateIds.size()).isEqualTo(0);
   }
 
+  @Test
+  @Owner(developers = YOGESH)
+  @Category(UnitTests.class)
+  public void shouldPickLeastLoadedFirstAttemptDelegate() throws ExecutionException {
+    TaskData taskData = TaskData.builder().taskType(TaskType.SPOTINST_COMMAND_TASK.name()).build();
+    DelegateTask delegateTask =
+        DelegateTask.builder().accountId(ACCOUNT_ID).data(taskData).executionCapabilities(emptyList()).build();
+    Delegate busyDelegate =
+        Delegate.builder().accountId(ACCOUNT_ID).uuid("BUSY").status(ENABLED).lastHeartBeat(clock.millis()).build();
+    Delegate idleDelegate =
+        Delegate.builder().accountId(ACCOUNT_ID).uuid("IDLE").status(ENABLED).lastHeartBeat(clock.millis()).build();
+    when(accountDelegatesCache.get(ACCOUNT_ID)).thenReturn(asList(busyDelegate, idleDelegate));
+    when(delegateCache.get(ACCOUNT_ID, "BUSY", false)).thenReturn(busyDelegate);
+    when(delegateCache.get(ACCOUNT_ID, "IDLE", false)).thenReturn(idleDelegate);
+
+    assignDelegateService.recordExecutingTasks("BUSY", asList("task1", "task2", "task3"));
+    assignDelegateService.recordExecutingTasks("IDLE", asList("task4"));
+
+    assertThat(assignDelegateService.pickFirstAttemptDelegate(delegateTask)).isEqualTo("IDLE");
+    assertThat(assignDelegateService.pickFirstAttemptDelegate(delegateTask)).isEqualTo("IDLE");
+
+    delegateTask.setAlreadyTriedDelegates(new HashSet<>(asList("IDLE")));
+    assertThat(assignDelegateService.pickFirstAttemptDelegate(delegateTask)).isEqualTo("BUSY");
+  }
+
   @Test
   @Owner(developers = SANJA)
   @Category(UnitTests.class)
@@ -16,6 +16,7 @@ import io.harness.health.HealthService;
 import io.harness.maintenance.MaintenanceController;
 import io.harness.metrics.HarnessMetricRegistry;
 import io.harness.metrics.MetricRegistryModule;
+import io.harness.mongo.queue.MongoChangeStreamQueueWakeupSignal;
 import io.harness.ngpipeline.common.NGPipelineObjectMapperHelper;
 import io.harness.notification.module.NotificationClientModule;
 import io.harness.pms.annotations.PipelineServiceAuth;
@@ -254,6 +255,7 @@ public class PipelineServiceApplication extends Application<PipelineServiceConfi
   }
 
   private void registerManagedBeans(Environment environment, Injector injector) {
+    environment.lifecycle().manage(injector.getInstance(MongoChangeStreamQueueWakeupSignal.class));
     environment.lifecycle().manage(injector.getInstance(QueueListenerController.class));
   }
 
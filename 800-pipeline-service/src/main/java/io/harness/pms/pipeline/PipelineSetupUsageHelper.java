@@ -57,8 +57,10 @@ public class PipelineSetupUsageHelper {
       eventProducer.send(
           Message.newBuilder()
               .putAllMetadata(ImmutableMap.of("accountId", pipelineEntity.getAccountId(),
-                  EventsFrameworkMetadataConstants.REFERRED_ENTITY_TYPE, entry.getKey(),
-                  EventsFrameworkMetadataConstants.ACTION, EventsFrameworkMetadataConstants.FLUSH_CREATE_ACTION))
+                  EventsFrameworkMetadataConstants.ENTITY_IDENTIFIER_METADATA_KEY,
+                  getFullyQualifiedIdentifier(pipelineEntity), EventsFrameworkMetadataConstants.REFERRED_ENTITY_TYPE,
+                  entry.getKey(), EventsFrameworkMetadataConstants.ACTION,
+                  EventsFrameworkMetadataConstants.FLUSH_CREATE_ACTION))
               .setData(entityReferenceDTO.toByteString())
               .build());
     }
@@ -85,10 +87,18 @@ public class PipelineSetupUsageHelper {
       eventProducer.send(
           Message.newBuilder()
               .putAllMetadata(ImmutableMap.of("accountId", pipelineEntity.getAccountId(),
-                  EventsFrameworkMetadataConstants.REFERRED_ENTITY_TYPE, protoEnum.name(),
-                  EventsFrameworkMetadataConstants.ACTION, EventsFrameworkMetadataConstants.FLUSH_CREATE_ACTION))
+                  EventsFrameworkMetadataConstants.ENTITY_IDENTIFIER_METADATA_KEY,
+                  getFullyQualifiedIdentifier(pipelineEntity), EventsFrameworkMetadataConstants.REFERRED_ENTITY_TYPE,
+                  protoEnum.name(), EventsFrameworkMetadataConstants.ACTION,
+                  EventsFrameworkMetadataConstants.FLUSH_CREATE_ACTION))
               .setData(entityReferenceDTO.toByteString())
               .build());
     }
   }
+
+  // Pipelines always belong to a project
+  private static String getFullyQualifiedIdentifier(PipelineEntity pipelineEntity) {
+    return String.join("/", pipelineEntity.getAccountId(), pipelineEntity.getOrgIdentifier(),
+        pipelineEntity.getProjectIdentifier(), pipelineEntity.getIdentifier());
+  }
 }
@@ -7,6 +7,7 @@ import static java.lang.String.format;
 import io.harness.data.structure.EmptyPredicate;
 import io.harness.exception.InvalidRequestException;
 import io.harness.exception.UnexpectedException;
+import io.harness.metrics.HarnessMetricRegistry;
 import io.harness.pms.contracts.plan.ErrorResponse;
 import io.harness.pms.contracts.plan.ExecutionMetadata;
 import io.harness.pms.contracts.plan.PlanCreationBlobRequest;
@@ -21,6 +22,7 @@ import io.harness.pms.utils.CompletableFutures;
 import io.harness.pms.yaml.YamlField;
 import io.harness.pms.yaml.YamlUtils;
 
+import com.codahale.metrics.MetricRegistry;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import io.grpc.StatusRuntimeException;
@@ -39,17 +41,20 @@ import lombok.extern.slf4j.Slf4j;
 @Singleton
 public class PlanCreatorMergeService {
   private static final int MAX_DEPTH = 10;
+  private static final String METRIC_PREFIX = "PlanCreation";
 
   private final Executor executor = Executors.newFixedThreadPool(5);
 
   private final Map<String, PlanCreationServiceBlockingStub> planCreatorServices;
   private final PmsSdkHelper pmsSdkHelper;
+  private final MetricRegistry metricRegistry;
 
   @Inject
-  public PlanCreatorMergeService(
-      Map<String, PlanCreationServiceBlockingStub> planCreatorServices, PmsSdkHelper pmsSdkHelper) {
+  public PlanCreatorMergeService(Map<String, PlanCreationServiceBlockingStub> planCreatorServices,
+      PmsSdkHelper pmsSdkHelper, HarnessMetricRegistry harnessMetricRegistry) {
     this.planCreatorServices = planCreatorServices;
     this.pmsSdkHelper = pmsSdkHelper;
+    this.metricRegistry = harnessMetricRegistry.getMetricRegistry();
   }
 
   public PlanCreationBlobResponse createPlan(@NotNull String content) throws IOException {
@@ -114,6 +119,7 @@ public class PlanCreatorMergeService {
       }
 
       completableFutures.supplyAsync(() -> {
+        long startTime = System.currentTimeMillis();
         try {
           return serviceEntry.getValue().getPlanCreationClient().createPlan(
               PlanCreationBlobRequest.newBuilder()
@@ -130,6 +136,9 @@ public class PlanCreatorMergeService {
                       .addMessages(String.format("Error connecting with service: [%s]", serviceEntry.getKey()))
                       .build())
               .build();
+        } finally {
+          metricRegistry.histogram(MetricRegistry.name(METRIC_PREFIX, serviceEntry.getKey(), "latency"))
+              .update(System.currentTimeMillis() - startTime);
         }
       });
     }
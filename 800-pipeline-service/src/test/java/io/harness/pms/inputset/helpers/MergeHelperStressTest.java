@@ -0,0 +1,116 @@
+package io.harness.pms.inputset.helpers;
+
+import static io.harness.pms.merger.helpers.MergeHelper.createTemplateFromPipeline;
+import static io.harness.pms.merger.helpers.MergeHelper.mergeInputSetIntoPipeline;
+import static io.harness.pms.merger.helpers.MergeHelper.mergeInputSets;
+import static io.harness.pms.merger.helpers.MergeHelper.sanitizeRuntimeInput;
+import static io.harness.rule.OwnerRule.NAMAN;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.StressTests;
+import io.harness.pms.yaml.YamlUtils;
+import io.harness.rule.Owner;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.io.Resources;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+/**
+ * Merges input sets into a pipeline made of copies of the stages of pipeline-extensive.yml, a couple of thousand yaml
+ * lines, and reports the time taken by the merge entry points used on every execution.
+ */
+@Slf4j
+public class MergeHelperStressTest extends CategoryTest {
+  private static final int STAGE_COPIES = 10;
+  private static final int ITERATIONS = 50;
+
+  private String readFile(String filename) throws IOException {
+    return Resources.toString(
+        Objects.requireNonNull(getClass().getClassLoader().getResource(filename)), StandardCharsets.UTF_8);
+  }
+
+  private String copyStages(String yaml) throws IOException {
+    JsonNode root = YamlUtils.readTree(yaml).getNode().getCurrJsonNode();
+    ObjectNode pipeline = (ObjectNode) root.get("pipeline");
+    ArrayNode stages = (ArrayNode) pipeline.get("stages");
+    ArrayNode copies = JsonNodeFactory.instance.arrayNode();
+    for (int i = 0; i < STAGE_COPIES; i++) {
+      for (JsonNode stage : stages) {
+        JsonNode copy = stage.deepCopy();
+        renameStages(copy, "_" + i);
+        copies.add(copy);
+      }
+    }
+    pipeline.set("stages", copies);
+    return YamlUtils.write(root).replace("---\n", "");
+  }
+
+  private void renameStages(JsonNode element, String suffix) {
+    if (element.has("stage")) {
+      ObjectNode stage = (ObjectNode) element.get("stage");
+      stage.put("identifier", stage.get("identifier").asText() + suffix);
+    } else if (element.has("parallel")) {
+      element.get("parallel").forEach(inner -> renameStages(inner, suffix));
+    }
+  }
+
+  private String inputSet(String pipelineComponent, String identifier) {
+    return "inputSet:\n  identifier: " + identifier + "\n" + pipelineComponent.replaceAll("(?m)^", "  ");
+  }
+
+  @Test
+  @Owner(developers = NAMAN)
+  @Category(StressTests.class)
+  @Ignore("This is stress test we should ignore it to allow for simple run of unit tests")
+  public void measureMerge() throws IOException {
+    String pipelineYaml = copyStages(readFile("pipeline-extensive.yml"));
+    String runtimeInput = copyStages(readFile("runtimeInput1.yml"));
+    List<String> inputSets = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      inputSets.add(inputSet(runtimeInput, "input" + i));
+    }
+    log.info("Pipeline of {} lines, runtime input of {} lines", pipelineYaml.split("\n").length,
+        runtimeInput.split("\n").length);
+
+    long start = System.nanoTime();
+    String templateYaml = null;
+    for (int i = 0; i < ITERATIONS; i++) {
+      templateYaml = createTemplateFromPipeline(pipelineYaml);
+    }
+    log.info("createTemplateFromPipeline: {} ms per call", (System.nanoTime() - start) / 1_000_000 / ITERATIONS);
+
+    start = System.nanoTime();
+    for (int i = 0; i < ITERATIONS; i++) {
+      sanitizeRuntimeInput(pipelineYaml, runtimeInput);
+    }
+    log.info("sanitizeRuntimeInput: {} ms per call", (System.nanoTime() - start) / 1_000_000 / ITERATIONS);
+
+    start = System.nanoTime();
+    for (int i = 0; i < ITERATIONS; i++) {
+      mergeInputSets(templateYaml, inputSets, false);
+    }
+    log.info("mergeInputSets of {} input sets: {} ms per call", inputSets.size(),
+        (System.nanoTime() - start) / 1_000_000 / ITERATIONS);
+
+    start = System.nanoTime();
+    String merged = null;
+    for (int i = 0; i < ITERATIONS; i++) {
+      merged = mergeInputSetIntoPipeline(pipelineYaml, runtimeInput, true);
+    }
+    log.info("mergeInputSetIntoPipeline: {} ms per call", (System.nanoTime() - start) / 1_000_000 / ITERATIONS);
+    assertThat(merged).contains("qaStage_" + (STAGE_COPIES - 1));
+  }
+}
@@ -11,6 +11,7 @@ import io.harness.health.HealthService;
 import io.harness.maintenance.MaintenanceController;
 import io.harness.manage.ManagedScheduledExecutorService;
 import io.harness.metrics.MetricRegistryModule;
+import io.harness.mongo.queue.MongoChangeStreamQueueWakeupSignal;
 import io.harness.ng.core.CorrelationFilter;
 import io.harness.ng.core.exceptionmappers.GenericExceptionMapperV2;
 import io.harness.ng.core.exceptionmappers.JerseyViolationExceptionMapperV2;
@@ -144,6 +145,7 @@ public class NotificationApplication extends Application<NotificationConfigurati
   }
 
   private void registerManagedBeans(Environment environment, Injector injector) {
+    environment.lifecycle().manage(injector.getInstance(MongoChangeStreamQueueWakeupSignal.class));
     environment.lifecycle().manage(injector.getInstance(QueueListenerController.class));
     environment.lifecycle().manage(
         injector.getInstance(Key.get(ManagedScheduledExecutorService.class, Names.named("delegate-response"))));
@@ -31,6 +31,7 @@ import io.harness.notification.service.api.SeedDataPopulaterService;
 import io.harness.queue.QueueConsumer;
 
 import com.google.inject.AbstractModule;
+import com.google.inject.Injector;
 import com.google.inject.Provides;
 import com.google.inject.Singleton;
 import com.google.inject.name.Names;
@@ -78,7 +79,10 @@ public class NotificationCoreModule extends AbstractModule {
 
   @Provides
   @Singleton
-  QueueConsumer<MongoNotificationRequest> getQueueConsumer(MongoTemplate mongoTemplate) {
-    return new NGMongoQueueConsumer<>(MongoNotificationRequest.class, ofSeconds(5), new ArrayList<>(), mongoTemplate);
+  QueueConsumer<MongoNotificationRequest> getQueueConsumer(Injector injector, MongoTemplate mongoTemplate) {
+    NGMongoQueueConsumer<MongoNotificationRequest> consumer =
+        new NGMongoQueueConsumer<>(MongoNotificationRequest.class, ofSeconds(5), new ArrayList<>(), mongoTemplate);
+    injector.injectMembers(consumer);
+    return consumer;
   }
 }
@@ -0,0 +1,37 @@
+package io.harness.engine.events;
+
+import static io.harness.annotations.dev.HarnessTeam.CDC;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.engine.expressions.PlanNodeExecutionsCache;
+import io.harness.pms.contracts.execution.NodeExecutionProto;
+import io.harness.pms.contracts.execution.events.OrchestrationEventType;
+import io.harness.pms.sdk.core.events.OrchestrationEvent;
+import io.harness.pms.sdk.core.events.SyncOrchestrationEventHandler;
+
+import com.google.inject.Inject;
+
+/**
+ * Keeps the {@link PlanNodeExecutionsCache} in line with the node executions updated on this node, and evicts the plan
+ * once it ends.
+ */
+@OwnedBy(CDC)
+public class PlanNodeExecutionsCacheEventHandler implements SyncOrchestrationEventHandler {
+  @Inject private PlanNodeExecutionsCache planNodeExecutionsCache;
+
+  @Override
+  public void handleEvent(OrchestrationEvent event) {
+    String planExecutionId = event.getAmbiance().getPlanExecutionId();
+    if (event.getEventType() == OrchestrationEventType.ORCHESTRATION_END) {
+      planNodeExecutionsCache.evict(planExecutionId);
+      return;
+    }
+
+    NodeExecutionProto nodeExecutionProto = event.getNodeExecutionProto();
+    if (nodeExecutionProto == null) {
+      return;
+    }
+    planNodeExecutionsCache.invalidate(planExecutionId, nodeExecutionProto.getUuid(),
+        nodeExecutionProto.getParentId().isEmpty() ? null : nodeExecutionProto.getParentId());
+  }
+}
@@ -9,6 +9,7 @@ import static org.springframework.data.mongodb.core.query.Query.query;
 
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.engine.events.OrchestrationEventEmitter;
+import io.harness.engine.expressions.PlanNodeExecutionsCache;
 import io.harness.exception.InvalidRequestException;
 import io.harness.execution.NodeExecution;
 import io.harness.execution.NodeExecution.NodeExecutionKeys;
@@ -40,6 +41,7 @@ import org.springframework.data.mongodb.core.query.Update;
 public class NodeExecutionServiceImpl implements NodeExecutionService {
   @Inject private MongoTemplate mongoTemplate;
   @Inject private OrchestrationEventEmitter eventEmitter;
+  @Inject private PlanNodeExecutionsCache planNodeExecutionsCache;
 
   @Override
   public NodeExecution get(String nodeExecutionId) {
@@ -154,7 +156,11 @@ public class NodeExecutionServiceImpl implements NodeExecutionService {
                                  .build());
       return mongoTemplate.insert(nodeExecution);
     } else {
-      return mongoTemplate.save(nodeExecution);
+      NodeExecution saved = mongoTemplate.save(nodeExecution);
+      // No node events are emitted for these updates.
+      planNodeExecutionsCache.invalidate(
+          saved.getAmbiance().getPlanExecutionId(), saved.getUuid(), saved.getParentId());
+      return saved;
     }
   }
 
@@ -208,6 +214,8 @@ public class NodeExecutionServiceImpl implements NodeExecutionService {
     Query query = query(where(NodeExecutionKeys.planExecutionId).is(planExecutionId))
                       .addCriteria(where(NodeExecutionKeys.uuid).in(leafInstanceIds));
     UpdateResult updateResult = mongoTemplate.updateMulti(query, ops, NodeExecution.class);
+    // No node events are emitted for these updates.
+    planNodeExecutionsCache.invalidateAll(planExecutionId, leafInstanceIds);
     if (!updateResult.wasAcknowledged()) {
       log.warn("No NodeExecutions could be marked as DISCONTINUING -  planExecutionId: {}", planExecutionId);
       return false;
@@ -245,6 +253,7 @@ public class NodeExecutionServiceImpl implements NodeExecutionService {
     Update ops = new Update().set(NodeExecutionKeys.previousId, newNodeExecutionId);
     Query query = query(where(NodeExecutionKeys.previousId).is(nodeExecutionId));
     UpdateResult updateResult = mongoTemplate.updateMulti(query, ops, NodeExecution.class);
+    planNodeExecutionsCache.invalidateByPreviousId(nodeExecutionId);
     if (updateResult.wasAcknowledged()) {
       log.warn("No previous nodeExecutions could be updated for this nodeExecutionId: {}", nodeExecutionId);
       return false;
@@ -68,6 +68,7 @@ public class AmbianceExpressionEvaluator extends EngineExpressionEvaluator {
   @Inject private NodeExecutionService nodeExecutionService;
   @Inject private PlanExecutionService planExecutionService;
   @Inject private OrchestrationFieldRegistry orchestrationFieldRegistry;
+  @Inject private PlanNodeExecutionsCache planNodeExecutionsCache;
 
   protected final Ambiance ambiance;
   private final Set<NodeExecutionEntityType> entityTypes;
@@ -119,7 +120,8 @@ public class AmbianceExpressionEvaluator extends EngineExpressionEvaluator {
       return;
     }
 
-    NodeExecutionsCache nodeExecutionsCache = new NodeExecutionsCache(nodeExecutionService, ambiance);
+    NodeExecutionsCache nodeExecutionsCache =
+        new NodeExecutionsCache(nodeExecutionService, ambiance, planNodeExecutionsCache);
     // Access StepParameters and Outcomes of self and children.
     addToContext("child",
         NodeExecutionChildFunctor.builder()
@@ -1,88 +1,150 @@
 package io.harness.engine.expressions;
 
 import static io.harness.annotations.dev.HarnessTeam.CDC;
+import static io.harness.engine.expressions.PlanNodeExecutionsCache.NULL_PARENT_ID;
+
+import static java.util.stream.Collectors.toList;
 
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.data.structure.EmptyPredicate;
 import io.harness.engine.executions.node.NodeExecutionService;
+import io.harness.engine.expressions.PlanNodeExecutionsCache.CachedChildren;
+import io.harness.engine.expressions.PlanNodeExecutionsCache.CachedNodeExecution;
+import io.harness.engine.expressions.PlanNodeExecutionsCache.PlanScope;
 import io.harness.execution.NodeExecution;
 import io.harness.pms.contracts.ambiance.Ambiance;
+import io.harness.pms.execution.utils.StatusUtils;
 import io.harness.pms.sdk.core.execution.NodeExecutionUtils;
 
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.Optional;
+import java.util.function.Supplier;
 import lombok.Builder;
 import lombok.Value;
 
+/**
+ * Reads node executions for the functors of one expression evaluator. The reads go through the {@link PlanScope} of
+ * the plan execution, shared with the other evaluators of the plan when a {@link PlanNodeExecutionsCache} is given.
+ */
 @OwnedBy(CDC)
 @Value
 public class NodeExecutionsCache {
-  private static final String NULL_PARENT_ID = "__NULL_PARENT_ID__";
-
   NodeExecutionService nodeExecutionService;
   Ambiance ambiance;
-  Map<String, NodeExecution> map;
-  Map<String, List<String>> childrenMap;
+  PlanScope scope;
 
-  @Builder
   public NodeExecutionsCache(NodeExecutionService nodeExecutionService, Ambiance ambiance) {
+    this(nodeExecutionService, ambiance, null);
+  }
+
+  @Builder
+  public NodeExecutionsCache(
+      NodeExecutionService nodeExecutionService, Ambiance ambiance, PlanNodeExecutionsCache planNodeExecutionsCache) {
     this.nodeExecutionService = nodeExecutionService;
     this.ambiance = ambiance;
-    this.map = new HashMap<>();
-    this.childrenMap = new HashMap<>();
+    this.scope =
+        planNodeExecutionsCache == null ? new PlanScope() : planNodeExecutionsCache.get(ambiance.getPlanExecutionId());
   }
 
-  public synchronized NodeExecution fetch(String nodeExecutionId) {
+  public NodeExecution fetch(String nodeExecutionId) {
     if (nodeExecutionId == null) {
       return null;
     }
-    if (map.containsKey(nodeExecutionId)) {
-      return map.get(nodeExecutionId);
+    CachedNodeExecution cached = scope.nodeExecutions.get(nodeExecutionId);
+    if (cached != null && cached.isFresh()) {
+      return cached.getNodeExecution();
     }
 
+    long generation = scope.generation();
     NodeExecution nodeExecution = nodeExecutionService.get(nodeExecutionId);
-    map.put(nodeExecutionId, nodeExecution);
+    if (scope.generation() == generation) {
+      scope.nodeExecutions.put(nodeExecutionId, new CachedNodeExecution(nodeExecution));
+    }
     return nodeExecution;
   }
 
   /**
    * Fetches a list of children for a particular parent Id.
    *
-   * If parentId found in cache {@link NodeExecutionsCache#childrenMap} return list of nodes by
-   * querying the {@link NodeExecutionsCache#map}
-   *
-   * Adds all the children to the {@link NodeExecutionsCache#map} and populates
-   * {@link NodeExecutionsCache#childrenMap} with parentId => List#childIds
-   *
+   * The children are served from the {@link PlanScope} when both the list of children and every child in it are still
+   * fresh there. Otherwise all the children are fetched with one query and the list of children as well as the
+   * children themselves are put in the scope.
    */
-  public synchronized List<NodeExecution> fetchChildren(String parentId) {
-    String childrenMapKey = parentId == null ? NULL_PARENT_ID : parentId;
-    if (childrenMap.containsKey(childrenMapKey)) {
-      List<String> ids = childrenMap.get(childrenMapKey);
-      if (EmptyPredicate.isEmpty(ids)) {
-        return Collections.emptyList();
+  public List<NodeExecution> fetchChildren(String parentId) {
+    String childrenKey = parentId == null ? NULL_PARENT_ID : parentId;
+    CachedChildren cachedChildren = scope.children.get(childrenKey);
+    CachedNodeExecution parent = parentId == null ? null : scope.nodeExecutions.get(parentId);
+    if (cachedChildren != null && cachedChildren.isFresh(parent)) {
+      List<NodeExecution> children = new ArrayList<>(cachedChildren.getIds().size());
+      for (String id : cachedChildren.getIds()) {
+        CachedNodeExecution cached = scope.nodeExecutions.get(id);
+        if (cached == null || !cached.isFresh()) {
+          children = null;
+          break;
+        }
+        children.add(cached.getNodeExecution());
+      }
+      if (children != null) {
+        return children;
       }
-
-      return ids.stream().map(map::get).filter(Objects::nonNull).collect(Collectors.toList());
     }
 
+    long generation = scope.generation();
     List<NodeExecution> childExecutions =
         nodeExecutionService.fetchChildrenNodeExecutions(ambiance.getPlanExecutionId(), parentId);
     if (EmptyPredicate.isEmpty(childExecutions)) {
-      childrenMap.put(parentId, Collections.emptyList());
-      return Collections.emptyList();
+      childExecutions = Collections.emptyList();
+    }
+    if (scope.generation() == generation) {
+      for (NodeExecution childExecution : childExecutions) {
+        scope.nodeExecutions.put(childExecution.getUuid(), new CachedNodeExecution(childExecution));
+      }
+      scope.children.put(
+          childrenKey, new CachedChildren(childExecutions.stream().map(NodeExecution::getUuid).collect(toList())));
     }
-
-    childExecutions.forEach(childExecution -> map.put(childExecution.getUuid(), childExecution));
-    childrenMap.put(parentId, childExecutions.stream().map(NodeExecution::getUuid).collect(Collectors.toList()));
     return childExecutions;
   }
 
+  /**
+   * Step parameters are parsed once per cached node execution.
+   */
   public Map<String, Object> extractFinalStepParameters(NodeExecution nodeExecution) {
+    CachedNodeExecution cached =
+        nodeExecution.getUuid() == null ? null : scope.nodeExecutions.get(nodeExecution.getUuid());
+    if (cached == null || cached.getNodeExecution() != nodeExecution) {
+      return parseFinalStepParameters(nodeExecution);
+    }
+    Optional<Map<String, Object>> stepParameters = cached.getStepParameters();
+    if (stepParameters == null) {
+      stepParameters = Optional.ofNullable(parseFinalStepParameters(nodeExecution));
+      cached.setStepParameters(stepParameters);
+    }
+    return stepParameters.orElse(null);
+  }
+
+  /**
+   * Outcomes are only cached for node executions in a final status, as more specific outcomes can still be produced
+   * under a running node. Misses are never cached.
+   */
+  public Optional<Object> fetchOutcome(
+      NodeExecution nodeExecution, String name, Supplier<Optional<Object>> outcomeResolver) {
+    if (nodeExecution.getUuid() == null || !StatusUtils.isFinalStatus(nodeExecution.getStatus())) {
+      return outcomeResolver.get();
+    }
+    String key = nodeExecution.getUuid() + "/" + name;
+    Object outcome = scope.outcomes.get(key);
+    if (outcome != null) {
+      return Optional.of(outcome);
+    }
+    Optional<Object> resolved = outcomeResolver.get();
+    resolved.ifPresent(value -> scope.outcomes.put(key, value));
+    return resolved;
+  }
+
+  private static Map<String, Object> parseFinalStepParameters(NodeExecution nodeExecution) {
     Map<String, Object> stepParameters = NodeExecutionUtils.extractStepParameters(
         nodeExecution.getResolvedStepParameters() == null ? null : nodeExecution.getResolvedStepParameters().toJson());
     if (stepParameters != null) {
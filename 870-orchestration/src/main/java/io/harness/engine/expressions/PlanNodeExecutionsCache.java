@@ -0,0 +1,144 @@
+package io.harness.engine.expressions;
+
+import static io.harness.annotations.dev.HarnessTeam.CDC;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.execution.NodeExecution;
+import io.harness.pms.execution.utils.StatusUtils;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.inject.Singleton;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.Getter;
+
+/**
+ * Node executions, children lists, parsed step parameters and outcomes read while resolving expressions, kept per plan
+ * execution and shared by all the expression evaluators of the plan.
+ *
+ * Node events processed on this node invalidate what they touch and the plan is evicted once it ends. Changes made on
+ * other nodes are not seen through events, so anything that can still change, i.e. a node execution that is not in a
+ * final status or the children of such a node, is only served for {@link #MAX_STALENESS_MILLIS}.
+ */
+@OwnedBy(CDC)
+@Singleton
+public class PlanNodeExecutionsCache {
+  static final long MAX_STALENESS_MILLIS = TimeUnit.SECONDS.toMillis(5);
+  static final String NULL_PARENT_ID = "__NULL_PARENT_ID__";
+  private static final int MAX_PLAN_EXECUTIONS = 500;
+
+  private final Cache<String, PlanScope> cache = CacheBuilder.newBuilder()
+                                                     .maximumSize(MAX_PLAN_EXECUTIONS)
+                                                     .expireAfterAccess(30, TimeUnit.MINUTES)
+                                                     .build();
+
+  public static class CachedNodeExecution {
+    @Getter private final NodeExecution nodeExecution;
+    private final long loadedAt;
+    private volatile Optional<Map<String, Object>> stepParameters;
+
+    CachedNodeExecution(NodeExecution nodeExecution) {
+      this.nodeExecution = nodeExecution;
+      this.loadedAt = System.currentTimeMillis();
+    }
+
+    boolean isFresh() {
+      return StatusUtils.isFinalStatus(nodeExecution.getStatus())
+          || System.currentTimeMillis() - loadedAt < MAX_STALENESS_MILLIS;
+    }
+
+    Optional<Map<String, Object>> getStepParameters() {
+      return stepParameters;
+    }
+
+    void setStepParameters(Optional<Map<String, Object>> stepParameters) {
+      this.stepParameters = stepParameters;
+    }
+  }
+
+  public static class CachedChildren {
+    @Getter private final List<String> ids;
+    private final long loadedAt;
+
+    CachedChildren(List<String> ids) {
+      this.ids = ids;
+      this.loadedAt = System.currentTimeMillis();
+    }
+
+    boolean isFresh(CachedNodeExecution parent) {
+      // No more children get added once the parent is done.
+      return (parent != null && StatusUtils.isFinalStatus(parent.getNodeExecution().getStatus()))
+          || System.currentTimeMillis() - loadedAt < MAX_STALENESS_MILLIS;
+    }
+  }
+
+  public static class PlanScope {
+    final ConcurrentMap<String, CachedNodeExecution> nodeExecutions = new ConcurrentHashMap<>();
+    final ConcurrentMap<String, CachedChildren> children = new ConcurrentHashMap<>();
+    // Outcomes of node executions in a final status only, keyed by node execution id and outcome name.
+    final ConcurrentMap<String, Object> outcomes = new ConcurrentHashMap<>();
+    // Moved by every invalidation, a load that started before an invalidation must not be cached.
+    private final AtomicLong generation = new AtomicLong();
+
+    long generation() {
+      return generation.get();
+    }
+
+    void invalidate(String nodeExecutionId, String parentId) {
+      generation.incrementAndGet();
+      if (nodeExecutionId != null) {
+        nodeExecutions.remove(nodeExecutionId);
+      }
+      children.remove(parentId == null ? NULL_PARENT_ID : parentId);
+    }
+  }
+
+  public PlanScope get(String planExecutionId) {
+    try {
+      return cache.get(planExecutionId, PlanScope::new);
+    } catch (ExecutionException e) {
+      throw new IllegalStateException(e.getCause());
+    }
+  }
+
+  /**
+   * Drops the node execution and the children list of its parent, called whenever a node execution is started or
+   * updated.
+   */
+  public void invalidate(String planExecutionId, String nodeExecutionId, String parentId) {
+    PlanScope scope = cache.getIfPresent(planExecutionId);
+    if (scope != null) {
+      scope.invalidate(nodeExecutionId, parentId);
+    }
+  }
+
+  public void invalidateAll(String planExecutionId, List<String> nodeExecutionIds) {
+    PlanScope scope = cache.getIfPresent(planExecutionId);
+    if (scope != null) {
+      scope.generation.incrementAndGet();
+      nodeExecutionIds.forEach(scope.nodeExecutions::remove);
+    }
+  }
+
+  /**
+   * Drops the node executions retried by the given one, for updates that do not know the plan execution.
+   */
+  public void invalidateByPreviousId(String previousId) {
+    for (PlanScope scope : cache.asMap().values()) {
+      scope.generation.incrementAndGet();
+      scope.nodeExecutions.values().removeIf(
+          cached -> previousId.equals(cached.getNodeExecution().getPreviousId()));
+    }
+  }
+
+  public void evict(String planExecutionId) {
+    cache.invalidate(planExecutionId);
+  }
+}
@@ -144,11 +144,13 @@ public class NodeExecutionMap extends LateBindingMap {
       return Optional.empty();
     }
 
-    try {
-      return jsonToObject(pmsOutcomeService.resolve(newAmbiance, RefObjectUtils.getOutcomeRefObject(key)));
-    } catch (OutcomeException ignored) {
-      return Optional.empty();
-    }
+    return nodeExecutionsCache.fetchOutcome(nodeExecution, key, () -> {
+      try {
+        return jsonToObject(pmsOutcomeService.resolve(newAmbiance, RefObjectUtils.getOutcomeRefObject(key)));
+      } catch (OutcomeException ignored) {
+        return Optional.empty();
+      }
+    });
   }
 
   private Optional<Object> fetchSweepingOutput(Ambiance newAmbiance, String key) {
@@ -3,6 +3,7 @@ package io.harness.registrars;
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.engine.events.NodeExecutionStatusUpdateEventHandler;
+import io.harness.engine.events.PlanNodeExecutionsCacheEventHandler;
 import io.harness.pms.contracts.execution.events.OrchestrationEventType;
 import io.harness.pms.sdk.core.events.OrchestrationEventHandler;
 
@@ -20,7 +21,13 @@ public class OrchestrationModuleEventHandlerRegistrar {
         new HashMap<>();
 
     engineEventHandlersMap.put(OrchestrationEventType.NODE_EXECUTION_STATUS_UPDATE,
-        Sets.newHashSet(NodeExecutionStatusUpdateEventHandler.class));
+        Sets.newHashSet(NodeExecutionStatusUpdateEventHandler.class, PlanNodeExecutionsCacheEventHandler.class));
+    engineEventHandlersMap.put(
+        OrchestrationEventType.NODE_EXECUTION_START, Sets.newHashSet(PlanNodeExecutionsCacheEventHandler.class));
+    engineEventHandlersMap.put(
+        OrchestrationEventType.NODE_EXECUTION_UPDATE, Sets.newHashSet(PlanNodeExecutionsCacheEventHandler.class));
+    engineEventHandlersMap.put(
+        OrchestrationEventType.ORCHESTRATION_END, Sets.newHashSet(PlanNodeExecutionsCacheEventHandler.class));
     return engineEventHandlersMap;
   }
 }
@@ -19,6 +19,7 @@ public final class NgOrchestrationNotifyEventListener extends NotifyEventListene
   public NgOrchestrationNotifyEventListener(
       Injector injector, VersionInfoManager versionInfoManager, PublisherConfiguration config) {
     super(QueueFactory.createQueueConsumer(injector, NotifyEvent.class, ofSeconds(5),
-        asList(asList(versionInfoManager.getVersionInfo().getVersion()), asList(NG_ORCHESTRATION)), config));
+        asList(asList(versionInfoManager.getVersionInfo().getVersion()), asList(NG_ORCHESTRATION)), config),
+        BATCH_SIZE, WORKERS);
   }
 }
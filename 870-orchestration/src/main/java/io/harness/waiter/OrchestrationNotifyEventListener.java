@@ -19,6 +19,7 @@ public final class OrchestrationNotifyEventListener extends NotifyEventListener
   public OrchestrationNotifyEventListener(
       Injector injector, VersionInfoManager versionInfoManager, PublisherConfiguration config) {
     super(QueueFactory.createQueueConsumer(injector, NotifyEvent.class, ofSeconds(5),
-        asList(asList(versionInfoManager.getVersionInfo().getVersion()), asList(ORCHESTRATION)), config));
+        asList(asList(versionInfoManager.getVersionInfo().getVersion()), asList(ORCHESTRATION)), config),
+        BATCH_SIZE, WORKERS);
   }
 }
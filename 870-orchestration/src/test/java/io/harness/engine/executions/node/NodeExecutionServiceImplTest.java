@@ -7,7 +7,10 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import io.harness.OrchestrationTestBase;
 import io.harness.category.element.UnitTests;
+import io.harness.engine.expressions.NodeExecutionsCache;
+import io.harness.engine.expressions.PlanNodeExecutionsCache;
 import io.harness.execution.NodeExecution;
+import io.harness.pms.contracts.ambiance.Ambiance;
 import io.harness.pms.contracts.execution.Status;
 import io.harness.pms.contracts.plan.PlanNodeProto;
 import io.harness.pms.contracts.steps.StepType;
@@ -21,6 +24,7 @@ import org.junit.experimental.categories.Category;
 
 public class NodeExecutionServiceImplTest extends OrchestrationTestBase {
   @Inject private NodeExecutionService nodeExecutionService;
+  @Inject private PlanNodeExecutionsCache planNodeExecutionsCache;
 
   @Test
   @RealMongo
@@ -43,4 +47,39 @@ public class NodeExecutionServiceImplTest extends OrchestrationTestBase {
     NodeExecution savedExecution = nodeExecutionService.save(nodeExecution);
     assertThat(savedExecution.getUuid()).isEqualTo(nodeExecutionId);
   }
+
+  @Test
+  @RealMongo
+  @Owner(developers = PRASHANT)
+  @Category(UnitTests.class)
+  public void shouldInvalidateCachedNodeExecutionOnSave() {
+    Ambiance ambiance = AmbianceTestUtils.buildAmbiance();
+    String nodeExecutionId = generateUuid();
+    NodeExecution nodeExecution = NodeExecution.builder()
+                                      .uuid(nodeExecutionId)
+                                      .ambiance(ambiance)
+                                      .node(PlanNodeProto.newBuilder()
+                                                .setUuid(generateUuid())
+                                                .setName("name")
+                                                .setIdentifier("dummy")
+                                                .setStepType(StepType.newBuilder().setType("DUMMY").build())
+                                                .build())
+                                      .startTs(System.currentTimeMillis())
+                                      .status(Status.SUCCEEDED)
+                                      .build();
+    NodeExecution savedExecution = nodeExecutionService.save(nodeExecution);
+
+    // Node executions in a final status are cached until they are invalidated
+    assertThat(newNodeExecutionsCache(ambiance).fetch(nodeExecutionId).getEndTs()).isNull();
+
+    savedExecution.setEndTs(System.currentTimeMillis());
+    nodeExecutionService.save(savedExecution);
+
+    assertThat(newNodeExecutionsCache(ambiance).fetch(nodeExecutionId).getEndTs())
+        .isEqualTo(savedExecution.getEndTs());
+  }
+
+  private NodeExecutionsCache newNodeExecutionsCache(Ambiance ambiance) {
+    return new NodeExecutionsCache(nodeExecutionService, ambiance, planNodeExecutionsCache);
+  }
 }
@@ -0,0 +1,111 @@
+package io.harness.engine.expressions;
+
+import static io.harness.data.structure.UUIDGenerator.generateUuid;
+import static io.harness.rule.OwnerRule.GARVIT;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.engine.executions.node.NodeExecutionService;
+import io.harness.execution.NodeExecution;
+import io.harness.pms.contracts.ambiance.Ambiance;
+import io.harness.pms.contracts.execution.Status;
+import io.harness.rule.Owner;
+import io.harness.utils.AmbianceTestUtils;
+
+import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class PlanNodeExecutionsCacheTest extends CategoryTest {
+  private NodeExecutionService nodeExecutionService;
+  private PlanNodeExecutionsCache planNodeExecutionsCache;
+  private Ambiance ambiance;
+
+  @Before
+  public void setup() {
+    nodeExecutionService = mock(NodeExecutionService.class);
+    planNodeExecutionsCache = new PlanNodeExecutionsCache();
+    ambiance = AmbianceTestUtils.buildAmbiance();
+  }
+
+  @Test
+  @Owner(developers = GARVIT)
+  @Category(UnitTests.class)
+  public void testFetchSharedAcrossEvaluators() {
+    NodeExecution nodeExecution = NodeExecution.builder().uuid(generateUuid()).status(Status.RUNNING).build();
+    when(nodeExecutionService.get(nodeExecution.getUuid())).thenReturn(nodeExecution);
+
+    assertThat(newCache().fetch(nodeExecution.getUuid())).isSameAs(nodeExecution);
+    assertThat(newCache().fetch(nodeExecution.getUuid())).isSameAs(nodeExecution);
+    verify(nodeExecutionService, times(1)).get(nodeExecution.getUuid());
+
+    planNodeExecutionsCache.invalidate(ambiance.getPlanExecutionId(), nodeExecution.getUuid(), null);
+    assertThat(newCache().fetch(nodeExecution.getUuid())).isSameAs(nodeExecution);
+    verify(nodeExecutionService, times(2)).get(nodeExecution.getUuid());
+
+    planNodeExecutionsCache.evict(ambiance.getPlanExecutionId());
+    assertThat(newCache().fetch(nodeExecution.getUuid())).isSameAs(nodeExecution);
+    verify(nodeExecutionService, times(3)).get(nodeExecution.getUuid());
+  }
+
+  @Test
+  @Owner(developers = GARVIT)
+  @Category(UnitTests.class)
+  public void testFetchChildrenInvalidatedByChildUpdate() {
+    String parentId = generateUuid();
+    NodeExecution child =
+        NodeExecution.builder().uuid(generateUuid()).parentId(parentId).status(Status.SUCCEEDED).build();
+    when(nodeExecutionService.fetchChildrenNodeExecutions(ambiance.getPlanExecutionId(), parentId))
+        .thenReturn(Collections.singletonList(child));
+
+    assertThat(newCache().fetchChildren(parentId)).containsExactly(child);
+    assertThat(newCache().fetchChildren(parentId)).containsExactly(child);
+    // Children fetched with the list are served without another read.
+    assertThat(newCache().fetch(child.getUuid())).isSameAs(child);
+    verify(nodeExecutionService, times(1)).fetchChildrenNodeExecutions(ambiance.getPlanExecutionId(), parentId);
+
+    planNodeExecutionsCache.invalidate(ambiance.getPlanExecutionId(), child.getUuid(), parentId);
+    assertThat(newCache().fetchChildren(parentId)).containsExactly(child);
+    verify(nodeExecutionService, times(2)).fetchChildrenNodeExecutions(ambiance.getPlanExecutionId(), parentId);
+  }
+
+  @Test
+  @Owner(developers = GARVIT)
+  @Category(UnitTests.class)
+  public void testFetchOutcomeOnlyCachedForFinalNodes() {
+    NodeExecution running = NodeExecution.builder().uuid(generateUuid()).status(Status.RUNNING).build();
+    NodeExecution succeeded = NodeExecution.builder().uuid(generateUuid()).status(Status.SUCCEEDED).build();
+    AtomicInteger resolved = new AtomicInteger();
+
+    NodeExecutionsCache cache = newCache();
+    for (int i = 0; i < 2; i++) {
+      cache.fetchOutcome(running, "output", () -> {
+        resolved.incrementAndGet();
+        return Optional.of("value");
+      });
+    }
+    assertThat(resolved.get()).isEqualTo(2);
+
+    resolved.set(0);
+    for (int i = 0; i < 2; i++) {
+      assertThat(newCache().fetchOutcome(succeeded, "output", () -> {
+        resolved.incrementAndGet();
+        return Optional.of("value");
+      })).contains("value");
+    }
+    assertThat(resolved.get()).isEqualTo(1);
+  }
+
+  private NodeExecutionsCache newCache() {
+    return new NodeExecutionsCache(nodeExecutionService, ambiance, planNodeExecutionsCache);
+  }
+}
@@ -45,6 +45,9 @@ import lombok.extern.slf4j.Slf4j;
 @OwnedBy(CDC)
 @Slf4j
 public class NodeExecutionEventListener extends QueueListener<NodeExecutionEvent> {
+  public static final int BATCH_SIZE = 10;
+  public static final int WORKERS = 10;
+
   @Inject private FacilitatorRegistry facilitatorRegistry;
   @Inject private AdviserRegistry adviserRegistry;
   @Inject private PmsNodeExecutionService pmsNodeExecutionService;
@@ -54,7 +57,7 @@ public class NodeExecutionEventListener extends QueueListener<NodeExecutionEvent
 
   @Inject
   public NodeExecutionEventListener(QueueConsumer<NodeExecutionEvent> queueConsumer) {
-    super(queueConsumer, false);
+    super(queueConsumer, false, BATCH_SIZE, WORKERS);
   }
 
   @Override
@@ -104,7 +104,7 @@ public class FilterCreatorService {
             FilterCreationContext.builder().currentField(yamlField).setupMetadata(setupMetadata).build(), yamlField);
       } else {
         try {
-          Object obj = YamlUtils.read(yamlField.getNode().toString(), clazz);
+          Object obj = YamlUtils.read(yamlField.getNode().getCurrJsonNode(), clazz);
           response = filterJsonCreator.handleNode(
               FilterCreationContext.builder().currentField(yamlField).setupMetadata(setupMetadata).build(), obj);
         } catch (IOException e) {
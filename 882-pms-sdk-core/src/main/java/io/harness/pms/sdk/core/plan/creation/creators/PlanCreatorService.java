@@ -150,7 +150,7 @@ public class PlanCreatorService extends PlanCreationServiceImplBase {
           obj = field;
         } else {
           try {
-            obj = YamlUtils.read(field.getNode().toString(), cls);
+            obj = YamlUtils.read(field.getNode().getCurrJsonNode(), cls);
           } catch (IOException e) {
             throw new InvalidRequestException(
                 format("Invalid yaml in node [%s]", JsonUtils.asJson(YamlNodeErrorInfo.fromField(field))), e);
@@ -6,6 +6,7 @@ import io.harness.pms.yaml.YamlUtils;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import java.io.IOException;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import lombok.Data;
 
@@ -21,11 +22,23 @@ public class PipelineYamlConfig {
     fqnToValueMap = FQNUtils.generateFQNMap(yamlMap);
   }
 
+  public PipelineYamlConfig(JsonNode yamlMap) {
+    this.yamlMap = yamlMap;
+    fqnToValueMap = yamlMap.size() == 0 ? new LinkedHashMap<>() : FQNUtils.generateFQNMap(yamlMap);
+  }
+
   public PipelineYamlConfig(Map<FQN, Object> fqnToValueMap, JsonNode originalYaml) throws IOException {
     this.fqnToValueMap = fqnToValueMap;
     yamlMap = FQNUtils.generateYamlMap(fqnToValueMap, originalYaml);
-    if (yamlMap.size() != 0) {
+  }
+
+  /**
+   * The yaml of a config generated from a map is only written when asked for, merges chain configs without it.
+   */
+  public String getYaml() {
+    if (yaml == null && yamlMap.size() != 0) {
       yaml = YamlUtils.write(yamlMap).replace("---\n", "");
     }
+    return yaml;
   }
 }
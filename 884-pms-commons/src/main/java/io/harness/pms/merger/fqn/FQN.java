@@ -40,9 +40,8 @@ public class FQN {
   }
 
   public boolean contains(FQN baseFQN) {
-    String subString = baseFQN.display();
-    String string = this.display();
-    return string.startsWith(subString);
+    List<FQNNode> baseList = baseFQN.getFqnList();
+    return baseList.size() <= fqnList.size() && fqnList.subList(0, baseList.size()).equals(baseList);
   }
 
   public boolean isIdentifierOrVariableName() {
@@ -10,10 +10,13 @@ import io.harness.pms.yaml.YamlUtils;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.JsonNodeType;
-import java.io.IOException;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -158,7 +161,23 @@ public class FQNUtils {
     });
   }
 
-  public JsonNode generateYamlMap(Map<FQN, Object> fqnMap, JsonNode originalYaml) throws IOException {
+  /**
+   * Indexes every proper prefix of the given FQNs with the FQNs under it, so that finding what a map holds below an
+   * FQN does not scan the whole map.
+   */
+  public Map<FQN, List<FQN>> generateParentToChildrenMap(Collection<FQN> fqns) {
+    Map<FQN, List<FQN>> res = new HashMap<>();
+    for (FQN fqn : fqns) {
+      List<FQNNode> fqnList = fqn.getFqnList();
+      for (int i = 1; i < fqnList.size(); i++) {
+        FQN parent = FQN.builder().fqnList(new ArrayList<>(fqnList.subList(0, i))).build();
+        res.computeIfAbsent(parent, k -> new ArrayList<>()).add(fqn);
+      }
+    }
+    return res;
+  }
+
+  public JsonNode generateYamlMap(Map<FQN, Object> fqnMap, JsonNode originalYaml) {
     Set<String> fieldNames = new LinkedHashSet<>();
     originalYaml.fieldNames().forEachRemaining(fieldNames::add);
     String topKey = fieldNames.iterator().next();
@@ -166,50 +185,51 @@ public class FQNUtils {
     FQNNode startNode = FQNNode.builder().nodeType(FQNNode.NodeType.KEY).key(topKey).build();
     FQN currentFQN = FQN.builder().fqnList(Collections.singletonList(startNode)).build();
 
-    Map<String, Object> tempMap = new LinkedHashMap<>();
-    generateYamlMap(getSubMap(fqnMap, currentFQN), currentFQN, originalYaml.get(topKey), tempMap, topKey);
-    return YamlUtils.readTree(YamlUtils.write(tempMap).replace("---\n", "")).getNode().getCurrJsonNode();
+    // Only FQNs below the current one are ever looked up, so the full map is passed down instead of sub maps
+    ObjectNode res = JsonNodeFactory.instance.objectNode();
+    generateYamlMap(fqnMap, currentFQN, originalYaml.get(topKey), res, topKey);
+    return res;
   }
 
   private void generateYamlMap(
-      Map<FQN, Object> fqnMap, FQN baseFQN, JsonNode originalYaml, Map<String, Object> res, String topKey) {
+      Map<FQN, Object> fqnMap, FQN baseFQN, JsonNode originalYaml, ObjectNode res, String topKey) {
     Set<String> fieldNames = new LinkedHashSet<>();
     originalYaml.fieldNames().forEachRemaining(fieldNames::add);
-    Map<String, Object> tempMap = new LinkedHashMap<>();
+    ObjectNode tempMap = JsonNodeFactory.instance.objectNode();
     for (String key : fieldNames) {
       JsonNode value = originalYaml.get(key);
       FQN currFQN = FQN.duplicateAndAddNode(baseFQN, FQNNode.builder().nodeType(FQNNode.NodeType.KEY).key(key).build());
       if (fqnMap.containsKey(currFQN)) {
-        tempMap.put(key, fqnMap.get(currFQN));
+        tempMap.set(key, toJsonNode(fqnMap.get(currFQN)));
       } else if (value.getNodeType() == JsonNodeType.ARRAY) {
         ArrayNode arrayNode = (ArrayNode) value;
         generateYamlMapFromList(arrayNode, currFQN, fqnMap, tempMap, key);
       } else if (value.getNodeType() == JsonNodeType.OBJECT) {
-        generateYamlMap(getSubMap(fqnMap, currFQN), currFQN, value, tempMap, key);
+        generateYamlMap(fqnMap, currFQN, value, tempMap, key);
       }
     }
-    if (!tempMap.isEmpty()) {
-      Map<String, Object> newTempMap = new LinkedHashMap<>();
+    if (tempMap.size() != 0) {
+      ObjectNode newTempMap = JsonNodeFactory.instance.objectNode();
       if (fieldNames.contains(YAMLFieldNameConstants.IDENTIFIER)) {
-        newTempMap.put(YAMLFieldNameConstants.IDENTIFIER, originalYaml.get(YAMLFieldNameConstants.IDENTIFIER));
+        newTempMap.set(YAMLFieldNameConstants.IDENTIFIER, originalYaml.get(YAMLFieldNameConstants.IDENTIFIER));
       }
       if (originalYaml.has(YAMLFieldNameConstants.TYPE)) {
-        newTempMap.put(YAMLFieldNameConstants.TYPE, originalYaml.get(YAMLFieldNameConstants.TYPE));
+        newTempMap.set(YAMLFieldNameConstants.TYPE, originalYaml.get(YAMLFieldNameConstants.TYPE));
       }
-      newTempMap.putAll(tempMap);
-      res.put(topKey, newTempMap);
+      newTempMap.setAll(tempMap);
+      res.set(topKey, newTempMap);
     }
   }
 
   private void generateYamlMapFromList(
-      ArrayNode list, FQN baseFQN, Map<FQN, Object> fqnMap, Map<String, Object> res, String topKey) {
+      ArrayNode list, FQN baseFQN, Map<FQN, Object> fqnMap, ObjectNode res, String topKey) {
     if (list == null || list.get(0) == null) {
       return;
     }
     JsonNode firstNode = list.get(0);
     if (firstNode.getNodeType() != JsonNodeType.OBJECT) {
       if (fqnMap.containsKey(baseFQN)) {
-        res.put(topKey, list);
+        res.set(topKey, list.deepCopy());
       }
       return;
     }
@@ -222,12 +242,12 @@ public class FQNUtils {
   }
 
   private void generateYamlMapFromListOfSingleKeyMaps(
-      ArrayNode list, FQN baseFQN, Map<FQN, Object> fqnMap, Map<String, Object> res, String topKey) {
-    List<Object> topKeyList = new ArrayList<>();
+      ArrayNode list, FQN baseFQN, Map<FQN, Object> fqnMap, ObjectNode res, String topKey) {
+    ArrayNode topKeyList = JsonNodeFactory.instance.arrayNode();
     if (checkIfListHasNoIdentifier(list)) {
       if (fqnMap.containsKey(baseFQN)) {
-        topKeyList.add(list);
-        res.put(topKey, topKeyList);
+        topKeyList.add(list.deepCopy());
+        res.set(topKey, topKeyList);
       }
       return;
     }
@@ -235,10 +255,9 @@ public class FQNUtils {
       if (element.has(YAMLFieldNameConstants.PARALLEL)) {
         FQN currFQN = FQN.duplicateAndAddNode(baseFQN, FQNNode.builder().nodeType(FQNNode.NodeType.PARALLEL).build());
         ArrayNode listOfMaps = (ArrayNode) element.get(YAMLFieldNameConstants.PARALLEL);
-        Map<String, Object> tempMap = new LinkedHashMap<>();
-        generateYamlMapFromList(
-            listOfMaps, currFQN, getSubMap(fqnMap, currFQN), tempMap, YAMLFieldNameConstants.PARALLEL);
-        if (!tempMap.isEmpty()) {
+        ObjectNode tempMap = JsonNodeFactory.instance.objectNode();
+        generateYamlMapFromList(listOfMaps, currFQN, fqnMap, tempMap, YAMLFieldNameConstants.PARALLEL);
+        if (tempMap.size() != 0) {
           topKeyList.add(tempMap);
         }
       } else {
@@ -254,26 +273,26 @@ public class FQNUtils {
                 .uuidKey(YAMLFieldNameConstants.IDENTIFIER)
                 .uuidValue(identifier)
                 .build());
-        Map<String, Object> tempMap = new LinkedHashMap<>();
-        generateYamlMap(getSubMap(fqnMap, currFQN), currFQN, innerMap, tempMap, topKeyOfInnerMap);
-        if (!tempMap.isEmpty()) {
+        ObjectNode tempMap = JsonNodeFactory.instance.objectNode();
+        generateYamlMap(fqnMap, currFQN, innerMap, tempMap, topKeyOfInnerMap);
+        if (tempMap.size() != 0) {
           topKeyList.add(tempMap);
         }
       }
     });
-    if (!topKeyList.isEmpty()) {
-      res.put(topKey, topKeyList);
+    if (topKeyList.size() != 0) {
+      res.set(topKey, topKeyList);
     }
   }
 
   private void generateYamlMapFromListOfMultipleKeyMaps(
-      ArrayNode list, FQN baseFQN, Map<FQN, Object> fqnMap, Map<String, Object> res, String topKey) {
-    List<Object> topKeyList = new ArrayList<>();
+      ArrayNode list, FQN baseFQN, Map<FQN, Object> fqnMap, ObjectNode res, String topKey) {
+    ArrayNode topKeyList = JsonNodeFactory.instance.arrayNode();
     String uuidKey = getUuidKey(list);
     if (EmptyPredicate.isEmpty(uuidKey)) {
       if (fqnMap.containsKey(baseFQN)) {
-        topKeyList.add(list);
-        res.put(topKey, topKeyList);
+        topKeyList.add(list.deepCopy());
+        res.set(topKey, topKeyList);
       }
       return;
     }
@@ -284,37 +303,46 @@ public class FQNUtils {
               .uuidKey(uuidKey)
               .uuidValue(element.get(uuidKey).asText())
               .build());
-      Map<String, Object> tempRes = new LinkedHashMap<>();
       if (uuidKey.equals(YAMLFieldNameConstants.IDENTIFIER)) {
+        ObjectNode tempRes = JsonNodeFactory.instance.objectNode();
         generateYamlMap(fqnMap, currFQN, element, tempRes, topKey);
-        if (tempRes.containsKey(topKey)) {
+        if (tempRes.has(topKey)) {
           topKeyList.add(tempRes.get(topKey));
         }
       } else {
-        Map<String, Object> tempMap = new LinkedHashMap<>();
+        ObjectNode tempMap = JsonNodeFactory.instance.objectNode();
         Set<String> fieldNames = new LinkedHashSet<>();
         element.fieldNames().forEachRemaining(fieldNames::add);
         for (String key : fieldNames) {
           FQN finalFQN =
               FQN.duplicateAndAddNode(currFQN, FQNNode.builder().nodeType(FQNNode.NodeType.KEY).key(key).build());
           if (fqnMap.containsKey(finalFQN)) {
-            tempMap.put(key, fqnMap.get(finalFQN));
+            tempMap.set(key, toJsonNode(fqnMap.get(finalFQN)));
           }
         }
-        if (!tempMap.isEmpty()) {
-          Map<String, Object> newTempMap = new LinkedHashMap<>();
-          newTempMap.put(uuidKey, element.get(uuidKey));
+        if (tempMap.size() != 0) {
+          ObjectNode newTempMap = JsonNodeFactory.instance.objectNode();
+          newTempMap.set(uuidKey, element.get(uuidKey));
           if (element.has(YAMLFieldNameConstants.TYPE)) {
-            newTempMap.put(YAMLFieldNameConstants.TYPE, element.get(YAMLFieldNameConstants.TYPE));
+            newTempMap.set(YAMLFieldNameConstants.TYPE, element.get(YAMLFieldNameConstants.TYPE));
           }
-          newTempMap.putAll(tempMap);
+          newTempMap.setAll(tempMap);
           topKeyList.add(newTempMap);
         }
       }
     });
-    if (!topKeyList.isEmpty()) {
-      res.put(topKey, topKeyList);
+    if (topKeyList.size() != 0) {
+      res.set(topKey, topKeyList);
+    }
+  }
+
+  private JsonNode toJsonNode(Object value) {
+    if (value instanceof JsonNode) {
+      // Containers are copied, the generated tree must not share them with the trees the values came from
+      JsonNode node = (JsonNode) value;
+      return node.isContainerNode() ? node.deepCopy() : node;
     }
+    return YamlUtils.writeTree(value);
   }
 
   private String getUuidKey(ArrayNode list) {
@@ -4,7 +4,6 @@ import static java.util.stream.Collectors.toMap;
 import static org.apache.commons.lang3.StringUtils.EMPTY;
 
 import io.harness.common.NGExpressionUtils;
-import io.harness.data.structure.EmptyPredicate;
 import io.harness.exception.InvalidRequestException;
 import io.harness.pms.merger.PipelineYamlConfig;
 import io.harness.pms.merger.fqn.FQN;
@@ -14,7 +13,9 @@ import io.harness.pms.yaml.YamlUtils;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.JsonNodeType;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
 import java.io.IOException;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -34,7 +35,15 @@ public class MergeHelper {
   }
 
   private String createTemplateFromPipeline(String pipelineYaml, boolean keepInput) throws IOException {
-    PipelineYamlConfig pipeline = new PipelineYamlConfig(pipelineYaml);
+    return createTemplateFromPipeline(new PipelineYamlConfig(pipelineYaml), keepInput).getYaml();
+  }
+
+  /**
+   * The FQNs of the template are generated again from its tree, which also holds the identifier and type of every
+   * object with a kept value, just as if the template yaml was read.
+   */
+  private PipelineYamlConfig createTemplateFromPipeline(PipelineYamlConfig pipeline, boolean keepInput)
+      throws IOException {
     Map<FQN, Object> fullMap = pipeline.getFqnToValueMap();
     Map<FQN, Object> templateMap = new LinkedHashMap<>();
     fullMap.keySet().forEach(key -> {
@@ -45,20 +54,23 @@ public class MergeHelper {
         templateMap.put(key, fullMap.get(key));
       }
     });
-    return (new PipelineYamlConfig(templateMap, pipeline.getYamlMap())).getYaml();
+    return new PipelineYamlConfig(new PipelineYamlConfig(templateMap, pipeline.getYamlMap()).getYamlMap());
   }
 
   public Set<FQN> getInvalidFQNsInInputSet(String templateYaml, String inputSetPipelineCompYaml) throws IOException {
-    PipelineYamlConfig inputSetConfig = new PipelineYamlConfig(inputSetPipelineCompYaml);
-    PipelineYamlConfig templateConfig = new PipelineYamlConfig(templateYaml);
+    return getInvalidFQNsInInputSet(
+        new PipelineYamlConfig(templateYaml), new PipelineYamlConfig(inputSetPipelineCompYaml));
+  }
+
+  private Set<FQN> getInvalidFQNsInInputSet(PipelineYamlConfig templateConfig, PipelineYamlConfig inputSetConfig) {
     Set<FQN> res = new LinkedHashSet<>(inputSetConfig.getFqnToValueMap().keySet());
+    Map<FQN, List<FQN>> inputSetChildren =
+        FQNUtils.generateParentToChildrenMap(inputSetConfig.getFqnToValueMap().keySet());
     templateConfig.getFqnToValueMap().keySet().forEach(key -> {
       if (res.contains(key)) {
         res.remove(key);
       } else {
-        Map<FQN, Object> subMap =
-            io.harness.pms.merger.helpers.FQNUtils.getSubMap(inputSetConfig.getFqnToValueMap(), key);
-        subMap.keySet().forEach(res::remove);
+        inputSetChildren.getOrDefault(key, Collections.emptyList()).forEach(res::remove);
       }
     });
     return res;
@@ -72,30 +84,35 @@ public class MergeHelper {
   private String mergeInputSetIntoPipeline(String pipelineYaml, String inputSetPipelineCompYaml,
       boolean convertToTemplate, boolean appendInputSetValidator) throws IOException {
     PipelineYamlConfig pipelineConfig = new PipelineYamlConfig(pipelineYaml);
-    String templateYaml = createTemplateFromPipeline(pipelineYaml, true);
-    if (!convertToTemplate) {
-      templateYaml = pipelineYaml;
-    }
-    PipelineYamlConfig inputSetConfig = new PipelineYamlConfig(inputSetPipelineCompYaml);
-    PipelineYamlConfig templateConfig = new PipelineYamlConfig(templateYaml);
+    PipelineYamlConfig templateConfig =
+        convertToTemplate ? createTemplateFromPipeline(pipelineConfig, true) : pipelineConfig;
+    return mergeInputSetIntoPipeline(
+        pipelineConfig, templateConfig, new PipelineYamlConfig(inputSetPipelineCompYaml), appendInputSetValidator)
+        .getYaml();
+  }
+
+  /**
+   * Merges over the parsed trees and their FQN maps, the result is a config whose yaml is only written when needed.
+   */
+  private PipelineYamlConfig mergeInputSetIntoPipeline(PipelineYamlConfig pipelineConfig,
+      PipelineYamlConfig templateConfig, PipelineYamlConfig inputSetConfig, boolean appendInputSetValidator)
+      throws IOException {
+    Map<FQN, Object> inputSetMap = inputSetConfig.getFqnToValueMap();
+    Map<FQN, List<FQN>> inputSetChildren = FQNUtils.generateParentToChildrenMap(inputSetMap.keySet());
 
     Map<FQN, Object> res = new LinkedHashMap<>(pipelineConfig.getFqnToValueMap());
     templateConfig.getFqnToValueMap().keySet().forEach(key -> {
-      if (inputSetConfig.getFqnToValueMap().containsKey(key)) {
-        Object value = inputSetConfig.getFqnToValueMap().get(key);
+      if (inputSetMap.containsKey(key)) {
+        Object value = inputSetMap.get(key);
         if (appendInputSetValidator) {
           value = checkForRuntimeInputExpressions(value, templateConfig.getFqnToValueMap().get(key));
         }
         res.put(key, value);
-      } else {
-        Map<FQN, Object> subMap =
-            io.harness.pms.merger.helpers.FQNUtils.getSubMap(inputSetConfig.getFqnToValueMap(), key);
-        if (!subMap.isEmpty()) {
-          res.put(key, FQNUtils.getObject(inputSetConfig, key));
-        }
+      } else if (inputSetChildren.containsKey(key)) {
+        res.put(key, FQNUtils.getObject(inputSetConfig, key));
       }
     });
-    return (new PipelineYamlConfig(res, pipelineConfig.getYamlMap())).getYaml();
+    return new PipelineYamlConfig(new PipelineYamlConfig(res, pipelineConfig.getYamlMap()).getYamlMap());
   }
 
   public String getPipelineComponent(String inputSetYaml) {
@@ -121,9 +138,9 @@ public class MergeHelper {
   }
 
   private String sanitizeInputSet(String pipelineYaml, String runtimeInput, boolean isInputSet) throws IOException {
-    String templateYaml = MergeHelper.createTemplateFromPipeline(pipelineYaml);
+    PipelineYamlConfig templateConfig = createTemplateFromPipeline(new PipelineYamlConfig(pipelineYaml), true);
 
-    if (templateYaml == null) {
+    if (templateConfig.getYamlMap().size() == 0) {
       return EMPTY;
     }
 
@@ -133,13 +150,12 @@ public class MergeHelper {
       runtimeInput = getPipelineComponent(runtimeInput);
     }
 
-    String filteredInputSetYaml = MergeHelper.removeRuntimeInputFromYaml(runtimeInput);
-    if (EmptyPredicate.isEmpty(filteredInputSetYaml)) {
+    PipelineYamlConfig inputSetConfig = createTemplateFromPipeline(new PipelineYamlConfig(runtimeInput), false);
+    if (inputSetConfig.getYamlMap().size() == 0) {
       return "";
     }
-    PipelineYamlConfig inputSetConfig = new PipelineYamlConfig(filteredInputSetYaml);
 
-    Set<FQN> invalidFQNsInInputSet = getInvalidFQNsInInputSet(templateYaml, filteredInputSetYaml);
+    Set<FQN> invalidFQNsInInputSet = getInvalidFQNsInInputSet(templateConfig, inputSetConfig);
 
     Map<FQN, Object> filtered = inputSetConfig.getFqnToValueMap()
                                     .entrySet()
@@ -154,11 +170,12 @@ public class MergeHelper {
       throws IOException {
     List<String> inputSetPipelineCompYamlList =
         inputSetYamlList.stream().map(MergeHelper::getPipelineComponent).collect(Collectors.toList());
-    String res = template;
+    // Each merge goes on from the tree of the previous one, the yaml is written once at the end
+    PipelineYamlConfig res = new PipelineYamlConfig(template);
     for (String yaml : inputSetPipelineCompYamlList) {
-      res = mergeInputSetIntoPipeline(res, yaml, false, appendInputSetValidator);
+      res = mergeInputSetIntoPipeline(res, res, new PipelineYamlConfig(yaml), appendInputSetValidator);
     }
-    return res;
+    return res.getYaml();
   }
 
   private Object checkForRuntimeInputExpressions(Object inputSetValue, Object pipelineValue) {
@@ -167,7 +184,7 @@ public class MergeHelper {
       return inputSetValue;
     }
     try {
-      ParameterField<?> parameterField = YamlUtils.read(pipelineValText, ParameterField.class);
+      ParameterField<?> parameterField = YamlUtils.read(TextNode.valueOf(pipelineValText), ParameterField.class);
       if (parameterField.getInputSetValidator() == null) {
         return inputSetValue;
       }
@@ -8,10 +8,15 @@ import io.harness.serializer.recaster.proto.ProtoRecastTransformer;
 
 import lombok.experimental.UtilityClass;
 import org.bson.Document;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.DocumentCodec;
+import org.bson.json.JsonReader;
 
 @UtilityClass
 public class RecastOrchestrationUtils {
   private static final Recast recast = new Recast();
+  // Document.parse builds a new codec, with its bson type lookups, on every call
+  private static final DocumentCodec documentCodec = new DocumentCodec();
 
   static {
     recast.addTransformer(new JsonObjectRecastTransformer());
@@ -33,7 +38,7 @@ public class RecastOrchestrationUtils {
       return null;
     }
 
-    return Document.parse(json);
+    return parse(json);
   }
 
   public <T> T fromDocument(Document document, Class<T> entityClass) {
@@ -45,6 +50,10 @@ public class RecastOrchestrationUtils {
       return null;
     }
 
-    return fromDocument(Document.parse(json), entityClass);
+    return fromDocument(parse(json), entityClass);
+  }
+
+  private Document parse(String json) {
+    return documentCodec.decode(new JsonReader(json), DecoderContext.builder().build());
   }
 }
@@ -53,6 +53,17 @@ public class YamlUtils {
     return mapper.readValue(yaml, valueTypeRef);
   }
 
+  /**
+   * Binds an already parsed node, without writing it back to text and parsing it again.
+   */
+  public <T> T read(JsonNode node, Class<T> cls) throws IOException {
+    return mapper.treeToValue(node, cls);
+  }
+
+  public JsonNode writeTree(Object object) {
+    return mapper.valueToTree(object);
+  }
+
   public String write(Object object) {
     try {
       return mapper.writeValueAsString(object);
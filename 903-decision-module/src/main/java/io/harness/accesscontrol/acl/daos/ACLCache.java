@@ -0,0 +1,84 @@
+package io.harness.accesscontrol.acl.daos;
+
+import io.harness.accesscontrol.HPrincipal;
+import io.harness.accesscontrol.acl.models.ACL;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.inject.Singleton;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps the result of every ACL query string looked up for a principal, including the misses. The entries of a
+ * principal form one version; the aggregator replaces the version whenever it writes a different set of ACLs for the
+ * principal, so lookups that started on the old version can never repopulate the new one.
+ */
+@Singleton
+@Slf4j
+public class ACLCache {
+  private static final int MAX_PRINCIPALS = 10000;
+
+  private final AtomicLong versions = new AtomicLong();
+  private final Cache<String, PrincipalACLs> cache =
+      CacheBuilder.newBuilder().maximumSize(MAX_PRINCIPALS).expireAfterAccess(30, TimeUnit.MINUTES).build();
+
+  public static class PrincipalACLs {
+    @Getter private final long version;
+    private final Set<String> aggregatedQueryStrings;
+    private final ConcurrentMap<String, Optional<ACL>> acls = new ConcurrentHashMap<>();
+
+    private PrincipalACLs(long version, Set<String> aggregatedQueryStrings) {
+      this.version = version;
+      this.aggregatedQueryStrings = aggregatedQueryStrings;
+    }
+
+    /**
+     * Returns null when the query string has not been looked up yet in this version, an empty optional when it was
+     * looked up and no ACL matched.
+     */
+    public Optional<ACL> get(String aclQueryString) {
+      return acls.get(aclQueryString);
+    }
+
+    public void put(String aclQueryString, ACL acl) {
+      acls.put(aclQueryString, Optional.ofNullable(acl));
+    }
+  }
+
+  private String key(HPrincipal principal) {
+    return principal.getPrincipalType() + "$" + principal.getPrincipalIdentifier();
+  }
+
+  public PrincipalACLs get(HPrincipal principal) {
+    try {
+      return cache.get(key(principal), () -> new PrincipalACLs(versions.incrementAndGet(), null));
+    } catch (ExecutionException e) {
+      throw new IllegalStateException(e.getCause());
+    }
+  }
+
+  /**
+   * Called by the aggregator once it has written the ACLs of the principal. The cached version is kept when the
+   * aggregated query strings are the same as the last time, otherwise the principal starts a new version.
+   */
+  public void onAggregated(HPrincipal principal, Set<String> aggregatedQueryStrings) {
+    String key = key(principal);
+    PrincipalACLs current = cache.getIfPresent(key);
+    if (current != null && aggregatedQueryStrings.equals(current.aggregatedQueryStrings)) {
+      return;
+    }
+    PrincipalACLs next =
+        new PrincipalACLs(versions.incrementAndGet(), Collections.unmodifiableSet(aggregatedQueryStrings));
+    cache.put(key, next);
+    log.debug("ACLs of principal {} changed, moved to version {}", key, next.getVersion());
+  }
+}
@@ -2,18 +2,25 @@ package io.harness.accesscontrol.acl.daos;
 
 import io.harness.accesscontrol.HPrincipal;
 import io.harness.accesscontrol.Principal;
+import io.harness.accesscontrol.acl.daos.ACLCache.PrincipalACLs;
 import io.harness.accesscontrol.acl.dtos.PermissionCheckDTO;
 import io.harness.accesscontrol.acl.models.ACL;
 import io.harness.accesscontrol.acl.models.HACL;
 import io.harness.accesscontrol.acl.models.HResource;
 import io.harness.accesscontrol.acl.models.ParentMetadata;
 import io.harness.accesscontrol.acl.repository.HACLRepository;
+import io.harness.metrics.HarnessMetricRegistry;
 
-import com.google.common.collect.Lists;
+import com.codahale.metrics.MetricRegistry;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,17 +29,26 @@ import lombok.extern.slf4j.Slf4j;
 @Singleton
 @Slf4j
 public class HACLDAOImpl implements ACLDAO {
+  private static final String ACL_METRIC_PREFIX = "acl";
+
   private final HACLRepository accessControlRepository;
+  private final ACLCache aclCache;
+  private final HarnessMetricRegistry harnessMetricRegistry;
 
   private String getACLQuery(
       ParentMetadata parentMetadata, HResource resource, HPrincipal hPrincipal, String permission) {
     return HACL.getAclQueryString(parentMetadata, resource, hPrincipal, permission);
   }
 
+  /**
+   * Checks every permission of a request with at most one query: both query strings of each check, the specific
+   * resource and all resources of its type, are first looked up in the principal's cache and the rest go to mongo in
+   * a single $in.
+   */
   @Override
   public List<ACL> get(Principal principal, List<PermissionCheckDTO> permissionsRequired) {
-    List<ACL> aclList = new ArrayList<>();
     HPrincipal hPrincipal = (HPrincipal) principal;
+    List<String[]> queryStrings = new ArrayList<>(permissionsRequired.size());
     permissionsRequired.forEach(permissionCheckDTO -> {
       ParentMetadata parentMetadata = ParentMetadata.builder()
                                           .accountIdentifier(permissionCheckDTO.getAccountIdentifier())
@@ -48,13 +64,39 @@ public class HACLDAOImpl implements ACLDAO {
       String queryStringForAllResources = getACLQuery(parentMetadata,
           HResource.builder().resourceIdentifier(null).resourceType(permissionCheckDTO.getResourceType()).build(),
           hPrincipal, permissionCheckDTO.getPermission());
-      List<ACL> aclsInDB = accessControlRepository.getByAclQueryStringIn(
-          Lists.newArrayList(queryStringForResourceIdentifier, queryStringForAllResources));
-      if (!aclsInDB.isEmpty()) {
-        aclList.add(aclsInDB.get(0));
-      } else {
-        aclList.add(null);
+      queryStrings.add(new String[] {queryStringForResourceIdentifier, queryStringForAllResources});
+    });
+
+    PrincipalACLs cachedACLs = aclCache.get(hPrincipal);
+    Map<String, ACL> resolved = new HashMap<>();
+    Set<String> missing = new HashSet<>();
+    long hits = 0;
+    for (String[] pair : queryStrings) {
+      for (String queryString : pair) {
+        Optional<ACL> cached = cachedACLs.get(queryString);
+        if (cached == null) {
+          missing.add(queryString);
+        } else {
+          hits++;
+          cached.ifPresent(acl -> resolved.put(queryString, acl));
+        }
       }
+    }
+    MetricRegistry metricRegistry = harnessMetricRegistry.getMetricRegistry();
+    metricRegistry.meter(MetricRegistry.name(ACL_METRIC_PREFIX, "cache", "hits")).mark(hits);
+    metricRegistry.meter(MetricRegistry.name(ACL_METRIC_PREFIX, "cache", "misses"))
+        .mark(2L * queryStrings.size() - hits);
+
+    if (!missing.isEmpty()) {
+      List<ACL> aclsInDB = accessControlRepository.getByAclQueryStringIn(new ArrayList<>(missing));
+      aclsInDB.forEach(acl -> resolved.putIfAbsent(((HACL) acl).getAclQueryString(), acl));
+      missing.forEach(queryString -> cachedACLs.put(queryString, resolved.get(queryString)));
+    }
+
+    List<ACL> aclList = new ArrayList<>(queryStrings.size());
+    queryStrings.forEach(pair -> {
+      ACL acl = resolved.get(pair[0]);
+      aclList.add(acl != null ? acl : resolved.get(pair[1]));
     });
     return aclList;
   }
@@ -8,7 +8,10 @@ import io.harness.accesscontrol.acl.dtos.HAccessControlDTO;
 import io.harness.accesscontrol.acl.dtos.PermissionCheckDTO;
 import io.harness.accesscontrol.acl.models.ACL;
 import io.harness.aggregator.services.apis.ACLAggregatorService;
+import io.harness.metrics.HarnessMetricRegistry;
 
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import java.util.ArrayList;
@@ -22,9 +25,18 @@ import lombok.extern.slf4j.Slf4j;
 public class HACLServiceImpl implements ACLService {
   private final ACLAggregatorService aclAggregatorService;
   private final ACLDAO aclDAO;
+  private final HarnessMetricRegistry harnessMetricRegistry;
 
   @Override
   public AccessCheckResponseDTO get(AccessCheckRequestDTO dto) {
+    MetricRegistry metricRegistry = harnessMetricRegistry.getMetricRegistry();
+    metricRegistry.histogram(MetricRegistry.name("acl", "request", "checks")).update(dto.getPermissions().size());
+    try (Timer.Context ignore = metricRegistry.timer(MetricRegistry.name("acl", "request", "latency")).time()) {
+      return check(dto);
+    }
+  }
+
+  private AccessCheckResponseDTO check(AccessCheckRequestDTO dto) {
     boolean success = aclAggregatorService.aggregate(dto.getPrincipal());
     log.info(
         "Call to aggregator service to refresh permissions for principal {} returned: {}", dto.getPrincipal(), success);
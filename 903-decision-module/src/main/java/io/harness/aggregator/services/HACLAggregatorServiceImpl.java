@@ -2,6 +2,7 @@ package io.harness.aggregator.services;
 
 import io.harness.accesscontrol.HPrincipal;
 import io.harness.accesscontrol.Principal;
+import io.harness.accesscontrol.acl.daos.ACLCache;
 import io.harness.accesscontrol.acl.daos.ACLDAO;
 import io.harness.accesscontrol.acl.models.HACL;
 import io.harness.accesscontrol.acl.models.HResource;
@@ -19,6 +20,7 @@ import io.harness.resourcegroupclient.remote.ResourceGroupClient;
 
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -34,6 +36,7 @@ public class HACLAggregatorServiceImpl implements ACLAggregatorService {
   private final RoleService roleService;
   private final ResourceGroupClient resourceGroupClient;
   private final ACLDAO acldao;
+  private final ACLCache aclCache;
 
   private Optional<ParentMetadata> getIdentifiersFromFQN(@NotEmpty String fqn) {
     fqn = fqn.replaceAll("^/", "");
@@ -59,6 +62,7 @@ public class HACLAggregatorServiceImpl implements ACLAggregatorService {
     PrincipalType principalType = hPrincipal.getPrincipalType();
 
     List<RoleAssignment> roleBindings = roleAssignmentService.get(principalIdentifier, principalType);
+    Set<String> aggregatedQueryStrings = new HashSet<>();
 
     for (RoleAssignment roleAssignment : roleBindings) {
       Optional<Role> role =
@@ -94,12 +98,14 @@ public class HACLAggregatorServiceImpl implements ACLAggregatorService {
                                .parentMetadata(parentMetadata)
                                .build();
                 acldao.save(acl);
+                aggregatedQueryStrings.add(acl.getAclQueryString());
               }
             });
           });
         }
       }
     }
+    aclCache.onAggregated(hPrincipal, aggregatedQueryStrings);
     return true;
   }
 }
@@ -0,0 +1,82 @@
+package io.harness.accesscontrol.acl.daos;
+
+import static io.harness.rule.OwnerRule.GEORGE;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.accesscontrol.HPrincipal;
+import io.harness.accesscontrol.acl.daos.ACLCache.PrincipalACLs;
+import io.harness.accesscontrol.acl.models.ACL;
+import io.harness.accesscontrol.acl.models.HACL;
+import io.harness.accesscontrol.principals.PrincipalType;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import com.google.common.collect.ImmutableSet;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class ACLCacheTest extends CategoryTest {
+  private static final String QUERY_STRING = "account/a$core_project_view$PROJECT$p$USER$u";
+  private static final String OTHER_QUERY_STRING = "account/a$core_project_edit$PROJECT$p$USER$u";
+
+  private final ACLCache aclCache = new ACLCache();
+  private final HPrincipal principal =
+      HPrincipal.builder().principalType(PrincipalType.USER).principalIdentifier("u").build();
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldKeepVersionWhenAggregatedQueryStringsAreUnchanged() {
+    aclCache.onAggregated(principal, ImmutableSet.of(QUERY_STRING));
+    PrincipalACLs cachedACLs = aclCache.get(principal);
+    ACL acl = HACL.builder().aclQueryString(QUERY_STRING).build();
+    cachedACLs.put(QUERY_STRING, acl);
+
+    aclCache.onAggregated(principal, ImmutableSet.of(QUERY_STRING));
+
+    assertThat(aclCache.get(principal).getVersion()).isEqualTo(cachedACLs.getVersion());
+    assertThat(aclCache.get(principal).get(QUERY_STRING)).contains(acl);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldCacheMisses() {
+    PrincipalACLs cachedACLs = aclCache.get(principal);
+    assertThat(cachedACLs.get(QUERY_STRING)).isNull();
+
+    cachedACLs.put(QUERY_STRING, null);
+
+    assertThat(aclCache.get(principal).get(QUERY_STRING)).isEmpty();
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldDropCachedMissesWhenAggregatedQueryStringsChange() {
+    aclCache.onAggregated(principal, ImmutableSet.of(OTHER_QUERY_STRING));
+    PrincipalACLs cachedACLs = aclCache.get(principal);
+    cachedACLs.put(QUERY_STRING, null);
+
+    // The principal got the ACL the miss was cached for
+    aclCache.onAggregated(principal, ImmutableSet.of(QUERY_STRING, OTHER_QUERY_STRING));
+
+    assertThat(aclCache.get(principal).getVersion()).isGreaterThan(cachedACLs.getVersion());
+    assertThat(aclCache.get(principal).get(QUERY_STRING)).isNull();
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldNotLeakLookupsOfOlderVersion() {
+    PrincipalACLs olderACLs = aclCache.get(principal);
+    aclCache.onAggregated(principal, ImmutableSet.of(QUERY_STRING));
+
+    // A lookup that started before the aggregation finishes after it
+    olderACLs.put(QUERY_STRING, null);
+
+    assertThat(aclCache.get(principal).get(QUERY_STRING)).isNull();
+  }
+}
@@ -0,0 +1,126 @@
+package io.harness.accesscontrol.acl.daos;
+
+import static io.harness.rule.OwnerRule.GEORGE;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.anyListOf;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.harness.CategoryTest;
+import io.harness.accesscontrol.HPrincipal;
+import io.harness.accesscontrol.acl.dtos.PermissionCheckDTO;
+import io.harness.accesscontrol.acl.models.ACL;
+import io.harness.accesscontrol.acl.models.HACL;
+import io.harness.accesscontrol.acl.models.HResource;
+import io.harness.accesscontrol.acl.models.ParentMetadata;
+import io.harness.accesscontrol.acl.repository.HACLRepository;
+import io.harness.accesscontrol.principals.PrincipalType;
+import io.harness.category.element.UnitTests;
+import io.harness.metrics.HarnessMetricRegistry;
+import io.harness.rule.Owner;
+
+import com.codahale.metrics.MetricRegistry;
+import com.google.common.collect.ImmutableSet;
+import com.google.inject.Guice;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.ArgumentCaptor;
+
+public class HACLDAOImplTest extends CategoryTest {
+  private static final String ACCOUNT = "account";
+  private static final String RESOURCE_TYPE = "PROJECT";
+  private static final String PERMISSION = "core_project_view";
+
+  private final HPrincipal principal =
+      HPrincipal.builder().principalType(PrincipalType.USER).principalIdentifier("user").build();
+  private final ACLCache aclCache = new ACLCache();
+  private HACLRepository repository;
+  private HACLDAOImpl aclDAO;
+
+  @Before
+  public void setUp() {
+    repository = mock(HACLRepository.class);
+    HarnessMetricRegistry harnessMetricRegistry = mock(HarnessMetricRegistry.class);
+    when(harnessMetricRegistry.getMetricRegistry()).thenReturn(new MetricRegistry());
+    aclDAO = Guice
+                 .createInjector(binder -> {
+                   binder.bind(HACLRepository.class).toInstance(repository);
+                   binder.bind(ACLCache.class).toInstance(aclCache);
+                   binder.bind(HarnessMetricRegistry.class).toInstance(harnessMetricRegistry);
+                 })
+                 .getInstance(HACLDAOImpl.class);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  @SuppressWarnings("unchecked")
+  public void shouldCheckAllPermissionsWithOneQuery() {
+    ACL specificACL = acl(queryString("first"));
+    ACL allResourcesACL = acl(queryString(null));
+    when(repository.getByAclQueryStringIn(anyListOf(String.class)))
+        .thenReturn(Arrays.asList(specificACL, allResourcesACL));
+
+    List<ACL> acls = aclDAO.get(principal, Arrays.asList(check("first"), check("second")));
+
+    // The specific ACL wins over the one for all resources, which still covers the second check
+    assertThat(acls).containsExactly(specificACL, allResourcesACL);
+    ArgumentCaptor<List> queryStrings = ArgumentCaptor.forClass(List.class);
+    verify(repository, times(1)).getByAclQueryStringIn(queryStrings.capture());
+    assertThat((List<String>) queryStrings.getValue())
+        .containsExactlyInAnyOrder(queryString("first"), queryString("second"), queryString(null));
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldNotQueryCachedMissesAgain() {
+    when(repository.getByAclQueryStringIn(anyListOf(String.class))).thenReturn(Collections.emptyList());
+
+    assertThat(aclDAO.get(principal, Collections.singletonList(check("first")))).containsExactly((ACL) null);
+    assertThat(aclDAO.get(principal, Collections.singletonList(check("first")))).containsExactly((ACL) null);
+
+    verify(repository, times(1)).getByAclQueryStringIn(anyListOf(String.class));
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldQueryAgainAfterAggregatedACLsChanged() {
+    when(repository.getByAclQueryStringIn(anyListOf(String.class))).thenReturn(Collections.emptyList());
+    assertThat(aclDAO.get(principal, Collections.singletonList(check("first")))).containsExactly((ACL) null);
+
+    ACL acl = acl(queryString("first"));
+    when(repository.getByAclQueryStringIn(anyListOf(String.class))).thenReturn(Collections.singletonList(acl));
+    aclCache.onAggregated(principal, ImmutableSet.of(queryString("first")));
+
+    assertThat(aclDAO.get(principal, Collections.singletonList(check("first")))).containsExactly(acl);
+    verify(repository, times(2)).getByAclQueryStringIn(anyListOf(String.class));
+  }
+
+  private PermissionCheckDTO check(String resourceIdentifier) {
+    return PermissionCheckDTO.builder()
+        .accountIdentifier(ACCOUNT)
+        .resourceType(RESOURCE_TYPE)
+        .resourceIdentifier(resourceIdentifier)
+        .permission(PERMISSION)
+        .build();
+  }
+
+  private String queryString(String resourceIdentifier) {
+    return HACL.getAclQueryString(ParentMetadata.builder().accountIdentifier(ACCOUNT).build(),
+        HResource.builder().resourceType(RESOURCE_TYPE).resourceIdentifier(resourceIdentifier).build(), principal,
+        PERMISSION);
+  }
+
+  private ACL acl(String queryString) {
+    return HACL.builder().aclQueryString(queryString).build();
+  }
+}
@@ -12,11 +12,14 @@ import io.harness.delegate.beans.ErrorNotifyResponseData;
 import io.harness.persistence.HPersistence;
 import io.harness.serializer.KryoSerializer;
 import io.harness.service.intfc.DelegateAsyncService;
+import io.harness.tasks.ResponseData;
 import io.harness.waiter.WaitNotifyEngine;
 
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
@@ -36,6 +39,7 @@ public class DelegateAsyncServiceImpl implements DelegateAsyncService {
   public void run() {
     // TODO - method guaranties at least one delivery
     Set<String> responsesToBeDeleted = new HashSet<>();
+    Map<String, ResponseData> responses = new HashMap<>();
 
     while (true) {
       try {
@@ -56,17 +60,33 @@ public class DelegateAsyncServiceImpl implements DelegateAsyncService {
         }
 
         log.info("Process won the async task response {}.", lockedAsyncTaskResponse.getUuid());
-        waitNotifyEngine.doneWith(lockedAsyncTaskResponse.getUuid(),
+        responses.put(lockedAsyncTaskResponse.getUuid(),
             (DelegateResponseData) kryoSerializer.asInflatedObject(lockedAsyncTaskResponse.getResponseData()));
-        responsesToBeDeleted.add(lockedAsyncTaskResponse.getUuid());
-        if (responsesToBeDeleted.size() >= DELETE_TRESHOLD) {
-          deleteProcessedResponses(responsesToBeDeleted);
+        if (responses.size() >= DELETE_TRESHOLD) {
+          notifyResponses(responses, responsesToBeDeleted);
         }
       } catch (Exception ex) {
         log.info(String.format("Ignoring async task response because of the following error: %s", ex.getMessage()));
       }
     }
 
+    notifyResponses(responses, responsesToBeDeleted);
+    deleteProcessedResponses(responsesToBeDeleted);
+  }
+
+  // Notifies the waiters of a batch of responses at once. Responses that failed to be handled are not deleted, they
+  // are picked up again once their processing window expires.
+  private void notifyResponses(Map<String, ResponseData> responses, Set<String> responsesToBeDeleted) {
+    if (isEmpty(responses)) {
+      return;
+    }
+    try {
+      responsesToBeDeleted.addAll(waitNotifyEngine.doneWithAll(responses));
+    } catch (Exception ex) {
+      log.error("Failed to notify {} async task responses", responses.size(), ex);
+    } finally {
+      responses.clear();
+    }
     deleteProcessedResponses(responsesToBeDeleted);
   }
 
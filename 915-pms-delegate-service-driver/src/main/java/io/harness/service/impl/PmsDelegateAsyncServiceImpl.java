@@ -13,6 +13,7 @@ import io.harness.serializer.KryoSerializer;
 import io.harness.service.intfc.DelegateAsyncService;
 import io.harness.tasks.BinaryResponseData;
 import io.harness.tasks.FailureResponseData;
+import io.harness.tasks.ResponseData;
 import io.harness.waiter.WaitNotifyEngine;
 
 import com.google.inject.Inject;
@@ -20,6 +21,7 @@ import com.google.inject.Singleton;
 import com.google.inject.name.Named;
 import com.mongodb.client.result.DeleteResult;
 import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
@@ -43,6 +45,7 @@ public class PmsDelegateAsyncServiceImpl implements DelegateAsyncService {
   public void run() {
     // TODO - method guaranties at least one delivery
     Set<String> responsesToBeDeleted = new HashSet<>();
+    Map<String, ResponseData> responses = new HashMap<>();
 
     while (true) {
       try {
@@ -56,17 +59,33 @@ public class PmsDelegateAsyncServiceImpl implements DelegateAsyncService {
         }
 
         log.info("Process won the async task response {}.", lockedAsyncTaskResponse.getUuid());
-        waitNotifyEngine.doneWith(lockedAsyncTaskResponse.getUuid(),
+        responses.put(lockedAsyncTaskResponse.getUuid(),
             BinaryResponseData.builder().data(lockedAsyncTaskResponse.getResponseData()).build());
-        responsesToBeDeleted.add(lockedAsyncTaskResponse.getUuid());
-        if (responsesToBeDeleted.size() >= DELETE_TRESHOLD) {
-          deleteProcessedResponses(responsesToBeDeleted);
+        if (responses.size() >= DELETE_TRESHOLD) {
+          notifyResponses(responses, responsesToBeDeleted);
         }
       } catch (Exception ex) {
         log.info(String.format("Ignoring async task response because of the following error: %s", ex.getMessage()));
       }
     }
 
+    notifyResponses(responses, responsesToBeDeleted);
+    deleteProcessedResponses(responsesToBeDeleted);
+  }
+
+  // Notifies the waiters of a batch of responses at once. Responses that failed to be handled are not deleted, they
+  // are picked up again once their processing window expires.
+  private void notifyResponses(Map<String, ResponseData> responses, Set<String> responsesToBeDeleted) {
+    if (isEmpty(responses)) {
+      return;
+    }
+    try {
+      responsesToBeDeleted.addAll(waitNotifyEngine.doneWithAll(responses));
+    } catch (Exception ex) {
+      log.error("Failed to notify {} async task responses", responses.size(), ex);
+    } finally {
+      responses.clear();
+    }
     deleteProcessedResponses(responsesToBeDeleted);
   }
 
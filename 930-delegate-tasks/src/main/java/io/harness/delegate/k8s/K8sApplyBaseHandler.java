@@ -91,11 +91,11 @@ public class K8sApplyBaseHandler {
 
     boolean success = k8sTaskHelperBase.doStatusCheckForAllResources(k8sApplyHandlerConfig.getClient(),
         kubernetesResourceIds, k8sDelegateTaskParams, namespace, executionLogCallback,
-        k8sApplyHandlerConfig.getCustomWorkloads().isEmpty());
+        k8sApplyHandlerConfig.getCustomWorkloads().isEmpty(), k8sApplyHandlerConfig.getKubernetesConfig());
 
     boolean customResourcesStatusSuccess = k8sTaskHelperBase.doStatusCheckForAllCustomResources(
         k8sApplyHandlerConfig.getClient(), k8sApplyHandlerConfig.getCustomWorkloads(), k8sDelegateTaskParams,
-        executionLogCallback, true, timeoutInMillis);
+        executionLogCallback, true, timeoutInMillis, k8sApplyHandlerConfig.getKubernetesConfig());
 
     return success && customResourcesStatusSuccess;
   }
@@ -88,12 +88,12 @@ public class K8sRollingRollbackBaseHandler {
       List<KubernetesResourceId> kubernetesResourceIds =
           previousManagedWorkloads.stream().map(KubernetesResourceIdRevision::getWorkload).collect(Collectors.toList());
       k8sTaskHelperBase.doStatusCheckForAllResources(client, kubernetesResourceIds, k8sDelegateTaskParams,
-          kubernetesConfig.getNamespace(), logCallback, previousCustomManagedWorkloads.isEmpty());
+          kubernetesConfig.getNamespace(), logCallback, previousCustomManagedWorkloads.isEmpty(), kubernetesConfig);
 
       if (isNotEmpty(previousCustomManagedWorkloads)) {
         k8sTaskHelperBase.checkSteadyStateCondition(previousCustomManagedWorkloads);
         k8sTaskHelperBase.doStatusCheckForAllCustomResources(client, previousCustomManagedWorkloads,
-            k8sDelegateTaskParams, logCallback, true, steadyStateTimeoutInMillis);
+            k8sDelegateTaskParams, logCallback, true, steadyStateTimeoutInMillis, kubernetesConfig);
       }
       release.setStatus(Release.Status.Failed);
       // update the revision on the previous release.
@@ -60,6 +60,7 @@ import io.harness.delegate.beans.storeconfig.GitStoreDelegateConfig;
 import io.harness.delegate.expression.DelegateExpressionEvaluator;
 import io.harness.delegate.git.NGGitService;
 import io.harness.delegate.service.ExecutionConfigOverrideFromFileOnDelegate;
+import io.harness.delegate.task.k8s.steadystate.K8sSteadyStateWatcher;
 import io.harness.errorhandling.NGErrorHelper;
 import io.harness.exception.ExceptionUtils;
 import io.harness.exception.GitOperationException;
@@ -116,6 +117,7 @@ import com.google.inject.Singleton;
 import io.fabric8.kubernetes.api.KubernetesHelper;
 import io.fabric8.kubernetes.api.model.KubernetesResourceList;
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.kubernetes.client.openapi.ApiClient;
 import io.kubernetes.client.openapi.models.V1ConfigMap;
 import io.kubernetes.client.openapi.models.V1LoadBalancerIngress;
 import io.kubernetes.client.openapi.models.V1LoadBalancerStatus;
@@ -1287,6 +1289,117 @@ public class K8sTaskHelperBase {
     }
   }
 
+  /**
+   * Checks the status of all the resources at once with watches over the cluster api, instead of one kubectl process
+   * per resource. Falls back to kubectl for the kinds that cannot be watched, or when the watches cannot be started.
+   */
+  public boolean doStatusCheckForAllResources(Kubectl client, List<KubernetesResourceId> resourceIds,
+      K8sDelegateTaskParams k8sDelegateTaskParams, String namespace, LogCallback executionLogCallback,
+      boolean denoteOverallSuccess, KubernetesConfig kubernetesConfig) throws Exception {
+    if (isEmpty(resourceIds)) {
+      return true;
+    }
+
+    List<KubernetesResourceId> namespacedResourceIds =
+        resourceIds.stream()
+            .map(resourceId -> {
+              if (isNotBlank(resourceId.getNamespace())) {
+                return resourceId;
+              }
+              KubernetesResourceId namespacedResourceId = resourceId.cloneInternal();
+              namespacedResourceId.setNamespace(namespace);
+              return namespacedResourceId;
+            })
+            .collect(toList());
+    if (kubernetesConfig == null || !namespacedResourceIds.stream().allMatch(K8sSteadyStateWatcher::isSupported)) {
+      return doStatusCheckForAllResources(
+          client, resourceIds, k8sDelegateTaskParams, namespace, executionLogCallback, denoteOverallSuccess);
+    }
+
+    Boolean success = doStatusCheckWithWatches(
+        kubernetesConfig, namespacedResourceIds, emptyList(), executionLogCallback, Long.MAX_VALUE);
+    if (success == null) {
+      return doStatusCheckForAllResources(
+          client, resourceIds, k8sDelegateTaskParams, namespace, executionLogCallback, denoteOverallSuccess);
+    }
+    if (success) {
+      if (denoteOverallSuccess) {
+        executionLogCallback.saveExecutionLog("\nDone.", INFO, CommandExecutionStatus.SUCCESS);
+      }
+    } else {
+      executionLogCallback.saveExecutionLog(
+          format("%nStatus check for resources in namespace [%s] failed.", namespace), INFO, FAILURE);
+    }
+    return success;
+  }
+
+  /**
+   * Checks the steady state condition of all the custom resources at once with watches over the cluster api. Falls
+   * back to polling them with kubectl when they cannot be watched.
+   */
+  public boolean doStatusCheckForAllCustomResources(Kubectl client, List<KubernetesResource> resources,
+      K8sDelegateTaskParams k8sDelegateTaskParams, LogCallback executionLogCallback, boolean denoteOverallSuccess,
+      long timeoutInMillis, KubernetesConfig kubernetesConfig) throws Exception {
+    if (isEmpty(resources)) {
+      return true;
+    }
+    if (kubernetesConfig == null || !resources.stream().allMatch(K8sSteadyStateWatcher::isSupported)) {
+      return doStatusCheckForAllCustomResources(
+          client, resources, k8sDelegateTaskParams, executionLogCallback, denoteOverallSuccess, timeoutInMillis);
+    }
+
+    executionLogCallback.saveExecutionLog("Performing steady check for managed workloads \n");
+    Boolean success =
+        doStatusCheckWithWatches(kubernetesConfig, emptyList(), resources, executionLogCallback, timeoutInMillis);
+    if (success == null) {
+      return doStatusCheckForAllCustomResources(
+          client, resources, k8sDelegateTaskParams, executionLogCallback, denoteOverallSuccess, timeoutInMillis);
+    }
+    if (success) {
+      if (denoteOverallSuccess) {
+        executionLogCallback.saveExecutionLog("\nDone.", INFO, CommandExecutionStatus.SUCCESS);
+      }
+    } else {
+      Set<String> namespaces =
+          resources.stream().map(resource -> resource.getResourceId().getNamespace()).collect(toSet());
+      executionLogCallback.saveExecutionLog(
+          format("%nStatus check for resources in namespace [%s] failed.", namespaces), INFO,
+          CommandExecutionStatus.FAILURE);
+    }
+    return success;
+  }
+
+  /**
+   * Returns null when the resources cannot be watched, e.g. when the cluster does not allow listing them.
+   */
+  private Boolean doStatusCheckWithWatches(KubernetesConfig kubernetesConfig, List<KubernetesResourceId> workloads,
+      List<KubernetesResource> customResources, LogCallback executionLogCallback, long timeoutInMillis)
+      throws InterruptedException {
+    ApiClient apiClient;
+    try {
+      apiClient = kubernetesHelperService.getApiClient(kubernetesConfig);
+    } catch (Exception e) {
+      log.warn("Unable to create the api client for the status check, using kubectl", e);
+      return null;
+    }
+
+    try (K8sSteadyStateWatcher watcher =
+             new K8sSteadyStateWatcher(apiClient, executionLogCallback, this::isSteadyStateConditionMet)) {
+      if (!watcher.start(workloads, customResources)) {
+        log.warn("The resources could not be listed in time, using kubectl for the status check");
+        executionLogCallback.saveExecutionLog("\nUnable to watch the resources, checking their status with kubectl.\n");
+        return null;
+      }
+      return watcher.await(timeoutInMillis);
+    }
+  }
+
+  private boolean isSteadyStateConditionMet(String steadyCondition, String response) {
+    String steadyResult =
+        delegateExpressionEvaluator.substitute(steadyCondition, ImmutableMap.<String, Object>of("response", response));
+    return isNotEmpty(steadyResult) && Boolean.parseBoolean(steadyResult);
+  }
+
   public String getResourcesInTableFormat(List<KubernetesResource> resources) {
     int maxKindLength = 16;
     int maxNameLength = 36;
@@ -0,0 +1,552 @@
+package io.harness.delegate.task.k8s.steadystate;
+
+import static io.harness.data.structure.EmptyPredicate.isNotEmpty;
+import static io.harness.logging.LogLevel.ERROR;
+import static io.harness.logging.LogLevel.INFO;
+
+import static java.lang.String.format;
+
+import io.harness.k8s.model.HarnessAnnotations;
+import io.harness.k8s.model.Kind;
+import io.harness.k8s.model.KubernetesResource;
+import io.harness.k8s.model.KubernetesResourceId;
+import io.harness.logging.LogCallback;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.gson.reflect.TypeToken;
+import io.kubernetes.client.informer.ResourceEventHandler;
+import io.kubernetes.client.informer.SharedIndexInformer;
+import io.kubernetes.client.informer.SharedInformerFactory;
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.apis.ApiextensionsV1Api;
+import io.kubernetes.client.openapi.apis.AppsV1Api;
+import io.kubernetes.client.openapi.apis.BatchV1Api;
+import io.kubernetes.client.openapi.apis.CoreV1Api;
+import io.kubernetes.client.openapi.apis.CustomObjectsApi;
+import io.kubernetes.client.openapi.models.V1CustomResourceDefinition;
+import io.kubernetes.client.openapi.models.V1CustomResourceDefinitionList;
+import io.kubernetes.client.openapi.models.V1DaemonSet;
+import io.kubernetes.client.openapi.models.V1DaemonSetList;
+import io.kubernetes.client.openapi.models.V1Deployment;
+import io.kubernetes.client.openapi.models.V1DeploymentList;
+import io.kubernetes.client.openapi.models.V1Event;
+import io.kubernetes.client.openapi.models.V1EventList;
+import io.kubernetes.client.openapi.models.V1Job;
+import io.kubernetes.client.openapi.models.V1JobList;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1StatefulSet;
+import io.kubernetes.client.openapi.models.V1StatefulSetList;
+import io.kubernetes.client.util.CallGeneratorParams;
+import io.kubernetes.client.util.Watch;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.joda.time.DateTime;
+
+/**
+ * Waits for the workloads and custom resources of a release to reach their steady state, in process and all at once.
+ *
+ * Every namespace gets one informer per workload kind, plus one for the events, and every custom resource type of a
+ * namespace gets one watch. The status of each resource is evaluated on every change of the resource, like
+ * {@code kubectl rollout status} does for workloads and with the steady state condition of custom resources, and the
+ * progress is written to the log callback as it happens. Usage is {@link #start} then {@link #await}, and always
+ * {@link #close}.
+ */
+@Slf4j
+public class K8sSteadyStateWatcher implements Closeable {
+  private static final long SYNC_TIMEOUT_SECONDS = 30;
+  private static final int WATCH_TIMEOUT_SECONDS = 300;
+  private static final Set<String> WORKLOAD_KINDS = ImmutableSet.of(
+      Kind.Deployment.name(), Kind.StatefulSet.name(), Kind.DaemonSet.name(), Kind.Job.name());
+
+  private final ApiClient apiClient;
+  private final LogCallback logCallback;
+  private final BiPredicate<String, String> steadyConditionEvaluator;
+  private final long syncTimeoutMillis;
+
+  private final Map<String, TrackedResource> trackedResources = new ConcurrentHashMap<>();
+  private final Map<String, SharedInformerFactory> informerFactories = new HashMap<>();
+  private final List<SharedIndexInformer<?>> informers = new ArrayList<>();
+  private final List<CustomResourceWatch> customResourceWatches = new ArrayList<>();
+  private final CompletableFuture<Boolean> result = new CompletableFuture<>();
+  private final AtomicInteger pending = new AtomicInteger();
+  private ExecutorService customResourceExecutor;
+  private String statusFormat;
+  private String eventFormat;
+  private DateTime startedAt;
+
+  /**
+   * @param steadyConditionEvaluator tells whether the steady state condition, the first argument, holds for the json
+   *     of a custom resource, the second argument
+   */
+  public K8sSteadyStateWatcher(
+      ApiClient apiClient, LogCallback logCallback, BiPredicate<String, String> steadyConditionEvaluator) {
+    this(apiClient, logCallback, steadyConditionEvaluator, TimeUnit.SECONDS.toMillis(SYNC_TIMEOUT_SECONDS));
+  }
+
+  @VisibleForTesting
+  K8sSteadyStateWatcher(ApiClient apiClient, LogCallback logCallback,
+      BiPredicate<String, String> steadyConditionEvaluator, long syncTimeoutMillis) {
+    this.apiClient = apiClient;
+    this.logCallback = logCallback;
+    this.steadyConditionEvaluator = steadyConditionEvaluator;
+    this.syncTimeoutMillis = syncTimeoutMillis;
+  }
+
+  public static boolean isSupported(KubernetesResourceId workload) {
+    return WORKLOAD_KINDS.contains(workload.getKind()) && isNotEmpty(workload.getNamespace());
+  }
+
+  /**
+   * Custom resources are watched through their api group, so resources of the core group are not supported.
+   */
+  public static boolean isSupported(KubernetesResource customResource) {
+    Object apiVersion = customResource.getField("apiVersion");
+    return apiVersion instanceof String && ((String) apiVersion).contains("/")
+        && isNotEmpty(customResource.getResourceId().getNamespace());
+  }
+
+  private static String key(String kind, String namespace, String name) {
+    return kind + "/" + namespace + "/" + name;
+  }
+
+  private class TrackedResource {
+    private final KubernetesResourceId resourceId;
+    private final String steadyCondition;
+    private String lastMessage;
+    private boolean finished;
+
+    TrackedResource(KubernetesResourceId resourceId, String steadyCondition) {
+      this.resourceId = resourceId;
+      this.steadyCondition = steadyCondition;
+    }
+
+    synchronized void update(SteadyStateStatus status) {
+      if (finished) {
+        return;
+      }
+      if (!status.getMessage().equals(lastMessage)) {
+        lastMessage = status.getMessage();
+        logCallback.saveExecutionLog(format(statusFormat, "Status", resourceId.getName(), status.getMessage()),
+            status.isFailed() ? ERROR : INFO);
+      }
+      if (status.isFailed()) {
+        finished = true;
+        result.complete(false);
+      } else if (status.isDone()) {
+        finished = true;
+        if (pending.decrementAndGet() == 0) {
+          result.complete(true);
+        }
+      }
+    }
+  }
+
+  /**
+   * Starts watching the resources. Returns false if the watches could not list the resources in time, e.g. because the
+   * cluster does not allow it, in which case the status has to be checked some other way.
+   */
+  public boolean start(List<KubernetesResourceId> workloads, List<KubernetesResource> customResources)
+      throws InterruptedException {
+    startedAt = DateTime.now().minusSeconds(5);
+    int maxResourceNameLength = 0;
+    for (KubernetesResourceId workload : workloads) {
+      maxResourceNameLength = Math.max(maxResourceNameLength, workload.getName().length());
+    }
+    for (KubernetesResource customResource : customResources) {
+      maxResourceNameLength = Math.max(maxResourceNameLength, customResource.getResourceId().getName().length());
+    }
+    statusFormat = "%n%-7s: %-" + maxResourceNameLength + "s   %s";
+    eventFormat = "%-7s: %-" + maxResourceNameLength + "s   %s";
+
+    for (KubernetesResourceId workload : workloads) {
+      track(workload, null);
+      SharedInformerFactory factory = informerFactories.computeIfAbsent(workload.getNamespace(), namespace -> {
+        SharedInformerFactory informerFactory = new SharedInformerFactory();
+        addEventInformer(informerFactory, namespace);
+        return informerFactory;
+      });
+      addWorkloadInformer(factory, workload);
+    }
+
+    Map<String, CustomResourceWatch> watchesByType = new HashMap<>();
+    for (KubernetesResource customResource : customResources) {
+      KubernetesResourceId resourceId = customResource.getResourceId();
+      track(resourceId,
+          customResource.getMetadataAnnotationValue(HarnessAnnotations.steadyStateCondition));
+      String apiVersion = (String) customResource.getField("apiVersion");
+      watchesByType
+          .computeIfAbsent(resourceId.getNamespace() + "/" + apiVersion + "/" + resourceId.getKind(),
+              type -> new CustomResourceWatch(resourceId.getNamespace(), apiVersion, resourceId.getKind()))
+          .names.add(resourceId.getName());
+    }
+    customResourceWatches.addAll(watchesByType.values());
+
+    if (pending.get() == 0) {
+      result.complete(true);
+    }
+
+    informerFactories.values().forEach(SharedInformerFactory::startAllRegisteredInformers);
+    if (!customResourceWatches.isEmpty()) {
+      Map<String, String> plurals = customResourcePlurals();
+      customResourceExecutor = Executors.newFixedThreadPool(customResourceWatches.size(),
+          new ThreadFactoryBuilder().setNameFormat("k8s-steady-state-watch-%d").setDaemon(true).build());
+      for (CustomResourceWatch watch : customResourceWatches) {
+        watch.plural = plurals.get(watch.group + "/" + watch.kind);
+        if (watch.plural == null) {
+          watch.plural = watch.kind.toLowerCase();
+          watch.plural = watch.plural.endsWith("s") ? watch.plural + "es" : watch.plural + "s";
+        }
+        customResourceExecutor.submit(watch::run);
+      }
+    }
+
+    long deadline = System.currentTimeMillis() + syncTimeoutMillis;
+    while (!informers.stream().allMatch(SharedIndexInformer::hasSynced)) {
+      if (System.currentTimeMillis() > deadline || result.isDone()) {
+        return result.isDone();
+      }
+      Thread.sleep(100);
+    }
+    for (CustomResourceWatch watch : customResourceWatches) {
+      if (!watch.listed.await(Math.max(0, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS)) {
+        return result.isDone();
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Waits until every resource is steady, or one of them failed. Returns false on failure or timeout.
+   */
+  public boolean await(long timeoutMillis) throws InterruptedException {
+    try {
+      return result.get(timeoutMillis, TimeUnit.MILLISECONDS);
+    } catch (TimeoutException e) {
+      for (TrackedResource trackedResource : trackedResources.values()) {
+        if (!trackedResource.finished) {
+          logCallback.saveExecutionLog(format(statusFormat, "Status", trackedResource.resourceId.getName(),
+                                           "Timed out waiting for steady state"),
+              ERROR);
+        }
+      }
+      return false;
+    } catch (ExecutionException e) {
+      log.error("Exception while waiting for steady state", e);
+      return false;
+    }
+  }
+
+  @Override
+  public void close() {
+    informerFactories.values().forEach(SharedInformerFactory::stopAllRegisteredInformers);
+    customResourceWatches.forEach(CustomResourceWatch::close);
+    if (customResourceExecutor != null) {
+      customResourceExecutor.shutdownNow();
+    }
+  }
+
+  private void track(KubernetesResourceId resourceId, String steadyCondition) {
+    String key = key(resourceId.getKind(), resourceId.getNamespace(), resourceId.getName());
+    if (trackedResources.putIfAbsent(key, new TrackedResource(resourceId, steadyCondition)) == null) {
+      pending.incrementAndGet();
+    }
+  }
+
+  private void addWorkloadInformer(SharedInformerFactory factory, KubernetesResourceId workload) {
+    String namespace = workload.getNamespace();
+    AppsV1Api appsV1Api = new AppsV1Api(apiClient);
+    BatchV1Api batchV1Api = new BatchV1Api(apiClient);
+    // The factory keeps one informer per type, the ones already registered are returned as is.
+    SharedIndexInformer<?> informer;
+    switch (Kind.valueOf(workload.getKind())) {
+      case Deployment:
+        informer = factory.getExistingSharedIndexInformer(V1Deployment.class);
+        if (informer == null) {
+          SharedIndexInformer<V1Deployment> deployments = factory.sharedIndexInformerFor(
+              (CallGeneratorParams params)
+                  -> appsV1Api.listNamespacedDeploymentCall(namespace, null, null, null, null, null, null,
+                      params.resourceVersion, params.timeoutSeconds, params.watch, null),
+              V1Deployment.class, V1DeploymentList.class);
+          deployments.addEventHandler(
+              workloadHandler(Kind.Deployment.name(), V1Deployment::getMetadata, RolloutStatusEvaluator::deployment));
+          informers.add(deployments);
+        }
+        break;
+      case StatefulSet:
+        informer = factory.getExistingSharedIndexInformer(V1StatefulSet.class);
+        if (informer == null) {
+          SharedIndexInformer<V1StatefulSet> statefulSets = factory.sharedIndexInformerFor(
+              (CallGeneratorParams params)
+                  -> appsV1Api.listNamespacedStatefulSetCall(namespace, null, null, null, null, null, null,
+                      params.resourceVersion, params.timeoutSeconds, params.watch, null),
+              V1StatefulSet.class, V1StatefulSetList.class);
+          statefulSets.addEventHandler(workloadHandler(
+              Kind.StatefulSet.name(), V1StatefulSet::getMetadata, RolloutStatusEvaluator::statefulSet));
+          informers.add(statefulSets);
+        }
+        break;
+      case DaemonSet:
+        informer = factory.getExistingSharedIndexInformer(V1DaemonSet.class);
+        if (informer == null) {
+          SharedIndexInformer<V1DaemonSet> daemonSets = factory.sharedIndexInformerFor(
+              (CallGeneratorParams params)
+                  -> appsV1Api.listNamespacedDaemonSetCall(namespace, null, null, null, null, null, null,
+                      params.resourceVersion, params.timeoutSeconds, params.watch, null),
+              V1DaemonSet.class, V1DaemonSetList.class);
+          daemonSets.addEventHandler(
+              workloadHandler(Kind.DaemonSet.name(), V1DaemonSet::getMetadata, RolloutStatusEvaluator::daemonSet));
+          informers.add(daemonSets);
+        }
+        break;
+      case Job:
+        informer = factory.getExistingSharedIndexInformer(V1Job.class);
+        if (informer == null) {
+          SharedIndexInformer<V1Job> jobs = factory.sharedIndexInformerFor(
+              (CallGeneratorParams params)
+                  -> batchV1Api.listNamespacedJobCall(namespace, null, null, null, null, null, null,
+                      params.resourceVersion, params.timeoutSeconds, params.watch, null),
+              V1Job.class, V1JobList.class);
+          jobs.addEventHandler(workloadHandler(Kind.Job.name(), V1Job::getMetadata, RolloutStatusEvaluator::job));
+          informers.add(jobs);
+        }
+        break;
+      default:
+        throw new IllegalArgumentException("Steady state of " + workload.getKind() + " cannot be watched");
+    }
+  }
+
+  private <T> ResourceEventHandler<T> workloadHandler(
+      String kind, Function<T, V1ObjectMeta> metadata, Function<T, SteadyStateStatus> evaluator) {
+    return new ResourceEventHandler<T>() {
+      @Override
+      public void onAdd(T obj) {
+        evaluate(obj);
+      }
+
+      @Override
+      public void onUpdate(T oldObj, T newObj) {
+        evaluate(newObj);
+      }
+
+      @Override
+      public void onDelete(T obj, boolean deletedFinalStateUnknown) {
+        TrackedResource trackedResource = tracked(obj);
+        if (trackedResource != null) {
+          trackedResource.update(SteadyStateStatus.waiting(format("%s was deleted", kind)));
+        }
+      }
+
+      private void evaluate(T obj) {
+        TrackedResource trackedResource = tracked(obj);
+        if (trackedResource == null) {
+          return;
+        }
+        try {
+          trackedResource.update(evaluator.apply(obj));
+        } catch (Exception e) {
+          log.error("Exception while evaluating the status of {}", trackedResource.resourceId.kindNameRef(), e);
+        }
+      }
+
+      private TrackedResource tracked(T obj) {
+        V1ObjectMeta objectMeta = metadata.apply(obj);
+        return objectMeta == null
+            ? null
+            : trackedResources.get(key(kind, objectMeta.getNamespace(), objectMeta.getName()));
+      }
+    };
+  }
+
+  private void addEventInformer(SharedInformerFactory factory, String namespace) {
+    CoreV1Api coreV1Api = new CoreV1Api(apiClient);
+    factory
+        .sharedIndexInformerFor((CallGeneratorParams params)
+                                    -> coreV1Api.listNamespacedEventCall(namespace, null, null, null, null, null, null,
+                                        params.resourceVersion, params.timeoutSeconds, params.watch, null),
+            V1Event.class, V1EventList.class)
+        .addEventHandler(new ResourceEventHandler<V1Event>() {
+          @Override
+          public void onAdd(V1Event event) {
+            logEvent(event);
+          }
+
+          @Override
+          public void onUpdate(V1Event oldEvent, V1Event newEvent) {
+            logEvent(newEvent);
+          }
+
+          @Override
+          public void onDelete(V1Event event, boolean deletedFinalStateUnknown) {
+            // Expired events are of no interest.
+          }
+        });
+  }
+
+  private void logEvent(V1Event event) {
+    DateTime lastTimestamp = event.getLastTimestamp() != null ? event.getLastTimestamp() : event.getEventTime();
+    if (event.getInvolvedObject() == null || event.getInvolvedObject().getName() == null || lastTimestamp == null
+        || lastTimestamp.isBefore(startedAt)) {
+      return;
+    }
+    String involvedObjectName = event.getInvolvedObject().getName();
+    for (TrackedResource trackedResource : trackedResources.values()) {
+      // Events of the pods and replica sets of a workload are named after it.
+      if (involvedObjectName.startsWith(trackedResource.resourceId.getName())) {
+        logCallback.saveExecutionLog(format(eventFormat, "Event", trackedResource.resourceId.getName(),
+                                         format("%s %s/%s %s %s", event.getType(), event.getInvolvedObject().getKind(),
+                                             involvedObjectName, event.getReason(), event.getMessage())),
+            INFO);
+        return;
+      }
+    }
+  }
+
+  /**
+   * Plurals of the custom resource kinds by group and kind, those that cannot be listed fall back to the regular plural
+   * of the kind.
+   */
+  private Map<String, String> customResourcePlurals() {
+    Map<String, String> plurals = new HashMap<>();
+    try {
+      V1CustomResourceDefinitionList crds = new ApiextensionsV1Api(apiClient).listCustomResourceDefinition(
+          null, null, null, null, null, null, null, null, null);
+      for (V1CustomResourceDefinition crd : crds.getItems()) {
+        plurals.put(crd.getSpec().getGroup() + "/" + crd.getSpec().getNames().getKind(),
+            crd.getSpec().getNames().getPlural());
+      }
+    } catch (ApiException e) {
+      log.warn("Encountered ApiException listing CRDs, code: {}, body: {}", e.getCode(), e.getResponseBody(), e);
+    } catch (Exception e) {
+      log.warn("Error listing CRDs", e);
+    }
+    return plurals;
+  }
+
+  /**
+   * Lists, then watches, the custom resources of one type in a namespace and evaluates the steady state condition of
+   * the tracked ones on every change.
+   */
+  private class CustomResourceWatch {
+    private final String namespace;
+    private final String group;
+    private final String version;
+    private final String kind;
+    private final Set<String> names = ConcurrentHashMap.newKeySet();
+    private final CountDownLatch listed = new CountDownLatch(1);
+    private String plural;
+    private volatile boolean closed;
+    private volatile Watch<Object> watch;
+
+    CustomResourceWatch(String namespace, String apiVersion, String kind) {
+      this.namespace = namespace;
+      this.group = apiVersion.substring(0, apiVersion.indexOf('/'));
+      this.version = apiVersion.substring(apiVersion.indexOf('/') + 1);
+      this.kind = kind;
+    }
+
+    void run() {
+      CustomObjectsApi customObjectsApi = new CustomObjectsApi(apiClient);
+      while (!closed) {
+        try {
+          Object list = apiClient
+                            .execute(customObjectsApi.listNamespacedCustomObjectCall(group, version, namespace, plural,
+                                         null, null, null, null, null, null, null, null, null),
+                                Object.class)
+                            .getData();
+          Map<?, ?> listMap = (Map<?, ?>) list;
+          for (Object item : (List<?>) listMap.get("items")) {
+            evaluate(item);
+          }
+          listed.countDown();
+          String resourceVersion = (String) ((Map<?, ?>) listMap.get("metadata")).get("resourceVersion");
+          watch = Watch.createWatch(apiClient,
+              customObjectsApi.listNamespacedCustomObjectCall(group, version, namespace, plural, null, null, null, null,
+                  null, resourceVersion, WATCH_TIMEOUT_SECONDS, true, null),
+              new TypeToken<Watch.Response<Object>>() {}.getType());
+          for (Watch.Response<Object> response : watch) {
+            if ("ERROR".equals(response.type)) {
+              // Usually an expired resource version, list again.
+              break;
+            }
+            evaluate(response.object);
+          }
+        } catch (Exception e) {
+          if (closed) {
+            return;
+          }
+          log.warn("Error watching {} in namespace {}, retrying", kind, namespace, e);
+          try {
+            Thread.sleep(TimeUnit.SECONDS.toMillis(1));
+          } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            return;
+          }
+        } finally {
+          closeWatch();
+        }
+      }
+    }
+
+    private void evaluate(Object object) {
+      Object metadata = object instanceof Map ? ((Map<?, ?>) object).get("metadata") : null;
+      Object name = metadata instanceof Map ? ((Map<?, ?>) metadata).get("name") : null;
+      if (!(name instanceof String) || !names.contains(name)) {
+        return;
+      }
+      TrackedResource trackedResource = trackedResources.get(key(kind, namespace, (String) name));
+      if (trackedResource == null) {
+        return;
+      }
+      boolean steady;
+      try {
+        steady = steadyConditionEvaluator.test(trackedResource.steadyCondition, apiClient.getJSON().serialize(object));
+      } catch (Exception e) {
+        log.error("Exception while evaluating the steady state condition of {}", name, e);
+        trackedResource.update(SteadyStateStatus.failed(
+            format("Steady state condition [%s] could not be evaluated", trackedResource.steadyCondition)));
+        return;
+      }
+      trackedResource.update(steady
+              ? SteadyStateStatus.done(format("%s \"%s\" is steady", kind, name))
+              : SteadyStateStatus.waiting(
+                  format("Waiting for steady state condition [%s]", trackedResource.steadyCondition)));
+    }
+
+    private void closeWatch() {
+      Watch<Object> current = watch;
+      watch = null;
+      if (current != null) {
+        try {
+          current.close();
+        } catch (IOException e) {
+          log.warn("Error closing watch", e);
+        }
+      }
+    }
+
+    void close() {
+      closed = true;
+      closeWatch();
+    }
+  }
+}
@@ -0,0 +1,158 @@
+package io.harness.delegate.task.k8s.steadystate;
+
+import static java.lang.String.format;
+
+import io.kubernetes.client.openapi.models.V1DaemonSet;
+import io.kubernetes.client.openapi.models.V1DaemonSetStatus;
+import io.kubernetes.client.openapi.models.V1Deployment;
+import io.kubernetes.client.openapi.models.V1DeploymentCondition;
+import io.kubernetes.client.openapi.models.V1DeploymentStatus;
+import io.kubernetes.client.openapi.models.V1Job;
+import io.kubernetes.client.openapi.models.V1JobCondition;
+import io.kubernetes.client.openapi.models.V1JobStatus;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1StatefulSet;
+import io.kubernetes.client.openapi.models.V1StatefulSetStatus;
+import io.kubernetes.client.openapi.models.V1StatefulSetUpdateStrategy;
+import java.util.Objects;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Evaluates the rollout status of workloads the way {@code kubectl rollout status} does, with the same messages.
+ */
+@UtilityClass
+public class RolloutStatusEvaluator {
+  private static final String ROLLING_UPDATE = "RollingUpdate";
+
+  public SteadyStateStatus deployment(V1Deployment deployment) {
+    String name = deployment.getMetadata().getName();
+    V1DeploymentStatus status = deployment.getStatus();
+    if (status == null || generation(deployment.getMetadata()) > value(status.getObservedGeneration())) {
+      return SteadyStateStatus.waiting("Waiting for deployment spec update to be observed...");
+    }
+    if (status.getConditions() != null) {
+      for (V1DeploymentCondition condition : status.getConditions()) {
+        if ("Progressing".equals(condition.getType()) && "ProgressDeadlineExceeded".equals(condition.getReason())) {
+          return SteadyStateStatus.failed(format("deployment \"%s\" exceeded its progress deadline", name));
+        }
+      }
+    }
+    int updatedReplicas = value(status.getUpdatedReplicas());
+    Integer replicas = deployment.getSpec() == null ? null : deployment.getSpec().getReplicas();
+    if (replicas != null && updatedReplicas < replicas) {
+      return SteadyStateStatus.waiting(
+          format("Waiting for deployment \"%s\" rollout to finish: %d out of %d new replicas have been updated...",
+              name, updatedReplicas, replicas));
+    }
+    if (value(status.getReplicas()) > updatedReplicas) {
+      return SteadyStateStatus.waiting(
+          format("Waiting for deployment \"%s\" rollout to finish: %d old replicas are pending termination...", name,
+              value(status.getReplicas()) - updatedReplicas));
+    }
+    if (value(status.getAvailableReplicas()) < updatedReplicas) {
+      return SteadyStateStatus.waiting(
+          format("Waiting for deployment \"%s\" rollout to finish: %d of %d updated replicas are available...", name,
+              value(status.getAvailableReplicas()), updatedReplicas));
+    }
+    return SteadyStateStatus.done(format("deployment \"%s\" successfully rolled out", name));
+  }
+
+  public SteadyStateStatus daemonSet(V1DaemonSet daemonSet) {
+    String name = daemonSet.getMetadata().getName();
+    if (daemonSet.getSpec() != null && daemonSet.getSpec().getUpdateStrategy() != null
+        && !ROLLING_UPDATE.equals(daemonSet.getSpec().getUpdateStrategy().getType())) {
+      return SteadyStateStatus.done(
+          format("daemon set \"%s\" does not use the %s strategy, skipping rollout status", name, ROLLING_UPDATE));
+    }
+    V1DaemonSetStatus status = daemonSet.getStatus();
+    if (status == null || generation(daemonSet.getMetadata()) > value(status.getObservedGeneration())) {
+      return SteadyStateStatus.waiting("Waiting for daemon set spec update to be observed...");
+    }
+    int desired = value(status.getDesiredNumberScheduled());
+    if (value(status.getUpdatedNumberScheduled()) < desired) {
+      return SteadyStateStatus.waiting(
+          format("Waiting for daemon set \"%s\" rollout to finish: %d out of %d new pods have been updated...", name,
+              value(status.getUpdatedNumberScheduled()), desired));
+    }
+    if (value(status.getNumberAvailable()) < desired) {
+      return SteadyStateStatus.waiting(
+          format("Waiting for daemon set \"%s\" rollout to finish: %d of %d updated pods are available...", name,
+              value(status.getNumberAvailable()), desired));
+    }
+    return SteadyStateStatus.done(format("daemon set \"%s\" successfully rolled out", name));
+  }
+
+  public SteadyStateStatus statefulSet(V1StatefulSet statefulSet) {
+    String name = statefulSet.getMetadata().getName();
+    V1StatefulSetUpdateStrategy updateStrategy =
+        statefulSet.getSpec() == null ? null : statefulSet.getSpec().getUpdateStrategy();
+    if (updateStrategy != null && !ROLLING_UPDATE.equals(updateStrategy.getType())) {
+      return SteadyStateStatus.done(
+          format("statefulset \"%s\" does not use the %s strategy, skipping rollout status", name, ROLLING_UPDATE));
+    }
+    V1StatefulSetStatus status = statefulSet.getStatus();
+    if (status == null || value(status.getObservedGeneration()) == 0
+        || generation(statefulSet.getMetadata()) > value(status.getObservedGeneration())) {
+      return SteadyStateStatus.waiting("Waiting for statefulset spec update to be observed...");
+    }
+    Integer replicas = statefulSet.getSpec() == null ? null : statefulSet.getSpec().getReplicas();
+    if (replicas != null && value(status.getReadyReplicas()) < replicas) {
+      return SteadyStateStatus.waiting(
+          format("Waiting for %d pods to be ready...", replicas - value(status.getReadyReplicas())));
+    }
+    if (updateStrategy != null && updateStrategy.getRollingUpdate() != null
+        && value(updateStrategy.getRollingUpdate().getPartition()) > 0) {
+      int partition = updateStrategy.getRollingUpdate().getPartition();
+      if (replicas != null && value(status.getUpdatedReplicas()) < replicas - partition) {
+        return SteadyStateStatus.waiting(
+            format("Waiting for partitioned roll out to finish: %d out of %d new pods have been updated...",
+                value(status.getUpdatedReplicas()), replicas - partition));
+      }
+      return SteadyStateStatus.done(format(
+          "partitioned roll out complete: %d new pods have been updated...", value(status.getUpdatedReplicas())));
+    }
+    if (!Objects.equals(status.getUpdateRevision(), status.getCurrentRevision())) {
+      return SteadyStateStatus.waiting(
+          format("waiting for statefulset rolling update to complete %d pods at revision %s...",
+              value(status.getUpdatedReplicas()), status.getUpdateRevision()));
+    }
+    return SteadyStateStatus.done(format("statefulset rolling update complete %d pods at revision %s...",
+        value(status.getCurrentReplicas()), status.getCurrentRevision()));
+  }
+
+  public SteadyStateStatus job(V1Job job) {
+    String name = job.getMetadata().getName();
+    V1JobStatus status = job.getStatus();
+    if (status == null) {
+      return SteadyStateStatus.waiting(format("Waiting for job \"%s\" to start...", name));
+    }
+    if (status.getConditions() != null) {
+      for (V1JobCondition condition : status.getConditions()) {
+        if (!"True".equals(condition.getStatus())) {
+          continue;
+        }
+        if ("Complete".equals(condition.getType())) {
+          return SteadyStateStatus.done(format("job \"%s\" completed", name));
+        }
+        if ("Failed".equals(condition.getType())) {
+          return SteadyStateStatus.failed(
+              format("job \"%s\" failed: %s %s", name, condition.getReason(), condition.getMessage()));
+        }
+      }
+    }
+    return SteadyStateStatus.waiting(format("Waiting for job \"%s\" to complete: %d active, %d succeeded, %d failed",
+        name, value(status.getActive()), value(status.getSucceeded()), value(status.getFailed())));
+  }
+
+  private long generation(V1ObjectMeta metadata) {
+    return metadata.getGeneration() == null ? 0 : metadata.getGeneration();
+  }
+
+  private int value(Integer value) {
+    return value == null ? 0 : value;
+  }
+
+  private long value(Long value) {
+    return value == null ? 0 : value;
+  }
+}
@@ -0,0 +1,28 @@
+package io.harness.delegate.task.k8s.steadystate;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+/**
+ * Where a resource stands on its way to the steady state, with the message to show for it.
+ */
+@Value
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class SteadyStateStatus {
+  boolean done;
+  boolean failed;
+  String message;
+
+  public static SteadyStateStatus waiting(String message) {
+    return new SteadyStateStatus(false, false, message);
+  }
+
+  public static SteadyStateStatus done(String message) {
+    return new SteadyStateStatus(true, false, message);
+  }
+
+  public static SteadyStateStatus failed(String message) {
+    return new SteadyStateStatus(false, true, message);
+  }
+}
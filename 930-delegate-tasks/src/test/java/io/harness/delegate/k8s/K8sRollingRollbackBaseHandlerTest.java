@@ -174,7 +174,8 @@ public class K8sRollingRollbackBaseHandlerTest extends CategoryTest {
 
     when(releaseHistory.getLatestRelease()).thenReturn(rollbackHandlerConfig.getRelease());
     when(k8sTaskHelperBase.doStatusCheckForAllCustomResources(any(Kubectl.class), anyList(),
-             any(K8sDelegateTaskParams.class), any(LogCallback.class), anyBoolean(), anyLong()))
+             any(K8sDelegateTaskParams.class), any(LogCallback.class), anyBoolean(), anyLong(),
+             any(KubernetesConfig.class)))
         .thenReturn(true);
 
     boolean result = k8sRollingRollbackBaseHandler.init(rollbackHandlerConfig, "releaseName", logCallback);
@@ -189,7 +190,8 @@ public class K8sRollingRollbackBaseHandlerTest extends CategoryTest {
     ArgumentCaptor<List> statusCheckCustomWorkloadsCaptor = ArgumentCaptor.forClass(List.class);
     verify(k8sTaskHelperBase, times(1))
         .doStatusCheckForAllCustomResources(any(Kubectl.class), statusCheckCustomWorkloadsCaptor.capture(),
-            any(K8sDelegateTaskParams.class), any(LogCallback.class), anyBoolean(), anyLong());
+            any(K8sDelegateTaskParams.class), any(LogCallback.class), anyBoolean(), anyLong(),
+            any(KubernetesConfig.class));
     List<KubernetesResource> customWorkloadsUnderCheck = statusCheckCustomWorkloadsCaptor.getValue();
     assertThat(customWorkloadsUnderCheck).isNotEmpty();
     assertThat(customWorkloadsUnderCheck.get(0)).isEqualTo(previousCustomResource);
@@ -0,0 +1,191 @@
+package io.harness.delegate.task.k8s.steadystate;
+
+import static io.harness.rule.OwnerRule.YOGESH;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.contains;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.k8s.manifest.ManifestHelper;
+import io.harness.k8s.model.Kind;
+import io.harness.k8s.model.KubernetesResource;
+import io.harness.k8s.model.KubernetesResourceId;
+import io.harness.logging.LogCallback;
+import io.harness.logging.LogLevel;
+import io.harness.rule.Owner;
+
+import com.github.tomakehurst.wiremock.junit.WireMockRule;
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.JSON;
+import io.kubernetes.client.openapi.models.V1Deployment;
+import io.kubernetes.client.openapi.models.V1DeploymentBuilder;
+import io.kubernetes.client.openapi.models.V1DeploymentConditionBuilder;
+import io.kubernetes.client.openapi.models.V1DeploymentList;
+import io.kubernetes.client.openapi.models.V1EventList;
+import io.kubernetes.client.openapi.models.V1ListMeta;
+import io.kubernetes.client.util.ClientBuilder;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class K8sSteadyStateWatcherTest extends CategoryTest {
+  private static final String NAMESPACE = "default";
+
+  @Rule public WireMockRule wireMockRule = new WireMockRule(wireMockConfig().dynamicPort());
+
+  private ApiClient apiClient;
+  private LogCallback logCallback;
+
+  @Before
+  public void setUp() {
+    apiClient = new ClientBuilder().setBasePath("http://localhost:" + wireMockRule.port()).build();
+    logCallback = mock(LogCallback.class);
+    stubList("/api/v1/namespaces/" + NAMESPACE + "/events",
+        new JSON().serialize(new V1EventList().metadata(new V1ListMeta().resourceVersion("1")).items(emptyList())));
+  }
+
+  @Test
+  @Owner(developers = YOGESH)
+  @Category(UnitTests.class)
+  public void testDeploymentRolledOut() throws Exception {
+    V1Deployment deployment = deployment().editStatus().withAvailableReplicas(2).endStatus().build();
+    stubList("/apis/apps/v1/namespaces/" + NAMESPACE + "/deployments", deploymentList(deployment));
+
+    try (K8sSteadyStateWatcher watcher =
+             new K8sSteadyStateWatcher(apiClient, logCallback, (condition, json) -> false)) {
+      assertThat(watcher.start(singletonList(deploymentId()), emptyList())).isTrue();
+      assertThat(watcher.await(10000)).isTrue();
+    }
+    verify(logCallback, atLeastOnce())
+        .saveExecutionLog(contains("deployment \"nginx\" successfully rolled out"), eq(LogLevel.INFO));
+  }
+
+  @Test
+  @Owner(developers = YOGESH)
+  @Category(UnitTests.class)
+  public void testDeploymentExceededProgressDeadline() throws Exception {
+    V1Deployment deployment = deployment()
+                                  .editStatus()
+                                  .withAvailableReplicas(1)
+                                  .withConditions(new V1DeploymentConditionBuilder()
+                                                      .withType("Progressing")
+                                                      .withStatus("False")
+                                                      .withReason("ProgressDeadlineExceeded")
+                                                      .build())
+                                  .endStatus()
+                                  .build();
+    stubList("/apis/apps/v1/namespaces/" + NAMESPACE + "/deployments", deploymentList(deployment));
+
+    try (K8sSteadyStateWatcher watcher =
+             new K8sSteadyStateWatcher(apiClient, logCallback, (condition, json) -> false)) {
+      watcher.start(singletonList(deploymentId()), emptyList());
+      assertThat(watcher.await(10000)).isFalse();
+    }
+    verify(logCallback).saveExecutionLog(contains("exceeded its progress deadline"), eq(LogLevel.ERROR));
+  }
+
+  @Test
+  @Owner(developers = YOGESH)
+  @Category(UnitTests.class)
+  public void testCustomResourceSteadyStateCondition() throws Exception {
+    List<KubernetesResource> customResources = ManifestHelper.processYaml("apiVersion: example.com/v1\n"
+        + "kind: Foo\n"
+        + "metadata:\n"
+        + "  name: foo\n"
+        + "  namespace: " + NAMESPACE + "\n"
+        + "  annotations:\n"
+        + "    harness.io/steadyStateCondition: \"${response.status.ready} == true\"\n");
+    stubFor(get(urlPathEqualTo("/apis/apiextensions.k8s.io/v1/customresourcedefinitions"))
+                .willReturn(aResponse().withStatus(403)));
+    stubList("/apis/example.com/v1/namespaces/" + NAMESPACE + "/foos",
+        "{\"apiVersion\":\"example.com/v1\",\"kind\":\"FooList\",\"metadata\":{\"resourceVersion\":\"5\"},"
+            + "\"items\":[{\"metadata\":{\"name\":\"foo\",\"namespace\":\"default\"},\"status\":{\"ready\":true}}]}");
+
+    assertThat(K8sSteadyStateWatcher.isSupported(customResources.get(0))).isTrue();
+    try (K8sSteadyStateWatcher watcher = new K8sSteadyStateWatcher(
+             apiClient, logCallback, (condition, json) -> json.contains("\"ready\":true"))) {
+      assertThat(watcher.start(emptyList(), customResources)).isTrue();
+      assertThat(watcher.await(10000)).isTrue();
+    }
+    verify(logCallback).saveExecutionLog(contains("Foo \"foo\" is steady"), eq(LogLevel.INFO));
+  }
+
+  @Test
+  @Owner(developers = YOGESH)
+  @Category(UnitTests.class)
+  public void testNotSyncedWhenListForbidden() throws Exception {
+    stubFor(get(urlPathEqualTo("/apis/apps/v1/namespaces/" + NAMESPACE + "/deployments"))
+                .willReturn(aResponse().withStatus(403)));
+
+    try (K8sSteadyStateWatcher watcher =
+             new K8sSteadyStateWatcher(apiClient, logCallback, (condition, json) -> false, 1000)) {
+      assertThat(watcher.start(singletonList(deploymentId()), emptyList())).isFalse();
+    }
+  }
+
+  @Test
+  @Owner(developers = YOGESH)
+  @Category(UnitTests.class)
+  public void testIsSupported() {
+    assertThat(K8sSteadyStateWatcher.isSupported(deploymentId())).isTrue();
+    assertThat(K8sSteadyStateWatcher.isSupported(KubernetesResourceId.builder()
+                                                     .kind(Kind.DeploymentConfig.name())
+                                                     .name("dc")
+                                                     .namespace(NAMESPACE)
+                                                     .build()))
+        .isFalse();
+    assertThat(K8sSteadyStateWatcher.isSupported(
+                   KubernetesResourceId.builder().kind(Kind.Deployment.name()).name("nginx").build()))
+        .isFalse();
+  }
+
+  private void stubList(String path, String body) {
+    stubFor(get(urlPathEqualTo(path))
+                .willReturn(aResponse().withStatus(200).withHeader("Content-Type", "application/json").withBody(body)));
+    stubFor(get(urlPathEqualTo(path))
+                .withQueryParam("watch", equalTo("true"))
+                .willReturn(aResponse().withStatus(200).withFixedDelay(200).withBody("")));
+  }
+
+  private static String deploymentList(V1Deployment deployment) {
+    return new JSON().serialize(
+        new V1DeploymentList().metadata(new V1ListMeta().resourceVersion("2")).items(singletonList(deployment)));
+  }
+
+  private static KubernetesResourceId deploymentId() {
+    return KubernetesResourceId.builder().kind(Kind.Deployment.name()).name("nginx").namespace(NAMESPACE).build();
+  }
+
+  private static V1DeploymentBuilder deployment() {
+    return new V1DeploymentBuilder()
+        .withNewMetadata()
+        .withName("nginx")
+        .withNamespace(NAMESPACE)
+        .withGeneration(1L)
+        .withResourceVersion("2")
+        .endMetadata()
+        .withNewSpec()
+        .withReplicas(2)
+        .endSpec()
+        .withNewStatus()
+        .withObservedGeneration(1L)
+        .withReplicas(2)
+        .withUpdatedReplicas(2)
+        .endStatus();
+  }
+}
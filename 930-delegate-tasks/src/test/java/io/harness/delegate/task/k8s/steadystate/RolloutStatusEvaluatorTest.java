@@ -0,0 +1,173 @@
+package io.harness.delegate.task.k8s.steadystate;
+
+import static io.harness.rule.OwnerRule.YOGESH;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import io.kubernetes.client.openapi.models.V1DaemonSetBuilder;
+import io.kubernetes.client.openapi.models.V1DeploymentBuilder;
+import io.kubernetes.client.openapi.models.V1DeploymentConditionBuilder;
+import io.kubernetes.client.openapi.models.V1JobBuilder;
+import io.kubernetes.client.openapi.models.V1JobCondition;
+import io.kubernetes.client.openapi.models.V1JobConditionBuilder;
+import io.kubernetes.client.openapi.models.V1StatefulSetBuilder;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class RolloutStatusEvaluatorTest extends CategoryTest {
+  @Test
+  @Owner(developers = YOGESH)
+  @Category(UnitTests.class)
+  public void testDeployment() {
+    V1DeploymentBuilder deployment = new V1DeploymentBuilder()
+                                         .withNewMetadata()
+                                         .withName("nginx")
+                                         .withGeneration(2L)
+                                         .endMetadata()
+                                         .withNewSpec()
+                                         .withReplicas(3)
+                                         .endSpec();
+
+    assertThat(RolloutStatusEvaluator.deployment(
+                   deployment.withNewStatus().withObservedGeneration(1L).endStatus().build()))
+        .isEqualTo(SteadyStateStatus.waiting("Waiting for deployment spec update to be observed..."));
+
+    SteadyStateStatus status = RolloutStatusEvaluator.deployment(
+        deployment.withNewStatus().withObservedGeneration(2L).withUpdatedReplicas(1).endStatus().build());
+    assertThat(status.isDone()).isFalse();
+    assertThat(status.getMessage())
+        .isEqualTo("Waiting for deployment \"nginx\" rollout to finish: 1 out of 3 new replicas have been updated...");
+
+    status = RolloutStatusEvaluator.deployment(deployment.withNewStatus()
+                                                   .withObservedGeneration(2L)
+                                                   .withReplicas(4)
+                                                   .withUpdatedReplicas(3)
+                                                   .withAvailableReplicas(3)
+                                                   .endStatus()
+                                                   .build());
+    assertThat(status.getMessage())
+        .isEqualTo("Waiting for deployment \"nginx\" rollout to finish: 1 old replicas are pending termination...");
+
+    status = RolloutStatusEvaluator.deployment(deployment.withNewStatus()
+                                                   .withObservedGeneration(2L)
+                                                   .withReplicas(3)
+                                                   .withUpdatedReplicas(3)
+                                                   .withAvailableReplicas(3)
+                                                   .endStatus()
+                                                   .build());
+    assertThat(status.isDone()).isTrue();
+    assertThat(status.getMessage()).isEqualTo("deployment \"nginx\" successfully rolled out");
+
+    status = RolloutStatusEvaluator.deployment(deployment.withNewStatus()
+                                                   .withObservedGeneration(2L)
+                                                   .withConditions(new V1DeploymentConditionBuilder()
+                                                                       .withType("Progressing")
+                                                                       .withStatus("False")
+                                                                       .withReason("ProgressDeadlineExceeded")
+                                                                       .build())
+                                                   .endStatus()
+                                                   .build());
+    assertThat(status.isFailed()).isTrue();
+    assertThat(status.getMessage()).isEqualTo("deployment \"nginx\" exceeded its progress deadline");
+  }
+
+  @Test
+  @Owner(developers = YOGESH)
+  @Category(UnitTests.class)
+  public void testStatefulSet() {
+    V1StatefulSetBuilder statefulSet =
+        new V1StatefulSetBuilder().withNewMetadata().withName("web").withGeneration(1L).endMetadata();
+
+    SteadyStateStatus status =
+        RolloutStatusEvaluator.statefulSet(statefulSet.withNewSpec()
+                                               .withReplicas(2)
+                                               .withNewUpdateStrategy()
+                                               .withType("RollingUpdate")
+                                               .endUpdateStrategy()
+                                               .endSpec()
+                                               .withNewStatus()
+                                               .withObservedGeneration(1L)
+                                               .withReadyReplicas(1)
+                                               .endStatus()
+                                               .build());
+    assertThat(status.getMessage()).isEqualTo("Waiting for 1 pods to be ready...");
+
+    status = RolloutStatusEvaluator.statefulSet(statefulSet.withNewStatus()
+                                                    .withObservedGeneration(1L)
+                                                    .withReadyReplicas(2)
+                                                    .withCurrentReplicas(2)
+                                                    .withUpdateRevision("web-2")
+                                                    .withCurrentRevision("web-2")
+                                                    .endStatus()
+                                                    .build());
+    assertThat(status.isDone()).isTrue();
+    assertThat(status.getMessage()).isEqualTo("statefulset rolling update complete 2 pods at revision web-2...");
+
+    status = RolloutStatusEvaluator.statefulSet(statefulSet.withNewSpec()
+                                                    .withNewUpdateStrategy()
+                                                    .withType("OnDelete")
+                                                    .endUpdateStrategy()
+                                                    .endSpec()
+                                                    .withStatus(null)
+                                                    .build());
+    assertThat(status.isDone()).isTrue();
+  }
+
+  @Test
+  @Owner(developers = YOGESH)
+  @Category(UnitTests.class)
+  public void testDaemonSet() {
+    V1DaemonSetBuilder daemonSet =
+        new V1DaemonSetBuilder().withNewMetadata().withName("agent").withGeneration(1L).endMetadata();
+
+    SteadyStateStatus status = RolloutStatusEvaluator.daemonSet(daemonSet.withNewStatus()
+                                                                    .withObservedGeneration(1L)
+                                                                    .withDesiredNumberScheduled(3)
+                                                                    .withUpdatedNumberScheduled(3)
+                                                                    .withNumberAvailable(2)
+                                                                    .endStatus()
+                                                                    .build());
+    assertThat(status.getMessage())
+        .isEqualTo("Waiting for daemon set \"agent\" rollout to finish: 2 of 3 updated pods are available...");
+
+    status = RolloutStatusEvaluator.daemonSet(daemonSet.withNewStatus()
+                                                  .withObservedGeneration(1L)
+                                                  .withDesiredNumberScheduled(3)
+                                                  .withUpdatedNumberScheduled(3)
+                                                  .withNumberAvailable(3)
+                                                  .endStatus()
+                                                  .build());
+    assertThat(status.isDone()).isTrue();
+  }
+
+  @Test
+  @Owner(developers = YOGESH)
+  @Category(UnitTests.class)
+  public void testJob() {
+    V1JobBuilder job = new V1JobBuilder().withNewMetadata().withName("migrate").endMetadata();
+
+    assertThat(RolloutStatusEvaluator.job(job.withNewStatus().withActive(1).endStatus().build()).isDone()).isFalse();
+
+    SteadyStateStatus status = RolloutStatusEvaluator.job(
+        job.withNewStatus()
+            .withConditions(new V1JobConditionBuilder().withType("Complete").withStatus("True").build())
+            .endStatus()
+            .build());
+    assertThat(status.isDone()).isTrue();
+
+    V1JobCondition failed = new V1JobConditionBuilder()
+                                .withType("Failed")
+                                .withStatus("True")
+                                .withReason("BackoffLimitExceeded")
+                                .withMessage("Job has reached the specified backoff limit")
+                                .build();
+    status = RolloutStatusEvaluator.job(job.withNewStatus().withConditions(failed).endStatus().build());
+    assertThat(status.isFailed()).isTrue();
+    assertThat(status.getMessage())
+        .isEqualTo("job \"migrate\" failed: BackoffLimitExceeded Job has reached the specified backoff limit");
+  }
+}
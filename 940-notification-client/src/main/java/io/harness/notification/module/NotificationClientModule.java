@@ -17,6 +17,7 @@ import io.harness.security.ServiceTokenGenerator;
 import io.harness.serializer.kryo.KryoConverterFactory;
 
 import com.google.inject.AbstractModule;
+import com.google.inject.Injector;
 import com.google.inject.Provides;
 import com.google.inject.Scopes;
 import com.google.inject.Singleton;
@@ -52,8 +53,11 @@ public class NotificationClientModule extends AbstractModule {
   @Provides
   @Singleton
   public QueuePublisher<MongoNotificationRequest> getQueuePublisher(
-      @Named("notification-channel") MongoTemplate mongoTemplate) {
-    return new NGMongoQueuePublisher<>("Notification-queue", new ArrayList<>(), mongoTemplate);
+      Injector injector, @Named("notification-channel") MongoTemplate mongoTemplate) {
+    NGMongoQueuePublisher<MongoNotificationRequest> publisher = new NGMongoQueuePublisher<>(
+        MongoNotificationRequest.class.getSimpleName(), new ArrayList<>(), mongoTemplate);
+    injector.injectMembers(publisher);
+    return publisher;
   }
 
   @Provides
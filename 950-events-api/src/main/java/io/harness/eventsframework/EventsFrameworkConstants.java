@@ -25,4 +25,7 @@ public final class EventsFrameworkConstants {
   public static final int FEATURE_FLAG_READ_BATCH_SIZE = 50;
   public static final int SETUP_USAGE_READ_BATCH_SIZE = 50;
   public static final int ENTITY_ACTIVITY_READ_BATCH_SIZE = 50;
+
+  public static final int ENTITY_CRUD_HANDLER_THREADS = 8;
+  public static final int SETUP_USAGE_HANDLER_THREADS = 8;
 }
@@ -19,4 +19,8 @@ public final class EventsFrameworkMetadataConstants {
   public static final String ACCOUNT_ENTITY = "account";
 
   public static final String REFERRED_ENTITY_TYPE = "referredEntityType";
+
+  public static final String ACCOUNT_IDENTIFIER_METADATA_KEY = "accountId";
+  // Fully qualified identifier of the entity the message is about, the referring entity for setup usages
+  public static final String ENTITY_IDENTIFIER_METADATA_KEY = "entityIdentifier";
 }
@@ -67,7 +67,7 @@ public abstract class RedisAbstractConsumer extends AbstractConsumer {
     log.warn("Pushed {} to dead letter queue as max retries exceeded. Message data: {}", messageId, messageData);
   }
 
-  private List<PendingEntry> getPendingEntries() throws ConsumerShutdownException {
+  protected List<PendingEntry> getPendingEntries() throws ConsumerShutdownException {
     while (true) {
       try {
         return stream.listPending(getGroupName(), StreamMessageId.MIN, StreamMessageId.MAX, batchSize);
@@ -80,7 +80,7 @@ public abstract class RedisAbstractConsumer extends AbstractConsumer {
     }
   }
 
-  private List<Message> claimEntries(List<PendingEntry> pendingEntries) throws ConsumerShutdownException {
+  protected List<Message> claimEntries(List<PendingEntry> pendingEntries) throws ConsumerShutdownException {
     String groupName = getGroupName();
     while (true) {
       try {
@@ -0,0 +1,277 @@
+package io.harness.eventsframework.impl.redis;
+
+import static io.harness.eventsframework.EventsFrameworkMetadataConstants.ACCOUNT_IDENTIFIER_METADATA_KEY;
+import static io.harness.eventsframework.EventsFrameworkMetadataConstants.ENTITY_IDENTIFIER_METADATA_KEY;
+import static io.harness.eventsframework.EventsFrameworkMetadataConstants.ENTITY_TYPE;
+
+import io.harness.eventsframework.api.ConsumerShutdownException;
+import io.harness.eventsframework.consumer.Message;
+import io.harness.redis.RedisConfig;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Metric;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.MetricSet;
+import com.codahale.metrics.Timer;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.protobuf.util.Timestamps;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import javax.validation.constraints.NotNull;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.RedissonShutdownException;
+import org.redisson.api.BatchOptions;
+import org.redisson.api.RBatch;
+import org.redisson.api.RFuture;
+import org.redisson.api.RStreamAsync;
+import org.redisson.api.StreamMessageId;
+import org.redisson.client.RedisException;
+
+/**
+ * Consumer for high volume topics. Acknowledgements are buffered and sent in the same pipeline as the next
+ * XREADGROUP, pending entries of dead consumers are reclaimed on their own slower cadence and {@link #consume}
+ * processes a batch on a pool of handlers while keeping the messages of the same ordering key in sequence.
+ */
+@Slf4j
+public class RedisBatchConsumer extends RedisAbstractConsumer implements MetricSet {
+  // Redis answers a blocking XREADGROUP only when the block timeout expires, so the batch response needs headroom
+  private static final long RESPONSE_TIMEOUT_PADDING_MILLIS = 3000;
+
+  private final Duration pendingReclaimInterval;
+  private final Function<Message, String> orderingKey;
+  private final ExecutorService handlerPool;
+  private long nextPendingReclaim;
+
+  private final Queue<StreamMessageId> pendingAcks = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger pendingAckCount = new AtomicInteger();
+
+  private final AtomicLong lagMillis = new AtomicLong();
+  private final Timer processingTime = new Timer();
+
+  public RedisBatchConsumer(String topicName, String groupName, @NotNull RedisConfig redisConfig,
+      Duration maxProcessingTime, int batchSize, int handlerThreads, Duration pendingReclaimInterval,
+      Function<Message, String> orderingKey) {
+    super(topicName, groupName, redisConfig, maxProcessingTime, batchSize);
+    this.pendingReclaimInterval = pendingReclaimInterval;
+    this.orderingKey = orderingKey;
+    this.handlerPool = Executors.newFixedThreadPool(handlerThreads,
+        new ThreadFactoryBuilder().setNameFormat(topicName + "-handler-%d").setDaemon(true).build());
+  }
+
+  @Override
+  public List<Message> read(Duration maxWaitTime) throws ConsumerShutdownException {
+    List<Message> reclaimedMessages = reclaimPendingEntriesIfDue();
+    if (!reclaimedMessages.isEmpty()) {
+      recordLag(reclaimedMessages);
+      return reclaimedMessages;
+    }
+
+    List<Message> messages = readGroupAndFlushAcknowledgements(maxWaitTime);
+    recordLag(messages);
+    return messages;
+  }
+
+  /**
+   * The acknowledgement is buffered and reaches redis with the next read or {@link #flushAcknowledgements()}.
+   */
+  @Override
+  public void acknowledge(String messageId) {
+    pendingAcks.add(RedisUtils.getStreamId(messageId));
+    pendingAckCount.incrementAndGet();
+  }
+
+  /**
+   * Reads the next batch and runs the handler for every message of it. Messages of the batch that share an ordering
+   * key are handled one after another in stream order. When one of them fails, it and the rest of that key in the
+   * batch are left unacknowledged and come back through the pending reclaim once maxProcessingTime has passed. Newer
+   * messages of the key read in the meantime are handled independently, so the order of a key only holds within
+   * a batch.
+   *
+   * @return the number of messages successfully handled
+   */
+  public int consume(Duration maxWaitTime, Predicate<Message> handler) throws ConsumerShutdownException {
+    List<Message> messages = read(maxWaitTime);
+    if (messages.isEmpty()) {
+      return 0;
+    }
+
+    Map<String, List<Message>> lanes = new LinkedHashMap<>();
+    for (Message message : messages) {
+      lanes.computeIfAbsent(orderingKey.apply(message), key -> new ArrayList<>()).add(message);
+    }
+
+    AtomicInteger handled = new AtomicInteger();
+    List<Future<?>> futures = new ArrayList<>(lanes.size());
+    for (List<Message> lane : lanes.values()) {
+      futures.add(handlerPool.submit(() -> handled.addAndGet(handleLane(lane, handler))));
+    }
+
+    for (Future<?> future : futures) {
+      try {
+        future.get();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new ConsumerShutdownException("Consumer " + getName() + " was interrupted.");
+      } catch (ExecutionException e) {
+        log.error("Handler for topic {} failed unexpectedly", getTopicName(), e.getCause());
+      }
+    }
+    return handled.get();
+  }
+
+  private int handleLane(List<Message> lane, Predicate<Message> handler) {
+    int handled = 0;
+    for (Message message : lane) {
+      boolean success;
+      try (Timer.Context ignore = processingTime.time()) {
+        success = handler.test(message);
+      } catch (Exception e) {
+        log.error("Error occurred in processing message with id {}", message.getId(), e);
+        success = false;
+      }
+
+      if (!success) {
+        return handled;
+      }
+      acknowledge(message.getId());
+      handled++;
+    }
+    return handled;
+  }
+
+  public void flushAcknowledgements() throws ConsumerShutdownException {
+    StreamMessageId[] messageIds = drainPendingAcks();
+    if (messageIds.length == 0) {
+      return;
+    }
+    while (true) {
+      try {
+        stream.ack(getGroupName(), messageIds);
+        return;
+      } catch (RedissonShutdownException e) {
+        throw new ConsumerShutdownException("Consumer " + getName() + " failed acknowledge - Consumer shutdown.");
+      } catch (RedisException e) {
+        log.warn("Redis is not up for acknowledge", e);
+        waitForRedisToComeUp();
+      }
+    }
+  }
+
+  private List<Message> reclaimPendingEntriesIfDue() throws ConsumerShutdownException {
+    long now = System.currentTimeMillis();
+    if (now < nextPendingReclaim) {
+      return new ArrayList<>();
+    }
+    nextPendingReclaim = now + pendingReclaimInterval.toMillis();
+    // Messages handled but not acknowledged yet are still pending, they must not be claimed and handled again
+    flushAcknowledgements();
+    return claimEntries(getPendingEntries());
+  }
+
+  private List<Message> readGroupAndFlushAcknowledgements(Duration maxWaitTime) throws ConsumerShutdownException {
+    while (true) {
+      StreamMessageId[] messageIds = drainPendingAcks();
+      try {
+        RBatch batch = redissonClient.createBatch(BatchOptions.defaults().responseTimeout(
+            maxWaitTime.toMillis() + RESPONSE_TIMEOUT_PADDING_MILLIS, TimeUnit.MILLISECONDS));
+        RStreamAsync<String, String> batchStream = batch.getStream(stream.getName(), stream.getCodec());
+        if (messageIds.length > 0) {
+          batchStream.ackAsync(getGroupName(), messageIds);
+        }
+        RFuture<Map<StreamMessageId, Map<String, String>>> readFuture = batchStream.readGroupAsync(
+            getGroupName(), getName(), batchSize, maxWaitTime.toMillis(), TimeUnit.MILLISECONDS);
+        batch.execute();
+        return RedisUtils.getMessageObject(readFuture.getNow());
+      } catch (RedissonShutdownException e) {
+        throw new ConsumerShutdownException("Consumer " + getName() + " is shutdown.");
+      } catch (RedisException e) {
+        // Acknowledging is idempotent, put them back so that they go with the next attempt
+        for (StreamMessageId messageId : messageIds) {
+          pendingAcks.add(messageId);
+          pendingAckCount.incrementAndGet();
+        }
+        log.warn("Consumer " + getName() + " failed getNewMessages", e);
+        waitForRedisToComeUp();
+      }
+    }
+  }
+
+  private StreamMessageId[] drainPendingAcks() {
+    List<StreamMessageId> messageIds = new ArrayList<>();
+    StreamMessageId messageId;
+    while ((messageId = pendingAcks.poll()) != null) {
+      messageIds.add(messageId);
+      pendingAckCount.decrementAndGet();
+    }
+    return messageIds.toArray(new StreamMessageId[0]);
+  }
+
+  private void recordLag(List<Message> messages) {
+    if (messages.isEmpty()) {
+      lagMillis.set(0);
+      return;
+    }
+    long oldest = messages.stream().mapToLong(message -> Timestamps.toMillis(message.getTimestamp())).min().getAsLong();
+    lagMillis.set(Math.max(0, System.currentTimeMillis() - oldest));
+  }
+
+  @Override
+  public Map<String, Metric> getMetrics() {
+    String prefix = MetricRegistry.name("events_framework", getTopicName(), getGroupName());
+    return ImmutableMap.of(MetricRegistry.name(prefix, "lag_millis"), (Gauge<Long>) lagMillis::get,
+        MetricRegistry.name(prefix, "pending_acks"), (Gauge<Integer>) pendingAckCount::get,
+        MetricRegistry.name(prefix, "processing_time"), processingTime);
+  }
+
+  @Override
+  public void shutdown() {
+    handlerPool.shutdown();
+    try {
+      flushAcknowledgements();
+    } catch (ConsumerShutdownException e) {
+      log.warn("Could not flush {} acknowledgements of consumer {}", pendingAckCount.get(), getName());
+    }
+    super.shutdown();
+  }
+
+  /**
+   * Keeps the messages of an entity in order, so the entities of one account are still handled in parallel. Messages
+   * without the entity identifier are kept in order per account, and not at all without the account either.
+   */
+  public static String entityOrderingKey(Message message) {
+    if (message.hasMessage()) {
+      Map<String, String> metadata = message.getMessage().getMetadataMap();
+      String entityIdentifier = metadata.get(ENTITY_IDENTIFIER_METADATA_KEY);
+      if (entityIdentifier != null) {
+        String entityType = metadata.get(ENTITY_TYPE);
+        return entityType == null ? entityIdentifier : entityType + "/" + entityIdentifier;
+      }
+      String accountId = metadata.get(ACCOUNT_IDENTIFIER_METADATA_KEY);
+      if (accountId != null) {
+        return accountId;
+      }
+    }
+    return message.getId();
+  }
+
+  public static RedisBatchConsumer of(String topicName, String groupName, @NotNull RedisConfig redisConfig,
+      Duration maxProcessingTime, int batchSize, int handlerThreads) {
+    return new RedisBatchConsumer(topicName, groupName, redisConfig, maxProcessingTime, batchSize, handlerThreads,
+        maxProcessingTime, RedisBatchConsumer::entityOrderingKey);
+  }
+}
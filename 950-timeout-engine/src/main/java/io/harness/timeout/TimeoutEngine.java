@@ -6,72 +6,143 @@ import static io.harness.logging.AutoLogContext.OverrideBehavior.OVERRIDE_ERROR;
 import static io.harness.mongo.iterator.MongoPersistenceIterator.SchedulingType.REGULAR;
 
 import static java.lang.String.format;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
 
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.data.structure.EmptyPredicate;
 import io.harness.iterator.PersistenceIterator;
 import io.harness.iterator.PersistenceIteratorFactory;
+import io.harness.metrics.HarnessMetricRegistry;
 import io.harness.mongo.iterator.MongoPersistenceIterator;
 import io.harness.mongo.iterator.MongoPersistenceIterator.Handler;
 import io.harness.mongo.iterator.filter.SpringFilterExpander;
 import io.harness.mongo.iterator.provider.SpringPersistenceRequiredProvider;
 import io.harness.repositories.TimeoutInstanceRepository;
 import io.harness.timeout.TimeoutInstance.TimeoutInstanceKeys;
+import io.harness.timeout.wheel.HierarchicalTimingWheel;
+import io.harness.timeout.wheel.HierarchicalTimingWheel.Expired;
 
+import com.codahale.metrics.MetricRegistry;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.inject.Inject;
 import com.google.inject.Injector;
 import com.google.inject.Singleton;
+import com.mongodb.bulk.BulkWriteResult;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 import javax.validation.constraints.NotNull;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Update;
 
+/**
+ * Every node keeps the timeouts it registers, i.e. those of the executions it runs, in an in-memory timing wheel and
+ * fires them with the precision of a wheel tick. Mongo keeps the instances for durability: they are persisted with
+ * their expiry pushed back by a recovery grace, so the iterator only fires the ones whose node went away.
+ * <p/>
+ * The wheel starts ticking with the first tracked timeout, independently of the iterator, so that nodes that do not
+ * run iterators still fire the timeouts they register on time.
+ */
 @OwnedBy(CDC)
 @Singleton
 @Slf4j
 public class TimeoutEngine implements Handler<TimeoutInstance> {
   private static final Duration MAX_CALLBACK_PROCESSING_TIME = Duration.ofMinutes(1);
+  private static final Duration RECOVERY_GRACE = Duration.ofSeconds(30);
+  private static final Duration CALLBACK_RETRY_INTERVAL = Duration.ofMinutes(2);
+  private static final long WHEEL_TICK_MILLIS = 100;
+  private static final int WHEEL_SIZE = 512;
+  private static final String METRIC_PREFIX = "timeout_engine";
+  private static final int MAX_EVENT_ATTEMPTS = 3;
 
   @Inject private TimeoutInstanceRepository timeoutInstanceRepository;
   @Inject private PersistenceIteratorFactory persistenceIteratorFactory;
   @Inject private MongoTemplate mongoTemplate;
   @Inject private Injector injector;
+  @Inject private HarnessMetricRegistry harnessMetricRegistry;
 
+  private final HierarchicalTimingWheel wheel =
+      new HierarchicalTimingWheel(WHEEL_TICK_MILLIS, WHEEL_SIZE, System.currentTimeMillis());
+  private volatile ExecutorService callbackExecutor;
   private PersistenceIterator<TimeoutInstance> iterator;
 
   public TimeoutInstance registerTimeout(
       @NotNull TimeoutTracker timeoutTracker, @NotNull TimeoutCallback timeoutCallback) {
     TimeoutInstance timeoutInstance =
         TimeoutInstance.builder().uuid(generateUuid()).tracker(timeoutTracker).callback(timeoutCallback).build();
-    timeoutInstance.resetNextIteration();
+    timeoutInstance.resetNextIteration(RECOVERY_GRACE.toMillis());
     TimeoutInstance savedTimeoutInstance = timeoutInstanceRepository.save(timeoutInstance);
+    Long expiryTime = timeoutTracker.getExpiryTime();
     log.info(format("Registered timeout with uuid: %s, currentTime: %d, expiryTime: %d, diff: %d",
-        timeoutInstance.getUuid(), System.currentTimeMillis(), timeoutInstance.getNextIteration(),
-        timeoutInstance.getNextIteration() - System.currentTimeMillis()));
-    if (iterator != null) {
-      iterator.wakeup();
-    }
+        timeoutInstance.getUuid(), System.currentTimeMillis(), expiryTime,
+        expiryTime == null ? Long.MAX_VALUE : expiryTime - System.currentTimeMillis()));
+    track(savedTimeoutInstance);
     return savedTimeoutInstance;
   }
 
   public void onEvent(List<String> timeoutInstanceIds, TimeoutEvent event) {
+    onEvent(timeoutInstanceIds, event, MAX_EVENT_ATTEMPTS);
+  }
+
+  private void onEvent(List<String> timeoutInstanceIds, TimeoutEvent event, int attempts) {
     if (EmptyPredicate.isEmpty(timeoutInstanceIds)) {
       return;
     }
 
+    List<TimeoutInstance> updatedInstances = new ArrayList<>();
     for (TimeoutInstance timeoutInstance : timeoutInstanceRepository.findAllById(timeoutInstanceIds)) {
       if (timeoutInstance.tracker.onEvent(event)) {
-        timeoutInstance.resetNextIteration();
-        timeoutInstanceRepository.save(timeoutInstance);
-        if (iterator != null) {
-          iterator.wakeup();
-        }
+        timeoutInstance.resetNextIteration(RECOVERY_GRACE.toMillis());
+        updatedInstances.add(timeoutInstance);
       }
     }
+    if (updatedInstances.isEmpty()) {
+      return;
+    }
+
+    // Every update expects the version that was read, the same optimistic lock as a save of the instance
+    BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkMode.UNORDERED, TimeoutInstance.class);
+    for (TimeoutInstance timeoutInstance : updatedInstances) {
+      bulkOperations.updateOne(query(where(TimeoutInstanceKeys.uuid)
+                                         .is(timeoutInstance.getUuid())
+                                         .and(TimeoutInstanceKeys.version)
+                                         .is(timeoutInstance.getVersion())),
+          new Update()
+              .set(TimeoutInstanceKeys.tracker, timeoutInstance.getTracker())
+              .set(TimeoutInstanceKeys.nextIteration, timeoutInstance.getNextIteration())
+              .set(TimeoutInstanceKeys.lastUpdatedAt, System.currentTimeMillis())
+              .inc(TimeoutInstanceKeys.version, 1));
+    }
+    BulkWriteResult result = bulkOperations.execute();
+    updatedInstances.forEach(this::track);
+    if (result.getMatchedCount() == updatedInstances.size()) {
+      return;
+    }
+
+    // Some instances were changed since they were read. The event is applied again on top of the stored state, the
+    // instances it was already applied to do not change any more.
+    List<String> updatedIds = updatedInstances.stream().map(TimeoutInstance::getUuid).collect(Collectors.toList());
+    if (attempts > 1) {
+      onEvent(updatedIds, event, attempts - 1);
+    } else {
+      log.error(
+          "Could not apply event {} to the concurrently updated timeout instances {}", event.getType(), updatedIds);
+    }
   }
 
   public void registerIterators() {
+    ensureWheelStarted();
+
     PersistenceIteratorFactory.PumpExecutorOptions options = PersistenceIteratorFactory.PumpExecutorOptions.builder()
                                                                  .interval(Duration.ofSeconds(10))
                                                                  .poolSize(5)
@@ -83,7 +154,7 @@ public class TimeoutEngine implements Handler<TimeoutInstance> {
             .fieldName(TimeoutInstanceKeys.nextIteration)
             // targetInterval is just to add retry mechanism. The document should ideally be deleted after callback is
             // executed.
-            .targetInterval(Duration.ofMinutes(2))
+            .targetInterval(CALLBACK_RETRY_INTERVAL)
             .acceptableNoAlertDelay(Duration.ofSeconds(45))
             .acceptableExecutionTime(Duration.ofSeconds(30))
             .handler(this)
@@ -92,11 +163,118 @@ public class TimeoutEngine implements Handler<TimeoutInstance> {
             .redistribute(true));
   }
 
+  @VisibleForTesting
+  boolean isWheelStarted() {
+    return callbackExecutor != null;
+  }
+
+  private void ensureWheelStarted() {
+    if (callbackExecutor != null) {
+      return;
+    }
+    synchronized (this) {
+      if (callbackExecutor != null) {
+        return;
+      }
+      ExecutorService executor = Executors.newFixedThreadPool(
+          5, new ThreadFactoryBuilder().setNameFormat("timeout-engine-callback-%d").setDaemon(true).build());
+      ScheduledExecutorService wheelTicker = Executors.newSingleThreadScheduledExecutor(
+          new ThreadFactoryBuilder().setNameFormat("timeout-engine-wheel").setDaemon(true).build());
+      callbackExecutor = executor;
+      wheelTicker.scheduleAtFixedRate(this::tick, WHEEL_TICK_MILLIS, WHEEL_TICK_MILLIS, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  private void track(TimeoutInstance timeoutInstance) {
+    ensureWheelStarted();
+    Long expiryTime = timeoutInstance.getTracker().getExpiryTime();
+    synchronized (wheel) {
+      if (expiryTime == null) {
+        wheel.cancel(timeoutInstance.getUuid());
+        return;
+      }
+      if (wheel.schedule(timeoutInstance.getUuid(), expiryTime)) {
+        return;
+      }
+    }
+    // Already due
+    callbackExecutor.submit(() -> fire(timeoutInstance.getUuid()));
+  }
+
+  private void tick() {
+    try {
+      List<Expired> expired;
+      synchronized (wheel) {
+        expired = wheel.advance(System.currentTimeMillis());
+      }
+      for (Expired timeout : expired) {
+        callbackExecutor.submit(() -> fire(timeout.getId()));
+      }
+    } catch (Exception ex) {
+      log.error("TimeoutEngine wheel tick failed", ex);
+    }
+  }
+
+  @VisibleForTesting
+  void fire(String timeoutInstanceId) {
+    try (TimeoutInstanceLogContext ignore0 = new TimeoutInstanceLogContext(timeoutInstanceId, OVERRIDE_ERROR)) {
+      // The instance is read again as an event processed by another node may have paused or extended it.
+      TimeoutInstance timeoutInstance = timeoutInstanceRepository.findById(timeoutInstanceId).orElse(null);
+      if (timeoutInstance == null) {
+        return;
+      }
+      Long expiryTime = timeoutInstance.getTracker().getExpiryTime();
+      if (expiryTime == null) {
+        return;
+      }
+      long now = System.currentTimeMillis();
+      if (expiryTime > now) {
+        track(timeoutInstance);
+        return;
+      }
+
+      // Claim the instance the same way the iterator does, by moving nextIteration, so that a concurrent recovery
+      // of the same instance does not run the callback twice.
+      TimeoutInstance claimed = mongoTemplate.findAndModify(
+          query(where(TimeoutInstanceKeys.uuid)
+                    .is(timeoutInstanceId)
+                    .and(TimeoutInstanceKeys.nextIteration)
+                    .is(timeoutInstance.getNextIteration())),
+          new Update().set(TimeoutInstanceKeys.nextIteration, now + CALLBACK_RETRY_INTERVAL.toMillis()),
+          TimeoutInstance.class);
+      if (claimed == null) {
+        return;
+      }
+      harnessMetricRegistry.getMetricRegistry()
+          .histogram(MetricRegistry.name(METRIC_PREFIX, "lateness"))
+          .update(now - expiryTime);
+      runCallback(claimed);
+    } catch (Exception ex) {
+      log.error("TimeoutInstance fire failed", ex);
+    }
+  }
+
+  /**
+   * Handles the instances the iterator finds overdue by more than the recovery grace, i.e. those no live node fired.
+   */
   @Override
   public void handle(TimeoutInstance timeoutInstance) {
+    Long expiryTime = timeoutInstance.getTracker().getExpiryTime();
+    if (expiryTime != null) {
+      harnessMetricRegistry.getMetricRegistry()
+          .histogram(MetricRegistry.name(METRIC_PREFIX, "recovered", "lateness"))
+          .update(System.currentTimeMillis() - expiryTime);
+    }
+    runCallback(timeoutInstance);
+  }
+
+  private void runCallback(TimeoutInstance timeoutInstance) {
     try (TimeoutInstanceLogContext ignore0 = new TimeoutInstanceLogContext(timeoutInstance.getUuid(), OVERRIDE_ERROR)) {
       final long now = System.currentTimeMillis();
       log.info("TimeoutInstance handle started");
+      synchronized (wheel) {
+        wheel.cancel(timeoutInstance.getUuid());
+      }
 
       TimeoutCallback callback = timeoutInstance.getCallback();
       injector.injectMembers(callback);
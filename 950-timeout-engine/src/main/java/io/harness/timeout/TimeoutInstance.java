@@ -45,14 +45,18 @@ public class TimeoutInstance implements PersistentRegularIterable, UuidAccess {
 
   @Builder.Default @FdTtlIndex Date validUntil = Date.from(OffsetDateTime.now().plus(TTL).toInstant());
 
-  // nextIteration is the approximate expiry time. If the expiry time is known, nextIteration equals expiry time. If the
-  // tracker is paused, this is set to a very high value. When the tracker resumes, we update the value and wakeup the
-  // iterator.
+  // nextIteration is the approximate expiry time. If the expiry time is known, nextIteration equals expiry time plus
+  // the recovery grace. If the tracker is paused, this is set to a very high value. The node tracking the instance in
+  // memory fires it on time, the iterator only picks it up once the grace has passed without that happening.
   @FdIndex long nextIteration;
 
   public void resetNextIteration() {
+    resetNextIteration(0);
+  }
+
+  public void resetNextIteration(long recoveryGraceMillis) {
     Long expiryTime = tracker.getExpiryTime();
-    nextIteration = expiryTime == null ? Long.MAX_VALUE : expiryTime;
+    nextIteration = expiryTime == null ? Long.MAX_VALUE : expiryTime + recoveryGraceMillis;
   }
 
   @Override
@@ -0,0 +1,170 @@
+package io.harness.timeout.wheel;
+
+import static io.harness.annotations.dev.HarnessTeam.CDC;
+
+import io.harness.annotations.dev.OwnedBy;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import lombok.Value;
+
+/**
+ * In-memory timer for a large number of timeouts that keeps every operation O(1) regardless of how far in the future
+ * the timeouts are.
+ *
+ * The lowest wheel has wheelSize buckets of tickMillis each. A timeout that does not fit in a wheel goes to an overflow
+ * wheel whose tick is the whole span of the wheel below it, created on demand. When a bucket of an upper wheel comes
+ * due, its timeouts are inserted again and fall into the finer wheels below, so they expire with the precision of the
+ * lowest wheel. Only buckets that hold timeouts are queued, an idle wheel costs nothing to advance.
+ *
+ * Not thread safe on its own, callers serialize access to it.
+ */
+@OwnedBy(CDC)
+public class HierarchicalTimingWheel {
+  @Value
+  public static class Expired {
+    String id;
+    long expiryMillis;
+  }
+
+  private static class Entry {
+    private final String id;
+    private final long expiryMillis;
+    // The expiry rounded up to the next tick, so that a timeout never expires before its time.
+    private final long dueMillis;
+    private Bucket bucket;
+
+    Entry(String id, long expiryMillis, long tickMillis) {
+      this.id = id;
+      this.expiryMillis = expiryMillis;
+      this.dueMillis = expiryMillis + tickMillis - 1;
+    }
+  }
+
+  private static class Bucket {
+    private final Set<Entry> entries = new LinkedHashSet<>();
+    private long expiryMillis = -1;
+  }
+
+  private class Wheel {
+    private final long tickMillis;
+    private final long intervalMillis;
+    private final Bucket[] buckets;
+    private long currentMillis;
+    private Wheel overflow;
+
+    Wheel(long tickMillis, long startMillis) {
+      this.tickMillis = tickMillis;
+      this.intervalMillis = tickMillis * wheelSize;
+      this.buckets = new Bucket[wheelSize];
+      for (int i = 0; i < wheelSize; i++) {
+        buckets[i] = new Bucket();
+      }
+      this.currentMillis = startMillis - (startMillis % tickMillis);
+    }
+
+    boolean add(Entry entry) {
+      if (entry.dueMillis < currentMillis + tickMillis) {
+        return false;
+      }
+      if (entry.dueMillis >= currentMillis + intervalMillis) {
+        if (overflow == null) {
+          overflow = new Wheel(intervalMillis, currentMillis);
+        }
+        return overflow.add(entry);
+      }
+      long virtualId = entry.dueMillis / tickMillis;
+      Bucket bucket = buckets[(int) (virtualId % wheelSize)];
+      bucket.entries.add(entry);
+      entry.bucket = bucket;
+      long bucketExpiry = virtualId * tickMillis;
+      if (bucket.expiryMillis != bucketExpiry) {
+        bucket.expiryMillis = bucketExpiry;
+        dueBuckets.add(bucket);
+      }
+      return true;
+    }
+
+    void advance(long nowMillis) {
+      if (nowMillis >= currentMillis + tickMillis) {
+        currentMillis = nowMillis - (nowMillis % tickMillis);
+        if (overflow != null) {
+          overflow.advance(currentMillis);
+        }
+      }
+    }
+  }
+
+  private final long tickMillis;
+  private final int wheelSize;
+  private final Wheel wheel;
+  private final Map<String, Entry> entries = new HashMap<>();
+  private final PriorityQueue<Bucket> dueBuckets =
+      new PriorityQueue<>((b1, b2) -> Long.compare(b1.expiryMillis, b2.expiryMillis));
+
+  public HierarchicalTimingWheel(long tickMillis, int wheelSize, long startMillis) {
+    this.tickMillis = tickMillis;
+    this.wheelSize = wheelSize;
+    this.wheel = new Wheel(tickMillis, startMillis);
+  }
+
+  /**
+   * Schedules the timeout with the given id, replacing the previous schedule of the same id.
+   *
+   * @return false if the expiry is already due, in which case nothing is scheduled
+   */
+  public boolean schedule(String id, long expiryMillis) {
+    cancel(id);
+    Entry entry = new Entry(id, expiryMillis, tickMillis);
+    if (!wheel.add(entry)) {
+      return false;
+    }
+    entries.put(id, entry);
+    return true;
+  }
+
+  public boolean cancel(String id) {
+    Entry entry = entries.remove(id);
+    if (entry == null) {
+      return false;
+    }
+    entry.bucket.entries.remove(entry);
+    return true;
+  }
+
+  public boolean contains(String id) {
+    return entries.containsKey(id);
+  }
+
+  public int size() {
+    return entries.size();
+  }
+
+  /**
+   * Moves the clock to nowMillis and returns the timeouts that expired in the meantime, in expiry order of their
+   * buckets. A timeout expires on the first tick at or after its expiry.
+   */
+  public List<Expired> advance(long nowMillis) {
+    List<Expired> expired = new ArrayList<>();
+    while (!dueBuckets.isEmpty() && dueBuckets.peek().expiryMillis <= nowMillis) {
+      Bucket bucket = dueBuckets.poll();
+      wheel.advance(bucket.expiryMillis);
+      List<Entry> bucketEntries = new ArrayList<>(bucket.entries);
+      bucket.entries.clear();
+      bucket.expiryMillis = -1;
+      for (Entry entry : bucketEntries) {
+        if (!wheel.add(entry)) {
+          entries.remove(entry.id);
+          expired.add(new Expired(entry.id, entry.expiryMillis));
+        }
+      }
+    }
+    wheel.advance(nowMillis);
+    return expired;
+  }
+}
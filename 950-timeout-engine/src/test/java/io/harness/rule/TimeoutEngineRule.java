@@ -5,6 +5,7 @@ import io.harness.factory.ClosingFactory;
 import io.harness.factory.ClosingFactoryModule;
 import io.harness.govern.ProviderModule;
 import io.harness.govern.ServersModule;
+import io.harness.metrics.MetricRegistryModule;
 import io.harness.mongo.MongoPersistence;
 import io.harness.morphia.MorphiaRegistrar;
 import io.harness.persistence.HPersistence;
@@ -18,6 +19,7 @@ import io.harness.testlib.module.TestMongoModule;
 import io.harness.threading.CurrentThreadExecutor;
 import io.harness.threading.ExecutorModule;
 
+import com.codahale.metrics.MetricRegistry;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.google.inject.AbstractModule;
@@ -95,6 +97,7 @@ public class TimeoutEngineRule implements MethodRule, InjectorRuleMixin, MongoRu
     });
     modules.add(TestMongoModule.getInstance());
     modules.add(new SpringPersistenceTestModule());
+    modules.add(new MetricRegistryModule(new MetricRegistry()));
     modules.add(new TimeoutEngineModule());
     return modules;
   }
@@ -1,21 +1,29 @@
 package io.harness.timeout;
 
 import static io.harness.rule.OwnerRule.GARVIT;
+import static io.harness.rule.OwnerRule.GEORGE;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
 import io.harness.TimeoutEngineTestBase;
 import io.harness.category.element.UnitTests;
+import io.harness.repositories.TimeoutInstanceRepository;
 import io.harness.rule.Owner;
 import io.harness.testlib.RealMongo;
+import io.harness.timeout.contracts.Dimension;
 import io.harness.timeout.trackers.absolute.AbsoluteTimeoutTracker;
+import io.harness.timeout.trackers.absolute.AbsoluteTimeoutTrackerFactory;
 
 import com.google.inject.Inject;
+import java.util.Arrays;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
 
 public class TimeoutEngineUnitTest extends TimeoutEngineTestBase {
+  private static final TimeoutEvent PAUSE_EVENT = () -> "PAUSE";
+
   @Inject private TimeoutEngine timeoutEngine;
+  @Inject private TimeoutInstanceRepository timeoutInstanceRepository;
 
   @Test
   @Owner(developers = GARVIT)
@@ -28,6 +36,98 @@ public class TimeoutEngineUnitTest extends TimeoutEngineTestBase {
     assertThat(callback.getTimeoutInstance()).isNotNull();
   }
 
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  @RealMongo
+  public void shouldFireExpiredTimeout() {
+    TimeoutInstance instance = timeoutEngine.registerTimeout(new AbsoluteTimeoutTracker(0), new TestTimeoutCallback());
+    timeoutEngine.fire(instance.getUuid());
+    // The callback ran on the stored instance, which is deleted afterwards
+    assertThat(timeoutInstanceRepository.findById(instance.getUuid())).isEmpty();
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  @RealMongo
+  public void shouldNotFireTimeoutThatIsNotDue() {
+    TimeoutInstance instance =
+        timeoutEngine.registerTimeout(new AbsoluteTimeoutTracker(3600000), new TestTimeoutCallback());
+    timeoutEngine.fire(instance.getUuid());
+    assertThat(timeoutInstanceRepository.findById(instance.getUuid()))
+        .hasValueSatisfying(stored -> assertThat(stored.getNextIteration()).isEqualTo(instance.getNextIteration()));
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  @RealMongo
+  public void shouldStartWheelWithoutIterators() {
+    timeoutEngine.registerTimeout(new AbsoluteTimeoutTracker(3600000), new TestTimeoutCallback());
+    assertThat(timeoutEngine.isWheelStarted()).isTrue();
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  @RealMongo
+  public void shouldPauseAllInstancesOfEvent() {
+    TimeoutInstance first =
+        timeoutEngine.registerTimeout(new PausableTestTimeoutTracker(3600000), new TestTimeoutCallback());
+    TimeoutInstance second =
+        timeoutEngine.registerTimeout(new PausableTestTimeoutTracker(3600000), new TestTimeoutCallback());
+
+    timeoutEngine.onEvent(Arrays.asList(first.getUuid(), second.getUuid()), PAUSE_EVENT);
+
+    for (TimeoutInstance instance : timeoutInstanceRepository.findAllById(
+             Arrays.asList(first.getUuid(), second.getUuid()))) {
+      assertThat(instance.getTracker().getState()).isEqualTo(TimeoutTrackerState.PAUSED);
+      assertThat(instance.getNextIteration()).isEqualTo(Long.MAX_VALUE);
+      assertThat(instance.getVersion()).isEqualTo(first.getVersion() + 1);
+    }
+
+    // Paused already, nothing is written
+    timeoutEngine.onEvent(Arrays.asList(first.getUuid(), second.getUuid()), PAUSE_EVENT);
+    assertThat(timeoutInstanceRepository.findById(first.getUuid()))
+        .hasValueSatisfying(stored -> assertThat(stored.getVersion()).isEqualTo(first.getVersion() + 1));
+  }
+
+  public static class PausableTestTimeoutTracker implements TimeoutTracker {
+    private long timeoutMillis;
+    private long startTimeMillis;
+    private boolean paused;
+
+    public PausableTestTimeoutTracker(long timeoutMillis) {
+      this.timeoutMillis = timeoutMillis;
+      this.startTimeMillis = System.currentTimeMillis();
+    }
+
+    @Override
+    public Dimension getDimension() {
+      return AbsoluteTimeoutTrackerFactory.DIMENSION;
+    }
+
+    @Override
+    public Long getExpiryTime() {
+      return paused ? null : startTimeMillis + timeoutMillis;
+    }
+
+    @Override
+    public TimeoutTrackerState getState() {
+      return paused ? TimeoutTrackerState.PAUSED : TimeoutTrackerState.TICKING;
+    }
+
+    @Override
+    public boolean onEvent(TimeoutEvent event) {
+      if (paused || !"PAUSE".equals(event.getType())) {
+        return false;
+      }
+      paused = true;
+      return true;
+    }
+  }
+
   public static class TestTimeoutCallback implements TimeoutCallback {
     private TimeoutInstance timeoutInstance;
     public TimeoutInstance getTimeoutInstance() {
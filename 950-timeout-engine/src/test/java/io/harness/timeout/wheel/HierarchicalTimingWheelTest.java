@@ -0,0 +1,82 @@
+package io.harness.timeout.wheel;
+
+import static io.harness.rule.OwnerRule.GARVIT;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.TimeoutEngineTestBase;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+import io.harness.timeout.wheel.HierarchicalTimingWheel.Expired;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class HierarchicalTimingWheelTest extends TimeoutEngineTestBase {
+  private static final long START = 1_000_000L;
+
+  private List<String> ids(List<Expired> expired) {
+    return expired.stream().map(Expired::getId).collect(Collectors.toList());
+  }
+
+  @Test
+  @Owner(developers = GARVIT)
+  @Category(UnitTests.class)
+  public void testExpiresOnFirstTickAfterExpiry() {
+    HierarchicalTimingWheel wheel = new HierarchicalTimingWheel(100, 8, START);
+    assertThat(wheel.schedule("a", START + 250)).isTrue();
+    assertThat(wheel.schedule("b", START + 300)).isTrue();
+    assertThat(wheel.advance(START + 249)).isEmpty();
+    assertThat(wheel.advance(START + 299)).isEmpty();
+    assertThat(ids(wheel.advance(START + 300))).containsExactly("a", "b");
+    assertThat(wheel.size()).isEqualTo(0);
+    assertThat(wheel.schedule("c", START + 300)).isFalse();
+  }
+
+  @Test
+  @Owner(developers = GARVIT)
+  @Category(UnitTests.class)
+  public void testCancelAndReschedule() {
+    HierarchicalTimingWheel wheel = new HierarchicalTimingWheel(100, 8, START);
+    wheel.schedule("a", START + 500);
+    wheel.schedule("b", START + 500);
+    assertThat(wheel.cancel("a")).isTrue();
+    assertThat(wheel.cancel("a")).isFalse();
+    wheel.schedule("b", START + 50_000);
+    assertThat(wheel.advance(START + 1000)).isEmpty();
+    assertThat(wheel.contains("b")).isTrue();
+    assertThat(ids(wheel.advance(START + 50_000))).containsExactly("b");
+  }
+
+  @Test
+  @Owner(developers = GARVIT)
+  @Category(UnitTests.class)
+  public void testCascadesFromOverflowWheels() {
+    HierarchicalTimingWheel wheel = new HierarchicalTimingWheel(100, 8, START);
+    Random random = new Random(7);
+    Map<String, Long> expiries = new HashMap<>();
+    for (int i = 0; i < 5000; i++) {
+      long expiry = START + 1 + random.nextInt(10_000_000);
+      expiries.put("t" + i, expiry);
+      wheel.schedule("t" + i, expiry);
+    }
+
+    List<Expired> fired = new ArrayList<>();
+    for (long now = START; now <= START + 10_000_100; now += 73) {
+      for (Expired expired : wheel.advance(now)) {
+        assertThat(expired.getExpiryMillis()).isEqualTo(expiries.get(expired.getId()));
+        assertThat(now).isGreaterThanOrEqualTo(expired.getExpiryMillis());
+        assertThat(now - expired.getExpiryMillis()).isLessThan(100 + 73);
+        fired.add(expired);
+      }
+    }
+    assertThat(fired).hasSize(5000);
+    assertThat(wheel.size()).isEqualTo(0);
+  }
+}
@@ -22,6 +22,9 @@ import org.mongodb.morphia.query.Sort;
 
 @Slf4j
 public class NotifyEventListener extends QueueListener<NotifyEvent> {
+  public static final int BATCH_SIZE = 10;
+  public static final int WORKERS = 10;
+
   @Inject private Injector injector;
   @Inject private HPersistence persistence;
   @Inject private KryoSerializer kryoSerializer;
@@ -32,6 +35,10 @@ public class NotifyEventListener extends QueueListener<NotifyEvent> {
     super(queueConsumer, false);
   }
 
+  public NotifyEventListener(QueueConsumer<NotifyEvent> queueConsumer, int batchSize, int workers) {
+    super(queueConsumer, false, batchSize, workers);
+  }
+
   @Override
   public void onMessage(NotifyEvent message) {
     String waitInstanceId = message.getWaitInstanceId();
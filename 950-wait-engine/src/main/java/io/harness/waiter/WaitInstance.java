@@ -37,6 +37,8 @@ public class WaitInstance implements PersistentEntity, UuidAccess {
 
   private NotifyCallback callback;
   private long callbackProcessingAt;
+  // Set once by whoever observes the instance fully resolved, so the notification is published exactly once.
+  private String notificationToken;
 
   private ProgressCallback progressCallback;
 
@@ -3,6 +3,7 @@ package io.harness.waiter;
 import static io.harness.data.structure.EmptyPredicate.isEmpty;
 import static io.harness.data.structure.EmptyPredicate.isNotEmpty;
 import static io.harness.data.structure.UUIDGenerator.generateUuid;
+import static io.harness.metrics.HarnessMetricRegistry.getAbsoluteMetricName;
 import static io.harness.persistence.HQuery.excludeAuthority;
 import static io.harness.waiter.NotifyEvent.Builder.aNotifyEvent;
 
@@ -12,6 +13,7 @@ import static java.util.stream.Collectors.toList;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
 
 import io.harness.logging.AutoLogRemoveContext;
+import io.harness.metrics.HarnessMetricRegistry;
 import io.harness.persistence.HPersistence;
 import io.harness.serializer.KryoSerializer;
 import io.harness.tasks.ErrorResponseData;
@@ -30,6 +32,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import lombok.extern.slf4j.Slf4j;
 import org.mongodb.morphia.query.Query;
@@ -42,9 +45,16 @@ import org.mongodb.morphia.query.UpdateOperations;
 @Singleton
 @Slf4j
 public class WaitNotifyEngine {
+  public static final String NOTIFY_BATCH_SIZE = "wait_notify_batch_size";
+  public static final String NOTIFY_BATCH_FAN_IN = "wait_notify_batch_fan_in";
+  public static final String NOTIFY_BATCH_RESOLUTION_LATENCY = "wait_notify_batch_resolution_latency";
+
   @Inject private HPersistence persistence;
   @Inject private KryoSerializer kryoSerializer;
   @Inject private NotifyQueuePublisherRegister publisherRegister;
+  @Inject private HarnessMetricRegistry harnessMetricRegistry;
+
+  private volatile boolean metricsRegistered;
 
   public String waitForAllOn(String publisherName, NotifyCallback notifyCallback, String... correlationIds) {
     return waitForAllOn(publisherName, notifyCallback, null, correlationIds);
@@ -98,7 +108,8 @@ public class WaitNotifyEngine {
       WaitInstance waitInstance;
       if ((waitInstance = persistence.findAndModify(query, operations, HPersistence.returnNewOptions)) != null) {
         if (isEmpty(waitInstance.getWaitingOnCorrelationIds())
-            && waitInstance.getCallbackProcessingAt() < System.currentTimeMillis()) {
+            && waitInstance.getCallbackProcessingAt() < System.currentTimeMillis()
+            && claimNotification(waitInstance.getUuid())) {
           sendNotification(waitInstance);
         }
       }
@@ -180,9 +191,140 @@ public class WaitNotifyEngine {
 
     WaitInstance waitInstance;
     while ((waitInstance = persistence.findAndModify(query, operations, HPersistence.returnNewOptions)) != null) {
-      if (isEmpty(waitInstance.getWaitingOnCorrelationIds())) {
+      if (isEmpty(waitInstance.getWaitingOnCorrelationIds()) && claimNotification(waitInstance.getUuid())) {
         sendNotification(waitInstance);
       }
     }
   }
+
+  /**
+   * Batched version of doneWith. Stores all the responses with one bulk insert, removes them from every waiting
+   * instance with one multi update and publishes the notifications for all the instances that got resolved.
+   *
+   * @return the correlation ids that were handled
+   */
+  public List<String> doneWithAll(Map<String, ? extends ResponseData> responses) {
+    Preconditions.checkArgument(isNotEmpty(responses), "responses are null or empty");
+
+    final long startTime = currentTimeMillis();
+    final List<NotifyResponse> notifyResponses = new ArrayList<>();
+    for (Map.Entry<String, ? extends ResponseData> entry : responses.entrySet()) {
+      Preconditions.checkArgument(isNotBlank(entry.getKey()), "correlationId is null or empty");
+      notifyResponses.add(NotifyResponse.builder()
+                              .uuid(entry.getKey())
+                              .createdAt(startTime)
+                              .responseData(kryoSerializer.asDeflatedBytes(entry.getValue()))
+                              .error(entry.getValue() instanceof ErrorResponseData)
+                              .build());
+    }
+
+    if (log.isDebugEnabled()) {
+      log.debug("notify request received for the correlationIds : {}", responses.keySet());
+    }
+
+    try {
+      // Responses that are already stored were handled by the call that stored them, pulling them again is a no-op.
+      persistence.saveIgnoringDuplicateKeys(notifyResponses);
+    } catch (Exception exception) {
+      log.error("Failed to notify for {} responses", responses.size(), exception);
+      return Collections.emptyList();
+    }
+
+    final List<String> correlationIds = new ArrayList<>(responses.keySet());
+    final int resolved = handleNotifyResponses(correlationIds);
+
+    ensureMetricsRegistered();
+    harnessMetricRegistry.updateMetricValue(NOTIFY_BATCH_SIZE, correlationIds.size());
+    harnessMetricRegistry.updateMetricValue(NOTIFY_BATCH_FAN_IN, resolved);
+    harnessMetricRegistry.updateMetricValue(NOTIFY_BATCH_RESOLUTION_LATENCY, currentTimeMillis() - startTime);
+    return correlationIds;
+  }
+
+  /**
+   * Removes the correlation ids from all the wait instances waiting on them and notifies the ones that are resolved.
+   *
+   * @return number of the wait instances that got notified
+   */
+  public int handleNotifyResponses(List<String> correlationIds) {
+    if (isEmpty(correlationIds)) {
+      return 0;
+    }
+
+    final Query<WaitInstance> query = persistence.createQuery(WaitInstance.class, excludeAuthority)
+                                          .field(WaitInstanceKeys.waitingOnCorrelationIds)
+                                          .in(correlationIds);
+
+    final UpdateOperations<WaitInstance> operations =
+        persistence.createUpdateOperations(WaitInstance.class)
+            .removeAll(WaitInstanceKeys.waitingOnCorrelationIds, correlationIds);
+
+    if (persistence.update(query, operations).getUpdatedCount() == 0) {
+      return 0;
+    }
+
+    final String notificationToken = generateUuid();
+    final Query<WaitInstance> resolvedQuery = persistence.createQuery(WaitInstance.class, excludeAuthority)
+                                                  .field(WaitInstanceKeys.correlationIds)
+                                                  .in(correlationIds)
+                                                  .field(WaitInstanceKeys.waitingOnCorrelationIds)
+                                                  .sizeEq(0)
+                                                  .field(WaitInstanceKeys.notificationToken)
+                                                  .doesNotExist();
+    final UpdateOperations<WaitInstance> claimOperations =
+        persistence.createUpdateOperations(WaitInstance.class)
+            .set(WaitInstanceKeys.notificationToken, notificationToken);
+
+    if (persistence.update(resolvedQuery, claimOperations).getUpdatedCount() == 0) {
+      return 0;
+    }
+
+    // The correlationIds criterion is there for the index, the token alone selects the instances claimed above.
+    final List<WaitInstance> waitInstances = persistence.createQuery(WaitInstance.class, excludeAuthority)
+                                                 .field(WaitInstanceKeys.correlationIds)
+                                                 .in(correlationIds)
+                                                 .filter(WaitInstanceKeys.notificationToken, notificationToken)
+                                                 .project(WaitInstanceKeys.uuid, true)
+                                                 .project(WaitInstanceKeys.publisher, true)
+                                                 .asList();
+    waitInstances.forEach(this::sendNotification);
+    return waitInstances.size();
+  }
+
+  // Every service that runs the wait engine reports the batch metrics, not only the ones that register them upfront.
+  private void ensureMetricsRegistered() {
+    if (metricsRegistered) {
+      return;
+    }
+    synchronized (this) {
+      if (!metricsRegistered) {
+        registerSummaryMetric(NOTIFY_BATCH_SIZE);
+        registerSummaryMetric(NOTIFY_BATCH_FAN_IN);
+        registerSummaryMetric(NOTIFY_BATCH_RESOLUTION_LATENCY);
+        metricsRegistered = true;
+      }
+    }
+  }
+
+  private void registerSummaryMetric(String metricName) {
+    if (harnessMetricRegistry.getNamesToCollectors().containsKey(getAbsoluteMetricName(metricName))) {
+      return;
+    }
+    try {
+      harnessMetricRegistry.registerSummaryMetric(metricName);
+    } catch (RuntimeException exception) {
+      log.warn("Failed to register the metric {}", metricName, exception);
+    }
+  }
+
+  private boolean claimNotification(String waitInstanceId) {
+    final Query<WaitInstance> query = persistence.createQuery(WaitInstance.class, excludeAuthority)
+                                          .filter(WaitInstanceKeys.uuid, waitInstanceId)
+                                          .field(WaitInstanceKeys.notificationToken)
+                                          .doesNotExist();
+
+    final UpdateOperations<WaitInstance> operations =
+        persistence.createUpdateOperations(WaitInstance.class).set(WaitInstanceKeys.notificationToken, generateUuid());
+
+    return persistence.update(query, operations).getUpdatedCount() == 1;
+  }
 }
@@ -27,6 +27,7 @@ import io.harness.threading.Poller;
 import io.harness.waiter.ProgressUpdate.ProgressUpdateKeys;
 
 import com.google.inject.Inject;
+import com.google.inject.Injector;
 import java.io.IOException;
 import java.time.Duration;
 import java.util.ArrayList;
@@ -34,6 +35,7 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.Before;
@@ -49,6 +51,7 @@ public class WaitNotifyEngineTest extends WaitEngineTestBase {
   private static List<ProgressData> progressDataList;
 
   @Inject private WaitNotifyEngine waitNotifyEngine;
+  @Inject private Injector injector;
   @Inject private HPersistence persistence;
   @Inject private QueueConsumer<NotifyEvent> notifyConsumer;
   @Inject private NotifyResponseCleaner notifyResponseCleaner;
@@ -62,7 +65,7 @@ public class WaitNotifyEngineTest extends WaitEngineTestBase {
   @Before
   public void setupResponseMap() {
     callCount = new AtomicInteger(0);
-    responseMap = new HashMap<>();
+    responseMap = new ConcurrentHashMap<>();
     progressCallCount = new AtomicInteger(0);
     progressDataList = new ArrayList<>();
     queueListenerController.register(notifyEventListener, 1);
@@ -249,6 +252,69 @@ public class WaitNotifyEngineTest extends WaitEngineTestBase {
     }
   }
 
+  /**
+   * Should notify only the resolved wait instances for a batch of responses.
+   */
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldNotifyResolvedWaitInstancesForBatchOfResponses() {
+    String uuid1 = generateUuid();
+    String uuid2 = generateUuid();
+    String uuid3 = generateUuid();
+    String uuid4 = generateUuid();
+
+    try (MaintenanceGuard guard = new MaintenanceGuard(false)) {
+      String resolvedId1 = waitNotifyEngine.waitForAllOn(TEST_PUBLISHER, new TestNotifyCallback(), uuid1, uuid2);
+      String resolvedId2 = waitNotifyEngine.waitForAllOn(TEST_PUBLISHER, new TestNotifyCallback(), uuid3);
+      String pendingId = waitNotifyEngine.waitForAllOn(TEST_PUBLISHER, new TestNotifyCallback(), uuid1, uuid4);
+
+      Map<String, ResponseData> responses = new HashMap<>();
+      responses.put(uuid1, StringNotifyResponseData.builder().data("response-" + uuid1).build());
+      responses.put(uuid2, StringNotifyResponseData.builder().data("response-" + uuid2).build());
+      responses.put(uuid3, StringNotifyResponseData.builder().data("response-" + uuid3).build());
+
+      assertThat(waitNotifyEngine.doneWithAll(responses)).containsExactlyInAnyOrder(uuid1, uuid2, uuid3);
+      assertThat(persistence.createQuery(NotifyResponse.class, excludeAuthority).count()).isEqualTo(3);
+
+      Poller.pollFor(Duration.ofSeconds(10), ofMillis(100), () -> notifyConsumer.count(Filter.ALL) == 0);
+
+      assertThat(callCount.get()).isEqualTo(2);
+      assertThat(persistence.get(WaitInstance.class, resolvedId1)).isNull();
+      assertThat(persistence.get(WaitInstance.class, resolvedId2)).isNull();
+      assertThat(persistence.get(WaitInstance.class, pendingId).getWaitingOnCorrelationIds()).containsExactly(uuid4);
+    }
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldNotifyWaitInstancesInBatchMode() {
+    List<String> uuids = Arrays.asList(generateUuid(), generateUuid(), generateUuid());
+
+    try (MaintenanceGuard guard = new MaintenanceGuard(true)) {
+      NotifyEventListener batchListener =
+          new NotifyEventListener(notifyConsumer, NotifyEventListener.BATCH_SIZE, NotifyEventListener.WORKERS);
+      injector.injectMembers(batchListener);
+
+      Map<String, ResponseData> responses = new HashMap<>();
+      for (String uuid : uuids) {
+        waitNotifyEngine.waitForAllOn(TEST_PUBLISHER, new TestNotifyCallback(), uuid);
+        responses.put(uuid, StringNotifyResponseData.builder().data("response-" + uuid).build());
+      }
+      waitNotifyEngine.doneWithAll(responses);
+      assertThat(notifyConsumer.count(Filter.ALL)).isEqualTo(uuids.size());
+
+      // A single round trip claims all the events and hands them to the workers
+      batchListener.execute();
+      Poller.pollFor(Duration.ofSeconds(10), ofMillis(100), () -> notifyConsumer.count(Filter.ALL) == 0);
+      batchListener.shutDown();
+
+      assertThat(callCount.get()).isEqualTo(uuids.size());
+      assertThat(responseMap).isEqualTo(responses);
+    }
+  }
+
   /**
    * Should wait for progress on correlation id.
    */
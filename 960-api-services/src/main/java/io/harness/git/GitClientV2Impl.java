@@ -24,6 +24,7 @@ import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Objects.requireNonNull;
 import static org.apache.commons.lang3.StringUtils.isBlank;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
+import static org.eclipse.jgit.lib.Constants.OBJ_BLOB;
 import static org.eclipse.jgit.transport.RemoteRefUpdate.Status.OK;
 import static org.eclipse.jgit.transport.RemoteRefUpdate.Status.UP_TO_DATE;
 
@@ -54,20 +55,31 @@ import io.harness.git.model.PushResultGit;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
+import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStreamReader;
 import java.net.UnknownHostException;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Predicate;
-import java.util.stream.Stream;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -88,6 +100,7 @@ import org.eclipse.jgit.api.errors.RefAlreadyExistsException;
 import org.eclipse.jgit.api.errors.TransportException;
 import org.eclipse.jgit.diff.DiffEntry;
 import org.eclipse.jgit.errors.NoRemoteRepositoryException;
+import org.eclipse.jgit.lib.FileMode;
 import org.eclipse.jgit.lib.ObjectId;
 import org.eclipse.jgit.lib.ObjectLoader;
 import org.eclipse.jgit.lib.ObjectReader;
@@ -104,12 +117,35 @@ import org.eclipse.jgit.transport.RemoteRefUpdate;
 import org.eclipse.jgit.transport.SshTransport;
 import org.eclipse.jgit.transport.TagOpt;
 import org.eclipse.jgit.treewalk.CanonicalTreeParser;
+import org.eclipse.jgit.treewalk.TreeWalk;
 
 @Singleton
 @Slf4j
 public class GitClientV2Impl implements GitClientV2 {
+  private static final int BLOB_CACHE_MAX_BYTES = 8 * 1024 * 1024;
+  private static final int MAX_SYMLINK_DEPTH = 8;
+
   @Inject private GitClientHelper gitClientHelper;
 
+  // Blobs are addressed by their content, so a blob read once is valid for every commit and every repo it is in.
+  // Weighed by the two bytes every char of the content takes on the heap.
+  private final Cache<ObjectId, String> blobCache =
+      CacheBuilder.newBuilder()
+          .maximumWeight(BLOB_CACHE_MAX_BYTES)
+          .weigher((ObjectId blobId, String content) -> 2 * content.length())
+          .expireAfterAccess(1, TimeUnit.HOURS)
+          .build();
+
+  // Files are read from the object database of the file download repos under the read lock of the repo directory, the
+  // fetch and the clone, which deletes the directory first, take the write lock.
+  private final LoadingCache<String, ReadWriteLock> repoLocks =
+      CacheBuilder.newBuilder().expireAfterAccess(1, TimeUnit.HOURS).build(new CacheLoader<String, ReadWriteLock>() {
+        @Override
+        public ReadWriteLock load(String repoDirectory) {
+          return new ReentrantReadWriteLock();
+        }
+      });
+
   private void cleanup(GitBaseRequest request) {
     if (request.getRepoType() == null) {
       log.error("gitRepoType can not be null. defaulting it to YAML");
@@ -882,72 +918,195 @@ public class GitClientV2Impl implements GitClientV2 {
     cleanup(request);
     validateRequiredArgs(request);
 
-    synchronized (gitClientHelper.getLockObject(request.getConnectorId())) {
-      try {
-        checkoutFiles(request);
-        List<GitFile> gitFiles = getFilteredGitFiles(request);
-        resetWorkingDir(request);
-
-        if (isNotEmpty(gitFiles)) {
-          gitFiles.forEach(gitFile -> log.info("File fetched : " + gitFile.getFilePath()));
-        }
+    try {
+      // Only the fetch of the remote refs has to hold the lock, the files are read from the object database without
+      // touching the working tree, so tasks can read different commits of the same repo at the same time.
+      synchronized (gitClientHelper.getLockObject(request.getConnectorId())) {
+        fetchRepoForFileRead(request);
+      }
 
-        return FetchFilesResult.builder()
-            .files(gitFiles)
-            .commitResult(
-                CommitResult.builder().commitId(request.useBranch() ? "latest" : request.getCommitId()).build())
-            .build();
+      List<GitFile> gitFiles;
+      String repoDirectory = gitClientHelper.getFileDownloadRepoDirectory(request);
+      Lock readLock = repoLocks.getUnchecked(repoDirectory).readLock();
+      readLock.lock();
+      try (Git git = Git.open(new File(repoDirectory))) {
+        Repository repository = git.getRepository();
+        gitFiles = getFilteredGitFiles(request, repository, resolveTree(request, repository));
+      } finally {
+        readLock.unlock();
+      }
 
-      } catch (WingsException e) {
-        tryResetWorkingDir(request);
-        throw e;
-      } catch (Exception e) {
-        tryResetWorkingDir(request);
-        log.error(gitClientHelper.getGitLogMessagePrefix(request.getRepoType()) + EXCEPTION_STRING, e);
-        throw new YamlException(new StringBuilder()
-                                    .append("Failed while fetching files ")
-                                    .append(request.useBranch() ? "for Branch: " : "for CommitId: ")
-                                    .append(request.useBranch() ? request.getBranch() : request.getCommitId())
-                                    .append(", FilePaths: ")
-                                    .append(request.getFilePaths())
-                                    .toString(),
-            USER);
+      if (isNotEmpty(gitFiles)) {
+        gitFiles.forEach(gitFile -> log.info("File fetched : " + gitFile.getFilePath()));
       }
+
+      return FetchFilesResult.builder()
+          .files(gitFiles)
+          .commitResult(CommitResult.builder().commitId(request.useBranch() ? "latest" : request.getCommitId()).build())
+          .build();
+
+    } catch (WingsException e) {
+      throw e;
+    } catch (Exception e) {
+      log.error(gitClientHelper.getGitLogMessagePrefix(request.getRepoType()) + EXCEPTION_STRING, e);
+      throw new YamlException(new StringBuilder()
+                                  .append("Failed while fetching files ")
+                                  .append(request.useBranch() ? "for Branch: " : "for CommitId: ")
+                                  .append(request.useBranch() ? request.getBranch() : request.getCommitId())
+                                  .append(", FilePaths: ")
+                                  .append(request.getFilePaths())
+                                  .toString(),
+          USER);
     }
   }
 
+  private ObjectId resolveTree(FetchFilesByPathRequest request, Repository repository) throws IOException {
+    String revision = request.useBranch() ? "refs/remotes/origin/" + request.getBranch() : request.getCommitId();
+    ObjectId treeId = repository.resolve(revision + "^{tree}");
+    if (treeId == null) {
+      log.error(GIT_YAML_LOG_PREFIX + "Unable to resolve revision " + revision);
+      throw new YamlException(request.useBranch() ? "Error in checking out Branch " + request.getBranch()
+                                                  : "Error in checking out commit id " + request.getCommitId(),
+          USER);
+    }
+    return treeId;
+  }
+
   @VisibleForTesting
-  List<GitFile> getFilteredGitFiles(FetchFilesByPathRequest request) {
+  List<GitFile> getFilteredGitFiles(FetchFilesByPathRequest request, Repository repository, ObjectId treeId) {
     List<GitFile> gitFiles = new ArrayList<>();
 
-    String repoPath = gitClientHelper.getFileDownloadRepoDirectory(request);
-    request.getFilePaths().forEach(filePath -> {
-      try {
-        Path repoFilePath = Paths.get(repoPath + "/" + filePath);
-        Stream<Path> paths = request.isRecursive() ? Files.walk(repoFilePath) : Files.walk(repoFilePath, 1);
-        paths.filter(Files::isRegularFile)
-            .filter(path -> !path.toString().contains(".git"))
-            .filter(matchingFilesExtensions(request.getFileExtensions()))
-            .forEach(path -> gitClientHelper.addFiles(gitFiles, path, repoPath));
-      } catch (Exception e) {
-        resetWorkingDir(request);
+    try (ObjectReader reader = repository.newObjectReader()) {
+      request.getFilePaths().forEach(filePath -> {
+        try {
+          String path = normalizeFilePath(filePath);
+          if (path.isEmpty()) {
+            addGitFilesFromTree(request, reader, treeId, treeId, path, gitFiles);
+            return;
+          }
 
-        // GitFetchFilesTask relies on the exception cause whether to fail the deployment or not.
-        // If the exception is being changed, make sure that the throwable cause is added to the new exception
-        // Unit test testGetFilteredGitFilesNoFileFoundException makes sure that the original exception is not swallowed
-        throw new GitClientException(new StringBuilder("Unable to checkout files for filePath [")
-                                         .append(filePath)
-                                         .append("]")
-                                         .append(request.useBranch() ? "for Branch: " : "for CommitId: ")
-                                         .append(request.useBranch() ? request.getBranch() : request.getCommitId())
-                                         .toString(),
-            USER, e);
-      }
-    });
+          try (TreeWalk treeWalk = TreeWalk.forPath(reader, path, treeId)) {
+            if (treeWalk == null) {
+              throw new NoSuchFileException(filePath);
+            }
+            if (treeWalk.getFileMode(0) == FileMode.TREE) {
+              addGitFilesFromTree(request, reader, treeId, treeWalk.getObjectId(0), path, gitFiles);
+            } else {
+              addGitFile(request, reader, treeId, treeWalk.getFileMode(0), treeWalk.getObjectId(0), path, gitFiles);
+            }
+          }
+        } catch (Exception e) {
+          // GitFetchFilesTask relies on the exception cause whether to fail the deployment or not.
+          // If the exception is being changed, make sure that the throwable cause is added to the new exception
+          throw new GitClientException(new StringBuilder("Unable to checkout files for filePath [")
+                                           .append(filePath)
+                                           .append("]")
+                                           .append(request.useBranch() ? "for Branch: " : "for CommitId: ")
+                                           .append(request.useBranch() ? request.getBranch() : request.getCommitId())
+                                           .toString(),
+              USER, e);
+        }
+      });
+    }
 
     return gitFiles;
   }
 
+  private String normalizeFilePath(String filePath) {
+    String path = Paths.get(filePath).normalize().toString().replace('\\', '/');
+    path = StringUtils.strip(path, "/");
+    return ".".equals(path) ? "" : path;
+  }
+
+  private void addGitFilesFromTree(FetchFilesByPathRequest request, ObjectReader reader, ObjectId rootTreeId,
+      ObjectId treeId, String prefix, List<GitFile> gitFiles) throws IOException {
+    try (TreeWalk treeWalk = new TreeWalk(reader)) {
+      treeWalk.addTree(treeId);
+      treeWalk.setRecursive(request.isRecursive());
+      while (treeWalk.next()) {
+        String filePath = prefix.isEmpty() ? treeWalk.getPathString() : prefix + "/" + treeWalk.getPathString();
+        addGitFile(request, reader, rootTreeId, treeWalk.getFileMode(0), treeWalk.getObjectId(0), filePath, gitFiles);
+      }
+    }
+  }
+
+  private void addGitFile(FetchFilesByPathRequest request, ObjectReader reader, ObjectId rootTreeId,
+      FileMode fileMode, ObjectId objectId, String filePath, List<GitFile> gitFiles) throws IOException {
+    if (filePath.contains(".git") || !matchingFilesExtensions(request.getFileExtensions()).test(Paths.get(filePath))) {
+      return;
+    }
+
+    ObjectId blobId;
+    if (fileMode == FileMode.REGULAR_FILE || fileMode == FileMode.EXECUTABLE_FILE) {
+      blobId = objectId;
+    } else if (fileMode == FileMode.SYMLINK) {
+      // The checkout was read following the links, a symlinked file has the content of its target.
+      blobId = resolveSymlink(reader, rootTreeId, filePath, objectId);
+      if (blobId == null) {
+        log.info("Skipping symlink {}, it does not point to a file of the repo", filePath);
+        return;
+      }
+    } else {
+      return;
+    }
+
+    String content;
+    try {
+      content = blobCache.get(blobId, () -> readBlob(reader, blobId));
+    } catch (ExecutionException e) {
+      throw new IOException("Failed to read file content " + filePath, e.getCause());
+    }
+    gitFiles.add(GitFile.builder().filePath(filePath).fileContent(content).build());
+  }
+
+  /**
+   * Follows the symlink at the given path within the tree of the commit.
+   *
+   * @return the blob of the file the link points to, null if it points to a directory, to a path outside of the repo or
+   *     to nothing
+   */
+  private ObjectId resolveSymlink(ObjectReader reader, ObjectId rootTreeId, String linkPath, ObjectId linkId)
+      throws IOException {
+    String path = linkPath;
+    ObjectId objectId = linkId;
+    for (int depth = 0; depth < MAX_SYMLINK_DEPTH; depth++) {
+      Path target = Paths.get(new String(reader.open(objectId, OBJ_BLOB).getBytes(), UTF_8));
+      Path parent = Paths.get(path).getParent();
+      Path resolved = (parent == null ? target : parent.resolve(target)).normalize();
+      if (target.isAbsolute() || resolved.startsWith("..") || resolved.toString().isEmpty()) {
+        return null;
+      }
+      path = resolved.toString().replace('\\', '/');
+
+      try (TreeWalk treeWalk = TreeWalk.forPath(reader, path, rootTreeId)) {
+        if (treeWalk == null) {
+          return null;
+        }
+        FileMode fileMode = treeWalk.getFileMode(0);
+        if (fileMode == FileMode.REGULAR_FILE || fileMode == FileMode.EXECUTABLE_FILE) {
+          return treeWalk.getObjectId(0);
+        }
+        if (fileMode != FileMode.SYMLINK) {
+          return null;
+        }
+        objectId = treeWalk.getObjectId(0);
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Reads the blob line by line the way the files of a checkout were read, so that every line ends with a new line.
+   */
+  private String readBlob(ObjectReader reader, ObjectId blobId) throws IOException {
+    StringBuilder contentBuilder = new StringBuilder();
+    try (BufferedReader blobReader =
+             new BufferedReader(new InputStreamReader(reader.open(blobId, OBJ_BLOB).openStream(), UTF_8))) {
+      blobReader.lines().forEach(line -> contentBuilder.append(line).append('\n'));
+    }
+    return contentBuilder.toString();
+  }
+
   @VisibleForTesting
   Predicate<Path> matchingFilesExtensions(List<String> fileExtensions) {
     return path -> {
@@ -1031,22 +1190,7 @@ public class GitClientV2Impl implements GitClientV2 {
 
   private void checkoutFiles(FetchFilesByPathRequest request) {
     synchronized (gitClientHelper.getLockObject(request.getConnectorId())) {
-      log.info(new StringBuilder(128)
-                   .append(" Processing Git command: FETCH_FILES ")
-                   .append("Account: ")
-                   .append(request.getAccountId())
-                   .append(", repo: ")
-                   .append(request.getRepoUrl())
-                   .append(request.useBranch() ? ", Branch: " : ", CommitId: ")
-                   .append(request.useBranch() ? request.getBranch() : request.getCommitId())
-                   .append(", filePaths: ")
-                   .append(request.getFilePaths())
-                   .toString());
-
-      gitClientHelper.createDirStructureForFileDownload(request);
-
-      // clone repo locally without checkout
-      cloneRepoForFilePathCheckout(request);
+      fetchRepoForFileRead(request);
 
       // if useBranch is set, use it to checkout latest, else checkout given commitId
       if (request.useBranch()) {
@@ -1057,6 +1201,25 @@ public class GitClientV2Impl implements GitClientV2 {
     }
   }
 
+  private void fetchRepoForFileRead(FetchFilesByPathRequest request) {
+    log.info(new StringBuilder(128)
+                 .append(" Processing Git command: FETCH_FILES ")
+                 .append("Account: ")
+                 .append(request.getAccountId())
+                 .append(", repo: ")
+                 .append(request.getRepoUrl())
+                 .append(request.useBranch() ? ", Branch: " : ", CommitId: ")
+                 .append(request.useBranch() ? request.getBranch() : request.getCommitId())
+                 .append(", filePaths: ")
+                 .append(request.getFilePaths())
+                 .toString());
+
+    gitClientHelper.createDirStructureForFileDownload(request);
+
+    // clone repo locally without checkout
+    cloneRepoForFilePathCheckout(request);
+  }
+
   private void checkoutGivenCommitForPath(FetchFilesByPathRequest request) {
     try (Git git = Git.open(new File(gitClientHelper.getFileDownloadRepoDirectory(request)))) {
       log.info("Checking out commitId: " + request.getCommitId());
@@ -1105,6 +1268,16 @@ public class GitClientV2Impl implements GitClientV2 {
    * @param request
    */
   private synchronized void cloneRepoForFilePathCheckout(GitBaseRequest request) {
+    Lock writeLock = repoLocks.getUnchecked(gitClientHelper.getFileDownloadRepoDirectory(request)).writeLock();
+    writeLock.lock();
+    try {
+      fetchOrCloneRepoForFilePathCheckout(request);
+    } finally {
+      writeLock.unlock();
+    }
+  }
+
+  private void fetchOrCloneRepoForFilePathCheckout(GitBaseRequest request) {
     log.info(new StringBuilder(64)
                  .append(gitClientHelper.getGitLogMessagePrefix(request.getRepoType()))
                  .append("Cloning repo without checkout for file fetch op, for GitConfig: ")
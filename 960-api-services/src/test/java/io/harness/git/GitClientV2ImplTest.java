@@ -12,6 +12,7 @@ import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.assertj.core.api.Fail.fail;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyString;
@@ -25,6 +26,7 @@ import static org.mockito.Mockito.verify;
 import io.harness.CategoryTest;
 import io.harness.category.element.UnitTests;
 import io.harness.exception.GeneralException;
+import io.harness.exception.GitClientException;
 import io.harness.exception.InvalidRequestException;
 import io.harness.exception.YamlException;
 import io.harness.git.model.CommitAndPushRequest;
@@ -37,6 +39,7 @@ import io.harness.git.model.FetchFilesBwCommitsRequest;
 import io.harness.git.model.FetchFilesByPathRequest;
 import io.harness.git.model.FetchFilesResult;
 import io.harness.git.model.GitBaseRequest;
+import io.harness.git.model.GitFile;
 import io.harness.git.model.GitFileChange;
 import io.harness.git.model.PushResultGit;
 import io.harness.rule.Owner;
@@ -45,6 +48,7 @@ import java.io.File;
 import java.io.IOException;
 import java.net.UnknownHostException;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
@@ -368,6 +372,95 @@ public class GitClientV2ImplTest extends CategoryTest {
     gitClient.fetchFilesByPath(request);
   }
 
+  @Test
+  @Owner(developers = YOGESH)
+  @Category(UnitTests.class)
+  public void testFetchFilesByPathReadsGivenCommit() throws Exception {
+    FetchFilesByPathRequest request =
+        FetchFilesByPathRequest.builder()
+            .repoUrl(repoPath)
+            .authRequest(new UsernamePasswordAuthRequest(USERNAME, PASSWORD.toCharArray()))
+            .connectorId("CONNECTOR_ID")
+            .accountId("ACCOUNT_ID")
+            .filePaths(Collections.singletonList("./manifests/"))
+            .fileExtensions(Collections.singletonList(".yaml"))
+            .recursive(true)
+            .branch("master")
+            .build();
+    doReturn("").when(gitClientHelper).getLockObject(request.getConnectorId());
+    doNothing().when(gitClientHelper).createDirStructureForFileDownload(any());
+    doReturn(repoPath).when(gitClientHelper).getFileDownloadRepoDirectory(any());
+    addRemote(repoPath);
+    executeCommand(new StringBuilder(128)
+                       .append("cd " + repoPath + ";")
+                       .append("mkdir -p manifests/templates;")
+                       .append("printf 'kind: Service' > manifests/service.yaml;")
+                       .append("printf 'kind: Deployment\\r\\nmetadata: {}' > manifests/templates/deploy.yaml;")
+                       .append("touch manifests/notes.txt;")
+                       .append("git add manifests;")
+                       .append("git commit -m 'commit manifests';")
+                       .append("git push origin master;")
+                       .toString());
+
+    FetchFilesResult result = gitClient.fetchFilesByPath(request);
+    assertThat(result.getFiles())
+        .extracting(GitFile::getFilePath, GitFile::getFileContent)
+        .containsExactlyInAnyOrder(tuple("manifests/service.yaml", "kind: Service\n"),
+            tuple("manifests/templates/deploy.yaml", "kind: Deployment\nmetadata: {}\n"));
+
+    request.setRecursive(false);
+    assertThat(gitClient.fetchFilesByPath(request).getFiles())
+        .extracting(GitFile::getFilePath)
+        .containsExactly("manifests/service.yaml");
+
+    request.setBranch(null);
+    request.setCommitId("base");
+    assertThatThrownBy(() -> gitClient.fetchFilesByPath(request))
+        .isInstanceOf(GitClientException.class)
+        .hasCauseInstanceOf(NoSuchFileException.class);
+  }
+
+  @Test
+  @Owner(developers = YOGESH)
+  @Category(UnitTests.class)
+  public void testFetchFilesByPathFollowsSymlinks() throws Exception {
+    FetchFilesByPathRequest request =
+        FetchFilesByPathRequest.builder()
+            .repoUrl(repoPath)
+            .authRequest(new UsernamePasswordAuthRequest(USERNAME, PASSWORD.toCharArray()))
+            .connectorId("CONNECTOR_ID")
+            .accountId("ACCOUNT_ID")
+            .filePaths(Arrays.asList("./manifests/", "values-link.yaml"))
+            .fileExtensions(Collections.singletonList(".yaml"))
+            .recursive(true)
+            .branch("master")
+            .build();
+    doReturn("").when(gitClientHelper).getLockObject(request.getConnectorId());
+    doNothing().when(gitClientHelper).createDirStructureForFileDownload(any());
+    doReturn(repoPath).when(gitClientHelper).getFileDownloadRepoDirectory(any());
+    addRemote(repoPath);
+    executeCommand(new StringBuilder(128)
+                       .append("cd " + repoPath + ";")
+                       .append("mkdir -p manifests shared;")
+                       .append("printf 'replicas: 2' > shared/values.yaml;")
+                       .append("ln -s ../shared/values.yaml manifests/values.yaml;")
+                       .append("ln -s values.yaml manifests/chained.yaml;")
+                       .append("ln -s ../shared manifests/shared.yaml;")
+                       .append("ln -s ../missing.yaml manifests/dangling.yaml;")
+                       .append("ln -s ../../outside.yaml manifests/outside.yaml;")
+                       .append("ln -s shared/values.yaml values-link.yaml;")
+                       .append("git add manifests shared values-link.yaml;")
+                       .append("git commit -m 'commit symlinks';")
+                       .append("git push origin master;")
+                       .toString());
+
+    // Links to files are read as the file they point to, links to directories and out of the repo are skipped
+    assertThat(gitClient.fetchFilesByPath(request).getFiles())
+        .extracting(GitFile::getFilePath, GitFile::getFileContent)
+        .containsExactlyInAnyOrder(tuple("manifests/values.yaml", "replicas: 2\n"),
+            tuple("manifests/chained.yaml", "replicas: 2\n"), tuple("values-link.yaml", "replicas: 2\n"));
+  }
+
   @Test
   @Owner(developers = ARVIND)
   @Category(UnitTests.class)
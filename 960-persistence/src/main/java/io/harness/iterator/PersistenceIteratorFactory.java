@@ -19,8 +19,11 @@ import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.inject.Inject;
 import com.google.inject.Injector;
 import com.google.inject.Singleton;
+import io.dropwizard.lifecycle.Managed;
 import java.security.SecureRandom;
 import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
@@ -31,9 +34,11 @@ import lombok.extern.slf4j.Slf4j;
 @OwnedBy(PL)
 @Singleton
 @Slf4j
-public final class PersistenceIteratorFactory {
+public final class PersistenceIteratorFactory implements Managed {
   private static final SecureRandom random = new SecureRandom();
 
+  private final Queue<MongoPersistenceIterator<?, ?>> iterators = new ConcurrentLinkedQueue<>();
+
   @Inject Injector injector;
 
   @Inject WorkersConfiguration workersConfiguration;
@@ -47,11 +52,30 @@ public final class PersistenceIteratorFactory {
     }
 
     log.info("Worker {} is enabled in this setup", cls.getName());
-    MongoPersistenceIterator<T, F> iterator = builder.build();
+    MongoPersistenceIterator<T, F> iterator =
+        builder.metricRegistry(harnessMetricRegistry.getThreadPoolMetricRegistry()).build();
     injector.injectMembers(iterator);
+    iterators.add(iterator);
     return iterator;
   }
 
+  @Override
+  public void start() {
+    // Do nothing
+  }
+
+  @Override
+  public void stop() {
+    // Partitioned iterators would keep their partitions leased until the leases expire
+    for (MongoPersistenceIterator<?, ?> iterator : iterators) {
+      try {
+        iterator.releasePartitionLeases();
+      } catch (RuntimeException exception) {
+        log.error("Failed to release the partition leases of an iterator", exception);
+      }
+    }
+  }
+
   @Value
   @Builder
   public static class PumpExecutorOptions {
@@ -80,8 +104,10 @@ public final class PersistenceIteratorFactory {
     MongoPersistenceIterator<T, F> iterator = builder.mode(processMode)
                                                   .executorService(instrumentedExecutorService)
                                                   .semaphore(new Semaphore(options.getPoolSize()))
+                                                  .metricRegistry(metricRegistry)
                                                   .build();
     injector.injectMembers(iterator);
+    iterators.add(iterator);
     long millis = options.interval.toMillis();
     executor.scheduleAtFixedRate(iterator::process, random.nextInt((int) millis), millis, TimeUnit.MILLISECONDS);
 
@@ -59,6 +59,9 @@ public class MongoConfig {
 
   private boolean transactionsEnabled;
 
+  // Wakes queue consumers on messages published by other nodes, needs a replica set
+  @JsonProperty(defaultValue = "true") @Default private boolean queueChangeStreamsEnabled = true;
+
   @JsonProperty(defaultValue = "MANUAL") @Default @NotEmpty private IndexManager.Mode indexManagerMode = MANUAL;
 
   @JsonIgnore
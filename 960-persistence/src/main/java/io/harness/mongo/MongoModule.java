@@ -8,11 +8,15 @@ import static org.mongodb.morphia.logging.MorphiaLoggerFactory.registerLogger;
 import io.harness.exception.UnexpectedException;
 import io.harness.logging.MorphiaLoggerFactory;
 import io.harness.mongo.index.migrator.Migrator;
+import io.harness.mongo.queue.MongoChangeStreamQueueWakeupSignal;
 import io.harness.morphia.MorphiaModule;
 import io.harness.persistence.Store;
+import io.harness.queue.InProcessQueueWakeupSignal;
+import io.harness.queue.QueueWakeupSignal;
 import io.harness.serializer.KryoModule;
 
 import com.google.inject.AbstractModule;
+import com.google.inject.Injector;
 import com.google.inject.Provides;
 import com.google.inject.Singleton;
 import com.google.inject.multibindings.MapBinder;
@@ -75,6 +79,15 @@ public class MongoModule extends AbstractModule {
     MapBinder.newMapBinder(binder(), String.class, Migrator.class);
   }
 
+  @Provides
+  @Singleton
+  public QueueWakeupSignal queueWakeupSignal(MongoConfig mongoConfig, Injector injector) {
+    if (mongoConfig.isQueueChangeStreamsEnabled()) {
+      return injector.getInstance(MongoChangeStreamQueueWakeupSignal.class);
+    }
+    return injector.getInstance(InProcessQueueWakeupSignal.class);
+  }
+
   @Provides
   @Named("primaryDatastore")
   @Singleton
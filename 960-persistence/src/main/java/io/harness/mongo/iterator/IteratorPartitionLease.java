@@ -0,0 +1,36 @@
+package io.harness.mongo.iterator;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+
+import io.harness.annotation.HarnessEntity;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.mongo.index.FdIndex;
+import io.harness.persistence.PersistentEntity;
+import io.harness.persistence.UuidAccess;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.FieldNameConstants;
+import org.mongodb.morphia.annotations.Entity;
+import org.mongodb.morphia.annotations.Id;
+
+/**
+ * Ownership of one partition of a partitioned iterator. A partition is free when its lease expired.
+ */
+@OwnedBy(PL)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity(value = "iteratorPartitionLeases", noClassnameStored = true)
+@HarnessEntity(exportable = false)
+@FieldNameConstants(innerTypeName = "IteratorPartitionLeaseKeys")
+public class IteratorPartitionLease implements PersistentEntity, UuidAccess {
+  @Id private String uuid;
+  @FdIndex private String iteratorName;
+  private int partition;
+  private String owner;
+  private long expiresAt;
+}
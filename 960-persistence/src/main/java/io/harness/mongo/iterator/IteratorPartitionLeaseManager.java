@@ -0,0 +1,237 @@
+package io.harness.mongo.iterator;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.data.structure.UUIDGenerator.generateUuid;
+
+import static java.lang.System.currentTimeMillis;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.mongo.iterator.IteratorPartitionLease.IteratorPartitionLeaseKeys;
+import io.harness.mongo.iterator.IteratorPartitionMember.IteratorPartitionMemberKeys;
+import io.harness.persistence.HIterator;
+import io.harness.persistence.HPersistence;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableSortedSet;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.mongodb.morphia.query.Query;
+
+/**
+ * Splits the entities of an iterator into partitions by ranges of their ids and keeps a fair share of the partitions
+ * leased to this node. Every refresh renews the held leases and rebalances against the live members: a node above its
+ * share releases the extra partitions, a node below it claims expired ones. Leases only keep the nodes away from each
+ * other's entities; each entity is still claimed with a conditional update, so a partition that moves while being
+ * worked on never gets an entity processed twice.
+ */
+@OwnedBy(PL)
+@Slf4j
+public class IteratorPartitionLeaseManager {
+  // Ids are url safe base64 strings; the alphabet in the order mongo compares strings
+  private static final String ID_ALPHABET = "-0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ_abcdefghijklmnopqrstuvwxyz";
+  public static final int MAX_PARTITIONS = ID_ALPHABET.length();
+
+  // A single id for the process, the same node runs many iterators
+  private static final String NODE_ID = generateUuid();
+
+  private final HPersistence persistence;
+  @Getter private final String iteratorName;
+  @Getter private final int partitionCount;
+  private final Duration leaseDuration;
+  private final String owner;
+
+  private volatile SortedSet<Integer> ownedPartitions = ImmutableSortedSet.of();
+  private volatile long nextRefresh;
+  private boolean leasesCreated;
+  private boolean released;
+
+  @Getter private final AtomicLong lostLeases = new AtomicLong();
+
+  public IteratorPartitionLeaseManager(
+      HPersistence persistence, String iteratorName, int partitionCount, Duration leaseDuration) {
+    this(persistence, iteratorName, partitionCount, leaseDuration, NODE_ID);
+  }
+
+  @VisibleForTesting
+  IteratorPartitionLeaseManager(
+      HPersistence persistence, String iteratorName, int partitionCount, Duration leaseDuration, String owner) {
+    if (partitionCount < 1 || partitionCount > MAX_PARTITIONS) {
+      throw new IllegalArgumentException("Partition count must be between 1 and " + MAX_PARTITIONS);
+    }
+    this.persistence = persistence;
+    this.iteratorName = iteratorName;
+    this.partitionCount = partitionCount;
+    this.leaseDuration = leaseDuration;
+    this.owner = owner;
+  }
+
+  public SortedSet<Integer> getOwnedPartitions() {
+    return ownedPartitions;
+  }
+
+  /**
+   * Leases are renewed three times per lease duration.
+   */
+  public void refreshIfDue() {
+    long now = currentTimeMillis();
+    if (now >= nextRefresh) {
+      refresh(now);
+    }
+  }
+
+  public Duration getRefreshInterval() {
+    return leaseDuration.dividedBy(3);
+  }
+
+  @VisibleForTesting
+  synchronized void refresh(long now) {
+    if (released) {
+      return;
+    }
+    nextRefresh = now + getRefreshInterval().toMillis();
+    long expiresAt = now + leaseDuration.toMillis();
+
+    heartbeat(now, expiresAt);
+    createLeases();
+
+    SortedSet<Integer> held = new TreeSet<>();
+    try (HIterator<IteratorPartitionLease> leases = new HIterator<>(heldLeases(now).fetch())) {
+      for (IteratorPartitionLease lease : leases) {
+        held.add(lease.getPartition());
+      }
+    }
+
+    if (!held.isEmpty()) {
+      // A lease taken over in between is not renewed, and is counted as lost by the next refresh
+      persistence.update(heldLeases(now),
+          persistence.createUpdateOperations(IteratorPartitionLease.class)
+              .set(IteratorPartitionLeaseKeys.expiresAt, expiresAt));
+    }
+    int lost = ownedPartitions.size() - (int) ownedPartitions.stream().filter(held::contains).count();
+    if (lost > 0) {
+      lostLeases.addAndGet(lost);
+    }
+
+    int share = fairShare(now);
+    while (held.size() > share) {
+      Integer partition = held.last();
+      release(partition);
+      held.remove(partition);
+    }
+    while (held.size() < share) {
+      IteratorPartitionLease claimed = claimExpired(now, expiresAt);
+      if (claimed == null) {
+        break;
+      }
+      held.add(claimed.getPartition());
+    }
+
+    if (!held.equals(ownedPartitions)) {
+      log.info("Iterator {} owns partitions {} of {}", iteratorName, held, partitionCount);
+    }
+    ownedPartitions = ImmutableSortedSet.copyOf(held);
+  }
+
+  private void heartbeat(long now, long expiresAt) {
+    persistence.upsert(persistence.createQuery(IteratorPartitionMember.class)
+                           .filter(IteratorPartitionMemberKeys.uuid, memberId(owner)),
+        persistence.createUpdateOperations(IteratorPartitionMember.class)
+            .set(IteratorPartitionMemberKeys.iteratorName, iteratorName)
+            .set(IteratorPartitionMemberKeys.owner, owner)
+            .set(IteratorPartitionMemberKeys.heartbeatExpiresAt, expiresAt)
+            .set(IteratorPartitionMemberKeys.validUntil, new Date(expiresAt + leaseDuration.toMillis())));
+  }
+
+  private void createLeases() {
+    if (leasesCreated) {
+      return;
+    }
+    List<IteratorPartitionLease> leases = new ArrayList<>(partitionCount);
+    for (int partition = 0; partition < partitionCount; partition++) {
+      leases.add(IteratorPartitionLease.builder()
+                     .uuid(leaseId(partition))
+                     .iteratorName(iteratorName)
+                     .partition(partition)
+                     .build());
+    }
+    persistence.saveIgnoringDuplicateKeys(leases);
+    leasesCreated = true;
+  }
+
+  private int fairShare(long now) {
+    long members = persistence.createQuery(IteratorPartitionMember.class)
+                       .filter(IteratorPartitionMemberKeys.iteratorName, iteratorName)
+                       .field(IteratorPartitionMemberKeys.heartbeatExpiresAt)
+                       .greaterThan(now)
+                       .count();
+    return (int) ((partitionCount + Math.max(members, 1) - 1) / Math.max(members, 1));
+  }
+
+  private Query<IteratorPartitionLease> heldLeases(long now) {
+    return persistence.createQuery(IteratorPartitionLease.class)
+        .filter(IteratorPartitionLeaseKeys.iteratorName, iteratorName)
+        .filter(IteratorPartitionLeaseKeys.owner, owner)
+        .field(IteratorPartitionLeaseKeys.expiresAt)
+        .greaterThan(now);
+  }
+
+  private void release(int partition) {
+    persistence.update(persistence.createQuery(IteratorPartitionLease.class)
+                           .filter(IteratorPartitionLeaseKeys.uuid, leaseId(partition))
+                           .filter(IteratorPartitionLeaseKeys.owner, owner),
+        persistence.createUpdateOperations(IteratorPartitionLease.class)
+            .unset(IteratorPartitionLeaseKeys.owner)
+            .set(IteratorPartitionLeaseKeys.expiresAt, 0L));
+  }
+
+  private IteratorPartitionLease claimExpired(long now, long expiresAt) {
+    return persistence.findAndModifySystemData(persistence.createQuery(IteratorPartitionLease.class)
+                                                   .filter(IteratorPartitionLeaseKeys.iteratorName, iteratorName)
+                                                   .field(IteratorPartitionLeaseKeys.expiresAt)
+                                                   .lessThanOrEq(now),
+        persistence.createUpdateOperations(IteratorPartitionLease.class)
+            .set(IteratorPartitionLeaseKeys.owner, owner)
+            .set(IteratorPartitionLeaseKeys.expiresAt, expiresAt),
+        HPersistence.returnNewOptions);
+  }
+
+  /**
+   * Releases everything, so that the other nodes do not have to wait for the leases to expire. Called when the node
+   * shuts down, later refreshes do not claim anything again.
+   */
+  public synchronized void releaseAll() {
+    released = true;
+    ownedPartitions.forEach(this::release);
+    ownedPartitions = ImmutableSortedSet.of();
+    persistence.delete(IteratorPartitionMember.class, memberId(owner));
+  }
+
+  private String leaseId(int partition) {
+    return iteratorName + "/" + partition;
+  }
+
+  private String memberId(String member) {
+    return iteratorName + "/" + member;
+  }
+
+  /**
+   * Lowest id of the partition, inclusive, or null for the first partition.
+   */
+  public static String lowerId(int partition, int partitionCount) {
+    return partition == 0 ? null : String.valueOf(ID_ALPHABET.charAt(partition * MAX_PARTITIONS / partitionCount));
+  }
+
+  /**
+   * Highest id of the partition, exclusive, or null for the last partition.
+   */
+  public static String upperId(int partition, int partitionCount) {
+    return partition == partitionCount - 1 ? null : lowerId(partition + 1, partitionCount);
+  }
+}
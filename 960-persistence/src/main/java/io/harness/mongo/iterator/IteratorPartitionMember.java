@@ -0,0 +1,39 @@
+package io.harness.mongo.iterator;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+
+import io.harness.annotation.HarnessEntity;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.mongo.index.FdIndex;
+import io.harness.mongo.index.FdTtlIndex;
+import io.harness.persistence.PersistentEntity;
+import io.harness.persistence.UuidAccess;
+
+import java.util.Date;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.FieldNameConstants;
+import org.mongodb.morphia.annotations.Entity;
+import org.mongodb.morphia.annotations.Id;
+
+/**
+ * Heartbeat of a node that runs a partitioned iterator. The live members decide the fair share of partitions of every
+ * node.
+ */
+@OwnedBy(PL)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity(value = "iteratorPartitionMembers", noClassnameStored = true)
+@HarnessEntity(exportable = false)
+@FieldNameConstants(innerTypeName = "IteratorPartitionMemberKeys")
+public class IteratorPartitionMember implements PersistentEntity, UuidAccess {
+  @Id private String uuid;
+  @FdIndex private String iteratorName;
+  private String owner;
+  private long heartbeatExpiresAt;
+  @FdTtlIndex private Date validUntil;
+}
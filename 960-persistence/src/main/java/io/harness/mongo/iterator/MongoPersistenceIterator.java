@@ -4,6 +4,8 @@ import static io.harness.data.structure.EmptyPredicate.isNotEmpty;
 import static io.harness.govern.Switch.unhandled;
 import static io.harness.iterator.PersistenceIterator.ProcessMode.PUMP;
 import static io.harness.logging.AutoLogContext.OverrideBehavior.OVERRIDE_ERROR;
+import static io.harness.mongo.iterator.IteratorPartitionLeaseManager.lowerId;
+import static io.harness.mongo.iterator.IteratorPartitionLeaseManager.upperId;
 import static io.harness.mongo.iterator.MongoPersistenceIterator.SchedulingType.IRREGULAR_SKIP_MISSED;
 import static io.harness.mongo.iterator.MongoPersistenceIterator.SchedulingType.REGULAR;
 import static io.harness.threading.Morpheus.sleep;
@@ -11,6 +13,7 @@ import static io.harness.threading.Morpheus.sleep;
 import static java.lang.System.currentTimeMillis;
 import static java.time.Duration.ZERO;
 import static java.time.Duration.ofMillis;
+import static java.time.Duration.ofMinutes;
 import static java.time.Duration.ofSeconds;
 
 import io.harness.iterator.PersistenceIterator;
@@ -24,11 +27,15 @@ import io.harness.mongo.EntityProcessController;
 import io.harness.mongo.ProcessTimeLogContext;
 import io.harness.mongo.iterator.filter.FilterExpander;
 import io.harness.mongo.iterator.provider.PersistenceProvider;
+import io.harness.persistence.HPersistence;
 import io.harness.queue.QueueController;
 
+import com.codahale.metrics.MetricRegistry;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.inject.Inject;
 import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Semaphore;
@@ -41,8 +48,11 @@ import lombok.extern.slf4j.Slf4j;
 public class MongoPersistenceIterator<T extends PersistentIterable, F extends FilterExpander>
     implements PersistenceIterator<T> {
   private static final Duration QUERY_TIME = ofMillis(200);
+  private static final Duration DEFAULT_PARTITION_LEASE_DURATION = ofMinutes(1);
+  private static final int PREFETCH_WINDOW = 100;
 
   @Inject private final QueueController queueController;
+  @Inject(optional = true) private HPersistence persistence;
 
   public interface Handler<T> {
     void handle(T entity);
@@ -67,6 +77,13 @@ public class MongoPersistenceIterator<T extends PersistentIterable, F extends Fi
   private EntityProcessController<T> entityProcessController;
   @Getter private SchedulingType schedulingType;
 
+  // With partitions every node works only on the id ranges it holds a lease for, instead of all nodes competing
+  // for the same next due entity. Zero keeps the single shared queue.
+  private int partitionCount;
+  private Duration partitionLeaseDuration;
+  private IteratorPartitionLeaseManager partitionLeaseManager;
+  private MetricRegistry metricRegistry;
+
   private long movingAvg(long current, long sample) {
     return (15 * current + sample) / 16;
   }
@@ -95,6 +112,7 @@ public class MongoPersistenceIterator<T extends PersistentIterable, F extends Fi
   public void process() {
     long movingAverage = 0;
     long previous = 0;
+    Deque<T> prefetched = new ArrayDeque<>();
     while (true) {
       if (!shouldProcess()) {
         if (mode == PUMP) {
@@ -119,8 +137,7 @@ public class MongoPersistenceIterator<T extends PersistentIterable, F extends Fi
 
         T entity = null;
         try {
-          entity = persistenceProvider.obtainNextInstance(
-              base, throttled, clazz, fieldName, schedulingType, targetInterval, filterExpander);
+          entity = obtainNextEntity(prefetched, base, throttled);
         } finally {
           semaphore.release();
         }
@@ -163,6 +180,12 @@ public class MongoPersistenceIterator<T extends PersistentIterable, F extends Fi
         T next = persistenceProvider.findInstance(clazz, fieldName, filterExpander);
 
         long sleepMillis = calculateSleepDuration(next).toMillis();
+        if (partitionCount > 0) {
+          // The next entity might be in a partition of another node, do not spin on it but check our partitions
+          // again at the latest when the leases are refreshed
+          sleepMillis = Math.max(ofSeconds(1).toMillis(),
+              Math.min(sleepMillis, obtainPartitionLeaseManager().getRefreshInterval().toMillis()));
+        }
         // Do not sleep with 0, it is actually infinite sleep
         if (sleepMillis > 0) {
           synchronized (this) {
@@ -179,6 +202,68 @@ public class MongoPersistenceIterator<T extends PersistentIterable, F extends Fi
     }
   }
 
+  private T obtainNextEntity(Deque<T> prefetched, long base, long throttled) {
+    if (partitionCount == 0) {
+      return persistenceProvider.obtainNextInstance(
+          base, throttled, clazz, fieldName, schedulingType, targetInterval, filterExpander);
+    }
+
+    IteratorPartitionLeaseManager leaseManager = obtainPartitionLeaseManager();
+    long lostLeases = leaseManager.getLostLeases().get();
+    leaseManager.refreshIfDue();
+    markMeter("lost_leases", leaseManager.getLostLeases().get() - lostLeases);
+
+    if (prefetched.isEmpty()) {
+      long now = currentTimeMillis();
+      for (int partition : leaseManager.getOwnedPartitions()) {
+        prefetched.addAll(persistenceProvider.findDueInstances(now, lowerId(partition, partitionCount),
+            upperId(partition, partitionCount), PREFETCH_WINDOW, clazz, fieldName, filterExpander));
+      }
+    }
+
+    while (!prefetched.isEmpty()) {
+      T entity = persistenceProvider.claimInstance(prefetched.poll().getUuid(), base, throttled, clazz, fieldName,
+          schedulingType, targetInterval, filterExpander);
+      if (entity != null) {
+        return entity;
+      }
+      // Processed since the prefetch, by us through a wakeup or by the previous owner of the partition
+      markMeter("claim_conflicts", 1);
+    }
+    return null;
+  }
+
+  private synchronized IteratorPartitionLeaseManager obtainPartitionLeaseManager() {
+    if (partitionLeaseManager == null) {
+      if (persistence == null) {
+        throw new IllegalStateException("Partitioned iterator " + iteratorName() + " requires HPersistence");
+      }
+      partitionLeaseManager = new IteratorPartitionLeaseManager(persistence, iteratorName(), partitionCount,
+          partitionLeaseDuration == null ? DEFAULT_PARTITION_LEASE_DURATION : partitionLeaseDuration);
+    }
+    return partitionLeaseManager;
+  }
+
+  /**
+   * Hands the partitions of this node over to the other nodes right away, instead of them waiting for the leases
+   * to expire.
+   */
+  public synchronized void releasePartitionLeases() {
+    if (partitionLeaseManager != null) {
+      partitionLeaseManager.releaseAll();
+    }
+  }
+
+  private String iteratorName() {
+    return clazz.getSimpleName() + "-" + fieldName;
+  }
+
+  private void markMeter(String name, long count) {
+    if (metricRegistry != null && count > 0) {
+      metricRegistry.meter(MetricRegistry.name("Iterator-" + iteratorName(), name)).mark(count);
+    }
+  }
+
   public void recoverAfterPause() {
     persistenceProvider.recoverAfterPause(clazz, fieldName);
   }
@@ -228,6 +313,10 @@ public class MongoPersistenceIterator<T extends PersistentIterable, F extends Fi
         }
 
         long delay = nextIteration == null || nextIteration == 0 ? 0 : startTime - nextIteration;
+        if (metricRegistry != null) {
+          metricRegistry.histogram(MetricRegistry.name("Iterator-" + iteratorName(), "delay")).update(delay);
+        }
+        markMeter("processed", 1);
 
         try (DelayLogContext ignore2 = new DelayLogContext(delay, OVERRIDE_ERROR)) {
           if (delay < acceptableNoAlertDelay.toMillis()) {
@@ -3,6 +3,7 @@ package io.harness.mongo.iterator.provider;
 import static io.harness.govern.Switch.unhandled;
 
 import static java.lang.System.currentTimeMillis;
+import static org.mongodb.morphia.mapping.Mapper.ID_KEY;
 
 import io.harness.iterator.PersistentIterable;
 import io.harness.mongo.iterator.MongoPersistenceIterator.SchedulingType;
@@ -15,6 +16,7 @@ import com.mongodb.BasicDBObject;
 import java.time.Duration;
 import java.util.List;
 import org.mongodb.morphia.query.FilterOperator;
+import org.mongodb.morphia.query.FindOptions;
 import org.mongodb.morphia.query.Query;
 import org.mongodb.morphia.query.Sort;
 import org.mongodb.morphia.query.UpdateOperations;
@@ -48,11 +50,8 @@ public class MorphiaPersistenceRequiredProvider<T extends PersistentIterable>
     persistence.update(entity, operations);
   }
 
-  @Override
-  public T obtainNextInstance(long base, long throttled, Class<T> clazz, String fieldName,
-      SchedulingType schedulingType, Duration targetInterval, MorphiaFilterExpander<T> filterExpander) {
-    long now = currentTimeMillis();
-    Query<T> query = createQuery(now, clazz, fieldName, filterExpander);
+  private UpdateOperations<T> createUpdateOperations(long base, long throttled, Class<T> clazz, String fieldName,
+      SchedulingType schedulingType, Duration targetInterval) {
     UpdateOperations<T> updateOperations = persistence.createUpdateOperations(clazz);
     switch (schedulingType) {
       case REGULAR:
@@ -67,7 +66,40 @@ public class MorphiaPersistenceRequiredProvider<T extends PersistentIterable>
       default:
         unhandled(schedulingType);
     }
-    return persistence.findAndModifySystemData(query, updateOperations, HPersistence.returnOldOptions);
+    return updateOperations;
+  }
+
+  @Override
+  public T obtainNextInstance(long base, long throttled, Class<T> clazz, String fieldName,
+      SchedulingType schedulingType, Duration targetInterval, MorphiaFilterExpander<T> filterExpander) {
+    long now = currentTimeMillis();
+    Query<T> query = createQuery(now, clazz, fieldName, filterExpander);
+    return persistence.findAndModifySystemData(query,
+        createUpdateOperations(base, throttled, clazz, fieldName, schedulingType, targetInterval),
+        HPersistence.returnOldOptions);
+  }
+
+  @Override
+  public List<T> findDueInstances(long now, String lowerId, String upperId, int limit, Class<T> clazz,
+      String fieldName, MorphiaFilterExpander<T> filterExpander) {
+    Query<T> query = createQuery(now, clazz, fieldName, filterExpander).project(fieldName, true);
+    if (lowerId != null) {
+      query.field(ID_KEY).greaterThanOrEq(lowerId);
+    }
+    if (upperId != null) {
+      query.field(ID_KEY).lessThan(upperId);
+    }
+    return query.asList(new FindOptions().limit(limit));
+  }
+
+  @Override
+  public T claimInstance(String uuid, long base, long throttled, Class<T> clazz, String fieldName,
+      SchedulingType schedulingType, Duration targetInterval, MorphiaFilterExpander<T> filterExpander) {
+    long now = currentTimeMillis();
+    Query<T> query = createQuery(now, clazz, fieldName, filterExpander).filter(ID_KEY, uuid);
+    return persistence.findAndModifySystemData(query,
+        createUpdateOperations(base, throttled, clazz, fieldName, schedulingType, targetInterval),
+        HPersistence.returnOldOptions);
   }
 
   @Override
@@ -13,5 +13,14 @@ public interface PersistenceProvider<T extends PersistentIterable, F extends Fil
   T obtainNextInstance(long base, long throttled, Class<T> clazz, String fieldName, SchedulingType schedulingType,
       Duration targetInterval, F filterExpander);
   T findInstance(Class<T> clazz, String fieldName, F filterExpander);
+
+  /**
+   * Lists up to limit entities due at now with ids in [lowerId, upperId), a null bound leaves that side open. The
+   * entities are not claimed, each of them has to be claimed with claimInstance before it is processed.
+   */
+  List<T> findDueInstances(long now, String lowerId, String upperId, int limit, Class<T> clazz, String fieldName,
+      F filterExpander);
+  T claimInstance(String uuid, long base, long throttled, Class<T> clazz, String fieldName,
+      SchedulingType schedulingType, Duration targetInterval, F filterExpander);
   void recoverAfterPause(Class<T> clazz, String fieldName);
 }
@@ -3,6 +3,7 @@ package io.harness.mongo.iterator.provider;
 import static io.harness.govern.Switch.unhandled;
 
 import static java.lang.System.currentTimeMillis;
+import static org.mongodb.morphia.mapping.Mapper.ID_KEY;
 
 import io.harness.iterator.PersistentIterable;
 import io.harness.mongo.iterator.MongoPersistenceIterator.SchedulingType;
@@ -60,11 +61,8 @@ public class SpringPersistenceProvider<T extends PersistentIterable>
     persistence.updateFirst(new Query(Criteria.where("_id").is(entity.getUuid())), update, clazz);
   }
 
-  @Override
-  public T obtainNextInstance(long base, long throttled, Class<T> clazz, String fieldName,
-      SchedulingType schedulingType, Duration targetInterval, SpringFilterExpander filterExpander) {
-    long now = currentTimeMillis();
-    Query query = createQuery(now, clazz, fieldName, filterExpander);
+  private Update createUpdate(
+      long base, long throttled, String fieldName, SchedulingType schedulingType, Duration targetInterval) {
     Update update = new Update();
     switch (schedulingType) {
       case REGULAR:
@@ -79,8 +77,43 @@ public class SpringPersistenceProvider<T extends PersistentIterable>
       default:
         unhandled(schedulingType);
     }
-    return persistence.findAndModify(
-        query, update, FindAndModifyOptions.options().upsert(false).returnNew(false), clazz);
+    return update;
+  }
+
+  @Override
+  public T obtainNextInstance(long base, long throttled, Class<T> clazz, String fieldName,
+      SchedulingType schedulingType, Duration targetInterval, SpringFilterExpander filterExpander) {
+    long now = currentTimeMillis();
+    Query query = createQuery(now, clazz, fieldName, filterExpander);
+    return persistence.findAndModify(query, createUpdate(base, throttled, fieldName, schedulingType, targetInterval),
+        FindAndModifyOptions.options().upsert(false).returnNew(false), clazz);
+  }
+
+  @Override
+  public List<T> findDueInstances(long now, String lowerId, String upperId, int limit, Class<T> clazz,
+      String fieldName, SpringFilterExpander filterExpander) {
+    Query query = createQuery(now, clazz, fieldName, filterExpander).limit(limit);
+    query.fields().include(fieldName);
+    if (lowerId != null || upperId != null) {
+      Criteria range = Criteria.where(ID_KEY);
+      if (lowerId != null) {
+        range.gte(lowerId);
+      }
+      if (upperId != null) {
+        range.lt(upperId);
+      }
+      query.addCriteria(range);
+    }
+    return persistence.find(query, clazz);
+  }
+
+  @Override
+  public T claimInstance(String uuid, long base, long throttled, Class<T> clazz, String fieldName,
+      SchedulingType schedulingType, Duration targetInterval, SpringFilterExpander filterExpander) {
+    long now = currentTimeMillis();
+    Query query = createQuery(now, clazz, fieldName, filterExpander).addCriteria(Criteria.where(ID_KEY).is(uuid));
+    return persistence.findAndModify(query, createUpdate(base, throttled, fieldName, schedulingType, targetInterval),
+        FindAndModifyOptions.options().upsert(false).returnNew(false), clazz);
   }
 
   @Override
@@ -0,0 +1,145 @@
+package io.harness.mongo.queue;
+
+import static io.harness.threading.Morpheus.sleep;
+
+import static java.time.Duration.ofMinutes;
+import static java.time.Duration.ofSeconds;
+import static java.util.Arrays.asList;
+
+import io.harness.queue.InProcessQueueWakeupSignal;
+import io.harness.queue.Queuable;
+import io.harness.queue.Queuable.QueuableKeys;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.inject.Singleton;
+import com.mongodb.MongoCommandException;
+import com.mongodb.MongoInterruptedException;
+import com.mongodb.client.ChangeStreamIterable;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.FullDocument;
+import io.dropwizard.lifecycle.Managed;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+
+/**
+ * Wakes up consumers on any node as soon as a message is inserted or requeued, by tailing a change stream
+ * of every queue collection that has a subscribed consumer on this node. The change streams are opened once the
+ * signal is started as a managed object, until then only messages published by this node wake consumers up. The same
+ * goes for databases that do not support change streams, like standalone servers.
+ */
+@Slf4j
+@Singleton
+public class MongoChangeStreamQueueWakeupSignal extends InProcessQueueWakeupSignal implements Managed {
+  // Heartbeats only move earliestGet forward, they never make a message available. Inserts and requeues
+  // (which reset retries) are the only changes consumers care about.
+  private static final List<Bson> PIPELINE = asList(Aggregates.match(Filters.or(Filters.eq("operationType", "insert"),
+      Filters.exists("updateDescription.updatedFields." + QueuableKeys.retries))));
+
+  // Returned when the $changeStream stage is not supported, by standalone servers and by servers older than 3.6
+  private static final Set<Integer> UNSUPPORTED_ERROR_CODES = ImmutableSet.of(40573, 40324);
+  private static final Duration MIN_REOPEN_DELAY = ofSeconds(1);
+  private static final Duration MAX_REOPEN_DELAY = ofMinutes(1);
+
+  private final Map<Class<? extends Queuable>, Supplier<MongoCollection<Document>>> collections =
+      new ConcurrentHashMap<>();
+  private final Set<Class<? extends Queuable>> followedClasses = ConcurrentHashMap.newKeySet();
+  private final ExecutorService executorService =
+      Executors.newCachedThreadPool(new ThreadFactoryBuilder().setNameFormat("queue-change-stream-%d").build());
+  private volatile boolean started;
+  private final AtomicBoolean unsupported = new AtomicBoolean();
+
+  @Override
+  public void watch(Class<? extends Queuable> klass, Supplier<MongoCollection<Document>> collection) {
+    collections.putIfAbsent(klass, collection);
+    if (started) {
+      follow(klass);
+    }
+  }
+
+  private void follow(Class<? extends Queuable> klass) {
+    if (!unsupported.get() && followedClasses.add(klass)) {
+      Supplier<MongoCollection<Document>> collection = collections.get(klass);
+      executorService.submit(() -> follow(klass, collection));
+    }
+  }
+
+  private void follow(Class<? extends Queuable> klass, Supplier<MongoCollection<Document>> collectionSupplier) {
+    final String queueName = klass.getSimpleName();
+    BsonDocument resumeToken = null;
+    Duration reopenDelay = MIN_REOPEN_DELAY;
+
+    while (!unsupported.get() && !Thread.currentThread().isInterrupted()) {
+      try (MongoCursor<ChangeStreamDocument<Document>> cursor =
+               openChangeStream(collectionSupplier.get(), resumeToken).iterator()) {
+        log.info("Queue change stream opened for {}", queueName);
+        while (cursor.hasNext()) {
+          ChangeStreamDocument<Document> change = cursor.next();
+          resumeToken = change.getResumeToken();
+          reopenDelay = MIN_REOPEN_DELAY;
+          Document document = change.getFullDocument();
+          if (document != null) {
+            signal(klass, document.getString(QueuableKeys.topic), document.getDate(QueuableKeys.earliestGet));
+          }
+        }
+      } catch (MongoInterruptedException exception) {
+        Thread.currentThread().interrupt();
+      } catch (MongoCommandException exception) {
+        if (!UNSUPPORTED_ERROR_CODES.contains(exception.getErrorCode())) {
+          resumeToken = null;
+          reopenDelay = reopenAfter(queueName, reopenDelay, exception);
+        } else if (unsupported.compareAndSet(false, true)) {
+          log.warn("The database does not support change streams, queue consumers are only woken up by messages "
+                  + "published on this node",
+              exception);
+        }
+      } catch (RuntimeException exception) {
+        resumeToken = null;
+        reopenDelay = reopenAfter(queueName, reopenDelay, exception);
+      }
+    }
+    log.info("Queue change stream for {} stopped", queueName);
+  }
+
+  private static Duration reopenAfter(String queueName, Duration reopenDelay, RuntimeException exception) {
+    log.error("Queue change stream for {} failed, reopening in {}", queueName, reopenDelay, exception);
+    sleep(reopenDelay);
+    Duration nextDelay = reopenDelay.multipliedBy(2);
+    return nextDelay.compareTo(MAX_REOPEN_DELAY) > 0 ? MAX_REOPEN_DELAY : nextDelay;
+  }
+
+  private static ChangeStreamIterable<Document> openChangeStream(
+      MongoCollection<Document> collection, BsonDocument resumeToken) {
+    ChangeStreamIterable<Document> changeStreamIterable =
+        collection.watch(PIPELINE).fullDocument(FullDocument.UPDATE_LOOKUP).maxAwaitTime(1, TimeUnit.MINUTES);
+    return resumeToken == null ? changeStreamIterable : changeStreamIterable.resumeAfter(resumeToken);
+  }
+
+  @Override
+  public void start() throws Exception {
+    started = true;
+    collections.keySet().forEach(this::follow);
+  }
+
+  @Override
+  public void stop() throws Exception {
+    executorService.shutdownNow();
+    executorService.awaitTermination(1, TimeUnit.MINUTES);
+  }
+}
@@ -1,6 +1,8 @@
 package io.harness.mongo.queue;
 
+import static io.harness.data.structure.EmptyPredicate.isEmpty;
 import static io.harness.data.structure.EmptyPredicate.isNotEmpty;
+import static io.harness.data.structure.UUIDGenerator.generateUuid;
 import static io.harness.govern.Switch.unhandled;
 import static io.harness.persistence.HPersistence.returnOldOptions;
 import static io.harness.persistence.HQuery.excludeAuthority;
@@ -12,21 +14,31 @@ import io.harness.persistence.HPersistence;
 import io.harness.queue.Queuable;
 import io.harness.queue.Queuable.QueuableKeys;
 import io.harness.queue.QueueConsumer;
+import io.harness.queue.QueueWakeupSignal;
+import io.harness.queue.QueueWakeupSignal.Subscription;
 import io.harness.queue.TopicUtils;
 
 import com.google.inject.Inject;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.mongodb.morphia.AdvancedDatastore;
+import org.mongodb.morphia.query.FindOptions;
 import org.mongodb.morphia.query.Query;
 import org.mongodb.morphia.query.Sort;
 import org.mongodb.morphia.query.UpdateOperations;
+import org.mongodb.morphia.query.UpdateResults;
 
 @Slf4j
 public class MongoQueueConsumer<T extends Queuable> implements QueueConsumer<T> {
@@ -36,6 +48,7 @@ public class MongoQueueConsumer<T extends Queuable> implements QueueConsumer<T>
 
   private Semaphore semaphore = new Semaphore(1);
   @Inject private HPersistence persistence;
+  @Inject(optional = true) private QueueWakeupSignal wakeupSignal;
 
   public MongoQueueConsumer(Class<T> klass, Duration heartbeat, List<List<String>> topicExpression) {
     Objects.requireNonNull(klass);
@@ -51,7 +64,9 @@ public class MongoQueueConsumer<T extends Queuable> implements QueueConsumer<T>
     try {
       acquired = semaphore.tryAcquire(wait.toMillis(), TimeUnit.MILLISECONDS);
       if (acquired) {
-        return getUnderLock(endTime, poll);
+        try (Subscription subscription = subscribe()) {
+          return getUnderLock(endTime, poll, subscription);
+        }
       }
     } catch (InterruptedException e) {
       Thread.currentThread().interrupt();
@@ -63,7 +78,7 @@ public class MongoQueueConsumer<T extends Queuable> implements QueueConsumer<T>
     return null;
   }
 
-  private T getUnderLock(long endTime, Duration poll) {
+  private T getUnderLock(long endTime, Duration poll, Subscription subscription) {
     while (true) {
       final Date now = new Date();
 
@@ -85,7 +100,12 @@ public class MongoQueueConsumer<T extends Queuable> implements QueueConsumer<T>
       }
 
       try {
-        Thread.sleep(poll.toMillis());
+        if (subscription != null) {
+          // Expired leases are not signaled, they are still picked up at the poll interval
+          subscription.await(Duration.ofMillis(Math.min(poll.toMillis(), endTime - System.currentTimeMillis())));
+        } else {
+          Thread.sleep(poll.toMillis());
+        }
       } catch (InterruptedException e) {
         Thread.currentThread().interrupt();
         return null;
@@ -95,6 +115,116 @@ public class MongoQueueConsumer<T extends Queuable> implements QueueConsumer<T>
     }
   }
 
+  @Override
+  public List<T> getBatch(int batchSize, Duration wait, Duration poll) {
+    long endTime = System.currentTimeMillis() + wait.toMillis();
+    try (Subscription subscription = subscribe()) {
+      return getBatch(batchSize, endTime, poll, subscription);
+    }
+  }
+
+  private List<T> getBatch(int batchSize, long endTime, Duration poll, Subscription subscription) {
+    while (true) {
+      List<T> messages = claimBatch(batchSize);
+      if (isNotEmpty(messages)) {
+        return messages;
+      }
+
+      if (System.currentTimeMillis() >= endTime) {
+        return Collections.emptyList();
+      }
+
+      try {
+        if (subscription != null) {
+          // Expired leases are not signaled, they are still picked up at the poll interval
+          subscription.await(Duration.ofMillis(Math.min(poll.toMillis(), endTime - System.currentTimeMillis())));
+        } else {
+          Thread.sleep(poll.toMillis());
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return Collections.emptyList();
+      } catch (final IllegalArgumentException ex) {
+        poll = Duration.ofMillis(0);
+      }
+    }
+  }
+
+  // The claim is guarded by the earliestGet condition, so concurrent consumers do not need the semaphore: every
+  // document ends up with exactly one lease token and only the owner of that token reads it back.
+  private List<T> claimBatch(int batchSize) {
+    final Date now = new Date();
+
+    // The claim moves earliestGet to the lease expiry, remember when every candidate became due so the
+    // queue delay of the claimed messages is reported the same way as for single gets.
+    Map<String, Date> candidates = new LinkedHashMap<>();
+    createQuery()
+        .field(QueuableKeys.earliestGet)
+        .lessThanOrEq(now)
+        .order(Sort.ascending(QueuableKeys.earliestGet))
+        .project(QueuableKeys.id, true)
+        .project(QueuableKeys.earliestGet, true)
+        .asList(new FindOptions().limit(batchSize))
+        .forEach(candidate -> candidates.put(candidate.getId(), candidate.getEarliestGet()));
+    if (isEmpty(candidates)) {
+      return Collections.emptyList();
+    }
+
+    final String leaseToken = generateUuid();
+    List<String> candidateIds = new ArrayList<>(candidates.keySet());
+    Query<T> claimQuery = persistence.createQuery(klass)
+                              .field(QueuableKeys.id)
+                              .in(candidateIds)
+                              .field(QueuableKeys.earliestGet)
+                              .lessThanOrEq(now);
+    final Date leaseExpiry = new Date(now.getTime() + heartbeat().toMillis());
+    UpdateOperations<T> updateOperations = persistence.createUpdateOperations(klass)
+                                               .set(QueuableKeys.earliestGet, leaseExpiry)
+                                               .set(QueuableKeys.leaseToken, leaseToken);
+
+    UpdateResults updateResults = persistence.update(claimQuery, updateOperations);
+    if (updateResults.getUpdatedCount() == 0) {
+      return Collections.emptyList();
+    }
+
+    List<T> messages = persistence.createQuery(klass)
+                           .field(QueuableKeys.id)
+                           .in(candidateIds)
+                           .filter(QueuableKeys.leaseToken, leaseToken)
+                           .asList();
+    messages.forEach(message -> message.setEarliestGet(candidates.get(message.getId())));
+    messages.sort(Comparator.comparingInt(message -> candidateIds.indexOf(message.getId())));
+    return messages;
+  }
+
+  @Override
+  public void updateBatchHeartbeat(List<T> messages) {
+    if (isEmpty(messages)) {
+      return;
+    }
+
+    Date earliestGet = new Date(System.currentTimeMillis() + heartbeat().toMillis());
+
+    // Only leases this consumer still owns are extended. A message whose lease expired and was claimed again
+    // carries the token of the new claim, which is not one of ours.
+    Query<T> query = persistence.createQuery(klass)
+                         .field(QueuableKeys.id)
+                         .in(messages.stream().map(Queuable::getId).collect(Collectors.toList()))
+                         .field(QueuableKeys.leaseToken)
+                         .in(messages.stream().map(Queuable::getLeaseToken).collect(Collectors.toSet()));
+    UpdateOperations<T> updateOperations =
+        persistence.createUpdateOperations(klass).set(QueuableKeys.earliestGet, earliestGet);
+
+    UpdateResults updateResults = persistence.update(query, updateOperations);
+    messages.forEach(message -> message.setEarliestGet(earliestGet));
+
+    if (updateResults.getUpdatedCount() < messages.size()) {
+      // Messages that were acked while the refresh was in flight are expected to be missing, the others lost
+      // their lease to another consumer.
+      log.debug("Batch heartbeat refreshed {} out of {} messages", updateResults.getUpdatedCount(), messages.size());
+    }
+  }
+
   @Override
   public void updateHeartbeat(T message) {
     Date earliestGet = new Date(System.currentTimeMillis() + heartbeat().toMillis());
@@ -150,6 +280,23 @@ public class MongoQueueConsumer<T extends Queuable> implements QueueConsumer<T>
         persistence.createUpdateOperations(klass)
             .set(QueuableKeys.retries, retries)
             .set(QueuableKeys.earliestGet, earliestGet));
+
+    if (wakeupSignal != null) {
+      wakeupSignal.signal(klass, null, earliestGet);
+    }
+  }
+
+  private Subscription subscribe() {
+    if (wakeupSignal == null) {
+      return null;
+    }
+    wakeupSignal.watch(klass, () -> {
+      AdvancedDatastore datastore = persistence.getDatastore(klass);
+      return datastore.getMongo()
+          .getDatabase(datastore.getDB().getName())
+          .getCollection(datastore.getCollection(klass).getName());
+    });
+    return wakeupSignal.subscribe(klass, topics);
   }
 
   @Override
@@ -7,6 +7,7 @@ import io.harness.mongo.MessageLogContext;
 import io.harness.persistence.HPersistence;
 import io.harness.queue.Queuable;
 import io.harness.queue.QueuePublisher;
+import io.harness.queue.QueueWakeupSignal;
 import io.harness.queue.TopicUtils;
 
 import com.google.inject.Inject;
@@ -21,6 +22,7 @@ public class MongoQueuePublisher<T extends Queuable> implements QueuePublisher<T
   @Getter private final String topicPrefix;
 
   @Inject private HPersistence persistence;
+  @Inject(optional = true) private QueueWakeupSignal wakeupSignal;
 
   public MongoQueuePublisher(String name, List<String> topicPrefixElements) {
     this.name = name;
@@ -33,6 +35,9 @@ public class MongoQueuePublisher<T extends Queuable> implements QueuePublisher<T
       payload.setGlobalContext(obtainGlobalContext());
     }
     persistence.insertIgnoringDuplicateKeys(payload);
+    if (wakeupSignal != null) {
+      wakeupSignal.signal(payload.getClass(), payload.getTopic(), payload.getEarliestGet());
+    }
   }
 
   @Override
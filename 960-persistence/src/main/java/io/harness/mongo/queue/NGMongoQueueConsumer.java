@@ -1,6 +1,8 @@
 package io.harness.mongo.queue;
 
+import static io.harness.data.structure.EmptyPredicate.isEmpty;
 import static io.harness.data.structure.EmptyPredicate.isNotEmpty;
+import static io.harness.data.structure.UUIDGenerator.generateUuid;
 import static io.harness.govern.Switch.unhandled;
 
 import static java.lang.String.format;
@@ -10,14 +12,24 @@ import io.harness.persistence.HPersistence;
 import io.harness.queue.Queuable;
 import io.harness.queue.Queuable.QueuableKeys;
 import io.harness.queue.QueueConsumer;
+import io.harness.queue.QueueWakeupSignal;
+import io.harness.queue.QueueWakeupSignal.Subscription;
 import io.harness.queue.TopicUtils;
 
+import com.google.inject.Inject;
+import com.mongodb.client.result.UpdateResult;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Sort;
@@ -34,6 +46,7 @@ public class NGMongoQueueConsumer<T extends Queuable> implements QueueConsumer<T
   List<String> topics;
   private Semaphore semaphore = new Semaphore(1);
   private MongoTemplate persistence;
+  @Inject(optional = true) private QueueWakeupSignal wakeupSignal;
 
   public NGMongoQueueConsumer(
       Class<T> klass, Duration heartbeat, List<List<String>> topicExpression, MongoTemplate mongoTemplate) {
@@ -52,7 +65,9 @@ public class NGMongoQueueConsumer<T extends Queuable> implements QueueConsumer<T
     try {
       acquired = semaphore.tryAcquire(wait.toMillis(), TimeUnit.MILLISECONDS);
       if (acquired) {
-        return getUnderLock(endTime, poll);
+        try (Subscription subscription = subscribe()) {
+          return getUnderLock(endTime, poll, subscription);
+        }
       }
     } catch (InterruptedException e) {
       Thread.currentThread().interrupt();
@@ -64,7 +79,7 @@ public class NGMongoQueueConsumer<T extends Queuable> implements QueueConsumer<T
     return null;
   }
 
-  private T getUnderLock(long endTime, Duration poll) {
+  private T getUnderLock(long endTime, Duration poll, Subscription subscription) {
     while (true) {
       final Date now = new Date();
 
@@ -84,7 +99,12 @@ public class NGMongoQueueConsumer<T extends Queuable> implements QueueConsumer<T
       }
 
       try {
-        Thread.sleep(poll.toMillis());
+        if (subscription != null) {
+          // Expired leases are not signaled, they are still picked up at the poll interval
+          subscription.await(Duration.ofMillis(Math.min(poll.toMillis(), endTime - System.currentTimeMillis())));
+        } else {
+          Thread.sleep(poll.toMillis());
+        }
       } catch (InterruptedException e) {
         Thread.currentThread().interrupt();
         return null;
@@ -94,6 +114,108 @@ public class NGMongoQueueConsumer<T extends Queuable> implements QueueConsumer<T
     }
   }
 
+  @Override
+  public List<T> getBatch(int batchSize, Duration wait, Duration poll) {
+    long endTime = System.currentTimeMillis() + wait.toMillis();
+    try (Subscription subscription = subscribe()) {
+      return getBatch(batchSize, endTime, poll, subscription);
+    }
+  }
+
+  private List<T> getBatch(int batchSize, long endTime, Duration poll, Subscription subscription) {
+    while (true) {
+      List<T> messages = claimBatch(batchSize);
+      if (isNotEmpty(messages)) {
+        return messages;
+      }
+
+      if (System.currentTimeMillis() >= endTime) {
+        return Collections.emptyList();
+      }
+
+      try {
+        if (subscription != null) {
+          // Expired leases are not signaled, they are still picked up at the poll interval
+          subscription.await(Duration.ofMillis(Math.min(poll.toMillis(), endTime - System.currentTimeMillis())));
+        } else {
+          Thread.sleep(poll.toMillis());
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return Collections.emptyList();
+      } catch (final IllegalArgumentException ex) {
+        poll = Duration.ofMillis(0);
+      }
+    }
+  }
+
+  private List<T> claimBatch(int batchSize) {
+    final Date now = new Date();
+
+    Query candidateQuery = createQuery()
+                               .addCriteria(Criteria.where(QueuableKeys.earliestGet).lte(now))
+                               .with(Sort.by(Direction.ASC, QueuableKeys.earliestGet))
+                               .limit(batchSize);
+    candidateQuery.fields().include(QueuableKeys.id).include(QueuableKeys.earliestGet);
+    // The claim moves earliestGet to the lease expiry, remember when every candidate became due so the
+    // queue delay of the claimed messages is reported the same way as for single gets.
+    Map<String, Date> candidates = new LinkedHashMap<>();
+    persistence.find(candidateQuery, klass)
+        .forEach(candidate -> candidates.put(candidate.getId(), candidate.getEarliestGet()));
+    if (isEmpty(candidates)) {
+      return Collections.emptyList();
+    }
+
+    List<String> candidateIds = new ArrayList<>(candidates.keySet());
+
+    final String leaseToken = generateUuid();
+    Query claimQuery = new Query()
+                           .addCriteria(Criteria.where(QueuableKeys.id).in(candidateIds))
+                           .addCriteria(Criteria.where(QueuableKeys.earliestGet).lte(now));
+    Update update = new Update()
+                        .set(QueuableKeys.earliestGet, new Date(now.getTime() + heartbeat().toMillis()))
+                        .set(QueuableKeys.leaseToken, leaseToken);
+
+    UpdateResult updateResult = HPersistence.retry(() -> persistence.updateMulti(claimQuery, update, klass));
+    if (updateResult.getModifiedCount() == 0) {
+      return Collections.emptyList();
+    }
+
+    List<T> messages = persistence.find(new Query()
+                                             .addCriteria(Criteria.where(QueuableKeys.id).in(candidateIds))
+                                             .addCriteria(Criteria.where(QueuableKeys.leaseToken).is(leaseToken)),
+        klass);
+    messages.forEach(message -> message.setEarliestGet(candidates.get(message.getId())));
+    messages.sort(Comparator.comparingInt(message -> candidateIds.indexOf(message.getId())));
+    return messages;
+  }
+
+  @Override
+  public void updateBatchHeartbeat(List<T> messages) {
+    if (isEmpty(messages)) {
+      return;
+    }
+
+    Date earliestGet = new Date(System.currentTimeMillis() + heartbeat().toMillis());
+
+    // Only leases this consumer still owns are extended. A message whose lease expired and was claimed again
+    // carries the token of the new claim, which is not one of ours.
+    Query query =
+        new Query()
+            .addCriteria(
+                Criteria.where(QueuableKeys.id).in(messages.stream().map(Queuable::getId).collect(Collectors.toList())))
+            .addCriteria(Criteria.where(QueuableKeys.leaseToken)
+                             .in(messages.stream().map(Queuable::getLeaseToken).collect(Collectors.toSet())));
+    Update update = new Update().set(QueuableKeys.earliestGet, earliestGet);
+
+    UpdateResult updateResult = persistence.updateMulti(query, update, klass);
+    messages.forEach(message -> message.setEarliestGet(earliestGet));
+
+    if (updateResult.getModifiedCount() < messages.size()) {
+      log.debug("Batch heartbeat refreshed {} out of {} messages", updateResult.getModifiedCount(), messages.size());
+    }
+  }
+
   @Override
   public void updateHeartbeat(T message) {
     Date earliestGet = new Date(System.currentTimeMillis() + heartbeat().toMillis());
@@ -145,6 +267,18 @@ public class NGMongoQueueConsumer<T extends Queuable> implements QueueConsumer<T
 
     persistence.updateFirst(new Query().addCriteria(Criteria.where(QueuableKeys.id).is(id)),
         new Update().set(QueuableKeys.retries, retries).set(QueuableKeys.earliestGet, earliestGet), klass);
+
+    if (wakeupSignal != null) {
+      wakeupSignal.signal(klass, null, earliestGet);
+    }
+  }
+
+  private Subscription subscribe() {
+    if (wakeupSignal == null) {
+      return null;
+    }
+    wakeupSignal.watch(klass, () -> persistence.getCollection(persistence.getCollectionName(klass)));
+    return wakeupSignal.subscribe(klass, topics);
   }
 
   @Override
@@ -6,8 +6,10 @@ import io.harness.logging.AutoLogRemoveContext;
 import io.harness.mongo.MessageLogContext;
 import io.harness.queue.Queuable;
 import io.harness.queue.QueuePublisher;
+import io.harness.queue.QueueWakeupSignal;
 import io.harness.queue.TopicUtils;
 
+import com.google.inject.Inject;
 import java.util.List;
 import java.util.Objects;
 import lombok.Getter;
@@ -18,6 +20,7 @@ public class NGMongoQueuePublisher<T extends Queuable> implements QueuePublisher
   @Getter private final String name;
   @Getter private final String topicPrefix;
   private final MongoTemplate persistence;
+  @Inject(optional = true) private QueueWakeupSignal wakeupSignal;
 
   public NGMongoQueuePublisher(String name, List<String> topicPrefixElements, MongoTemplate mongoTemplate) {
     this.name = name;
@@ -49,5 +52,8 @@ public class NGMongoQueuePublisher<T extends Queuable> implements QueuePublisher
     } catch (DuplicateKeyException duplicateKeyException) {
       // ignore
     }
+    if (wakeupSignal != null) {
+      wakeupSignal.signal(payload.getClass(), payload.getTopic(), payload.getEarliestGet());
+    }
   }
 }
@@ -0,0 +1,98 @@
+package io.harness.queue;
+
+import static io.harness.data.structure.EmptyPredicate.isEmpty;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import java.time.Duration;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Singleton
+public class InProcessQueueWakeupSignal implements QueueWakeupSignal {
+  // Messages due further away than this are left to the consumers' regular wait deadline, to avoid accumulating
+  // timer tasks for far future requeues.
+  private static final long MAX_DELAYED_SIGNAL_MILLIS = Duration.ofMinutes(1).toMillis();
+
+  private final Map<Class<? extends Queuable>, Set<Waiter>> waiters = new ConcurrentHashMap<>();
+
+  @Inject private TimerScheduledExecutorService timer;
+
+  @Override
+  public Subscription subscribe(Class<? extends Queuable> klass, List<String> topics) {
+    Waiter waiter = new Waiter(klass, isEmpty(topics) ? new HashSet<>() : new HashSet<>(topics));
+    waiters.computeIfAbsent(klass, key -> ConcurrentHashMap.newKeySet()).add(waiter);
+    return waiter;
+  }
+
+  @Override
+  public void signal(Class<? extends Queuable> klass, String topic, Date earliestGet) {
+    long delay = earliestGet == null ? 0 : earliestGet.getTime() - System.currentTimeMillis();
+    if (delay <= 0) {
+      wake(klass, topic);
+    } else if (delay <= MAX_DELAYED_SIGNAL_MILLIS && timer != null) {
+      timer.schedule(() -> wake(klass, topic), delay, MILLISECONDS);
+    }
+  }
+
+  private void wake(Class<? extends Queuable> klass, String topic) {
+    Set<Waiter> queueWaiters = waiters.get(klass);
+    if (queueWaiters == null) {
+      return;
+    }
+    for (Waiter waiter : queueWaiters) {
+      if (waiter.matches(topic)) {
+        waiter.wake();
+      }
+    }
+  }
+
+  private class Waiter implements Subscription {
+    private final Class<? extends Queuable> klass;
+    private final Set<String> topics;
+    private boolean signaled;
+
+    Waiter(Class<? extends Queuable> klass, Set<String> topics) {
+      this.klass = klass;
+      this.topics = topics;
+    }
+
+    boolean matches(String topic) {
+      return topic == null || topics.isEmpty() || topics.contains(topic);
+    }
+
+    synchronized void wake() {
+      signaled = true;
+      notifyAll();
+    }
+
+    @Override
+    public synchronized boolean await(Duration timeout) throws InterruptedException {
+      long deadline = System.currentTimeMillis() + timeout.toMillis();
+      long remaining = timeout.toMillis();
+      while (!signaled && remaining > 0) {
+        wait(remaining);
+        remaining = deadline - System.currentTimeMillis();
+      }
+      boolean result = signaled;
+      signaled = false;
+      return result;
+    }
+
+    @Override
+    public void close() {
+      Set<Waiter> queueWaiters = waiters.get(klass);
+      if (queueWaiters != null) {
+        queueWaiters.remove(this);
+      }
+    }
+  }
+}
@@ -1,7 +1,9 @@
 package io.harness.queue;
 
 import java.time.Duration;
+import java.util.Collections;
 import java.util.Date;
+import java.util.List;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -11,11 +13,21 @@ public class NoopQueueConsumer<T extends Queuable> implements QueueConsumer<T> {
     return null;
   }
 
+  @Override
+  public List<T> getBatch(int batchSize, Duration wait, Duration poll) {
+    return Collections.emptyList();
+  }
+
   @Override
   public void updateHeartbeat(T message) {
     // noop
   }
 
+  @Override
+  public void updateBatchHeartbeat(List<T> messages) {
+    // noop
+  }
+
   @Override
   public String getName() {
     return null;
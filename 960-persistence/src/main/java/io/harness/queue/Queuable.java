@@ -31,6 +31,7 @@ public abstract class Queuable implements PersistentEntity {
   private Date earliestGet = new Date();
 
   @Getter @Setter private int retries;
+  @Getter @Setter private String leaseToken;
   @Getter @Setter private String topic;
   @Getter @Setter private GlobalContext globalContext;
 
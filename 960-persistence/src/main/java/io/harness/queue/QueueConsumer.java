@@ -2,13 +2,22 @@ package io.harness.queue;
 
 import java.time.Duration;
 import java.util.Date;
+import java.util.List;
 
 /**
  * The Interface Queue.
  */
 public interface QueueConsumer<T extends Queuable> extends Queue {
   T get(Duration wait, Duration poll);
+
+  /**
+   * Leases up to batchSize messages in one round trip. All returned messages share one lease token and the same
+   * heartbeat deadline, so they can be refreshed together with {@link #updateBatchHeartbeat(List)}.
+   */
+  List<T> getBatch(int batchSize, Duration wait, Duration poll);
+
   void updateHeartbeat(T message);
+  void updateBatchHeartbeat(List<T> messages);
 
   enum Filter { ALL, RUNNING, NOT_RUNNING }
   long count(Filter filter);
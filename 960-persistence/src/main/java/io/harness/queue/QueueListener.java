@@ -17,9 +17,18 @@ import io.harness.mongo.DelayLogContext;
 import io.harness.mongo.MessageLogContext;
 import io.harness.mongo.ProcessTimeLogContext;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.inject.Inject;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import lombok.Getter;
@@ -38,11 +47,54 @@ public abstract class QueueListener<T extends Queuable> implements Runnable {
 
   @Getter @Setter private QueueConsumer<T> queueConsumer;
 
+  // Batch mode state. The same listener instance is submitted to several threads by the QueueListenerController,
+  // so the worker pool, the permits and the in-flight leases are shared by all of them.
+  @Getter private int batchSize = 1;
+  private int workers;
+  private ExecutorService workerPool;
+  private Semaphore workerPermits;
+  private final Map<String, T> inFlightMessages = new ConcurrentHashMap<>();
+  private ScheduledFuture<?> batchHeartbeat;
+
   public QueueListener(QueueConsumer<T> queueConsumer, boolean primaryOnly) {
     this.queueConsumer = queueConsumer;
     this.primaryOnly = primaryOnly;
   }
 
+  public QueueListener(QueueConsumer<T> queueConsumer, boolean primaryOnly, int batchSize, int workers) {
+    this(queueConsumer, primaryOnly);
+    enableBatchMode(batchSize, workers);
+  }
+
+  /**
+   * Switches the listener to lease up to batchSize messages per round trip and process them on a bounded pool of
+   * workers. All in-flight leases are kept alive by a single batched heartbeat. The worker pool is started with the
+   * first batch, until then the batch size and the workers can be changed, e.g. from the configuration.
+   */
+  public synchronized void enableBatchMode(int batchSize, int workers) {
+    if (batchSize < 1 || workers < 1) {
+      throw new IllegalArgumentException("Batch size and workers should be positive");
+    }
+    if (workerPool != null) {
+      return;
+    }
+    this.batchSize = batchSize;
+    this.workers = workers;
+  }
+
+  private boolean isBatchMode() {
+    return workers > 0;
+  }
+
+  private synchronized void ensureWorkerPool() {
+    if (workerPool != null) {
+      return;
+    }
+    workerPermits = new Semaphore(workers);
+    workerPool = Executors.newFixedThreadPool(workers,
+        new ThreadFactoryBuilder().setNameFormat(queueConsumer.getName() + "-worker-%d").setDaemon(true).build());
+  }
+
   @Override
   public void run() {
     String threadName = queueConsumer.getName() + "-handler-" + generateUuid();
@@ -62,6 +114,10 @@ public abstract class QueueListener<T extends Queuable> implements Runnable {
   }
 
   public boolean execute() {
+    if (isBatchMode()) {
+      return executeBatch();
+    }
+
     T message = null;
     try {
       log.trace("Waiting for message");
@@ -80,6 +136,81 @@ public abstract class QueueListener<T extends Queuable> implements Runnable {
     return true;
   }
 
+  private boolean executeBatch() {
+    ensureWorkerPool();
+    int permits = 0;
+    try {
+      if (!workerPermits.tryAcquire(3, TimeUnit.SECONDS)) {
+        return true;
+      }
+      permits = 1;
+      while (permits < batchSize && workerPermits.tryAcquire()) {
+        permits++;
+      }
+
+      ensureBatchHeartbeat();
+
+      List<T> messages = null;
+      try {
+        log.trace("Waiting for {} messages", permits);
+        messages = queueConsumer.getBatch(permits, ofSeconds(3), ofSeconds(1));
+      } catch (Exception exception) {
+        if (exception.getCause() instanceof InterruptedException) {
+          log.info("Thread interrupted, shutting down for queue {}", queueConsumer.getName());
+          return false;
+        }
+        log.error("Exception happened while fetching messages from queue {}", queueConsumer.getName(), exception);
+      }
+
+      if (messages != null) {
+        for (T message : messages) {
+          inFlightMessages.put(message.getId(), message);
+          try {
+            workerPool.submit(() -> {
+              try {
+                processMessage(message, () -> inFlightMessages.remove(message.getId()));
+              } finally {
+                inFlightMessages.remove(message.getId());
+                workerPermits.release();
+              }
+            });
+            permits--;
+          } catch (RejectedExecutionException exception) {
+            // The listener is shutting down, the lease will expire and the message will be picked up again.
+            inFlightMessages.remove(message.getId());
+            log.info("Worker pool for queue {} is shut down, releasing message {}", queueConsumer.getName(),
+                message.getId());
+          }
+        }
+      }
+      return true;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      log.info("Thread interrupted, shutting down for queue {}", queueConsumer.getName());
+      return false;
+    } finally {
+      if (permits > 0) {
+        workerPermits.release(permits);
+      }
+    }
+  }
+
+  private synchronized void ensureBatchHeartbeat() {
+    if (batchHeartbeat != null) {
+      return;
+    }
+    long timerInterval = queueConsumer.heartbeat().toMillis() - 500;
+    batchHeartbeat = timer.scheduleAtFixedRate(() -> {
+      try {
+        if (!inFlightMessages.isEmpty()) {
+          queueConsumer.updateBatchHeartbeat(new ArrayList<>(inFlightMessages.values()));
+        }
+      } catch (Exception exception) {
+        log.error("Batch heartbeat failed for queue {}", queueConsumer.getName(), exception);
+      }
+    }, timerInterval, timerInterval, TimeUnit.MILLISECONDS);
+  }
+
   public void pumpAll() {
     while (true) {
       T message = null;
@@ -101,16 +232,18 @@ public abstract class QueueListener<T extends Queuable> implements Runnable {
     }
   }
 
-  @SuppressWarnings({"PMD", "squid:S1181"})
   private void processMessage(T message) {
+    long timerInterval = queueConsumer.heartbeat().toMillis() - 500;
+    ScheduledFuture<?> future = timer.scheduleAtFixedRate(
+        () -> queueConsumer.updateHeartbeat(message), timerInterval, timerInterval, TimeUnit.MILLISECONDS);
+    processMessage(message, () -> future.cancel(true));
+  }
+
+  @SuppressWarnings({"PMD", "squid:S1181"})
+  private void processMessage(T message, Runnable releaseHeartbeat) {
     long startTime = currentTimeMillis();
 
     try (MessageLogContext ignore = new MessageLogContext(message, OVERRIDE_ERROR)) {
-      long timerInterval = queueConsumer.heartbeat().toMillis() - 500;
-      final T finalizedMessage = message;
-      ScheduledFuture<?> future = timer.scheduleAtFixedRate(
-          () -> queueConsumer.updateHeartbeat(finalizedMessage), timerInterval, timerInterval, TimeUnit.MILLISECONDS);
-
       try (GlobalContextGuard guard = initGlobalContextGuard(message.getGlobalContext())) {
         long delay = startTime - message.getEarliestGet().toInstant().toEpochMilli();
         try (DelayLogContext ignore2 = new DelayLogContext(delay, OVERRIDE_ERROR)) {
@@ -119,7 +252,7 @@ public abstract class QueueListener<T extends Queuable> implements Runnable {
 
         onMessage(message);
       } finally {
-        future.cancel(true);
+        releaseHeartbeat.run();
       }
 
       queueConsumer.ack(message);
@@ -161,5 +294,13 @@ public abstract class QueueListener<T extends Queuable> implements Runnable {
 
   public void shutDown() {
     shouldStop.set(true);
+    synchronized (this) {
+      if (batchHeartbeat != null) {
+        batchHeartbeat.cancel(false);
+      }
+      if (workerPool != null) {
+        workerPool.shutdown();
+      }
+    }
   }
 }
@@ -1,5 +1,6 @@
 package io.harness.queue;
 
+import io.harness.config.QueueBatchConfiguration;
 import io.harness.config.WorkersConfiguration;
 
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
@@ -26,6 +27,10 @@ public class QueueListenerController implements Managed {
       log.info("Not initializing QueueListener: [{}], worker has been configured as inactive", listener.getClass());
       return;
     }
+    QueueBatchConfiguration queueBatch = workersConfiguration.fetchQueueBatchConfiguration(listener.getClass());
+    if (queueBatch != null) {
+      listener.enableBatchMode(queueBatch.getBatchSize(), queueBatch.getWorkers());
+    }
     IntStream.rangeClosed(1, threads).forEach(value -> {
       abstractQueueListeners.add(listener);
       executorService.submit(listener);
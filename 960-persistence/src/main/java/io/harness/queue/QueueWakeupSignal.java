@@ -0,0 +1,38 @@
+package io.harness.queue;
+
+import com.mongodb.client.MongoCollection;
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import java.util.function.Supplier;
+import org.bson.Document;
+
+/**
+ * Wakes up queue consumers blocked waiting for messages, so they pick up new messages without waiting for their poll
+ * interval. Consumers still query at the poll interval, so a missed signal only costs latency, never a message.
+ */
+public interface QueueWakeupSignal {
+  interface Subscription extends AutoCloseable {
+    /**
+     * Blocks until a signal for the subscribed topics arrives or the timeout expires.
+     * Returns true when woken by a signal.
+     */
+    boolean await(Duration timeout) throws InterruptedException;
+
+    @Override void close();
+  }
+
+  Subscription subscribe(Class<? extends Queuable> klass, List<String> topics);
+
+  /**
+   * Tells the signal which collection stores the messages of the queue, for implementations that follow it to learn
+   * about messages published by other nodes. Consumers call it before they subscribe.
+   */
+  default void watch(Class<? extends Queuable> klass, Supplier<MongoCollection<Document>> collection) {}
+
+  /**
+   * Notifies the consumers of the queue of klass that a message for the topic is or will be available at earliestGet.
+   * A null topic wakes all the consumers of the queue.
+   */
+  void signal(Class<? extends Queuable> klass, String topic, Date earliestGet);
+}
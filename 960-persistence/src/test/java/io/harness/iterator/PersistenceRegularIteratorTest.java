@@ -30,6 +30,8 @@ import io.harness.threading.ThreadPool;
 
 import com.google.inject.Inject;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import java.util.concurrent.Semaphore;
@@ -109,6 +111,33 @@ public class PersistenceRegularIteratorTest extends PersistenceTestBase {
     }).doesNotThrowAnyException();
   }
 
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testPartitionedPump() {
+    try (MaintenanceGuard guard = new MaintenanceGuard(false)) {
+      long now = currentTimeMillis();
+      List<TestRegularIterableEntity> entities = new ArrayList<>();
+      for (int i = 0; i < 8; i++) {
+        TestRegularIterableEntity entity =
+            TestRegularIterableEntity.builder().uuid(generateUuid()).nextIteration(now - 1000).build();
+        persistence.save(entity);
+        entities.add(entity);
+      }
+
+      MongoPersistenceIterator<TestRegularIterableEntity, MorphiaFilterExpander<TestRegularIterableEntity>> iterator =
+          iterator(PUMP);
+      on(iterator).set("partitionCount", 4);
+      on(iterator).set("persistence", persistence);
+      iterator.process();
+
+      for (TestRegularIterableEntity entity : entities) {
+        assertThat(persistence.get(TestRegularIterableEntity.class, entity.getUuid()).getNextIteration())
+            .isGreaterThan(now);
+      }
+    }
+  }
+
   @Test
   @Owner(developers = GEORGE)
   @Category(StressTests.class)
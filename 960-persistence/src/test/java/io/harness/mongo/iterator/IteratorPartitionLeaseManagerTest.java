@@ -0,0 +1,109 @@
+package io.harness.mongo.iterator;
+
+import static io.harness.mongo.iterator.IteratorPartitionLeaseManager.MAX_PARTITIONS;
+import static io.harness.mongo.iterator.IteratorPartitionLeaseManager.lowerId;
+import static io.harness.mongo.iterator.IteratorPartitionLeaseManager.upperId;
+import static io.harness.rule.OwnerRule.GEORGE;
+
+import static java.lang.System.currentTimeMillis;
+import static java.time.Duration.ofMinutes;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.PersistenceTestBase;
+import io.harness.category.element.UnitTests;
+import io.harness.persistence.HPersistence;
+import io.harness.rule.Owner;
+
+import com.google.inject.Inject;
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class IteratorPartitionLeaseManagerTest extends PersistenceTestBase {
+  private static final String ITERATOR = "TestIterator-nextIteration";
+
+  @Inject private HPersistence persistence;
+
+  private IteratorPartitionLeaseManager manager(String owner) {
+    return new IteratorPartitionLeaseManager(persistence, ITERATOR, 8, ofMinutes(1), owner);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldRebalancePartitionsBetweenMembers() {
+    IteratorPartitionLeaseManager first = manager("first");
+    IteratorPartitionLeaseManager second = manager("second");
+    long now = currentTimeMillis();
+
+    first.refresh(now);
+    assertThat(first.getOwnedPartitions()).hasSize(8);
+
+    // The second member sees all leases taken, the first one gives up the extra ones on its next refresh
+    second.refresh(now);
+    assertThat(second.getOwnedPartitions()).isEmpty();
+    first.refresh(now + 1);
+    assertThat(first.getOwnedPartitions()).containsExactly(0, 1, 2, 3);
+    second.refresh(now + 2);
+    assertThat(second.getOwnedPartitions()).containsExactly(4, 5, 6, 7);
+
+    second.releaseAll();
+    first.refresh(now + 3);
+    assertThat(first.getOwnedPartitions()).hasSize(8);
+    assertThat(first.getLostLeases().get()).isZero();
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldNotClaimAgainAfterReleasingAll() {
+    IteratorPartitionLeaseManager first = manager("first");
+    IteratorPartitionLeaseManager second = manager("second");
+    long now = currentTimeMillis();
+
+    first.refresh(now);
+    first.releaseAll();
+    first.refresh(now + 1);
+    assertThat(first.getOwnedPartitions()).isEmpty();
+
+    // The leases are free without waiting for them to expire
+    second.refresh(now + 2);
+    assertThat(second.getOwnedPartitions()).hasSize(8);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldTakeOverExpiredLeases() {
+    IteratorPartitionLeaseManager first = manager("first");
+    IteratorPartitionLeaseManager second = manager("second");
+    long now = currentTimeMillis();
+
+    first.refresh(now);
+    second.refresh(now + ofMinutes(2).toMillis());
+    assertThat(second.getOwnedPartitions()).hasSize(8);
+
+    first.refresh(now + ofMinutes(2).toMillis() + 1);
+    assertThat(first.getLostLeases().get()).isEqualTo(8);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldCoverAllIdsWithContiguousRanges() {
+    for (int count = 1; count <= MAX_PARTITIONS; count++) {
+      assertThat(lowerId(0, count)).isNull();
+      assertThat(upperId(count - 1, count)).isNull();
+      Set<String> bounds = new HashSet<>();
+      for (int partition = 0; partition < count - 1; partition++) {
+        String upper = upperId(partition, count);
+        assertThat(upper).isEqualTo(lowerId(partition + 1, count));
+        assertThat(bounds.add(upper)).isTrue();
+        if (partition > 0) {
+          assertThat(upper).isGreaterThan(lowerId(partition, count));
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,67 @@
+package io.harness.queue;
+
+import static io.harness.rule.OwnerRule.GEORGE;
+
+import static java.time.Duration.ofMillis;
+import static java.time.Duration.ofSeconds;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.queue.QueueWakeupSignal.Subscription;
+import io.harness.rule.Owner;
+
+import java.util.Date;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class InProcessQueueWakeupSignalTest extends CategoryTest {
+  private final InProcessQueueWakeupSignal wakeupSignal = new InProcessQueueWakeupSignal();
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldWakeUpSubscriberOfMatchingTopic() throws Exception {
+    try (Subscription subscription = wakeupSignal.subscribe(TestTopicQueuableObject.class, asList("topic"))) {
+      CompletableFuture<Boolean> woken = CompletableFuture.supplyAsync(() -> {
+        try {
+          return subscription.await(ofSeconds(10));
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          return false;
+        }
+      });
+
+      wakeupSignal.signal(TestTopicQueuableObject.class, "topic", new Date());
+      assertThat(woken.get(5, TimeUnit.SECONDS)).isTrue();
+    }
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldKeepSignalUntilAwaited() throws Exception {
+    try (Subscription subscription = wakeupSignal.subscribe(TestTopicQueuableObject.class, emptyList())) {
+      wakeupSignal.signal(TestTopicQueuableObject.class, null, null);
+
+      assertThat(subscription.await(ofMillis(1))).isTrue();
+      assertThat(subscription.await(ofMillis(1))).isFalse();
+    }
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldIgnoreOtherTopicsAndQueues() throws Exception {
+    try (Subscription subscription = wakeupSignal.subscribe(TestTopicQueuableObject.class, asList("topic"))) {
+      wakeupSignal.signal(TestTopicQueuableObject.class, "other", new Date());
+      wakeupSignal.signal(TestNoTopicQueuableObject.class, "topic", new Date());
+
+      assertThat(subscription.await(ofMillis(1))).isFalse();
+    }
+  }
+}
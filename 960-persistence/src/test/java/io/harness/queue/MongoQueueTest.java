@@ -27,6 +27,9 @@ import com.google.inject.Inject;
 import java.net.UnknownHostException;
 import java.time.Duration;
 import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.Before;
 import org.junit.Test;
@@ -222,6 +225,102 @@ public class MongoQueueTest extends PersistenceTestBase {
     assertThat(queue.count(Filter.ALL)).isEqualTo(1);
   }
 
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldGetBatchOfMessagesWithSharedLease() {
+    TestTopicQueuableObject messageOne = new TestTopicQueuableObject(1);
+    TestTopicQueuableObject messageTwo = new TestTopicQueuableObject(2);
+    TestTopicQueuableObject messageThree = new TestTopicQueuableObject(3);
+
+    topicProducer.send(messageOne);
+    topicProducer.send(messageTwo);
+    topicProducer.send(messageThree);
+
+    List<TestTopicQueuableObject> batch = queue.getBatch(2, DEFAULT_WAIT, DEFAULT_POLL);
+    assertThat(batch).containsExactly(messageOne, messageTwo);
+    assertThat(batch.get(0).getLeaseToken()).isNotNull().isEqualTo(batch.get(1).getLeaseToken());
+
+    assertThat(queue.getBatch(2, ZERO, ZERO)).containsExactly(messageThree);
+    assertThat(queue.getBatch(2, ZERO, ZERO)).isEmpty();
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldUpdateBatchHeartbeatOfMessagesWhileRunning() {
+    queue.setHeartbeat(ofSeconds(10));
+    topicProducer.send(new TestTopicQueuableObject(1));
+    topicProducer.send(new TestTopicQueuableObject(2));
+
+    List<TestTopicQueuableObject> batch = queue.getBatch(2, DEFAULT_WAIT, DEFAULT_POLL);
+    assertThat(batch).hasSize(2);
+    Date leaseExpiry = persistence.get(TestTopicQueuableObject.class, batch.get(0).getId()).getEarliestGet();
+
+    queue.setHeartbeat(ofSeconds(20));
+    queue.updateBatchHeartbeat(batch);
+
+    for (TestTopicQueuableObject message : batch) {
+      TestTopicQueuableObject actual = persistence.get(TestTopicQueuableObject.class, message.getId());
+      assertThat(actual.getEarliestGet()).isAfter(leaseExpiry).isEqualTo(message.getEarliestGet());
+    }
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldWakeUpBlockedConsumerOnSend() throws Exception {
+    Duration longPoll = ofSeconds(30);
+    CompletableFuture<TestTopicQueuableObject> received =
+        CompletableFuture.supplyAsync(() -> queue.get(longPoll, longPoll));
+
+    // Give the consumer the time to find the queue empty and block
+    sleep(ofMillis(500));
+    TestTopicQueuableObject message = new TestTopicQueuableObject(1);
+    topicProducer.send(message);
+
+    assertThat(received.get(10, TimeUnit.SECONDS)).isEqualTo(message);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldReportOriginalEarliestGetOfBatchMessages() {
+    Date due = new Date(System.currentTimeMillis() - 60000);
+    TestTopicQueuableObject message = new TestTopicQueuableObject(1);
+    message.setEarliestGet(due);
+    topicProducer.send(message);
+
+    List<TestTopicQueuableObject> batch = queue.getBatch(2, DEFAULT_WAIT, DEFAULT_POLL);
+    assertThat(batch).hasSize(1);
+    assertThat(batch.get(0).getEarliestGet()).isEqualTo(due);
+    assertThat(persistence.get(TestTopicQueuableObject.class, message.getId()).getEarliestGet()).isAfter(due);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldNotExtendLeaseClaimedByAnotherConsumer() {
+    queue.setHeartbeat(ofSeconds(10));
+    topicProducer.send(new TestTopicQueuableObject(1));
+
+    List<TestTopicQueuableObject> batch = queue.getBatch(1, DEFAULT_WAIT, DEFAULT_POLL);
+    assertThat(batch).hasSize(1);
+    String messageId = batch.get(0).getId();
+
+    // Simulate the lease expiring and the message being claimed again by somebody else
+    Date reclaimedLease = new Date(System.currentTimeMillis() + 5000);
+    persistence.update(persistence.createQuery(TestTopicQueuableObject.class).filter(QueuableKeys.id, messageId),
+        persistence.createUpdateOperations(TestTopicQueuableObject.class)
+            .set(QueuableKeys.leaseToken, "otherLease")
+            .set(QueuableKeys.earliestGet, reclaimedLease));
+
+    queue.setHeartbeat(ofSeconds(20));
+    queue.updateBatchHeartbeat(batch);
+
+    assertThat(persistence.get(TestTopicQueuableObject.class, messageId).getEarliestGet()).isEqualTo(reclaimedLease);
+  }
+
   @Test
   @Owner(developers = GEORGE)
   @Category(UnitTests.class)
@@ -17,6 +17,8 @@ import static org.mockito.Mockito.verify;
 
 import io.harness.PersistenceTestBase;
 import io.harness.category.element.UnitTests;
+import io.harness.config.QueueBatchConfiguration;
+import io.harness.config.WorkersConfiguration;
 import io.harness.maintenance.MaintenanceGuard;
 import io.harness.mongo.queue.MongoQueueConsumer;
 import io.harness.mongo.queue.MongoQueuePublisher;
@@ -24,6 +26,7 @@ import io.harness.persistence.HPersistence;
 import io.harness.queue.QueueConsumer.Filter;
 import io.harness.rule.Owner;
 
+import com.google.common.collect.ImmutableMap;
 import com.google.inject.Inject;
 import java.io.IOException;
 import java.util.concurrent.CountDownLatch;
@@ -84,6 +87,52 @@ public class QueueListenerTest extends PersistenceTestBase {
     }
   }
 
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldProcessBatchOfMessagesInBatchMode() throws Exception {
+    try (MaintenanceGuard guard = new MaintenanceGuard(false)) {
+      listener.enableBatchMode(10, 3);
+      CountDownLatch processed = new CountDownLatch(3);
+      doAnswer(invocation -> {
+        processed.countDown();
+        return invocation.callRealMethod();
+      })
+          .when(listener)
+          .onMessage(any(TestTopicQueuableObject.class));
+
+      producer.send(new TestTopicQueuableObject(1));
+      producer.send(new TestTopicQueuableObject(2));
+      producer.send(new TestTopicQueuableObject(3));
+      assertThat(consumer.count(Filter.ALL)).isEqualTo(3);
+
+      listener.run();
+
+      assertThat(processed.await(10, TimeUnit.SECONDS)).isTrue();
+      verify(consumer, times(0)).get(any(), any());
+      verify(listener, times(3)).onMessage(any(TestTopicQueuableObject.class));
+    }
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldEnableBatchModeFromConfigurationOnRegister() throws Exception {
+    try (MaintenanceGuard guard = new MaintenanceGuard(false)) {
+      WorkersConfiguration workersConfiguration = new WorkersConfiguration();
+      workersConfiguration.setQueueBatch(ImmutableMap.of(
+          listener.getClass().getName(), QueueBatchConfiguration.builder().batchSize(5).workers(2).build()));
+      QueueListenerController controller = new QueueListenerController();
+      on(controller).set("workersConfiguration", workersConfiguration);
+
+      controller.register(listener, 1);
+      controller.stop();
+
+      verify(listener).enableBatchMode(5, 2);
+      assertThat(listener.getBatchSize()).isEqualTo(5);
+    }
+  }
+
   @Test
   @Owner(developers = GEORGE)
   @Category(UnitTests.class)
@@ -22,10 +22,12 @@ import io.harness.mongo.queue.MongoQueueConsumer;
 import io.harness.mongo.queue.MongoQueuePublisher;
 import io.harness.morphia.MorphiaRegistrar;
 import io.harness.persistence.HPersistence;
+import io.harness.queue.InProcessQueueWakeupSignal;
 import io.harness.queue.QueueConsumer;
 import io.harness.queue.QueueController;
 import io.harness.queue.QueueListenerController;
 import io.harness.queue.QueuePublisher;
+import io.harness.queue.QueueWakeupSignal;
 import io.harness.queue.TestNoTopicQueuableObject;
 import io.harness.queue.TestNoTopicQueuableObjectListener;
 import io.harness.queue.TestTopicQueuableObject;
@@ -177,6 +179,7 @@ public class PersistenceRule implements MethodRule, InjectorRuleMixin, MongoRule
       @Override
       protected void configure() {
         final List<String> topic = asList("topic");
+        bind(QueueWakeupSignal.class).to(InProcessQueueWakeupSignal.class);
         bind(new TypeLiteral<QueuePublisher<TestTopicQueuableObject>>() {
         }).toInstance(new MongoQueuePublisher<>(TestTopicQueuableObject.class.getSimpleName(), topic));
         final List<List<String>> topicExpression = asList(topic);
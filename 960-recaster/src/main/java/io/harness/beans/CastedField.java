@@ -7,6 +7,9 @@ import io.harness.exceptions.RecasterException;
 import io.harness.utils.RecastReflectionUtils;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Array;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
@@ -22,6 +25,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.bson.Document;
@@ -29,6 +33,9 @@ import org.bson.Document;
 @Getter
 @Slf4j
 public class CastedField {
+  private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+  private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
   private final Map<Class<? extends Annotation>, Annotation> foundAnnotations = new HashMap<>();
   private final List<CastedField> typeParameters = new ArrayList<>();
   private Class<?> persistedClass;
@@ -44,6 +51,9 @@ public class CastedField {
   private boolean isArray; // indicated if it is an Array
   private boolean isCollection; // indicated if the collection is a list)
   private Type genericType;
+  // Resolved once per field, a null handle falls back to the reflective access
+  @Getter(AccessLevel.NONE) private MethodHandle getter;
+  @Getter(AccessLevel.NONE) private MethodHandle setter;
 
   CastedField(final Field f, final Class<?> clazz, final Recaster recaster) {
     f.setAccessible(true);
@@ -52,12 +62,14 @@ public class CastedField {
     realType = field.getType();
     genericType = field.getGenericType();
     discover(recaster);
+    discoverAccessors();
   }
 
   CastedField(final Field field, final Type type, final Recaster recaster) {
     this.field = field;
     genericType = type;
     discoverType(recaster);
+    discoverAccessors();
   }
 
   /**
@@ -279,6 +291,21 @@ public class CastedField {
     return constructor;
   }
 
+  private void discoverAccessors() {
+    final MethodHandles.Lookup lookup = MethodHandles.lookup();
+    try {
+      getter = lookup.unreflectGetter(field).asType(GETTER_TYPE);
+    } catch (IllegalAccessException e) {
+      getter = null;
+    }
+    try {
+      setter = lookup.unreflectSetter(field).asType(SETTER_TYPE);
+    } catch (IllegalAccessException e) {
+      // final fields are not always writable through a method handle
+      setter = null;
+    }
+  }
+
   private void discoverMultivalued() {
     if (realType.isArray() || Collection.class.isAssignableFrom(realType) || Map.class.isAssignableFrom(realType)
         || GenericArrayType.class.isAssignableFrom(genericType.getClass())) {
@@ -340,16 +367,31 @@ public class CastedField {
 
   public Object getFieldValue(final Object instance) {
     try {
+      if (getter != null) {
+        return (Object) getter.invokeExact(instance);
+      }
       return field.get(instance);
-    } catch (IllegalAccessException e) {
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable e) {
       throw new RuntimeException(e);
     }
   }
 
   public void setFieldValue(final Object instance, final Object value) {
     try {
-      field.set(instance, value);
-    } catch (IllegalAccessException e) {
+      if (setter != null) {
+        setter.invokeExact(instance, value);
+      } else {
+        field.set(instance, value);
+      }
+    } catch (ClassCastException | NullPointerException e) {
+      // Same failure as the reflective set for a value of the wrong type or a null primitive
+      throw new IllegalArgumentException(
+          format("Can not set %s field %s to %s", realType.getName(), getFullName(), value), e);
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable e) {
       throw new RuntimeException(e);
     }
   }
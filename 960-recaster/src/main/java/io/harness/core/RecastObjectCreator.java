@@ -3,8 +3,10 @@ package io.harness.core;
 import io.harness.beans.CastedField;
 import io.harness.exceptions.RecasterException;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -21,7 +23,9 @@ import org.modelmapper.internal.objenesis.ObjenesisStd;
 @Slf4j
 public class RecastObjectCreator implements RecastObjectFactory {
   private static final Objenesis objenesis = new ObjenesisStd(true);
+  private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class);
   private final Map<Class<?>, InstanceConstructor<?>> instanceConstructors = new ConcurrentHashMap<>();
+  private final Map<String, Class<?>> classes = new ConcurrentHashMap<>();
 
   interface InstanceConstructor<T> {
     T construct();
@@ -42,7 +46,8 @@ public class RecastObjectCreator implements RecastObjectFactory {
   private <T> InstanceConstructor<T> makeInstanceConstructor(Class<T> clazz) {
     final Constructor<T> constructor = noArgsConstructorOrNull(clazz);
     if (constructor != null) {
-      return () -> newInstance(constructor);
+      final MethodHandle handle = constructorHandle(constructor);
+      return () -> newInstance(handle);
     }
     if (!Collection.class.isAssignableFrom(clazz)) {
       return () -> objenesis.newInstance(clazz);
@@ -64,6 +69,14 @@ public class RecastObjectCreator implements RecastObjectFactory {
     }
   }
 
+  private static MethodHandle constructorHandle(final Constructor<?> constructor) {
+    try {
+      return MethodHandles.lookup().unreflectConstructor(constructor).asType(CONSTRUCTOR_TYPE);
+    } catch (IllegalAccessException e) {
+      throw new RecasterException("No usable constructor for " + constructor.getDeclaringClass().getName(), e);
+    }
+  }
+
   @SuppressWarnings("unchecked")
   private <T> T createInstanceInternal(final Class<T> clazz) {
     try {
@@ -144,11 +157,14 @@ public class RecastObjectCreator implements RecastObjectFactory {
     Class<?> c = null;
     if (document.containsKey(Recaster.RECAST_CLASS_KEY)) {
       final String className = document.getString(Recaster.RECAST_CLASS_KEY);
-      // TODO : add caching here
-      try {
-        c = Class.forName(className, true, getClassLoaderForClass());
-      } catch (ClassNotFoundException e) {
-        log.warn("Class not found defined in dbObj: ", e);
+      c = classes.get(className);
+      if (c == null) {
+        try {
+          c = Class.forName(className, true, getClassLoaderForClass());
+          classes.put(className, c);
+        } catch (ClassNotFoundException e) {
+          log.warn("Class not found defined in dbObj: ", e);
+        }
       }
     }
     return (Class<T>) c;
@@ -169,11 +185,11 @@ public class RecastObjectCreator implements RecastObjectFactory {
     return createInstance(fallbackType);
   }
 
-  private static <T> T newInstance(Constructor<T> constructor) {
+  @SuppressWarnings("unchecked")
+  private static <T> T newInstance(MethodHandle constructor) {
     try {
-      return constructor.newInstance();
-    } catch (InstantiationException | IllegalAccessException | IllegalArgumentException
-        | InvocationTargetException exception) {
+      return (T) (Object) constructor.invokeExact();
+    } catch (Throwable exception) {
       throw new RecasterException("The class constructor fail", exception);
     }
   }
@@ -0,0 +1,171 @@
+package io.harness.core;
+
+import static io.harness.rule.OwnerRule.ALEXEI;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.RecasterTestBase;
+import io.harness.beans.CastedClass;
+import io.harness.beans.CastedField;
+import io.harness.category.element.StressTests;
+import io.harness.rule.Owner;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.DocumentCodec;
+import org.bson.json.JsonReader;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+/**
+ * Compares the reflective path with the generated accessors and the cached codecs on classes shaped like the step
+ * parameters and outcomes PMS reads back from json on every step.
+ */
+@Slf4j
+public class RecastStressTest extends RecasterTestBase {
+  private static final int ITERATIONS = 100_000;
+
+  private enum DummyStrategy { ROLLING, CANARY, BLUE_GREEN }
+
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  private static class DummyStepParameters {
+    private String name;
+    private String identifier;
+    private String type;
+    private Long timeout;
+    private boolean skipDryRun;
+    private DummyStrategy strategy;
+    private List<String> commands;
+    private Map<String, String> environmentVariables;
+    private DummyManifest manifest;
+  }
+
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  private static class DummyManifest {
+    private String identifier;
+    private String connectorRef;
+    private String branch;
+    private List<String> paths;
+  }
+
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  private static class DummyOutcome {
+    private String releaseName;
+    private Integer releaseNumber;
+    private String namespace;
+    private Map<String, String> labels;
+  }
+
+  private DummyStepParameters stepParameters() {
+    return DummyStepParameters.builder()
+        .name("Rollout Deployment")
+        .identifier("rolloutDeployment")
+        .type("K8sRollingDeploy")
+        .timeout(600000L)
+        .strategy(DummyStrategy.ROLLING)
+        .commands(Arrays.asList("kubectl apply -f manifests", "kubectl rollout status deployment/orders"))
+        .environmentVariables(ImmutableMap.of("SERVICE", "orders", "ENV", "qa"))
+        .manifest(DummyManifest.builder()
+                      .identifier("specFiles")
+                      .connectorRef("myGitConnector")
+                      .branch("master")
+                      .paths(Arrays.asList("manifests/orders/templates", "manifests/orders/values-qa.yaml"))
+                      .build())
+        .build();
+  }
+
+  private DummyOutcome outcome() {
+    return DummyOutcome.builder()
+        .releaseName("release-a1b2c3")
+        .releaseNumber(42)
+        .namespace("orders-qa")
+        .labels(ImmutableMap.of("app", "orders", "harness.io/track", "stable"))
+        .build();
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(StressTests.class)
+  @Ignore("This is stress test we should ignore it to allow for simple run of unit tests")
+  public void measureFieldAccess() throws IllegalAccessException {
+    Recaster recaster = new Recaster();
+    CastedClass castedClass = recaster.getCastedClass(DummyStepParameters.class);
+    List<Field> fields = new ArrayList<>();
+    for (CastedField cf : castedClass.getPersistenceFields()) {
+      fields.add(cf.getField());
+    }
+    DummyStepParameters source = stepParameters();
+    DummyStepParameters target = new DummyStepParameters();
+
+    long start = System.nanoTime();
+    for (int i = 0; i < ITERATIONS; i++) {
+      for (Field field : fields) {
+        field.set(target, field.get(source));
+      }
+    }
+    log.info("Reflection: {} copies in {} ms", ITERATIONS, (System.nanoTime() - start) / 1_000_000);
+
+    start = System.nanoTime();
+    for (int i = 0; i < ITERATIONS; i++) {
+      for (CastedField cf : castedClass.getPersistenceFields()) {
+        cf.setFieldValue(target, cf.getFieldValue(source));
+      }
+    }
+    log.info("Method handles: {} copies in {} ms", ITERATIONS, (System.nanoTime() - start) / 1_000_000);
+    assertThat(target.manifest).isSameAs(source.manifest);
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(StressTests.class)
+  @Ignore("This is stress test we should ignore it to allow for simple run of unit tests")
+  public void measureJsonRoundTrip() {
+    Recast recast = new Recast(new Recaster(), ImmutableSet.of(DummyStepParameters.class, DummyOutcome.class));
+    String stepParametersJson = recast.toDocument(stepParameters()).toJson();
+    String outcomeJson = recast.toDocument(outcome()).toJson();
+    DocumentCodec codec = new DocumentCodec();
+    DecoderContext decoderContext = DecoderContext.builder().build();
+
+    long start = System.nanoTime();
+    for (int i = 0; i < ITERATIONS; i++) {
+      recast.fromDocument(Document.parse(stepParametersJson), DummyStepParameters.class);
+      recast.fromDocument(Document.parse(outcomeJson), DummyOutcome.class);
+    }
+    log.info("Document.parse: {} reads in {} ms", 2 * ITERATIONS, (System.nanoTime() - start) / 1_000_000);
+
+    start = System.nanoTime();
+    DummyStepParameters stepParameters = null;
+    for (int i = 0; i < ITERATIONS; i++) {
+      stepParameters = recast.fromDocument(
+          codec.decode(new JsonReader(stepParametersJson), decoderContext), DummyStepParameters.class);
+      recast.fromDocument(codec.decode(new JsonReader(outcomeJson), decoderContext), DummyOutcome.class);
+    }
+    log.info("Shared codec: {} reads in {} ms", 2 * ITERATIONS, (System.nanoTime() - start) / 1_000_000);
+    assertThat(stepParameters.manifest.paths).hasSize(2);
+
+    start = System.nanoTime();
+    for (int i = 0; i < ITERATIONS; i++) {
+      recast.toDocument(stepParameters());
+      recast.toDocument(outcome());
+    }
+    log.info("toDocument: {} writes in {} ms", 2 * ITERATIONS, (System.nanoTime() - start) / 1_000_000);
+  }
+}
@@ -457,4 +457,24 @@ public class RecastTest extends RecasterTestBase {
   private static class DummyInstant {
     private Instant instant;
   }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldTestRecasterWithFinalFields() {
+    Recast recast = new Recast(recaster, ImmutableSet.of(DummyFinal.class));
+    DummyFinal dummyFinal = new DummyFinal("value", 10);
+    Document document = recast.toDocument(dummyFinal);
+
+    DummyFinal recastedDummyFinal = recast.fromDocument(document, DummyFinal.class);
+    assertThat(recastedDummyFinal).isNotNull();
+    assertThat(recastedDummyFinal.string).isEqualTo("value");
+    assertThat(recastedDummyFinal.intPrimitive).isEqualTo(10);
+  }
+
+  @AllArgsConstructor
+  private static class DummyFinal {
+    private final String string;
+    private final int intPrimitive;
+  }
 }
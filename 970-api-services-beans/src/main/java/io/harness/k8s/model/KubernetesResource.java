@@ -57,17 +57,26 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.function.Consumer;
 import java.util.function.UnaryOperator;
-import lombok.AllArgsConstructor;
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 import org.apache.commons.lang3.StringUtils;
 
+/**
+ * A resource of a manifest, parsed once.
+ *
+ * The mutators edit the typed object of the resource in place, and the value and the spec are rendered again from it
+ * only when they are read, so a chain of transformations parses and renders the resource once.
+ */
 @Data
-@Builder
 @NoArgsConstructor
-@AllArgsConstructor
 public class KubernetesResource {
   private static final String MISSING_DEPLOYMENT_SPEC_MSG = "Deployment does not have spec";
   private static final String MISSING_DEPLOYMENT_CONFIG_SPEC_MSG = "DeploymentConfig does not have spec";
@@ -77,6 +86,71 @@ public class KubernetesResource {
   private Object value;
   private String spec;
 
+  @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE) @EqualsAndHashCode.Exclude @ToString.Exclude
+  private Object k8sResource;
+  // The typed object was edited, the spec and the value have to be rendered again from it.
+  @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE) @EqualsAndHashCode.Exclude @ToString.Exclude
+  private boolean stale;
+  @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE) @EqualsAndHashCode.Exclude @ToString.Exclude
+  private String normalizedSpec;
+
+  @Builder
+  public KubernetesResource(KubernetesResourceId resourceId, Object value, String spec) {
+    this.resourceId = resourceId;
+    this.value = value;
+    this.spec = spec;
+  }
+
+  public Object getValue() {
+    render();
+    return value;
+  }
+
+  public void setValue(Object value) {
+    render();
+    this.value = value;
+  }
+
+  public void setSpec(String spec) {
+    render();
+    this.spec = spec;
+    this.k8sResource = null;
+    this.normalizedSpec = null;
+  }
+
+  private void render() {
+    if (!stale) {
+      return;
+    }
+    stale = false;
+    spec = Yaml.dump(k8sResource);
+    try {
+      value = readYaml(spec).get(0);
+    } catch (IOException e) {
+      // do nothing
+      noop();
+    }
+  }
+
+  /**
+   * Applies the update to the typed object of the resource. The typed object is dropped if the update fails before
+   * anything was rendered from it, so that the resource stays as it was.
+   */
+  private KubernetesResource updateK8sResource(Consumer<Object> update) {
+    Object resource = getK8sResource();
+    try {
+      update.accept(resource);
+    } catch (RuntimeException e) {
+      if (!stale) {
+        k8sResource = null;
+      }
+      throw e;
+    }
+    stale = true;
+    normalizedSpec = null;
+    return this;
+  }
+
   public Object getField(String key) {
     return ObjectYamlUtils.getField(this.getValue(), key);
   }
@@ -91,8 +165,10 @@ public class KubernetesResource {
   }
 
   public KubernetesResource addLabelsInDeploymentSelector(Map<String, String> labels) {
-    Object k8sResource = getK8sResource();
+    return updateK8sResource(k8sResource -> addLabelsInDeploymentSelector(k8sResource, labels));
+  }
 
+  private void addLabelsInDeploymentSelector(Object k8sResource, Map<String, String> labels) {
     if (k8sResource instanceof DeploymentConfig) {
       DeploymentConfig deploymentConfig = (DeploymentConfig) k8sResource;
 
@@ -120,21 +196,13 @@ public class KubernetesResource {
       throw new InvalidRequestException(
           format("Unhandled Kubernetes resource %s while adding labels to selector", this.resourceId.getKind()));
     }
-
-    try {
-      this.spec = Yaml.dump(k8sResource);
-      this.value = readYaml(this.spec).get(0);
-    } catch (IOException e) {
-      // do nothing
-      noop();
-    }
-
-    return this;
   }
 
   public KubernetesResource setReplicaCount(Integer replicas) {
-    Object k8sResource = getK8sResource();
+    return updateK8sResource(k8sResource -> setReplicaCount(k8sResource, replicas));
+  }
 
+  private void setReplicaCount(Object k8sResource, Integer replicas) {
     if (k8sResource instanceof DeploymentConfig) {
       DeploymentConfig deploymentConfig = (DeploymentConfig) k8sResource;
       notNullCheck(MISSING_DEPLOYMENT_CONFIG_SPEC_MSG, deploymentConfig.getSpec());
@@ -147,16 +215,6 @@ public class KubernetesResource {
       throw new InvalidRequestException(
           format("Unhandled Kubernetes resource %s while setting replicaCount", this.resourceId.getKind()));
     }
-
-    try {
-      this.spec = Yaml.dump(k8sResource);
-      this.value = readYaml(this.spec).get(0);
-    } catch (IOException e) {
-      // do nothing
-      noop();
-    }
-
-    return this;
   }
 
   public Integer getReplicaCount() {
@@ -206,40 +264,22 @@ public class KubernetesResource {
   }
 
   public KubernetesResource addColorSelectorInService(String color) {
-    Object k8sResource = getK8sResource();
-    V1Service v1Service = (V1Service) k8sResource;
-
-    notNullCheck("Service does not have spec", v1Service.getSpec());
-    Map<String, String> selectors = v1Service.getSpec().getSelector();
-    if (selectors == null) {
-      selectors = new HashMap<>();
-    }
-
-    selectors.put(HarnessLabels.color, String.valueOf(color));
-    v1Service.getSpec().setSelector(selectors);
+    return updateK8sResource(k8sResource -> {
+      V1Service v1Service = (V1Service) k8sResource;
 
-    try {
-      this.spec = Yaml.dump(k8sResource);
-      this.value = readYaml(this.spec).get(0);
-    } catch (IOException e) {
-      // do nothing
-      noop();
-    }
+      notNullCheck("Service does not have spec", v1Service.getSpec());
+      Map<String, String> selectors = v1Service.getSpec().getSelector();
+      if (selectors == null) {
+        selectors = new HashMap<>();
+      }
 
-    return this;
+      selectors.put(HarnessLabels.color, String.valueOf(color));
+      v1Service.getSpec().setSelector(selectors);
+    });
   }
 
   public KubernetesResource transformName(UnaryOperator<Object> transformer) {
-    Object k8sResource = getK8sResource();
-    updateName(k8sResource, transformer);
-    try {
-      this.spec = Yaml.dump(k8sResource);
-      this.value = readYaml(this.spec).get(0);
-    } catch (IOException e) {
-      // do nothing
-      noop();
-    }
-    return this;
+    return updateK8sResource(k8sResource -> updateName(k8sResource, transformer));
   }
 
   private void updateName(Object k8sResource, UnaryOperator<Object> transformer) {
@@ -299,12 +339,14 @@ public class KubernetesResource {
   }
 
   public KubernetesResource addLabelsInPodSpec(Map<String, String> labels) {
-    Object k8sResource = getK8sResource();
-    V1PodTemplateSpec v1PodTemplateSpec = getV1PodTemplateSpec(k8sResource);
+    V1PodTemplateSpec v1PodTemplateSpec = getV1PodTemplateSpec(getK8sResource());
     if (v1PodTemplateSpec == null) {
       return this;
     }
+    return updateK8sResource(k8sResource -> addLabelsInPodSpec(v1PodTemplateSpec, labels));
+  }
 
+  private void addLabelsInPodSpec(V1PodTemplateSpec v1PodTemplateSpec, Map<String, String> labels) {
     if (v1PodTemplateSpec.getMetadata() == null) {
       v1PodTemplateSpec.setMetadata(new V1ObjectMeta());
     }
@@ -318,32 +360,14 @@ public class KubernetesResource {
     podLabels.putAll(labels);
 
     v1PodTemplateSpec.getMetadata().setLabels(podLabels);
-
-    try {
-      this.spec = Yaml.dump(k8sResource);
-      this.value = readYaml(this.spec).get(0);
-    } catch (IOException e) {
-      // do nothing
-      noop();
-    }
-    return this;
   }
 
   public KubernetesResource transformConfigMapAndSecretRef(
       UnaryOperator<Object> configMapRefTransformer, UnaryOperator<Object> secretRefTransformer) {
-    Object k8sResource = getK8sResource();
-
-    updateConfigMapRef(k8sResource, configMapRefTransformer);
-    updateSecretRef(k8sResource, secretRefTransformer);
-
-    try {
-      this.spec = Yaml.dump(k8sResource);
-      this.value = readYaml(this.spec).get(0);
-    } catch (IOException e) {
-      // do nothing
-      noop();
-    }
-    return this;
+    return updateK8sResource(k8sResource -> {
+      updateConfigMapRef(k8sResource, configMapRefTransformer);
+      updateSecretRef(k8sResource, secretRefTransformer);
+    });
   }
 
   public static String redactSecretValues(String spec) {
@@ -433,29 +457,36 @@ public class KubernetesResource {
 
   @VisibleForTesting
   Object getK8sResource() {
+    if (k8sResource == null) {
+      k8sResource = loadK8sResource(spec);
+    }
+    return k8sResource;
+  }
+
+  private Object loadK8sResource(String spec) {
     Kind kind = Kind.valueOf(this.resourceId.getKind());
 
     switch (kind) {
       case Deployment:
-        return Yaml.loadAs(this.spec, V1Deployment.class);
+        return Yaml.loadAs(spec, V1Deployment.class);
       case DaemonSet:
-        return Yaml.loadAs(this.spec, V1DaemonSet.class);
+        return Yaml.loadAs(spec, V1DaemonSet.class);
       case StatefulSet:
-        return Yaml.loadAs(this.spec, V1StatefulSet.class);
+        return Yaml.loadAs(spec, V1StatefulSet.class);
       case Job:
-        return Yaml.loadAs(this.spec, V1Job.class);
+        return Yaml.loadAs(spec, V1Job.class);
       case Service:
-        return Yaml.loadAs(this.spec, V1Service.class);
+        return Yaml.loadAs(spec, V1Service.class);
       case Secret:
-        return Yaml.loadAs(this.spec, V1Secret.class);
+        return Yaml.loadAs(spec, V1Secret.class);
       case ConfigMap:
-        return Yaml.loadAs(this.spec, V1ConfigMap.class);
+        return Yaml.loadAs(spec, V1ConfigMap.class);
       case Pod:
-        return Yaml.loadAs(this.spec, V1Pod.class);
+        return Yaml.loadAs(spec, V1Pod.class);
       case DeploymentConfig:
-        return Yaml.loadAs(this.spec, DeploymentConfig.class);
+        return Yaml.loadAs(spec, DeploymentConfig.class);
       case CronJob:
-        return Yaml.loadAs(this.spec, V1beta1CronJob.class);
+        return Yaml.loadAs(spec, V1beta1CronJob.class);
       default:
         unhandled(this.resourceId.getKind());
         throw new KubernetesYamlException("Unhandled Kubernetes resource " + this.resourceId.getKind());
@@ -716,15 +747,19 @@ public class KubernetesResource {
   /* Issue https://github.com/kubernetes/kubernetes/pull/66165 was fixed in 1.11.2.
   The issue didn't allow update to stateful set which has empty/null fields in its spec. */
   public String getSpec() {
-    if (!Kind.StatefulSet.name().equals(resourceId.getKind())) {
+    render();
+    if (spec == null || !Kind.StatefulSet.name().equals(resourceId.getKind())) {
       return spec;
     }
 
-    try {
-      return ResourceUtils.removeEmptyOrNullFields(Yaml.dump(Yaml.loadAs(this.spec, V1StatefulSet.class)));
-    } catch (IOException e) {
-      // Return original spec
-      return spec;
+    if (normalizedSpec == null) {
+      try {
+        normalizedSpec = ResourceUtils.removeEmptyOrNullFields(Yaml.dump(getK8sResource()));
+      } catch (IOException e) {
+        // Return original spec
+        return spec;
+      }
     }
+    return normalizedSpec;
   }
 }
@@ -0,0 +1,136 @@
+package io.harness.k8s.model;
+
+import static io.harness.k8s.manifest.ManifestHelper.processYaml;
+import static io.harness.rule.OwnerRule.YOGESH;
+
+import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.StressTests;
+import io.harness.k8s.manifest.ManifestHelper;
+import io.harness.rule.Owner;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+/**
+ * Runs the transformations of a canary and a blue green deployment on a chart of a few hundred resources.
+ */
+@Slf4j
+public class KubernetesResourceStressTest extends CategoryTest {
+  private static final int RESOURCES = 500;
+  private static final int ITERATIONS = 20;
+
+  @Test
+  @Owner(developers = YOGESH)
+  @Category(StressTests.class)
+  @Ignore("This is stress test we should ignore it to allow for simple run of unit tests")
+  public void testTransformChart() {
+    String chart = chart();
+    Map<String, String> canaryLabels = ImmutableMap.of("harness.io/track", "canary");
+    Map<String, String> colorLabels = ImmutableMap.of("harness.io/color", "blue");
+    UnaryOperator<Object> revision = name -> name + "-1";
+
+    long parse = 0;
+    long transform = 0;
+    long render = 0;
+    for (int i = 0; i < ITERATIONS; i++) {
+      long start = System.nanoTime();
+      List<KubernetesResource> resources = processYaml(chart);
+      parse += System.nanoTime() - start;
+
+      start = System.nanoTime();
+      for (KubernetesResource resource : resources) {
+        switch (Kind.valueOf(resource.getResourceId().getKind())) {
+          case Deployment:
+            resource.appendSuffixInName("-canary")
+                .addLabelsInDeploymentSelector(canaryLabels)
+                .addLabelsInPodSpec(canaryLabels)
+                .addLabelsInPodSpec(colorLabels)
+                .setReplicaCount(1)
+                .transformConfigMapAndSecretRef(revision, revision);
+            break;
+          case Service:
+            resource.addColorSelectorInService("blue");
+            break;
+          default:
+            resource.transformName(revision);
+        }
+      }
+      transform += System.nanoTime() - start;
+
+      start = System.nanoTime();
+      String manifest = ManifestHelper.toYaml(resources);
+      render += System.nanoTime() - start;
+      assertThat(manifest).contains("app-0-canary");
+    }
+
+    log.info("Parsed {} resources {} times in {} ms", RESOURCES, ITERATIONS, parse / 1_000_000);
+    log.info("Transformed {} resources {} times in {} ms", RESOURCES, ITERATIONS, transform / 1_000_000);
+    log.info("Rendered {} resources {} times in {} ms", RESOURCES, ITERATIONS, render / 1_000_000);
+  }
+
+  private static String chart() {
+    StringBuilder chart = new StringBuilder();
+    for (int i = 0; i < RESOURCES / 4; i++) {
+      chart.append(format("apiVersion: apps/v1\n"
+                         + "kind: Deployment\n"
+                         + "metadata:\n"
+                         + "  name: app-%1$d\n"
+                         + "spec:\n"
+                         + "  replicas: 3\n"
+                         + "  selector:\n"
+                         + "    matchLabels:\n"
+                         + "      app: app-%1$d\n"
+                         + "  template:\n"
+                         + "    metadata:\n"
+                         + "      labels:\n"
+                         + "        app: app-%1$d\n"
+                         + "    spec:\n"
+                         + "      containers:\n"
+                         + "      - name: app\n"
+                         + "        image: nginx:1.15.4\n"
+                         + "        envFrom:\n"
+                         + "        - configMapRef:\n"
+                         + "            name: config-%1$d\n"
+                         + "        - secretRef:\n"
+                         + "            name: secret-%1$d\n"
+                         + "        ports:\n"
+                         + "        - containerPort: 80\n"
+                         + "---\n"
+                         + "apiVersion: v1\n"
+                         + "kind: Service\n"
+                         + "metadata:\n"
+                         + "  name: app-%1$d\n"
+                         + "spec:\n"
+                         + "  selector:\n"
+                         + "    app: app-%1$d\n"
+                         + "  ports:\n"
+                         + "  - port: 80\n"
+                         + "---\n"
+                         + "apiVersion: v1\n"
+                         + "kind: ConfigMap\n"
+                         + "metadata:\n"
+                         + "  name: config-%1$d\n"
+                         + "data:\n"
+                         + "  key: value-%1$d\n"
+                         + "---\n"
+                         + "apiVersion: v1\n"
+                         + "kind: Secret\n"
+                         + "metadata:\n"
+                         + "  name: secret-%1$d\n"
+                         + "stringData:\n"
+                         + "  password: password-%1$d\n"
+                         + "---\n",
+          i));
+    }
+    return chart.toString();
+  }
+}
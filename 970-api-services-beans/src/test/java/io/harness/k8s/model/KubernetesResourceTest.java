@@ -10,6 +10,7 @@ import static io.harness.rule.OwnerRule.AVMOHAN;
 import static io.harness.rule.OwnerRule.PUNEET;
 import static io.harness.rule.OwnerRule.SAHIL;
 import static io.harness.rule.OwnerRule.SATYAM;
+import static io.harness.rule.OwnerRule.YOGESH;
 
 import static java.lang.String.format;
 import static junit.framework.TestCase.assertEquals;
@@ -661,4 +662,43 @@ public class KubernetesResourceTest extends CategoryTest {
         .isEqualTo("secret-key-value-2");
     assertThat(resource.getField(format(podTemplateSpec, "volumes[0].secret.secretName"))).isEqualTo("volume-secret-2");
   }
+
+  @Test
+  @Owner(developers = YOGESH)
+  @Category(UnitTests.class)
+  public void testMutationsRenderSpecOnRead() throws IOException {
+    URL url = this.getClass().getResource("/deploy.yaml");
+    String fileContents = Resources.toString(url, Charsets.UTF_8);
+    KubernetesResource resource = processYaml(fileContents).get(0);
+
+    Object k8sResource = resource.getK8sResource();
+    resource.appendSuffixInName("-canary")
+        .addLabelsInDeploymentSelector(ImmutableMap.of("harness.io/track", "canary"))
+        .addLabelsInPodSpec(ImmutableMap.of("harness.io/track", "canary"))
+        .setReplicaCount(1);
+    assertThat(resource.getK8sResource()).isSameAs(k8sResource);
+
+    V1Deployment deployment = (V1Deployment) processYaml(resource.getSpec()).get(0).getK8sResource();
+    assertThat(deployment.getMetadata().getName()).isEqualTo("nginx-deployment-canary");
+    assertThat(deployment.getSpec().getReplicas()).isEqualTo(1);
+    assertThat(deployment.getSpec().getSelector().getMatchLabels()).containsEntry("harness.io/track", "canary");
+    assertThat(deployment.getSpec().getTemplate().getMetadata().getLabels())
+        .containsEntry("harness.io/track", "canary");
+    assertThat(resource.getField("metadata.name")).isEqualTo("nginx-deployment-canary");
+    assertThat(resource.getReplicaCount()).isEqualTo(1);
+  }
+
+  @Test
+  @Owner(developers = YOGESH)
+  @Category(UnitTests.class)
+  public void testFailedMutationLeavesResourceUnchanged() throws IOException {
+    URL url = this.getClass().getResource("/deployment-null-selector.yaml");
+    String fileContents = Resources.toString(url, Charsets.UTF_8);
+    KubernetesResource resource = processYaml(fileContents).get(0);
+    String spec = resource.getSpec();
+
+    assertThatThrownBy(() -> resource.addLabelsInDeploymentSelector(ImmutableMap.of("harness.io/track", "canary")))
+        .isInstanceOf(KubernetesYamlException.class);
+    assertThat(resource.getSpec()).isEqualTo(spec);
+  }
 }
@@ -56,6 +56,7 @@ class ChronicleEventAppender extends EventPublisher {
     } finally {
       dc.close();
     }
+    queueMonitor.recordAppended();
   }
 
   @Override
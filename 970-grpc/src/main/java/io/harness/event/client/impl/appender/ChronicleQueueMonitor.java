@@ -13,11 +13,14 @@ import com.google.inject.name.Named;
 import java.io.File;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import net.openhft.chronicle.queue.impl.RollingChronicleQueue;
 
 /**
- * Monitors queue health so that we don't fill up all disk space on the delegate with too many files
+ * Monitors queue health so that we don't fill up all disk space on the delegate with too many files. Also keeps gauges
+ * of the backlog still on disk and of the rate at which messages are appended, refreshed every minute.
  */
 @Slf4j
 @Singleton
@@ -29,6 +32,12 @@ public class ChronicleQueueMonitor extends AbstractScheduledService {
 
   private volatile boolean healthy = true;
 
+  private final LongAdder appended = new LongAdder();
+  @Getter private volatile long fileCount;
+  // Messages in the queue files that were not deleted yet, the unsent ones and at most the last two sent files
+  @Getter private volatile long backlog;
+  @Getter private volatile long appendedPerMinute;
+
   @Inject
   public ChronicleQueueMonitor(@Named("appender") RollingChronicleQueue queue) {
     this.queue = queue;
@@ -42,6 +51,7 @@ public class ChronicleQueueMonitor extends AbstractScheduledService {
                            .map(File::listFiles)
                            .map(fileList -> stream(fileList).filter(file -> file.getName().endsWith(SUFFIX)).count())
                            .orElse(0L);
+      this.fileCount = fileCount;
       log.info("eventQueue fileCount: {}", fileCount);
       if (fileCount >= THRESHOLD) {
         log.warn("EventQueue file count on delegate is too high. Marking unhealthy");
@@ -53,6 +63,21 @@ public class ChronicleQueueMonitor extends AbstractScheduledService {
     } catch (Exception e) {
       log.error("Ignoring encountered exception", e);
     }
+    try {
+      appendedPerMinute = appended.sumThenReset();
+      // The tailer deletes the sent files from another process
+      queue.refreshDirectoryListing();
+      long firstIndex = queue.firstIndex();
+      long endIndex = queue.createTailer().toEnd().index();
+      backlog = firstIndex == Long.MAX_VALUE ? 0 : queue.countExcerpts(firstIndex, endIndex);
+      log.info("eventQueue backlog: {}, appendedPerMinute: {}", backlog, appendedPerMinute);
+    } catch (Exception e) {
+      log.error("Ignoring exception while computing queue gauges", e);
+    }
+  }
+
+  void recordAppended() {
+    appended.increment();
   }
 
   @Override
@@ -0,0 +1,42 @@
+package io.harness.event.client.impl.tailer;
+
+import java.time.Duration;
+import lombok.Getter;
+
+/**
+ * Sizes the publish batches from the observed rpc latency. A batch that comes back slower than the target halves the
+ * size of the next ones, so that slow requests stay well within their deadline and a failure resends less. Full
+ * batches that come back fast double it again, up to the maximum.
+ */
+class AdaptiveBatchSizer {
+  private final int maxCount;
+  private final int maxBytes;
+  private final int minCount;
+  private final long targetLatencyMillis;
+
+  @Getter private int countLimit;
+
+  AdaptiveBatchSizer(int maxCount, int maxBytes, int minCount, Duration targetLatency) {
+    this.maxCount = maxCount;
+    this.maxBytes = maxBytes;
+    this.minCount = minCount;
+    this.targetLatencyMillis = targetLatency.toMillis();
+    this.countLimit = maxCount;
+  }
+
+  Batch newBatch() {
+    return new Batch(getBytesLimit(), countLimit);
+  }
+
+  int getBytesLimit() {
+    return (int) ((long) maxBytes * countLimit / maxCount);
+  }
+
+  void record(Batch batch, long latencyMillis) {
+    if (latencyMillis > targetLatencyMillis) {
+      countLimit = Math.max(minCount, countLimit / 2);
+    } else if (latencyMillis < targetLatencyMillis / 2 && batch.isFull()) {
+      countLimit = Math.min(maxCount, countLimit * 2);
+    }
+  }
+}
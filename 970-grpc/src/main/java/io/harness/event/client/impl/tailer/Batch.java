@@ -17,14 +17,23 @@ class Batch {
   private final int thresholdCount;
 
   @Getter private final List<PublishMessage> messages = new ArrayList<>();
+  private final List<Long> indices = new ArrayList<>();
   private int byteSize;
 
-  void add(PublishMessage message) {
+  void add(PublishMessage message, long index) {
     checkState(!isFull(), "Adding to a full batch");
     messages.add(message);
+    indices.add(index);
     byteSize += message.getSerializedSize();
   }
 
+  /**
+   * Queue index of the message at the given position of the batch.
+   */
+  long getIndex(int position) {
+    return indices.get(position);
+  }
+
   public boolean isEmpty() {
     return messages.isEmpty();
   }
@@ -3,19 +3,33 @@ package io.harness.event.client.impl.tailer;
 import static com.google.common.base.Verify.verify;
 import static java.util.Objects.requireNonNull;
 
-import io.harness.event.EventPublisherGrpc.EventPublisherBlockingStub;
+import io.harness.event.EventPublisherGrpc.EventPublisherStub;
 import io.harness.event.PublishMessage;
 import io.harness.event.PublishRequest;
+import io.harness.event.PublishResponse;
 import io.harness.flow.BackoffScheduler;
 import io.harness.logging.LoggingListener;
 
+import com.google.common.collect.Lists;
 import com.google.common.util.concurrent.AbstractScheduledService;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.SettableFuture;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import com.google.inject.name.Named;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.StreamObserver;
 import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
 import lombok.extern.slf4j.Slf4j;
 import net.openhft.chronicle.queue.ExcerptTailer;
 import net.openhft.chronicle.queue.impl.RollingChronicleQueue;
@@ -24,8 +38,13 @@ import net.openhft.chronicle.wire.DocumentContext;
 /**
  * Tails the chronicle-queue and publishes the events over rpc.
  * <p/>
+ * Up to maxInFlightBatches publish requests are kept in flight. The sent index is only moved past a batch once it and
+ * every batch read before it were accepted, so a restart resumes from the oldest message that might not be published.
+ * A failed or partially accepted batch rewinds the read-tailer to it, and the batches after it are sent again.
+ * <p/>
  * Intentionally not thread-safe as CQ tailers are also not thread-safe. The methods in this class, and {@link
- * FileDeletionManager} are supposed to be executed by the same single thread.
+ * FileDeletionManager} are supposed to be executed by the same single thread. The rpc callbacks only complete the
+ * futures of the in-flight batches.
  */
 @Slf4j
 @Singleton
@@ -35,26 +54,63 @@ public class ChronicleEventTailer extends AbstractScheduledService {
   // Batching settings
   private static final int MAX_BATCH_COUNT = 5000;
   private static final int MAX_BATCH_BYTES = 1024 * 1024; // 1MiB
+  private static final int MIN_BATCH_COUNT = 100;
+  private static final Duration TARGET_PUBLISH_LATENCY = Duration.ofSeconds(2);
+  // A batch is streamed to the server in requests of this many messages
+  private static final int STREAM_CHUNK_COUNT = 500;
+  private static final long PUBLISH_DEADLINE_SECONDS = 30;
 
   private final ExcerptTailer readTailer;
 
   private final FileDeletionManager fileDeletionManager;
   private final BackoffScheduler scheduler;
   private final Sampler sampler;
+  private final AdaptiveBatchSizer batchSizer;
+
+  private final EventPublisherStub stub;
+  // Cleared when the event server is too old to know about the streaming publish
+  private boolean streamingSupported = true;
 
-  private final EventPublisherBlockingStub blockingStub;
+  private final int maxInFlightBatches;
+  // Sent and not yet acknowledged, oldest first
+  private final Deque<InFlightBatch> inFlight = new ArrayDeque<>();
+  private long publishedCount;
 
   private final RollingChronicleQueue queue;
 
+  private static class InFlightBatch {
+    private final Batch batch;
+    // Index of the message right after the batch
+    private final long endIndex;
+    private final long sentAt = System.nanoTime();
+    private final ListenableFuture<Integer> acceptedCount;
+    private volatile long completedAt;
+
+    InFlightBatch(Batch batch, long endIndex, ListenableFuture<Integer> acceptedCount) {
+      this.batch = batch;
+      this.endIndex = endIndex;
+      this.acceptedCount = acceptedCount;
+      acceptedCount.addListener(() -> completedAt = System.nanoTime(), MoreExecutors.directExecutor());
+    }
+
+    long latencyMillis() {
+      return TimeUnit.NANOSECONDS.toMillis(completedAt - sentAt);
+    }
+  }
+
   @Inject
-  ChronicleEventTailer(EventPublisherBlockingStub blockingStub, @Named("tailer") RollingChronicleQueue chronicleQueue,
-      FileDeletionManager fileDeletionManager, @Named("tailer") BackoffScheduler backoffScheduler) {
-    this.blockingStub = blockingStub;
+  ChronicleEventTailer(EventPublisherStub stub, @Named("tailer") RollingChronicleQueue chronicleQueue,
+      FileDeletionManager fileDeletionManager, @Named("tailer") BackoffScheduler backoffScheduler,
+      @Named("tailer-max-in-flight-batches") int maxInFlightBatches) {
+    this.stub = stub;
     this.queue = chronicleQueue;
     this.readTailer = chronicleQueue.createTailer(READ_TAILER);
     this.fileDeletionManager = fileDeletionManager;
     this.scheduler = backoffScheduler;
     this.sampler = new Sampler(Duration.ofMinutes(1));
+    this.batchSizer =
+        new AdaptiveBatchSizer(MAX_BATCH_COUNT, MAX_BATCH_BYTES, MIN_BATCH_COUNT, TARGET_PUBLISH_LATENCY);
+    this.maxInFlightBatches = maxInFlightBatches;
     addListener(new LoggingListener(this), MoreExecutors.directExecutor());
   }
 
@@ -65,6 +121,10 @@ public class ChronicleEventTailer extends AbstractScheduledService {
       // Only for migration when readTailer is present, and sentTailer is not.
       log.info("Index of sent-tailer is 0. Setting it to read-tailer index");
       fileDeletionManager.setSentIndex(readTailer.index());
+    } else if (readTailer.index() != fileDeletionManager.getSentIndex()) {
+      // Batches that were still in flight when the tailer stopped are sent again
+      log.info("Moving read-tailer back to the sent-tailer index");
+      QueueUtils.moveToIndex(readTailer, fileDeletionManager.getSentIndex());
     }
     printStats();
     fileDeletionManager.deleteOlderFiles();
@@ -83,8 +143,9 @@ public class ChronicleEventTailer extends AbstractScheduledService {
     long sentIndex = fileDeletionManager.getSentIndex();
     long endIndex = queue.createTailer().toEnd().index();
     long excerptCount = queue.countExcerpts(readIndex, endIndex);
-    log.info("index.read-tailer={},  index.sent-tailer={}, index.end={}, excerptCount={}", readIndex, sentIndex,
-        endIndex, excerptCount);
+    log.info(
+        "index.read-tailer={},  index.sent-tailer={}, index.end={}, excerptCount={}, published={}, batchCountLimit={}",
+        readIndex, sentIndex, endIndex, excerptCount, publishedCount, batchSizer.getCountLimit());
   }
 
   @Override
@@ -93,53 +154,20 @@ public class ChronicleEventTailer extends AbstractScheduledService {
     try {
       sampler.updateTime();
       sampler.sampled(() -> log.info("Checking for messages to publish"));
-      Batch batchToSend = new Batch(MAX_BATCH_BYTES, MAX_BATCH_COUNT);
-      while (!batchToSend.isFull()) {
-        long endIndex = queue.createTailer().toEnd().index();
-        try (DocumentContext dc = readTailer.readingDocument()) {
-          if (!dc.isPresent()) {
-            sampler.sampled(() -> log.info("Reached end of queue"));
-            long readIndex = readTailer.index();
-            if (readIndex < endIndex) {
-              readTailer.moveToIndex(endIndex);
-              fileDeletionManager.setSentIndex(endIndex);
-              log.warn(
-                  "Observed readTailer not at end with no document context. Moved from {} to {}", readIndex, endIndex);
-            }
-            break;
+      // Keep publishing while there is a backlog, the scheduler delay only applies once it is drained or on failure
+      while (isRunning() && acknowledgeCompleted()) {
+        if (inFlight.size() < maxInFlightBatches) {
+          Batch batchToSend = readBatch();
+          if (!batchToSend.isEmpty()) {
+            inFlight.addLast(new InFlightBatch(batchToSend, readTailer.index(), publish(batchToSend)));
+            continue;
           }
-          try {
-            verify(dc.wire() != null, "Null wire with document context present");
-            byte[] bytes = requireNonNull(dc.wire()).read().bytes();
-            if (bytes != null) {
-              PublishMessage message = PublishMessage.parseFrom(bytes);
-              batchToSend.add(message);
-            } else {
-              // could happen in case of an error during append with document context open.
-              log.warn("Read NULL message. Skipping");
-            }
-          } catch (Exception e) {
-            log.error("Exception while parsing message", e);
+          sampler.sampled(() -> log.info("Skipping message publish as batch is empty"));
+          if (inFlight.isEmpty()) {
+            break;
           }
         }
-      }
-      if (batchToSend.isFull()) {
-        log.info("Batch is full");
-      }
-      if (!batchToSend.isEmpty()) {
-        PublishRequest publishRequest = PublishRequest.newBuilder().addAllMessages(batchToSend.getMessages()).build();
-        try {
-          blockingStub.withDeadlineAfter(30, TimeUnit.SECONDS).publish(publishRequest);
-          log.info("Published {} messages successfully", batchToSend.size());
-          fileDeletionManager.setSentIndex(readTailer.index());
-          scheduler.recordSuccess();
-        } catch (Exception e) {
-          log.warn("Exception during message publish", e);
-          QueueUtils.moveToIndex(readTailer, fileDeletionManager.getSentIndex());
-          scheduler.recordFailure();
-        }
-      } else {
-        sampler.sampled(() -> log.info("Skipping message publish as batch is empty"));
+        awaitOldest();
       }
     } catch (Exception e) {
       log.error("Encountered exception", e);
@@ -153,6 +181,154 @@ public class ChronicleEventTailer extends AbstractScheduledService {
     }
   }
 
+  private Batch readBatch() {
+    Batch batchToSend = batchSizer.newBatch();
+    while (!batchToSend.isFull()) {
+      long endIndex = queue.createTailer().toEnd().index();
+      try (DocumentContext dc = readTailer.readingDocument()) {
+        if (!dc.isPresent()) {
+          sampler.sampled(() -> log.info("Reached end of queue"));
+          long readIndex = readTailer.index();
+          // With batches in flight the sent index cannot be moved yet, this is checked again once they are done
+          if (readIndex < endIndex && inFlight.isEmpty() && batchToSend.isEmpty()) {
+            readTailer.moveToIndex(endIndex);
+            fileDeletionManager.setSentIndex(endIndex);
+            log.warn(
+                "Observed readTailer not at end with no document context. Moved from {} to {}", readIndex, endIndex);
+          }
+          break;
+        }
+        try {
+          verify(dc.wire() != null, "Null wire with document context present");
+          byte[] bytes = requireNonNull(dc.wire()).read().bytes();
+          if (bytes != null) {
+            PublishMessage message = PublishMessage.parseFrom(bytes);
+            batchToSend.add(message, dc.index());
+          } else {
+            // could happen in case of an error during append with document context open.
+            log.warn("Read NULL message. Skipping");
+          }
+        } catch (Exception e) {
+          log.error("Exception while parsing message", e);
+        }
+      }
+    }
+    if (batchToSend.isFull()) {
+      log.info("Batch is full");
+    }
+    return batchToSend;
+  }
+
+  private void awaitOldest() throws InterruptedException {
+    try {
+      inFlight.getFirst().acceptedCount.get(PUBLISH_DEADLINE_SECONDS + 1, TimeUnit.SECONDS);
+    } catch (ExecutionException | TimeoutException e) {
+      // Handled when acknowledging
+    }
+  }
+
+  /**
+   * Acknowledges the completed batches at the head of the in-flight queue, in the order they were read.
+   *
+   * @return false if a batch was not fully accepted and reading was rewound to it
+   */
+  private boolean acknowledgeCompleted() {
+    while (!inFlight.isEmpty() && inFlight.getFirst().acceptedCount.isDone()) {
+      InFlightBatch oldest = inFlight.removeFirst();
+      Batch batch = oldest.batch;
+      int acceptedCount;
+      try {
+        acceptedCount = Futures.getDone(oldest.acceptedCount);
+      } catch (ExecutionException e) {
+        handlePublishFailure(e.getCause());
+        rewind(fileDeletionManager.getSentIndex());
+        return false;
+      }
+      batchSizer.record(batch, oldest.latencyMillis());
+      if (acceptedCount >= batch.size()) {
+        log.info("Published {} messages successfully", batch.size());
+        fileDeletionManager.setSentIndex(oldest.endIndex);
+        publishedCount += batch.size();
+        scheduler.recordSuccess();
+      } else {
+        // The server is overloaded. Keep what it accepted and back off before sending the rest.
+        log.info("Event server accepted {} out of {} messages", acceptedCount, batch.size());
+        long resumeIndex = batch.getIndex(acceptedCount);
+        fileDeletionManager.setSentIndex(resumeIndex);
+        publishedCount += acceptedCount;
+        rewind(resumeIndex);
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private void handlePublishFailure(Throwable cause) {
+    if (cause instanceof StatusRuntimeException
+        && ((StatusRuntimeException) cause).getStatus().getCode() == Status.Code.UNIMPLEMENTED && streamingSupported) {
+      log.info("Event server does not support streaming publish, falling back to unary publish");
+      streamingSupported = false;
+    } else {
+      log.warn("Exception during message publish", cause);
+    }
+  }
+
+  /**
+   * Drops the batches still in flight, they are read and sent again after the given index.
+   */
+  private void rewind(long index) {
+    inFlight.clear();
+    QueueUtils.moveToIndex(readTailer, index);
+    scheduler.recordFailure();
+  }
+
+  /**
+   * @return future of the number of messages, from the start of the batch, that the server persisted
+   */
+  private ListenableFuture<Integer> publish(Batch batch) {
+    SettableFuture<Integer> acceptedCount = SettableFuture.create();
+    EventPublisherStub deadlineStub = stub.withDeadlineAfter(PUBLISH_DEADLINE_SECONDS, TimeUnit.SECONDS);
+    if (!streamingSupported) {
+      PublishRequest publishRequest = PublishRequest.newBuilder().addAllMessages(batch.getMessages()).build();
+      deadlineStub.publish(publishRequest, new AcceptedCountObserver(acceptedCount, response -> batch.size()));
+      return acceptedCount;
+    }
+    StreamObserver<PublishRequest> requestObserver =
+        deadlineStub.publishStream(new AcceptedCountObserver(acceptedCount, PublishResponse::getAcceptedCount));
+    for (List<PublishMessage> chunk : Lists.partition(batch.getMessages(), STREAM_CHUNK_COUNT)) {
+      requestObserver.onNext(PublishRequest.newBuilder().addAllMessages(chunk).build());
+    }
+    requestObserver.onCompleted();
+    return acceptedCount;
+  }
+
+  private static class AcceptedCountObserver implements StreamObserver<PublishResponse> {
+    private final SettableFuture<Integer> acceptedCount;
+    // The unary publish does not report a count, everything it did not reject was accepted
+    private final Function<PublishResponse, Integer> countAccepted;
+    private volatile PublishResponse response = PublishResponse.getDefaultInstance();
+
+    AcceptedCountObserver(SettableFuture<Integer> acceptedCount, Function<PublishResponse, Integer> countAccepted) {
+      this.acceptedCount = acceptedCount;
+      this.countAccepted = countAccepted;
+    }
+
+    @Override
+    public void onNext(PublishResponse publishResponse) {
+      response = publishResponse;
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+      acceptedCount.setException(throwable);
+    }
+
+    @Override
+    public void onCompleted() {
+      acceptedCount.set(countAccepted.apply(response));
+    }
+  }
+
   @Override
   protected Scheduler scheduler() {
     return scheduler;
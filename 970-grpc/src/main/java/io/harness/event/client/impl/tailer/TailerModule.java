@@ -2,6 +2,7 @@ package io.harness.event.client.impl.tailer;
 
 import io.harness.event.EventPublisherGrpc;
 import io.harness.event.EventPublisherGrpc.EventPublisherBlockingStub;
+import io.harness.event.EventPublisherGrpc.EventPublisherStub;
 import io.harness.event.client.impl.EventPublisherConstants;
 import io.harness.flow.BackoffScheduler;
 import io.harness.govern.ProviderModule;
@@ -41,6 +42,12 @@ public class TailerModule extends ProviderModule {
         .build();
   }
 
+  @Provides
+  @Named("tailer-max-in-flight-batches")
+  int maxInFlightBatches() {
+    return config.getMaxInFlightBatches();
+  }
+
   @Provides
   @Singleton
   CallCredentials callCredentials() {
@@ -74,6 +81,13 @@ public class TailerModule extends ProviderModule {
     return EventPublisherGrpc.newBlockingStub(channel).withCallCredentials(callCredentials);
   }
 
+  @Provides
+  @Singleton
+  EventPublisherStub eventPublisherStub(
+      @Named("event-server-channel") Channel channel, CallCredentials callCredentials) {
+    return EventPublisherGrpc.newStub(channel).withCallCredentials(callCredentials);
+  }
+
   @Value
   @Builder
   public static class Config {
@@ -84,5 +98,7 @@ public class TailerModule extends ProviderModule {
     String queueFilePath;
     @Builder.Default Duration minDelay = Duration.ofSeconds(1);
     @Builder.Default Duration maxDelay = Duration.ofMinutes(5);
+    // One keeps a single publish request in flight at a time
+    @Builder.Default int maxInFlightBatches = 1;
   }
 }
@@ -16,6 +16,7 @@ import io.grpc.netty.shaded.io.grpc.netty.GrpcSslContexts;
 import io.grpc.netty.shaded.io.grpc.netty.NettyChannelBuilder;
 import io.grpc.netty.shaded.io.netty.handler.ssl.SslContext;
 import io.grpc.netty.shaded.io.netty.handler.ssl.util.InsecureTrustManagerFactory;
+import java.util.concurrent.TimeUnit;
 import javax.net.ssl.SSLException;
 import lombok.Builder;
 import lombok.Value;
@@ -26,6 +27,10 @@ import lombok.extern.slf4j.Slf4j;
  */
 @Slf4j
 public class ManagerGrpcClientModule extends ProviderModule {
+  // Pings on open calls only, so that a half open stream to the manager fails instead of hanging.
+  private static final long KEEP_ALIVE_TIME_SECONDS = 60;
+  private static final long KEEP_ALIVE_TIMEOUT_SECONDS = 20;
+
   private final Config config;
   private final String deployMode = System.getenv().get("DEPLOY_MODE");
 
@@ -46,11 +51,18 @@ public class ManagerGrpcClientModule extends ProviderModule {
   public Channel managerChannel(VersionInfoManager versionInfoManager) throws SSLException {
     String authorityToUse = computeAuthority(versionInfoManager.getVersionInfo());
     if ("ONPREM".equals(deployMode) || "KUBERNETES_ONPREM".equals(deployMode)) {
-      return NettyChannelBuilder.forTarget(config.target).overrideAuthority(authorityToUse).usePlaintext().build();
+      return NettyChannelBuilder.forTarget(config.target)
+          .overrideAuthority(authorityToUse)
+          .keepAliveTime(KEEP_ALIVE_TIME_SECONDS, TimeUnit.SECONDS)
+          .keepAliveTimeout(KEEP_ALIVE_TIMEOUT_SECONDS, TimeUnit.SECONDS)
+          .usePlaintext()
+          .build();
     }
     SslContext sslContext = GrpcSslContexts.forClient().trustManager(InsecureTrustManagerFactory.INSTANCE).build();
     return NettyChannelBuilder.forTarget(config.target)
         .overrideAuthority(authorityToUse)
+        .keepAliveTime(KEEP_ALIVE_TIME_SECONDS, TimeUnit.SECONDS)
+        .keepAliveTimeout(KEEP_ALIVE_TIMEOUT_SECONDS, TimeUnit.SECONDS)
         .sslContext(sslContext)
         .build();
   }
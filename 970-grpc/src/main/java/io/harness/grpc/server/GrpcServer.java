@@ -7,14 +7,15 @@ import com.google.common.util.concurrent.AbstractIdleService;
 import com.google.common.util.concurrent.MoreExecutors;
 import io.grpc.BindableService;
 import io.grpc.Server;
-import io.grpc.ServerBuilder;
 import io.grpc.ServerInterceptor;
 import io.grpc.health.v1.HealthCheckResponse.ServingStatus;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
 import io.grpc.services.HealthStatusManager;
 import java.io.File;
 import java.util.Comparator;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 import javax.annotation.ParametersAreNonnullByDefault;
 import lombok.extern.slf4j.Slf4j;
@@ -22,13 +23,22 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 @ParametersAreNonnullByDefault
 public class GrpcServer extends AbstractIdleService {
+  // Long lived streams, like the delegate feeds, are closed once the peer stops answering pings.
+  private static final long KEEP_ALIVE_TIME_SECONDS = 120;
+  private static final long KEEP_ALIVE_TIMEOUT_SECONDS = 20;
+  // Has to allow the keep alive time of the clients, ManagerGrpcClientModule pings every minute.
+  private static final long PERMIT_KEEP_ALIVE_TIME_SECONDS = 30;
+
   private final Server server;
   private final HealthStatusManager healthStatusManager;
 
   public GrpcServer(Connector connector, Set<BindableService> services, Set<ServerInterceptor> interceptors,
       HealthStatusManager healthStatusManager) {
-    ServerBuilder<?> builder = ServerBuilder.forPort(connector.getPort());
+    NettyServerBuilder builder = NettyServerBuilder.forPort(connector.getPort());
     builder.maxInboundMessageSize(GrpcInProcessServer.GRPC_MAXIMUM_MESSAGE_SIZE);
+    builder.keepAliveTime(KEEP_ALIVE_TIME_SECONDS, TimeUnit.SECONDS)
+        .keepAliveTimeout(KEEP_ALIVE_TIMEOUT_SECONDS, TimeUnit.SECONDS)
+        .permitKeepAliveTime(PERMIT_KEEP_ALIVE_TIME_SECONDS, TimeUnit.SECONDS);
     if (connector.isSecure()) {
       File certChain = new File(connector.getCertFilePath());
       File privateKey = new File(connector.getKeyFilePath());
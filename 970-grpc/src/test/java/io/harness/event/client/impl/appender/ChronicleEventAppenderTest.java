@@ -12,6 +12,7 @@ import io.harness.CategoryTest;
 import io.harness.category.element.UnitTests;
 import io.harness.event.EventPublisherGrpc;
 import io.harness.event.EventPublisherGrpc.EventPublisherBlockingStub;
+import io.harness.event.EventPublisherGrpc.EventPublisherStub;
 import io.harness.event.PublishMessage;
 import io.harness.event.client.EventPublisher;
 import io.harness.event.client.FakeService;
@@ -75,6 +76,12 @@ public class ChronicleEventAppenderTest extends CategoryTest {
               return EventPublisherGrpc.newBlockingStub(channel);
             }
 
+            @Provides
+            @Singleton
+            EventPublisherStub eventPublisherStub(ManagedChannel channel) {
+              return EventPublisherGrpc.newStub(channel);
+            }
+
             @Provides
             @Singleton
             @Named("tailer")
@@ -0,0 +1,65 @@
+package io.harness.event.client.impl.tailer;
+
+import static io.harness.event.client.impl.tailer.BatchTest.TEST_MESSAGE;
+import static io.harness.rule.OwnerRule.AVMOHAN;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import java.time.Duration;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class AdaptiveBatchSizerTest extends CategoryTest {
+  private final AdaptiveBatchSizer batchSizer = new AdaptiveBatchSizer(8, 1024, 2, Duration.ofSeconds(2));
+
+  private Batch fullBatch() {
+    Batch batch = batchSizer.newBatch();
+    while (!batch.isFull()) {
+      batch.add(TEST_MESSAGE, 0);
+    }
+    return batch;
+  }
+
+  @Test
+  @Owner(developers = AVMOHAN)
+  @Category(UnitTests.class)
+  public void shouldShrinkOnSlowPublishDownToMinimum() throws Exception {
+    batchSizer.record(fullBatch(), 3000);
+    assertThat(batchSizer.getCountLimit()).isEqualTo(4);
+    assertThat(batchSizer.getBytesLimit()).isEqualTo(512);
+    batchSizer.record(fullBatch(), 3000);
+    batchSizer.record(fullBatch(), 3000);
+    assertThat(batchSizer.getCountLimit()).isEqualTo(2);
+  }
+
+  @Test
+  @Owner(developers = AVMOHAN)
+  @Category(UnitTests.class)
+  public void shouldGrowOnlyOnFastFullBatches() throws Exception {
+    batchSizer.record(fullBatch(), 3000);
+    batchSizer.record(fullBatch(), 3000);
+    assertThat(batchSizer.getCountLimit()).isEqualTo(2);
+
+    Batch partial = batchSizer.newBatch();
+    partial.add(TEST_MESSAGE, 0);
+    batchSizer.record(partial, 100);
+    assertThat(batchSizer.getCountLimit()).isEqualTo(2);
+
+    batchSizer.record(fullBatch(), 100);
+    batchSizer.record(fullBatch(), 100);
+    batchSizer.record(fullBatch(), 100);
+    assertThat(batchSizer.getCountLimit()).isEqualTo(8);
+  }
+
+  @Test
+  @Owner(developers = AVMOHAN)
+  @Category(UnitTests.class)
+  public void shouldKeepSizeWithinTarget() throws Exception {
+    batchSizer.record(fullBatch(), 1500);
+    assertThat(batchSizer.getCountLimit()).isEqualTo(8);
+  }
+}
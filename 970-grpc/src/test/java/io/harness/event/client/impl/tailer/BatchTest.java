@@ -24,7 +24,7 @@ public class BatchTest extends CategoryTest {
   @Category(UnitTests.class)
   public void shouldBeFullOnSizeThreshold() throws Exception {
     Batch batch = new Batch(10, 100);
-    batch.add(TEST_MESSAGE);
+    batch.add(TEST_MESSAGE, 0);
     assertThat(batch.isFull()).isTrue();
   }
 
@@ -33,7 +33,7 @@ public class BatchTest extends CategoryTest {
   @Category(UnitTests.class)
   public void shouldBeFullOnCountThreshold() throws Exception {
     Batch batch = new Batch(1024 * 1024, 1);
-    batch.add(TEST_MESSAGE);
+    batch.add(TEST_MESSAGE, 0);
     assertThat(batch.isFull()).isTrue();
   }
 
@@ -42,8 +42,19 @@ public class BatchTest extends CategoryTest {
   @Category(UnitTests.class)
   public void shouldThrowIfAddingToFullBatch() throws Exception {
     Batch batch = new Batch(1024 * 1024, 1);
-    batch.add(TEST_MESSAGE);
+    batch.add(TEST_MESSAGE, 0);
     assertThat(batch.isFull()).isTrue();
-    assertThatIllegalStateException().isThrownBy(() -> batch.add(TEST_MESSAGE));
+    assertThatIllegalStateException().isThrownBy(() -> batch.add(TEST_MESSAGE, 1));
+  }
+
+  @Test
+  @Owner(developers = AVMOHAN)
+  @Category(UnitTests.class)
+  public void shouldKeepQueueIndexOfMessages() throws Exception {
+    Batch batch = new Batch(1024 * 1024, 10);
+    batch.add(TEST_MESSAGE, 42);
+    batch.add(TEST_MESSAGE, 45);
+    assertThat(batch.getIndex(0)).isEqualTo(42);
+    assertThat(batch.getIndex(1)).isEqualTo(45);
   }
 }
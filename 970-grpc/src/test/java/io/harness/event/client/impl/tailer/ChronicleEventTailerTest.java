@@ -0,0 +1,246 @@
+package io.harness.event.client.impl.tailer;
+
+import static io.harness.rule.OwnerRule.GEORGE;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.event.EventPublisherGrpc;
+import io.harness.event.PublishMessage;
+import io.harness.event.PublishRequest;
+import io.harness.event.PublishResponse;
+import io.harness.event.client.impl.EventPublisherConstants;
+import io.harness.flow.BackoffScheduler;
+import io.harness.rule.Owner;
+
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import java.io.File;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import net.openhft.chronicle.queue.ChronicleQueue;
+import net.openhft.chronicle.queue.ExcerptAppender;
+import net.openhft.chronicle.queue.impl.RollingChronicleQueue;
+import net.openhft.chronicle.wire.DocumentContext;
+import org.apache.commons.io.FileUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class ChronicleEventTailerTest extends CategoryTest {
+  // The tailer starts with batches of this many messages
+  private static final int BATCH_COUNT = 5000;
+  private static final int MAX_IN_FLIGHT_BATCHES = 3;
+
+  private final String QUEUE_FILE_PATH = "../eventQueue"
+      + "/" + UUID.randomUUID().toString();
+  private final String SERVER_NAME = InProcessServerBuilder.generateName();
+
+  private final HoldingService service = new HoldingService();
+  private final List<ChronicleEventTailer> tailers = new ArrayList<>();
+  private Server server;
+  private ManagedChannel channel;
+  private RollingChronicleQueue queue;
+  private List<Long> indices;
+
+  /**
+   * Holds every publish until the test completes it, unless it is told to accept them right away.
+   */
+  private static class HoldingService extends EventPublisherGrpc.EventPublisherImplBase {
+    private final List<PendingPublish> pending = new CopyOnWriteArrayList<>();
+    private final List<PublishMessage> accepted = Collections.synchronizedList(new ArrayList<>());
+    private volatile boolean autoAccept;
+
+    @Override
+    public StreamObserver<PublishRequest> publishStream(StreamObserver<PublishResponse> responseObserver) {
+      List<PublishMessage> messages = new ArrayList<>();
+      return new StreamObserver<PublishRequest>() {
+        @Override
+        public void onNext(PublishRequest publishRequest) {
+          messages.addAll(publishRequest.getMessagesList());
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+          // Nothing to respond to
+        }
+
+        @Override
+        public void onCompleted() {
+          PendingPublish publish = new PendingPublish(messages, responseObserver);
+          if (autoAccept) {
+            publish.accept(accepted);
+          } else {
+            pending.add(publish);
+          }
+        }
+      };
+    }
+  }
+
+  private static class PendingPublish {
+    private final List<PublishMessage> messages;
+    private final StreamObserver<PublishResponse> responseObserver;
+
+    PendingPublish(List<PublishMessage> messages, StreamObserver<PublishResponse> responseObserver) {
+      this.messages = messages;
+      this.responseObserver = responseObserver;
+    }
+
+    void accept(List<PublishMessage> accepted) {
+      accepted.addAll(messages);
+      responseObserver.onNext(PublishResponse.newBuilder().setAcceptedCount(messages.size()).build());
+      responseObserver.onCompleted();
+    }
+
+    void fail() {
+      responseObserver.onError(Status.UNAVAILABLE.asException());
+    }
+  }
+
+  @Before
+  public void setUp() throws Exception {
+    File directory = new File(QUEUE_FILE_PATH);
+    FileUtils.forceMkdir(directory);
+    FileUtils.cleanDirectory(directory);
+    server = InProcessServerBuilder.forName(SERVER_NAME).addService(service).build();
+    server.start();
+    channel = InProcessChannelBuilder.forName(SERVER_NAME).build();
+
+    queue = openQueue();
+    indices = append(3 * BATCH_COUNT);
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    service.pending.forEach(PendingPublish::fail);
+    for (ChronicleEventTailer tailer : tailers) {
+      tailer.stopAsync().awaitTerminated();
+    }
+    channel.shutdownNow().awaitTermination(10, TimeUnit.SECONDS);
+    server.shutdown();
+    server.awaitTermination();
+    queue.close();
+    FileUtils.deleteDirectory(new File(QUEUE_FILE_PATH));
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldOnlyAdvanceSentIndexOverContiguousAcknowledgements() throws Exception {
+    RollingChronicleQueue tailerQueue = openQueue();
+    FileDeletionManager fileDeletionManager = new FileDeletionManager(tailerQueue);
+    ChronicleEventTailer tailer = startTailer(tailerQueue, fileDeletionManager);
+    CompletableFuture<Void> iteration = CompletableFuture.runAsync(tailer::runOneIteration);
+
+    List<PendingPublish> batches = awaitInFlightBatches();
+
+    // The later batches are accepted first, they are not acknowledged before the first one
+    batches.get(2).accept(service.accepted);
+    batches.get(1).accept(service.accepted);
+    Thread.sleep(200);
+    assertThat(fileDeletionManager.getSentIndex()).isLessThanOrEqualTo(indices.get(0));
+
+    batches.get(0).accept(service.accepted);
+    iteration.get(10, TimeUnit.SECONDS);
+    assertThat(fileDeletionManager.getSentIndex()).isGreaterThan(indices.get(indices.size() - 1));
+    assertThat(service.accepted).hasSize(indices.size());
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldResendFromLastContiguousAcknowledgementOnRestart() throws Exception {
+    RollingChronicleQueue tailerQueue = openQueue();
+    FileDeletionManager fileDeletionManager = new FileDeletionManager(tailerQueue);
+    ChronicleEventTailer tailer = startTailer(tailerQueue, fileDeletionManager);
+    CompletableFuture<Void> iteration = CompletableFuture.runAsync(tailer::runOneIteration);
+
+    List<PendingPublish> batches = awaitInFlightBatches();
+
+    // The second batch never comes back, as if the process stopped while it was in flight
+    batches.get(0).accept(service.accepted);
+    batches.get(2).accept(service.accepted);
+    await()
+        .atMost(10, TimeUnit.SECONDS)
+        .until(() -> fileDeletionManager.getSentIndex() > indices.get(BATCH_COUNT - 1));
+    assertThat(fileDeletionManager.getSentIndex()).isLessThanOrEqualTo(indices.get(BATCH_COUNT));
+    service.accepted.clear();
+
+    service.autoAccept = true;
+    RollingChronicleQueue restartedQueue = openQueue();
+    FileDeletionManager restartedFileDeletionManager = new FileDeletionManager(restartedQueue);
+    ChronicleEventTailer restarted = startTailer(restartedQueue, restartedFileDeletionManager);
+    restarted.runOneIteration();
+
+    // Everything after the first batch is sent again once, the third batch included
+    assertThat(service.accepted.stream().map(PublishMessage::getMessageId).collect(Collectors.toList()))
+        .containsExactlyInAnyOrderElementsOf(IntStream.range(BATCH_COUNT, indices.size())
+                                       .mapToObj(String::valueOf)
+                                       .collect(Collectors.toList()));
+    assertThat(restartedFileDeletionManager.getSentIndex()).isGreaterThan(indices.get(indices.size() - 1));
+
+    batches.get(1).fail();
+    iteration.get(10, TimeUnit.SECONDS);
+  }
+
+  /**
+   * The batches held by the server, in the order they were read. The server might see the streams complete in another
+   * order.
+   */
+  private List<PendingPublish> awaitInFlightBatches() {
+    await().atMost(10, TimeUnit.SECONDS).until(() -> service.pending.size() == MAX_IN_FLIGHT_BATCHES);
+    List<PendingPublish> batches = new ArrayList<>(service.pending);
+    service.pending.clear();
+    batches.sort(Comparator.comparingInt(batch -> Integer.parseInt(batch.messages.get(0).getMessageId())));
+    return batches;
+  }
+
+  private RollingChronicleQueue openQueue() {
+    return ChronicleQueue.singleBuilder(QUEUE_FILE_PATH)
+        .rollCycle(EventPublisherConstants.QUEUE_ROLL_CYCLE)
+        .timeoutMS(EventPublisherConstants.QUEUE_TIMEOUT_MS)
+        .build();
+  }
+
+  private List<Long> append(int count) {
+    List<Long> appended = new ArrayList<>(count);
+    ExcerptAppender appender = queue.acquireAppender();
+    for (int i = 0; i < count; i++) {
+      byte[] bytes = PublishMessage.newBuilder().setMessageId(String.valueOf(i)).build().toByteArray();
+      try (DocumentContext dc = appender.writingDocument()) {
+        dc.wire().getValueOut().bytes(bytes);
+      }
+      appended.add(appender.lastIndexAppended());
+    }
+    return appended;
+  }
+
+  private ChronicleEventTailer startTailer(
+      RollingChronicleQueue tailerQueue, FileDeletionManager fileDeletionManager) {
+    // The scheduler does not run an iteration during the test, the test runs them
+    Duration delay = Duration.ofHours(1);
+    ChronicleEventTailer tailer = new ChronicleEventTailer(EventPublisherGrpc.newStub(channel), tailerQueue,
+        fileDeletionManager, new BackoffScheduler(ChronicleEventTailer.class.getSimpleName(), delay, delay),
+        MAX_IN_FLIGHT_BATCHES);
+    tailer.startAsync().awaitRunning();
+    tailers.add(tailer);
+    return tailer;
+  }
+}
@@ -0,0 +1,16 @@
+package io.harness.config;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class QueueBatchConfiguration {
+  @JsonProperty("batchSize") private int batchSize;
+  @JsonProperty("workers") private int workers;
+}
@@ -1,5 +1,7 @@
 package io.harness.config;
 
+import static io.harness.data.structure.EmptyPredicate.isEmpty;
+
 import com.fasterxml.jackson.annotation.JsonProperty;
 import java.util.Map;
 import lombok.Data;
@@ -9,7 +11,20 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class WorkersConfiguration implements ActiveConfigValidator {
   @JsonProperty("active") Map<String, Boolean> active;
+  @JsonProperty("queueBatch") Map<String, QueueBatchConfiguration> queueBatch;
+
   public boolean confirmWorkerIsActive(Class cls) {
     return isActive(cls, active);
   }
+
+  /**
+   * The batch settings of a queue listener, by the name of its class. Null keeps the settings the listener was
+   * created with.
+   */
+  public QueueBatchConfiguration fetchQueueBatchConfiguration(Class cls) {
+    if (isEmpty(queueBatch)) {
+      return null;
+    }
+    return queueBatch.get(cls.getName());
+  }
 }
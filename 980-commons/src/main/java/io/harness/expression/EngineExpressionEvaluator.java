@@ -11,6 +11,11 @@ import io.harness.exception.CriticalExpressionEvaluationException;
 import io.harness.exception.FunctorException;
 import io.harness.exception.InvalidRequestException;
 
+import com.google.common.base.Throwables;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -46,14 +51,22 @@ public class EngineExpressionEvaluator {
   private static final Pattern validVariableFieldNamePattern = Pattern.compile("^[a-zA-Z_][a-zA-Z_0-9]*$");
   private static final Pattern aliasNamePattern = Pattern.compile("^[a-zA-Z_][a-zA-Z_0-9]*$");
 
-  private final JexlEngine engine;
+  // The engine and the parsed expressions are thread-safe and hold no context, so all evaluators share them. A pipeline
+  // execution evaluates the same few thousand expressions over and over.
+  private static final JexlEngine engine = new JexlBuilder().logger(new NoOpLog()).create();
+  private static final LoadingCache<String, JexlExpression> expressionCache =
+      CacheBuilder.newBuilder().maximumSize(10000).build(CacheLoader.from(engine::createExpression));
+  // Names of the variables that stand for the <+...> parts of an evaluated expression. They are random so that they
+  // cannot clash with the expression, and fixed for the process so that the substituted expression can be cached.
+  private static final String VARIABLE_PREFIX = IdentifierName.random();
+  private static final String VARIABLE_SUFFIX = IdentifierName.random();
+
   @Getter private final VariableResolverTracker variableResolverTracker;
   private final Map<String, Object> contextMap;
   @Getter private final Map<String, String> staticAliases;
   private boolean initialized;
 
   public EngineExpressionEvaluator(VariableResolverTracker variableResolverTracker) {
-    this.engine = new JexlBuilder().logger(new NoOpLog()).create();
     this.variableResolverTracker =
         variableResolverTracker == null ? new VariableResolverTracker() : variableResolverTracker;
     this.contextMap = new LateBindingMap();
@@ -174,8 +187,8 @@ public class EngineExpressionEvaluator {
     StrSubstitutor strSubstitutor = new StrSubstitutor(EngineVariableResolver.builder()
                                                            .expressionEvaluator(this)
                                                            .ctx(finalCtx)
-                                                           .prefix(IdentifierName.random())
-                                                           .suffix(IdentifierName.random())
+                                                           .prefix(VARIABLE_PREFIX)
+                                                           .suffix(VARIABLE_SUFFIX)
                                                            .build(),
         EXPR_START, EXPR_END, StrSubstitutor.DEFAULT_ESCAPE);
     return evaluateInternal(strSubstitutor.replace(expression), finalCtx);
@@ -269,7 +282,13 @@ public class EngineExpressionEvaluator {
       return null;
     }
 
-    JexlExpression jexlExpression = engine.createExpression(expression);
+    JexlExpression jexlExpression;
+    try {
+      jexlExpression = expressionCache.getUnchecked(expression);
+    } catch (UncheckedExecutionException e) {
+      Throwables.throwIfUnchecked(e.getCause());
+      throw e;
+    }
     return jexlExpression.evaluate(ctx);
   }
 
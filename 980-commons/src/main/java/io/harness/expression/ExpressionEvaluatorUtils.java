@@ -14,8 +14,6 @@ import java.lang.reflect.Modifier;
 import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import javax.validation.constraints.NotNull;
 import lombok.experimental.UtilityClass;
 import lombok.extern.slf4j.Slf4j;
@@ -38,7 +36,6 @@ public class ExpressionEvaluatorUtils {
   private final int DEBUG_LENGTH_LIMIT = 1 * 1024 * 1024; // 1 MB
 
   private final JexlEngine engine = new JexlBuilder().logger(new NoOpLog()).create();
-  private static final String REGEX = "[0-9]+";
 
   public String substitute(EngineExpressionEvaluator expressionEvaluator, String expression, EngineJexlContext ctx) {
     if (expression == null) {
@@ -47,14 +44,23 @@ public class ExpressionEvaluatorUtils {
 
     String prefix = IdentifierName.random();
     String suffix = IdentifierName.random();
-    Pattern pattern = Pattern.compile(prefix + REGEX + suffix);
     EngineVariableResolver variableResolver = EngineVariableResolver.builder()
                                                   .expressionEvaluator(expressionEvaluator)
                                                   .ctx(ctx)
                                                   .prefix(prefix)
                                                   .suffix(suffix)
                                                   .build();
-    return substitute(expression, ctx, variableResolver, pattern, true);
+
+    // The first round over a string seen before is a concatenation of its parsed parts
+    ExpressionTemplate template = ExpressionTemplate.of(expression);
+    if (template == null) {
+      return substitute(expression, expression, 0, ctx, variableResolver, prefix, suffix, true);
+    }
+    String result = template.render(variable -> String.valueOf(ctx.get(variableResolver.lookup(variable))));
+    if (result.equals(expression) || !result.contains(EngineExpressionEvaluator.EXPR_START)) {
+      return result;
+    }
+    return substitute(expression, result, 1, ctx, variableResolver, prefix, suffix, true);
   }
 
   public String substitute(
@@ -65,7 +71,6 @@ public class ExpressionEvaluatorUtils {
 
     String prefix = IdentifierName.random();
     String suffix = IdentifierName.random();
-    Pattern pattern = Pattern.compile(prefix + REGEX + suffix);
     EvaluateVariableResolver variableResolver = EvaluateVariableResolver.builder()
                                                     .expressionEvaluator(expressionEvaluator)
                                                     .context(ctx)
@@ -73,7 +78,7 @@ public class ExpressionEvaluatorUtils {
                                                     .prefix(prefix)
                                                     .suffix(suffix)
                                                     .build();
-    return substitute(expression, ctx, variableResolver, pattern, false);
+    return substitute(expression, expression, 0, ctx, variableResolver, prefix, suffix, false);
   }
 
   public String substituteSecured(
@@ -84,7 +89,6 @@ public class ExpressionEvaluatorUtils {
 
     String prefix = IdentifierName.random();
     String suffix = IdentifierName.random();
-    Pattern pattern = Pattern.compile(prefix + REGEX + suffix);
     EvaluateVariableResolver variableResolver = EvaluateVariableResolver.builder()
                                                     .expressionEvaluator(expressionEvaluator)
                                                     .context(ctx)
@@ -92,51 +96,29 @@ public class ExpressionEvaluatorUtils {
                                                     .prefix(prefix)
                                                     .suffix(suffix)
                                                     .build();
-    return substituteSecretsSecured(expression, ctx, variableResolver, pattern);
+    return substituteSecretsSecured(expression, ctx, variableResolver, prefix, suffix);
   }
 
-  public String substitute(@NotNull String expression, JexlContext ctx, StrLookup<Object> variableResolver,
-      Pattern pattern, boolean newDelimiters) {
+  private String substitute(@NotNull String expression, String start, int startDepth, JexlContext ctx,
+      StrLookup<Object> variableResolver, String prefix, String suffix, boolean newDelimiters) {
     StrSubstitutor substitutor = getSubstitutor(variableResolver, newDelimiters);
 
-    String result = expression;
+    String result = start;
     int limit = Math.max(EXPANSION_LIMIT, EXPANSION_MULTIPLIER_LIMIT * expression.length());
     // We go maximum upto DEPTH_LIMIT depth while resolving all the variables
-    for (int i = 0; i < DEPTH_LIMIT; i++) {
+    for (int i = startDepth; i < DEPTH_LIMIT; i++) {
       // Lets use an example, we want to replace variables (i.e, ${..}) in expression - echo "${testVar}" && echo "1234"
       // ctx has map having (testVar, example) as one of its enteries.
-      // pattern - ABCD[0-9]+WXYZ
+      // prefix - ABCD, suffix - WXYZ
       String original = result;
       // This replaces all the variables (i.e, ${...}) in original string.
       // Each variable in original is replaced with the corresponding output of EvaluateVariableResolver#lookup
       // After this step: result - echo "ABCD1WXYZ" && echo "1234", ctx map has one more entry now (ABCD1WXYZ, example)
       result = substitutor.replace(new StringBuffer(original));
 
-      // Now we replace each pattern of type ABCD[0-9]+WXYZ in result string with its correct value.
-      for (;;) {
-        final Matcher matcher = pattern.matcher(result);
-        // If we don't find ABCD[0-9]+WXYZ pattern in string, it means there is nothing left to replace and we exit the
-        // outer loop
-        if (!matcher.find()) {
-          break;
-        }
-
-        StringBuffer sb = new StringBuffer();
-        // We iterate till all the matched patterns are replaced.
-        do {
-          // Extract the current matched entry with pattern. After this step: name - ABCD1WXYZ
-          String name = matcher.group(0);
-          // Get the value from ctx map. After this step: value - example
-          String value = String.valueOf(ctx.get(name));
-          // '\' and '$' are escaped in the value. The matched entry with pattern is replaced with value.
-          // This appends the string to sb till the replaced matched entry.
-          // After this step: sb - echo "example
-          matcher.appendReplacement(sb, value.replace("\\", "\\\\").replace("$", "\\$"));
-        } while (matcher.find());
-        // This appends the left over string to sb. After this step: sb - echo "example" && echo "1234"
-        matcher.appendTail(sb);
-        result = sb.toString();
-      }
+      // Now we replace each ABCD[0-9]+WXYZ in result string with its value from the ctx map, until none is left.
+      // After this step: result - echo "example" && echo "1234"
+      result = replaceVariables(result, ctx, prefix, suffix, false);
       if (result.length() > DEBUG_LENGTH_LIMIT) {
         log.info("The expression length: {} has exceeded {} limit.", result.length(), DEBUG_LENGTH_LIMIT);
       }
@@ -152,6 +134,43 @@ public class ExpressionEvaluatorUtils {
         "Infinite loop or too deep indirection in property interpretation", expression);
   }
 
+  /**
+   * Replaces the prefix[0-9]+suffix names the variable resolver put in the text with their values in the context,
+   * again and again until none is left. The names are found with plain string search, the prefix and suffix are
+   * random per substitution and compiling a pattern out of them every time costs more than the search itself.
+   */
+  private String replaceVariables(String text, JexlContext ctx, String prefix, String suffix, boolean secured) {
+    String result = text;
+    for (;;) {
+      StringBuilder sb = null;
+      int position = 0;
+      int start = result.indexOf(prefix);
+      while (start >= 0) {
+        int end = start + prefix.length();
+        while (end < result.length() && result.charAt(end) >= '0' && result.charAt(end) <= '9') {
+          end++;
+        }
+        if (end == start + prefix.length() || !result.startsWith(suffix, end)) {
+          start = result.indexOf(prefix, start + 1);
+          continue;
+        }
+        end += suffix.length();
+        Object value = ctx.get(result.substring(start, end));
+        if (sb == null) {
+          sb = new StringBuilder(result.length());
+        }
+        sb.append(result, position, start)
+            .append(secured && value instanceof SecretString ? SecretString.SECRET_MASK : String.valueOf(value));
+        position = end;
+        start = result.indexOf(prefix, end);
+      }
+      if (sb == null) {
+        return result;
+      }
+      result = sb.append(result, position, result.length()).toString();
+    }
+  }
+
   /**
    * Fetch field from inside the object using jexl conventions. POJSs, Maps, Classes having get method are supported.
    *
@@ -299,19 +318,8 @@ public class ExpressionEvaluatorUtils {
     return substitutor;
   }
 
-  private String resolveSecured(Matcher matcher, JexlContext ctx) {
-    StringBuffer sb = new StringBuffer();
-    do {
-      String name = matcher.group(0);
-      String value = ctx.get(name) instanceof SecretString ? SecretString.SECRET_MASK : String.valueOf(ctx.get(name));
-      matcher.appendReplacement(sb, value.replace("\\", "\\\\").replace("$", "\\$"));
-    } while (matcher.find());
-    matcher.appendTail(sb);
-    return sb.toString();
-  }
-
-  private String substituteSecretsSecured(
-      @NotNull String expression, JexlContext ctx, StrLookup<Object> variableResolver, Pattern pattern) {
+  private String substituteSecretsSecured(@NotNull String expression, JexlContext ctx,
+      StrLookup<Object> variableResolver, String prefix, String suffix) {
     StrSubstitutor substitutor = getSubstitutor(variableResolver, false);
 
     String result = expression;
@@ -319,15 +327,7 @@ public class ExpressionEvaluatorUtils {
     for (int i = 0; i < DEPTH_LIMIT; i++) {
       String original = result;
       result = substitutor.replace(new StringBuffer(original));
-
-      for (;;) {
-        final Matcher matcher = pattern.matcher(result);
-        if (!matcher.find()) {
-          break;
-        }
-
-        result = resolveSecured(matcher, ctx);
-      }
+      result = replaceVariables(result, ctx, prefix, suffix, true);
       if (result.equals(original)) {
         return result;
       }
@@ -0,0 +1,87 @@
+package io.harness.expression;
+
+import static io.harness.annotations.dev.HarnessTeam.CDC;
+import static io.harness.expression.EngineExpressionEvaluator.EXPR_END;
+import static io.harness.expression.EngineExpressionEvaluator.EXPR_START;
+
+import io.harness.annotations.dev.OwnedBy;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+import org.apache.commons.text.StrSubstitutor;
+
+/**
+ * A string split once into its literal parts and its top level {@code <+...>} expressions, so that rendering the same
+ * string again does not scan it. Only strings without nested or escaped expressions have a template, for those the
+ * first round of substitution is a plain concatenation. The others keep going through {@link StrSubstitutor}.
+ */
+@OwnedBy(CDC)
+final class ExpressionTemplate {
+  // Weighed by length, the rendered strings can be whole scripts
+  private static final Cache<String, Optional<ExpressionTemplate>> templates =
+      CacheBuilder.newBuilder()
+          .maximumWeight(16 * 1024 * 1024)
+          .weigher((String text, Optional<ExpressionTemplate> template) -> text.length())
+          .build();
+
+  private final List<String> literals;
+  private final List<String> expressions;
+
+  private ExpressionTemplate(List<String> literals, List<String> expressions) {
+    this.literals = literals;
+    this.expressions = expressions;
+  }
+
+  /**
+   * @return the template of the text, or null if it has to go through the full substitution
+   */
+  static ExpressionTemplate of(String text) {
+    try {
+      return templates.get(text, () -> Optional.ofNullable(parse(text))).orElse(null);
+    } catch (ExecutionException e) {
+      return null;
+    }
+  }
+
+  static ExpressionTemplate parse(String text) {
+    List<String> literals = new ArrayList<>();
+    List<String> expressions = new ArrayList<>();
+    int position = 0;
+    int start;
+    while ((start = text.indexOf(EXPR_START, position)) >= 0) {
+      if (start > 0 && text.charAt(start - 1) == StrSubstitutor.DEFAULT_ESCAPE) {
+        return null;
+      }
+      int end = text.indexOf(EXPR_END, start + EXPR_START.length());
+      if (end < 0) {
+        // Not an expression, like the substitutor the rest stays as it is
+        break;
+      }
+      int nested = text.indexOf(EXPR_START, start + EXPR_START.length());
+      if ((nested >= 0 && nested < end) || end == start + EXPR_START.length()) {
+        return null;
+      }
+      literals.add(text.substring(position, start));
+      expressions.add(text.substring(start + EXPR_START.length(), end));
+      position = end + EXPR_END.length();
+    }
+    literals.add(text.substring(position));
+    return new ExpressionTemplate(literals, expressions);
+  }
+
+  /**
+   * Renders the template, each expression is replaced with the value returned by resolver.
+   */
+  String render(Function<String, String> resolver) {
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0; i < expressions.size(); i++) {
+      sb.append(literals.get(i)).append(resolver.apply(expressions.get(i)));
+    }
+    return sb.append(literals.get(expressions.size())).toString();
+  }
+}
@@ -0,0 +1,70 @@
+package io.harness.histogram;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.util.Arrays;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Sparse encoding of the quantized bucket weights of a {@link HistogramCheckpoint}. Each non-empty bucket is written as
+ * two unsigned varints: the distance from the previous non-empty bucket and the weight. Since checkpoint weights are
+ * scaled to at most {@link HistogramImpl#MAX_CHECKPOINT_WEIGHT}, a bucket takes two to three bytes instead of a map
+ * entry with two boxed integers.
+ */
+@UtilityClass
+public class CompactBucketWeights {
+  public interface BucketWeightConsumer {
+    void accept(int bucket, int weight);
+  }
+
+  /**
+   * Encodes the first count buckets and weights. Buckets must be in increasing order.
+   */
+  public static byte[] encode(int[] buckets, int[] weights, int count) {
+    byte[] buffer = new byte[count * 10];
+    int position = 0;
+    int previous = -1;
+    for (int i = 0; i < count; i++) {
+      checkArgument(buckets[i] > previous, "Buckets must be in increasing order");
+      position = writeVarInt(buffer, position, buckets[i] - previous - 1);
+      position = writeVarInt(buffer, position, weights[i]);
+      previous = buckets[i];
+    }
+    return Arrays.copyOf(buffer, position);
+  }
+
+  public static void forEach(byte[] encoded, BucketWeightConsumer consumer) {
+    int position = 0;
+    int bucket = -1;
+    while (position < encoded.length) {
+      int delta = 0;
+      int shift = 0;
+      byte b;
+      do {
+        b = encoded[position++];
+        delta |= (b & 0x7F) << shift;
+        shift += 7;
+      } while (b < 0);
+
+      int weight = 0;
+      shift = 0;
+      do {
+        b = encoded[position++];
+        weight |= (b & 0x7F) << shift;
+        shift += 7;
+      } while (b < 0);
+
+      bucket += delta + 1;
+      consumer.accept(bucket, weight);
+    }
+  }
+
+  private static int writeVarInt(byte[] buffer, int position, int value) {
+    while ((value & ~0x7F) != 0) {
+      buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+      value >>>= 7;
+    }
+    buffer[position++] = (byte) value;
+    return position;
+  }
+}
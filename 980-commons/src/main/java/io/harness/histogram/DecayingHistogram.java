@@ -45,6 +45,11 @@ public class DecayingHistogram implements Histogram {
     return this.histogram.getPercentile(percentile);
   }
 
+  @Override
+  public double[] getPercentiles(double[] percentiles) {
+    return this.histogram.getPercentiles(percentiles);
+  }
+
   @Override
   public void addSample(double value, double weight, Instant time) {
     this.histogram.addSample(value, weight * decayFactor(time), time);
@@ -79,6 +84,12 @@ public class DecayingHistogram implements Histogram {
     return checkpoint.toBuilder().referenceTimestamp(Instant.ofEpochMilli(this.referenceTimestampMs)).build();
   }
 
+  @Override
+  public HistogramCheckpoint saveToCompactCheckpoint() {
+    HistogramCheckpoint checkpoint = this.histogram.saveToCompactCheckpoint();
+    return checkpoint.toBuilder().referenceTimestamp(Instant.ofEpochMilli(this.referenceTimestampMs)).build();
+  }
+
   @Override
   public void loadFromCheckPoint(HistogramCheckpoint checkpoint) {
     this.histogram.loadFromCheckPoint(checkpoint);
@@ -32,6 +32,17 @@ public interface Histogram {
    */
   double getPercentile(double percentile);
 
+  /**
+   * Returns the approximations of several percentiles, given in increasing order, at once.
+   */
+  default double[] getPercentiles(double[] percentiles) {
+    double[] result = new double[percentiles.length];
+    for (int i = 0; i < percentiles.length; i++) {
+      result[i] = getPercentile(percentiles[i]);
+    }
+    return result;
+  }
+
   /**
    * Returns true if the histogram is empty.
    */
@@ -44,6 +55,14 @@ public interface Histogram {
    */
   HistogramCheckpoint saveToCheckpoint();
 
+  /**
+   * Same as saveToCheckpoint, but the bucket weights are stored in the
+   * CompactBucketWeights encoding instead of a map.
+   */
+  default HistogramCheckpoint saveToCompactCheckpoint() {
+    return saveToCheckpoint();
+  }
+
   /**
    * LoadFromCheckpoint loads data from the checkpoint into the histogram
    * by appending samples.
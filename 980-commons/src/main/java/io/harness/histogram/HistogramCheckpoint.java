@@ -1,5 +1,7 @@
 package io.harness.histogram;
 
+import io.harness.histogram.CompactBucketWeights.BucketWeightConsumer;
+
 import java.time.Instant;
 import java.util.Map;
 import lombok.AllArgsConstructor;
@@ -16,4 +18,17 @@ public class HistogramCheckpoint {
   Instant referenceTimestamp;
   @Singular Map<Integer, Integer> bucketWeights;
   double totalWeight;
+  // Same data as bucketWeights in the CompactBucketWeights encoding; when present it takes precedence
+  byte[] compactBucketWeights;
+
+  /**
+   * Visits the non-empty buckets in whichever format the checkpoint was saved.
+   */
+  public void forEachBucketWeight(BucketWeightConsumer consumer) {
+    if (compactBucketWeights != null) {
+      CompactBucketWeights.forEach(compactBucketWeights, consumer);
+    } else if (bucketWeights != null) {
+      bucketWeights.forEach(consumer::accept);
+    }
+  }
 }
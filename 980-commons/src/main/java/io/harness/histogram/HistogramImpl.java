@@ -6,7 +6,6 @@ import static com.google.common.base.Preconditions.checkNotNull;
 
 import com.google.common.collect.ImmutableMap;
 import java.time.Instant;
-import java.util.Map;
 import lombok.ToString;
 
 /**
@@ -110,6 +109,33 @@ public class HistogramImpl implements Histogram {
     return this.options.getBucketStart(bucket);
   }
 
+  /**
+   * Computes all the percentiles in a single pass over the buckets. The percentiles must be in increasing order.
+   */
+  @Override
+  public double[] getPercentiles(double[] percentiles) {
+    double[] result = new double[percentiles.length];
+    if (isEmpty()) {
+      return result;
+    }
+    // partialSum is the cumulative weight up to and including the current bucket
+    int bucket = this.minBucket;
+    double partialSum = bucket < this.maxBucket ? this.bucketWeight[bucket] : 0.0;
+    for (int i = 0; i < percentiles.length; i++) {
+      checkArgument(i == 0 || percentiles[i] >= percentiles[i - 1], "Percentiles must be in increasing order");
+      double threshold = percentiles[i] * this.totalWeight;
+      while (bucket < this.maxBucket && partialSum < threshold) {
+        bucket++;
+        if (bucket < this.maxBucket) {
+          partialSum += this.bucketWeight[bucket];
+        }
+      }
+      result[i] = bucket < this.options.getNumBuckets() - 1 ? this.options.getBucketStart(bucket + 1)
+                                                            : this.options.getBucketStart(bucket);
+    }
+    return result;
+  }
+
   @Override
   public boolean isEmpty() {
     return this.bucketWeight[this.minBucket] < this.options.getEpsilon();
@@ -130,14 +156,8 @@ public class HistogramImpl implements Histogram {
   @Override
   public HistogramCheckpoint saveToCheckpoint() {
     ImmutableMap.Builder<Integer, Integer> builder = ImmutableMap.builder();
-    double max = 0;
-    for (int bucket = this.minBucket; bucket <= this.maxBucket; bucket++) {
-      if (this.bucketWeight[bucket] > max) {
-        max = this.bucketWeight[bucket];
-      }
-    }
-    if (max > 0) {
-      double ratio = MAX_CHECKPOINT_WEIGHT / max;
+    double ratio = checkpointRatio();
+    if (ratio > 0) {
       for (int bucket = this.minBucket; bucket <= this.maxBucket; bucket++) {
         int newWeight = (int) Math.round(this.bucketWeight[bucket] * ratio);
         if (newWeight > 0) {
@@ -148,25 +168,56 @@ public class HistogramImpl implements Histogram {
     return HistogramCheckpoint.builder().bucketWeights(builder.build()).totalWeight(this.totalWeight).build();
   }
 
+  @Override
+  public HistogramCheckpoint saveToCompactCheckpoint() {
+    int size = Math.max(0, this.maxBucket - this.minBucket + 1);
+    int[] buckets = new int[size];
+    int[] weights = new int[size];
+    int count = 0;
+    double ratio = checkpointRatio();
+    if (ratio > 0) {
+      for (int bucket = this.minBucket; bucket <= this.maxBucket; bucket++) {
+        int newWeight = (int) Math.round(this.bucketWeight[bucket] * ratio);
+        if (newWeight > 0) {
+          buckets[count] = bucket;
+          weights[count] = newWeight;
+          count++;
+        }
+      }
+    }
+    return HistogramCheckpoint.builder()
+        .compactBucketWeights(CompactBucketWeights.encode(buckets, weights, count))
+        .totalWeight(this.totalWeight)
+        .build();
+  }
+
+  // Scales the largest bucket to MAX_CHECKPOINT_WEIGHT, 0 if all the buckets are empty
+  private double checkpointRatio() {
+    double max = 0;
+    for (int bucket = this.minBucket; bucket <= this.maxBucket; bucket++) {
+      if (this.bucketWeight[bucket] > max) {
+        max = this.bucketWeight[bucket];
+      }
+    }
+    return max > 0 ? MAX_CHECKPOINT_WEIGHT / max : 0;
+  }
+
   @Override
   public void loadFromCheckPoint(HistogramCheckpoint checkpoint) {
     checkNotNull(checkpoint, "Cannot load from empty checkpoint");
     checkArgument(checkpoint.getTotalWeight() >= 0.0, "Cannot load checkpoint with negative weight %s",
         checkpoint.getTotalWeight());
-    long sum = 0;
-    for (Map.Entry<Integer, Integer> bucketAndWeight : checkpoint.getBucketWeights().entrySet()) {
-      int bucket = bucketAndWeight.getKey();
-      int weight = bucketAndWeight.getValue();
-      sum += weight;
-      checkElementIndex(bucket, this.options.getNumBuckets(), "Checkpoint has invalid bucket index");
-    }
-    if (sum == 0) {
+    long[] sum = new long[1];
+    int numBuckets = this.options.getNumBuckets();
+    checkpoint.forEachBucketWeight((bucket, weight) -> {
+      sum[0] += weight;
+      checkElementIndex(bucket, numBuckets, "Checkpoint has invalid bucket index");
+    });
+    if (sum[0] == 0) {
       return;
     }
-    double ratio = checkpoint.getTotalWeight() / sum;
-    for (Map.Entry<Integer, Integer> bucketAndWeight : checkpoint.getBucketWeights().entrySet()) {
-      int bucket = bucketAndWeight.getKey();
-      int weight = bucketAndWeight.getValue();
+    double ratio = checkpoint.getTotalWeight() / sum[0];
+    checkpoint.forEachBucketWeight((bucket, weight) -> {
       if (bucket < this.minBucket) {
         this.minBucket = bucket;
       }
@@ -174,7 +225,7 @@ public class HistogramImpl implements Histogram {
         this.maxBucket = bucket;
       }
       this.bucketWeight[bucket] += weight * ratio;
-    }
+    });
     this.totalWeight += checkpoint.getTotalWeight();
   }
 
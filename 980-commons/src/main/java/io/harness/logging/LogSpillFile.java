@@ -0,0 +1,206 @@
+package io.harness.logging;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.cloud.logging.LogEntry;
+import com.google.cloud.logging.Payload.JsonPayload;
+import com.google.cloud.logging.Severity;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Memory mapped file the remote log appender moves its entries to while the remote endpoint cannot take them. The
+ * entries are kept as length prefixed json records, the read and write offsets live in the header of the file so that
+ * entries spilled before a restart are replayed by the next process.
+ */
+@Slf4j
+class LogSpillFile implements Closeable {
+  private static final int MAGIC = 0x4C4F4753;
+  private static final int MAGIC_POSITION = 0;
+  private static final int READ_OFFSET_POSITION = 4;
+  private static final int WRITE_OFFSET_POSITION = 8;
+  private static final int HEADER_SIZE = 12;
+  private static final int MAX_RECORD_SIZE = 1024 * 1024;
+
+  private static final ObjectMapper mapper = new ObjectMapper();
+  private static final TypeReference<Map<String, Object>> RECORD_TYPE = new TypeReference<Map<String, Object>>() {};
+
+  private final FileChannel channel;
+  private final FileLock lock;
+  private final MappedByteBuffer buffer;
+  private int readOffset;
+  private int writeOffset;
+
+  static LogSpillFile open(String appName, String processId, int capacity) throws IOException {
+    File directory = new File(System.getProperty("java.io.tmpdir"));
+    LogSpillFile spillFile = tryOpen(new File(directory, appName + "-log-spill.dat"), capacity);
+    if (spillFile == null) {
+      // Another process of the same app on this host owns the shared file.
+      spillFile = tryOpen(new File(directory, appName + "-" + processId + "-log-spill.dat"), capacity);
+    }
+    if (spillFile == null) {
+      throw new IOException("Spill file for " + appName + " is locked by another process");
+    }
+    return spillFile;
+  }
+
+  private static LogSpillFile tryOpen(File file, int capacity) throws IOException {
+    FileChannel channel =
+        FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    FileLock lock;
+    try {
+      lock = channel.tryLock();
+    } catch (OverlappingFileLockException e) {
+      lock = null;
+    }
+    if (lock == null) {
+      channel.close();
+      return null;
+    }
+    return new LogSpillFile(channel, lock, capacity);
+  }
+
+  private LogSpillFile(FileChannel channel, FileLock lock, int capacity) throws IOException {
+    this.channel = channel;
+    this.lock = lock;
+    this.buffer = channel.map(MapMode.READ_WRITE, 0, capacity);
+
+    readOffset = buffer.getInt(READ_OFFSET_POSITION);
+    writeOffset = buffer.getInt(WRITE_OFFSET_POSITION);
+    if (buffer.getInt(MAGIC_POSITION) != MAGIC || readOffset < HEADER_SIZE || writeOffset < readOffset
+        || writeOffset > capacity) {
+      buffer.putInt(MAGIC_POSITION, MAGIC);
+      reset();
+    } else if (!isEmpty()) {
+      log.info("Found {} bytes of spilled log entries from a previous run", writeOffset - readOffset);
+    }
+  }
+
+  synchronized boolean isEmpty() {
+    return readOffset == writeOffset;
+  }
+
+  /**
+   * @return false if the entry does not fit in the file anymore
+   */
+  synchronized boolean write(LogEntry logEntry) {
+    byte[] record;
+    try {
+      record = mapper.writeValueAsBytes(toRecord(logEntry));
+    } catch (IOException e) {
+      log.error("Failed to serialize log entry for spilling", e);
+      return false;
+    }
+    if (record.length > MAX_RECORD_SIZE) {
+      return false;
+    }
+    if (writeOffset + 4 + record.length > buffer.capacity()) {
+      compact();
+      if (writeOffset + 4 + record.length > buffer.capacity()) {
+        return false;
+      }
+    }
+    buffer.putInt(writeOffset, record.length);
+    ByteBuffer view = buffer.duplicate();
+    view.position(writeOffset + 4);
+    view.put(record);
+    writeOffset += 4 + record.length;
+    buffer.putInt(WRITE_OFFSET_POSITION, writeOffset);
+    return true;
+  }
+
+  /**
+   * Moves up to max of the oldest spilled entries to the given list.
+   *
+   * @return the number of entries read
+   */
+  synchronized int read(List<LogEntry> logEntries, int max) {
+    int read = 0;
+    while (read < max && readOffset < writeOffset) {
+      int length = buffer.getInt(readOffset);
+      if (length <= 0 || length > MAX_RECORD_SIZE || readOffset + 4 + length > writeOffset) {
+        log.error("Spill file is corrupted at offset {}. Discarding spilled log entries.", readOffset);
+        reset();
+        break;
+      }
+      byte[] record = new byte[length];
+      ByteBuffer view = buffer.duplicate();
+      view.position(readOffset + 4);
+      view.get(record);
+      readOffset += 4 + length;
+      try {
+        logEntries.add(fromRecord(mapper.readValue(record, RECORD_TYPE)));
+        read++;
+      } catch (IOException e) {
+        log.error("Failed to read spilled log entry", e);
+      }
+    }
+    if (readOffset == writeOffset) {
+      reset();
+    } else {
+      buffer.putInt(READ_OFFSET_POSITION, readOffset);
+    }
+    return read;
+  }
+
+  private void compact() {
+    if (readOffset == HEADER_SIZE) {
+      return;
+    }
+    int length = writeOffset - readOffset;
+    ByteBuffer pending = buffer.duplicate();
+    pending.position(readOffset).limit(writeOffset);
+    ByteBuffer view = buffer.duplicate();
+    view.position(HEADER_SIZE);
+    view.put(pending);
+    readOffset = HEADER_SIZE;
+    writeOffset = HEADER_SIZE + length;
+    buffer.putInt(READ_OFFSET_POSITION, readOffset);
+    buffer.putInt(WRITE_OFFSET_POSITION, writeOffset);
+  }
+
+  private void reset() {
+    readOffset = HEADER_SIZE;
+    writeOffset = HEADER_SIZE;
+    buffer.putInt(READ_OFFSET_POSITION, readOffset);
+    buffer.putInt(WRITE_OFFSET_POSITION, writeOffset);
+  }
+
+  private static Map<String, Object> toRecord(LogEntry logEntry) {
+    Map<String, Object> record = new HashMap<>();
+    record.put("timestamp", logEntry.getTimestamp());
+    record.put("severity", logEntry.getSeverity().name());
+    record.put("payload", ((JsonPayload) logEntry.getPayload()).getDataAsMap());
+    return record;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static LogEntry fromRecord(Map<String, Object> record) {
+    LogEntry.Builder builder = LogEntry.newBuilder(JsonPayload.of((Map<String, ?>) record.get("payload")))
+                                   .setSeverity(Severity.valueOf((String) record.get("severity")));
+    Number timestamp = (Number) record.get("timestamp");
+    if (timestamp != null) {
+      builder.setTimestamp(timestamp.longValue());
+    }
+    return builder.build();
+  }
+
+  @Override
+  public synchronized void close() throws IOException {
+    buffer.force();
+    lock.release();
+    channel.close();
+  }
+}
@@ -0,0 +1,97 @@
+package io.harness.logging;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Bounded queue for many producers and a single consumer over a preallocated ring of slots. A producer claims a slot
+ * with a CAS on the tail and publishes it by writing the slot sequence, the consumer takes the slots in order as they
+ * get published. Offering to a full ring fails instead of blocking the producer.
+ */
+public class MpscRingBuffer<T> {
+  private static final class Slot<T> {
+    private volatile long sequence;
+    private T value;
+
+    Slot(long sequence) {
+      this.sequence = sequence;
+    }
+  }
+
+  private final Slot<T>[] slots;
+  private final int mask;
+  private final AtomicLong tail = new AtomicLong();
+  // Only moved by the consumer, volatile so that size() can be read from any thread.
+  private volatile long head;
+
+  @SuppressWarnings("unchecked")
+  public MpscRingBuffer(int capacity) {
+    if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+      throw new IllegalArgumentException("Ring buffer capacity must be a power of two, got " + capacity);
+    }
+    slots = new Slot[capacity];
+    for (int i = 0; i < capacity; i++) {
+      slots[i] = new Slot<>(i);
+    }
+    mask = capacity - 1;
+  }
+
+  public boolean offer(T value) {
+    while (true) {
+      long position = tail.get();
+      Slot<T> slot = slots[(int) (position & mask)];
+      long sequence = slot.sequence;
+      if (sequence == position) {
+        if (tail.compareAndSet(position, position + 1)) {
+          slot.value = value;
+          slot.sequence = position + 1;
+          return true;
+        }
+      } else if (sequence < position) {
+        // The consumer has not freed this slot since the previous lap, the ring is full.
+        return false;
+      }
+    }
+  }
+
+  /**
+   * Must only be called from the consumer thread.
+   */
+  public T poll() {
+    long position = head;
+    Slot<T> slot = slots[(int) (position & mask)];
+    if (slot.sequence != position + 1) {
+      return null;
+    }
+    T value = slot.value;
+    slot.value = null;
+    slot.sequence = position + slots.length;
+    head = position + 1;
+    return value;
+  }
+
+  /**
+   * Must only be called from the consumer thread.
+   */
+  public int drain(Consumer<T> consumer, int maxElements) {
+    int drained = 0;
+    T value;
+    while (drained < maxElements && (value = poll()) != null) {
+      consumer.accept(value);
+      drained++;
+    }
+    return drained;
+  }
+
+  public int size() {
+    return (int) Math.max(0, tail.get() - head);
+  }
+
+  public boolean isEmpty() {
+    return size() == 0;
+  }
+
+  public int capacity() {
+    return slots.length;
+  }
+}
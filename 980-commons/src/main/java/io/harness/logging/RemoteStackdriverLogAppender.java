@@ -11,7 +11,10 @@ import io.harness.version.VersionInfoManager;
 
 import ch.qos.logback.classic.Level;
 import ch.qos.logback.classic.spi.ILoggingEvent;
-import ch.qos.logback.core.AppenderBase;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.MetricRegistry;
 import com.google.auth.oauth2.AccessToken;
 import com.google.auth.oauth2.GoogleCredentials;
 import com.google.cloud.MonitoredResource;
@@ -30,6 +33,7 @@ import com.google.common.base.Splitter;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Queues;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.IOException;
 import java.lang.management.ManagementFactory;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -37,19 +41,32 @@ import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 
+/**
+ * Ships log events to Stack Driver in batches.
+ *
+ * Logging threads only prepare the event and offer it to a bounded lock free ring buffer, an event that finds the ring
+ * full is dropped and counted. A drainer thread converts the events to log entries for the submitter, which sends
+ * them once a batch is full or its oldest entry is old enough. While Stack Driver cannot be reached, the pending
+ * entries are spilled to a memory mapped file and replayed, oldest first, once it can be reached again.
+ */
 @Slf4j
-public abstract class RemoteStackdriverLogAppender<E> extends AppenderBase<E> {
+public abstract class RemoteStackdriverLogAppender<E> extends UnsynchronizedAppenderBase<E> {
   public static final int MIN_BATCH_SIZE = 100;
   private static final int MAX_BATCH_SIZE = 1000;
+  private static final int RING_BUFFER_CAPACITY = 1 << 17;
+  private static final int LOG_QUEUE_CAPACITY = 500000;
+  private static final int SPILL_FILE_CAPACITY = 64 * 1024 * 1024;
+  private static final long DRAIN_INTERVAL_MILLIS = 100L;
   private static final String SEVERITY = "severity";
   private static final String LOG_NAME = "delegate";
   private static final String LOG_PROXY_HOST = "logs.harness.io:443";
@@ -61,10 +78,11 @@ public abstract class RemoteStackdriverLogAppender<E> extends AppenderBase<E> {
   private String localhostName = "localhost";
   private CustomJsonLayout layout;
   private BlockingQueue<LogEntry> logQueue;
+  private volatile LogSpillFile spillFile;
+  private ScheduledExecutorService drainer;
   private Map<String, String> logLabels;
   private final LogLines logLines = new LogLines();
-  private final ExecutorService appenderPool = Executors.newSingleThreadExecutor(
-      new ThreadFactoryBuilder().setNameFormat("remote-stackdriver-log-appender").build());
+  private final MpscRingBuffer<ILoggingEvent> ringBuffer = new MpscRingBuffer<>(RING_BUFFER_CAPACITY);
   private final VersionInfoManager versionInfoManager = new VersionInfoManager();
   private final String processId =
       Splitter.on("@").split(ManagementFactory.getRuntimeMXBean().getName()).iterator().next();
@@ -73,6 +91,12 @@ public abstract class RemoteStackdriverLogAppender<E> extends AppenderBase<E> {
   private final AtomicBoolean stackDriverReachable = new AtomicBoolean();
   private final AtomicLong nextConnectivityTestAttempt = new AtomicLong(0);
 
+  @Getter private final MetricRegistry metrics = new MetricRegistry();
+  private final Counter dropped = metrics.counter("dropped");
+  private final Counter spilled = metrics.counter("spilled");
+  private final Counter replayed = metrics.counter("replayed");
+  private final Histogram latency = metrics.histogram("latency");
+
   @Override
   public void start() {
     synchronized (this) {
@@ -83,7 +107,15 @@ public abstract class RemoteStackdriverLogAppender<E> extends AppenderBase<E> {
       layout = new CustomJsonLayout();
       super.start();
       localhostName = getLocalHostName();
-      logQueue = Queues.newLinkedBlockingQueue(500000);
+      logQueue = Queues.newLinkedBlockingQueue(LOG_QUEUE_CAPACITY);
+      try {
+        spillFile = LogSpillFile.open(getAppName(), processId, SPILL_FILE_CAPACITY);
+      } catch (IOException | RuntimeException e) {
+        log.warn("Failed to open log spill file. Log entries will be dropped while Stack Driver is unreachable.", e);
+      }
+      drainer = Executors.newSingleThreadScheduledExecutor(
+          new ThreadFactoryBuilder().setNameFormat("remote-stackdriver-log-drainer").setDaemon(true).build());
+      drainer.scheduleWithFixedDelay(this::drain, DRAIN_INTERVAL_MILLIS, DRAIN_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
       Executors
           .newSingleThreadScheduledExecutor(
               new ThreadFactoryBuilder().setNameFormat("remote-stackdriver-log-submitter").build())
@@ -93,32 +125,70 @@ public abstract class RemoteStackdriverLogAppender<E> extends AppenderBase<E> {
   @Override
   public void stop() {
     super.stop();
+    if (drainer != null) {
+      drainer.shutdown();
+    }
     flush();
   }
 
   @Override
   protected void append(E eventObject) {
     if (eventObject instanceof ILoggingEvent) {
-      appenderPool.submit(() -> {
-        try {
-          synchronized (this) {
-            Map<String, ?> jsonMap = layout.toJsonMap((ILoggingEvent) eventObject);
-            Level logLevel = Level.valueOf((String) jsonMap.remove(SEVERITY));
-            if (!logQueue.offer(LogEntry.newBuilder(JsonPayload.of(jsonMap))
-                                    .setSeverity(logLevelToSeverity(logLevel))
-                                    .setTimestamp(System.currentTimeMillis())
-                                    .build())) {
-              logQueue.clear();
-              log.error("No space left in log queue. Cleared.");
-            }
-          }
-        } catch (Exception ex) {
-          log.error("Error appending log entry", ex);
-        }
-      });
+      ILoggingEvent event = (ILoggingEvent) eventObject;
+      // Captures the thread bound state, i.e. the MDC, as the event gets converted on the drainer thread.
+      event.prepareForDeferredProcessing();
+      if (!ringBuffer.offer(event)) {
+        dropped.inc();
+      }
     }
   }
 
+  private void drain() {
+    try {
+      synchronized (ringBuffer) {
+        ringBuffer.drain(this::enqueue, RING_BUFFER_CAPACITY);
+      }
+    } catch (Exception ex) {
+      log.error("Error draining log events", ex);
+    }
+  }
+
+  private void enqueue(ILoggingEvent event) {
+    try {
+      Map<String, ?> jsonMap = layout.toJsonMap(event);
+      Level logLevel = Level.valueOf((String) jsonMap.remove(SEVERITY));
+      LogEntry logEntry = LogEntry.newBuilder(JsonPayload.of(jsonMap))
+                              .setSeverity(logLevelToSeverity(logLevel))
+                              .setTimestamp(event.getTimeStamp())
+                              .build();
+      if (!logQueue.offer(logEntry)) {
+        spill(logEntry);
+      }
+    } catch (Exception ex) {
+      log.error("Error appending log entry", ex);
+    }
+  }
+
+  private void spill(LogEntry logEntry) {
+    LogSpillFile file = spillFile;
+    if (file != null && file.write(logEntry)) {
+      spilled.inc();
+    } else {
+      dropped.inc();
+    }
+  }
+
+  private void spillQueue() {
+    LogEntry logEntry;
+    while ((logEntry = logQueue.poll()) != null) {
+      spill(logEntry);
+    }
+  }
+
+  private boolean hasSpilled() {
+    return spillFile != null && !spillFile.isEmpty();
+  }
+
   @VisibleForTesting
   public static Severity logLevelToSeverity(Level logLevel) {
     switch (logLevel.toInt()) {
@@ -142,12 +212,25 @@ public abstract class RemoteStackdriverLogAppender<E> extends AppenderBase<E> {
   }
 
   private void flush() {
-    while (true) {
-      synchronized (this) {
-        if (logQueue.isEmpty()) {
-          return;
-        }
+    drain();
+    synchronized (this) {
+      // Stops once the submitter is backing off and makes no progress, whatever is left is kept for the next run.
+      int pending = logQueue.size();
+      while (pending > 0) {
         submitLogs(0);
+        if (logQueue.size() >= pending) {
+          break;
+        }
+        pending = logQueue.size();
+      }
+      spillQueue();
+      if (spillFile != null) {
+        try {
+          spillFile.close();
+        } catch (IOException e) {
+          log.error("Failed to close log spill file", e);
+        }
+        spillFile = null;
       }
     }
   }
@@ -155,13 +238,14 @@ public abstract class RemoteStackdriverLogAppender<E> extends AppenderBase<E> {
   private void submitLogs(int minimum) {
     synchronized (this) {
       if (!isStackDriverReachable() && System.currentTimeMillis() < nextConnectivityTestAttempt.get()) {
-        logQueue.clear();
+        spillQueue();
         return;
       }
 
-      if (logQueue.isEmpty()
-          || (logQueue.size() < minimum
-              && (logQueue.peek().getTimestamp() + LOG_QUEUE_BUFFER_MILLIS > System.currentTimeMillis()))) {
+      if (!hasSpilled()
+          && (logQueue.isEmpty()
+              || (logQueue.size() < minimum
+                  && (logQueue.peek().getTimestamp() + LOG_QUEUE_BUFFER_MILLIS > System.currentTimeMillis())))) {
         return;
       }
 
@@ -173,8 +257,8 @@ public abstract class RemoteStackdriverLogAppender<E> extends AppenderBase<E> {
       if (logging == null) {
         int attempts = failedAttempts.incrementAndGet();
         if (attempts >= 50 && attempts % 10 == 0) {
-          logQueue.clear();
-          log.error("Failed to initialize logging after {} attempts. Cleared log queue.", attempts);
+          spillQueue();
+          log.error("Failed to initialize logging after {} attempts. Spilled log queue.", attempts);
         }
         // Exponential backoff. Delay by 2 ^ (attempts / 2) seconds, max 60. (12 attempts to reach the max)
         long delayMillis = (long) (Math.min(Math.pow(2, (double) attempts / 2d), 60d) * 1000d);
@@ -195,16 +279,27 @@ public abstract class RemoteStackdriverLogAppender<E> extends AppenderBase<E> {
                              .setSeverity(Severity.WARNING)
                              .build());
           }
-          logQueue.drainTo(logLines.getLines(), MAX_BATCH_SIZE);
+          // Spilled entries are older than the queued ones, they go first.
+          int replayedLines = hasSpilled() ? spillFile.read(logLines.getLines(), MAX_BATCH_SIZE) : 0;
+          logQueue.drainTo(logLines.getLines(), MAX_BATCH_SIZE - replayedLines);
           logging.write(logLines.getLines(), WriteOption.logName(LOG_NAME),
               WriteOption.resource(MonitoredResource.newBuilder("global").build()), WriteOption.labels(getLogLabels()));
+          replayed.inc(replayedLines);
+          long now = System.currentTimeMillis();
+          for (LogEntry logLine : logLines.getLines()) {
+            if (logLine.getTimestamp() != null) {
+              latency.update(now - logLine.getTimestamp());
+            }
+          }
         }
       } catch (LoggingException ex) {
         log.error("Failed to submit logs. Stack driver logging will be temporarily disabled.", ex);
         markStackDriverUnreachable();
-        logQueue.clear();
+        logLines.getLines().forEach(this::spill);
+        spillQueue();
       } catch (Exception ex) {
         log.error("Failed to submit logs.", ex);
+        dropped.inc(logLines.getLines().size());
       } finally {
         logLines.clear();
       }
@@ -284,7 +379,7 @@ public abstract class RemoteStackdriverLogAppender<E> extends AppenderBase<E> {
       } catch (LoggingException ex) {
         log.warn("Connectivity test for Stack Driver failed. Stack driver logging will be temporarily disabled.", ex);
         markStackDriverUnreachable();
-        logQueue.clear();
+        spillQueue();
       } catch (Exception ex) {
         log.warn("Connectivity test for Stack Driver failed.", ex);
       }
@@ -0,0 +1,83 @@
+package io.harness.serializer;
+
+import com.esotericsoftware.kryo.io.Output;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Per thread scratch space reused across the kryo serializer calls. A nested call on the same thread (a custom
+ * serializer that serializes a nested blob) gets a private, non pooled instance instead.
+ */
+class KryoBuffers {
+  private static final int INITIAL_BUFFER_SIZE = 4 * 1024;
+  // Do not keep the memory of an occasional huge payload around for the lifetime of the thread
+  private static final int MAX_RETAINED_BUFFER_SIZE = 1024 * 1024;
+
+  private static final ThreadLocal<KryoBuffers> THREAD_BUFFERS = ThreadLocal.withInitial(() -> new KryoBuffers(true));
+
+  private final boolean pooled;
+  private boolean inUse;
+
+  private final Output output = new Output(INITIAL_BUFFER_SIZE, -1);
+  private final Deflater deflater = new Deflater();
+  private final Inflater inflater = new Inflater();
+  private byte[] scratch = new byte[INITIAL_BUFFER_SIZE];
+
+  private KryoBuffers(boolean pooled) {
+    this.pooled = pooled;
+  }
+
+  static KryoBuffers acquire() {
+    KryoBuffers buffers = THREAD_BUFFERS.get();
+    if (buffers.inUse) {
+      return new KryoBuffers(false);
+    }
+    buffers.inUse = true;
+    return buffers;
+  }
+
+  void release() {
+    if (!pooled) {
+      deflater.end();
+      inflater.end();
+      return;
+    }
+
+    output.clear();
+    if (output.getBuffer().length > MAX_RETAINED_BUFFER_SIZE) {
+      output.setBuffer(new byte[INITIAL_BUFFER_SIZE], -1);
+    }
+    if (scratch.length > MAX_RETAINED_BUFFER_SIZE) {
+      scratch = new byte[INITIAL_BUFFER_SIZE];
+    }
+    deflater.reset();
+    inflater.reset();
+    inUse = false;
+  }
+
+  Output output() {
+    return output;
+  }
+
+  Deflater deflater() {
+    return deflater;
+  }
+
+  Inflater inflater() {
+    return inflater;
+  }
+
+  byte[] scratch(int minimumSize) {
+    if (scratch.length < minimumSize) {
+      scratch = new byte[Math.max(minimumSize, scratch.length * 2)];
+    }
+    return scratch;
+  }
+
+  byte[] growScratch() {
+    byte[] grown = new byte[scratch.length * 2];
+    System.arraycopy(scratch, 0, grown, 0, scratch.length);
+    scratch = grown;
+    return scratch;
+  }
+}
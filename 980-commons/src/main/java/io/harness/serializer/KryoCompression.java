@@ -0,0 +1,29 @@
+package io.harness.serializer;
+
+/**
+ * Compression codecs for kryo blobs written with a format header. The id is persisted in the header, never reuse
+ * or change an existing one.
+ */
+public enum KryoCompression {
+  DEFLATE((byte) 1),
+  LZ4((byte) 2);
+
+  private final byte id;
+
+  KryoCompression(byte id) {
+    this.id = id;
+  }
+
+  public byte getId() {
+    return id;
+  }
+
+  static KryoCompression fromId(byte id) {
+    for (KryoCompression compression : values()) {
+      if (compression.id == id) {
+        return compression;
+      }
+    }
+    throw new IllegalArgumentException("Unknown kryo compression id " + id);
+  }
+}
@@ -4,6 +4,7 @@ import static java.lang.String.format;
 
 import io.harness.reflection.CodeUtils;
 
+import com.esotericsoftware.kryo.KryoException;
 import com.esotericsoftware.kryo.Registration;
 import com.esotericsoftware.kryo.io.Input;
 import com.esotericsoftware.kryo.io.Output;
@@ -12,19 +13,33 @@ import com.esotericsoftware.kryo.util.IntMap;
 import com.google.api.client.util.Base64;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
-import java.io.ByteArrayOutputStream;
-import java.io.OutputStream;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Set;
-import java.util.zip.DeflaterOutputStream;
-import java.util.zip.InflaterInputStream;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
 import lombok.extern.slf4j.Slf4j;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
 
 @Singleton
 @Slf4j
 public class KryoSerializer {
+  // Blobs written by asCompressedBytes start with this header followed by the codec id and the uncompressed size.
+  // Legacy deflated blobs start with a zlib header, whose first byte always has 8 in its low nibble, so they can
+  // never be confused with it.
+  private static final byte HEADER_MAGIC_0 = (byte) 0xC0;
+  private static final byte HEADER_MAGIC_1 = (byte) 0xDE;
+  private static final int HEADER_SIZE = 7;
+
+  private static final LZ4Compressor LZ4_COMPRESSOR = LZ4Factory.fastestInstance().fastCompressor();
+  private static final LZ4FastDecompressor LZ4_DECOMPRESSOR = LZ4Factory.fastestInstance().fastDecompressor();
+
   public static void check(IntMap<Registration> previousState, IntMap<Registration> newState) {
     for (IntMap.Entry entry : newState.entries()) {
       final Registration newRegistration = (Registration) entry.value;
@@ -77,34 +92,124 @@ public class KryoSerializer {
   }
 
   public byte[] asBytes(Object obj) {
-    final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-    writeToStream(obj, outputStream);
-    return outputStream.toByteArray();
+    final KryoBuffers buffers = KryoBuffers.acquire();
+    try {
+      return writeToOutput(obj, buffers.output()).toBytes();
+    } finally {
+      buffers.release();
+    }
   }
 
   public byte[] asDeflatedBytes(Object obj) {
+    final KryoBuffers buffers = KryoBuffers.acquire();
+    try {
+      final Output output = writeToOutput(obj, buffers.output());
+      final int size = deflate(buffers, output.getBuffer(), output.position(), 0);
+      return Arrays.copyOf(buffers.scratch(size), size);
+    } finally {
+      buffers.release();
+    }
+  }
+
+  /**
+   * Serializes and compresses the object with the given codec, prefixed with a format header.
+   * The result is readable with asInflatedObject, so it can replace asDeflatedBytes once all the readers are updated.
+   */
+  public byte[] asCompressedBytes(Object obj, KryoCompression compression) {
+    final KryoBuffers buffers = KryoBuffers.acquire();
     try {
-      final ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
-      final DeflaterOutputStream outputStream = new DeflaterOutputStream(byteStream);
-      writeToStream(obj, outputStream);
-      outputStream.finish();
-      return byteStream.toByteArray();
-    } catch (Exception exception) {
-      throw new RuntimeException(exception);
+      final Output output = writeToOutput(obj, buffers.output());
+      final int uncompressedSize = output.position();
+
+      int size;
+      switch (compression) {
+        case LZ4:
+          final byte[] target = buffers.scratch(HEADER_SIZE + LZ4_COMPRESSOR.maxCompressedLength(uncompressedSize));
+          size = HEADER_SIZE
+              + LZ4_COMPRESSOR.compress(output.getBuffer(), 0, uncompressedSize, target, HEADER_SIZE,
+                  target.length - HEADER_SIZE);
+          break;
+        case DEFLATE:
+          size = deflate(buffers, output.getBuffer(), uncompressedSize, HEADER_SIZE);
+          break;
+        default:
+          throw new IllegalArgumentException("Unsupported kryo compression " + compression);
+      }
+
+      final byte[] result = Arrays.copyOf(buffers.scratch(size), size);
+      writeHeader(result, compression, uncompressedSize);
+      return result;
+    } finally {
+      buffers.release();
+    }
+  }
+
+  private static void writeHeader(byte[] target, KryoCompression compression, int uncompressedSize) {
+    target[0] = HEADER_MAGIC_0;
+    target[1] = HEADER_MAGIC_1;
+    target[2] = compression.getId();
+    target[3] = (byte) (uncompressedSize >>> 24);
+    target[4] = (byte) (uncompressedSize >>> 16);
+    target[5] = (byte) (uncompressedSize >>> 8);
+    target[6] = (byte) uncompressedSize;
+  }
+
+  private static boolean hasHeader(byte[] bytes, int offset, int length) {
+    return length >= HEADER_SIZE && bytes[offset] == HEADER_MAGIC_0 && bytes[offset + 1] == HEADER_MAGIC_1;
+  }
+
+  private static int readUncompressedSize(byte[] bytes, int offset) {
+    return ((bytes[offset + 3] & 0xFF) << 24) | ((bytes[offset + 4] & 0xFF) << 16) | ((bytes[offset + 5] & 0xFF) << 8)
+        | (bytes[offset + 6] & 0xFF);
+  }
+
+  // Deflates into the scratch buffer starting at the given offset, returns the end position
+  private static int deflate(KryoBuffers buffers, byte[] input, int length, int offset) {
+    final Deflater deflater = buffers.deflater();
+    deflater.setInput(input, 0, length);
+    deflater.finish();
+
+    byte[] target = buffers.scratch(offset + length / 2 + 64);
+    int position = offset;
+    while (!deflater.finished()) {
+      if (position == target.length) {
+        target = buffers.growScratch();
+      }
+      position += deflater.deflate(target, position, target.length - position);
     }
+    return position;
   }
 
-  private void writeToStream(Object obj, OutputStream outputStream) {
+  // Inflates into the scratch buffer, returns the uncompressed size
+  private static int inflate(KryoBuffers buffers, byte[] input, int offset, int length, int expectedSize) {
+    final Inflater inflater = buffers.inflater();
+    inflater.setInput(input, offset, length);
+
+    byte[] target = buffers.scratch(expectedSize > 0 ? expectedSize : length * 4);
+    int position = 0;
     try {
-      Output output = new Output(outputStream);
-      pool.run(kryo -> {
-        kryo.writeClassAndObject(output, obj);
-        return null;
-      });
-      output.flush();
-    } catch (Exception exception) {
-      throw new RuntimeException(exception);
+      while (!inflater.finished()) {
+        if (position == target.length) {
+          target = buffers.growScratch();
+        }
+        final int inflated = inflater.inflate(target, position, target.length - position);
+        if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+          throw new KryoException("Unexpected end of the deflated kryo blob");
+        }
+        position += inflated;
+      }
+    } catch (DataFormatException exception) {
+      throw new KryoException(exception);
     }
+    return position;
+  }
+
+  private Output writeToOutput(Object obj, Output output) {
+    pool.run(kryo -> {
+      kryo.writeClassAndObject(output, obj);
+      return null;
+    });
+    return output;
   }
 
   public <T> T clone(T object) {
@@ -118,11 +223,49 @@ public class KryoSerializer {
     return obj;
   }
 
+  /**
+   * Reads both legacy deflated blobs and blobs written by asCompressedBytes.
+   */
   public Object asInflatedObject(byte[] bytes) {
-    Input input = new Input(new InflaterInputStream(new Input(bytes)));
-    Object obj = pool.run(kryo -> kryo.readClassAndObject(input));
-    input.close();
-    return obj;
+    return asInflatedObject(bytes, 0, bytes.length);
+  }
+
+  public Object asInflatedObject(ByteBuffer buffer) {
+    if (buffer.hasArray()) {
+      return asInflatedObject(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+    }
+    final byte[] bytes = new byte[buffer.remaining()];
+    buffer.duplicate().get(bytes);
+    return asInflatedObject(bytes);
+  }
+
+  public Object asInflatedObject(byte[] bytes, int offset, int length) {
+    final KryoBuffers buffers = KryoBuffers.acquire();
+    try {
+      int size;
+      if (!hasHeader(bytes, offset, length)) {
+        size = inflate(buffers, bytes, offset, length, 0);
+      } else {
+        final int uncompressedSize = readUncompressedSize(bytes, offset);
+        switch (KryoCompression.fromId(bytes[offset + 2])) {
+          case LZ4:
+            LZ4_DECOMPRESSOR.decompress(
+                bytes, offset + HEADER_SIZE, buffers.scratch(uncompressedSize), 0, uncompressedSize);
+            size = uncompressedSize;
+            break;
+          case DEFLATE:
+            size = inflate(buffers, bytes, offset + HEADER_SIZE, length - HEADER_SIZE, uncompressedSize);
+            break;
+          default:
+            throw new KryoException("Unsupported kryo compression id " + bytes[offset + 2]);
+        }
+      }
+
+      final Input input = new Input(buffers.scratch(size), 0, size);
+      return pool.run(kryo -> kryo.readClassAndObject(input));
+    } finally {
+      buffers.release();
+    }
   }
 
   public Object asObject(String base64) {
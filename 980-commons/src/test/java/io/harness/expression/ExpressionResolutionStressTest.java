@@ -0,0 +1,89 @@
+package io.harness.expression;
+
+import static io.harness.rule.OwnerRule.GARVIT;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.StressTests;
+import io.harness.rule.Owner;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+/**
+ * Renders every string of a pipeline yaml the way the step parameters of an execution are rendered, with a new
+ * evaluator per execution, and reports the resolution throughput of the first and of the following executions.
+ */
+@Slf4j
+public class ExpressionResolutionStressTest extends CategoryTest {
+  private static final int EXECUTIONS = 5000;
+
+  private static final Map<String, Object> CONTEXT = ImmutableMap.of("pipeline",
+      ImmutableMap.of("name", "My Deployment Pipeline", "variables",
+          ImmutableMap.of("serviceName", "orders", "envName", "qa", "webhook", "https://hooks.example.com/deploy",
+              "prodConnector", "prod-cluster")),
+      "stage",
+      ImmutableMap.of("name", "qa", "identifier", "qa", "timeout", "10m", "skipDryRun", false, "canaryCount", 2),
+      "artifact", ImmutableMap.of("tag", "1.4.2", "sidecarTag", "6.0"), "infra",
+      ImmutableMap.of("namespace", "orders-qa", "releaseSuffix", "a1b2c3"));
+
+  private List<String> pipelineStrings() throws IOException {
+    try (InputStream in = getClass().getResourceAsStream("/pipeline-with-expressions.yaml")) {
+      List<String> strings = new ArrayList<>();
+      collect(new ObjectMapper(new YAMLFactory()).readTree(in), strings);
+      return strings;
+    }
+  }
+
+  private void collect(JsonNode node, List<String> strings) {
+    if (node.isTextual()) {
+      strings.add(node.textValue());
+    }
+    node.forEach(child -> collect(child, strings));
+  }
+
+  private List<String> execute(List<String> strings) {
+    EngineExpressionEvaluator evaluator = new EngineExpressionEvaluator(null);
+    List<String> rendered = new ArrayList<>(strings.size());
+    for (String string : strings) {
+      rendered.add(evaluator.renderExpression(string, CONTEXT));
+    }
+    return rendered;
+  }
+
+  @Test
+  @Owner(developers = GARVIT)
+  @Category(StressTests.class)
+  @Ignore("This is stress test we should ignore it to allow for simple run of unit tests")
+  public void measureResolutionThroughput() throws IOException {
+    List<String> strings = pipelineStrings();
+    long expressions =
+        strings.stream().mapToLong(string -> EngineExpressionEvaluator.findVariables(string).size()).sum();
+
+    long start = System.nanoTime();
+    List<String> rendered = execute(strings);
+    log.info("First execution: {} strings, {} expressions in {} us", strings.size(), expressions,
+        (System.nanoTime() - start) / 1000);
+    assertThat(rendered).contains("orders-qa", "library/orders", "manifests/orders/values-qa.yaml", "<+input>");
+
+    start = System.nanoTime();
+    for (int i = 0; i < EXECUTIONS; i++) {
+      execute(strings);
+    }
+    long elapsed = System.nanoTime() - start;
+    log.info("{} executions in {} ms, {} expressions per second", EXECUTIONS, elapsed / 1_000_000,
+        expressions * EXECUTIONS * 1_000_000_000L / elapsed);
+  }
+}
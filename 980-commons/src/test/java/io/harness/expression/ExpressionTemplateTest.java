@@ -0,0 +1,52 @@
+package io.harness.expression;
+
+import static io.harness.rule.OwnerRule.GARVIT;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.Map;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class ExpressionTemplateTest extends CategoryTest {
+  @Test
+  @Owner(developers = GARVIT)
+  @Category(UnitTests.class)
+  public void shouldRenderLiteralsAndExpressions() {
+    ExpressionTemplate template = ExpressionTemplate.parse("ns-<+a.b>/<+c>:<+d> end");
+    assertThat(template).isNotNull();
+    assertThat(template.render(expression -> "[" + expression + "]")).isEqualTo("ns-[a.b]/[c]:[d] end");
+    assertThat(ExpressionTemplate.parse("<+a>").render(String::toUpperCase)).isEqualTo("A");
+    assertThat(ExpressionTemplate.parse("no expressions").render(String::toUpperCase)).isEqualTo("no expressions");
+  }
+
+  @Test
+  @Owner(developers = GARVIT)
+  @Category(UnitTests.class)
+  public void shouldLeaveUnterminatedExpressionAsIs() {
+    assertThat(ExpressionTemplate.parse("<+a> and <+b").render(String::toUpperCase)).isEqualTo("A and <+b");
+  }
+
+  @Test
+  @Owner(developers = GARVIT)
+  @Category(UnitTests.class)
+  public void shouldNotParseNestedEscapedOrEmptyExpressions() {
+    assertThat(ExpressionTemplate.parse("<+a.<+b>>")).isNull();
+    assertThat(ExpressionTemplate.parse("x $<+a>")).isNull();
+    assertThat(ExpressionTemplate.parse("<+>")).isNull();
+  }
+
+  @Test
+  @Owner(developers = GARVIT)
+  @Category(UnitTests.class)
+  public void shouldRenderRecursively() {
+    EngineExpressionEvaluator evaluator = new EngineExpressionEvaluator(null);
+    Map<String, Object> ctx = ImmutableMap.of("a", "<+b>", "b", "c", "x", "y");
+    assertThat(evaluator.renderExpression("<+a>-<+x>-<+missing>", ctx)).isEqualTo("c-y-<+missing>");
+  }
+}
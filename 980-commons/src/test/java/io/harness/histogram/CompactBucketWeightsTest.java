@@ -0,0 +1,41 @@
+package io.harness.histogram;
+
+import static io.harness.rule.OwnerRule.AVMOHAN;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.entry;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class CompactBucketWeightsTest extends CategoryTest {
+  @Test
+  @Owner(developers = AVMOHAN)
+  @Category(UnitTests.class)
+  public void shouldRoundTripSparseBuckets() {
+    int[] buckets = {0, 1, 130, 175, 400};
+    int[] weights = {1, 10000, 127, 128, 0};
+
+    byte[] encoded = CompactBucketWeights.encode(buckets, weights, 4);
+
+    Map<Integer, Integer> decoded = new LinkedHashMap<>();
+    CompactBucketWeights.forEach(encoded, decoded::put);
+    assertThat(decoded).containsExactly(entry(0, 1), entry(1, 10000), entry(130, 127), entry(175, 128));
+    assertThat(encoded).hasSize(11);
+  }
+
+  @Test
+  @Owner(developers = AVMOHAN)
+  @Category(UnitTests.class)
+  public void shouldRejectUnorderedBuckets() {
+    assertThatIllegalArgumentException().isThrownBy(
+        () -> CompactBucketWeights.encode(new int[] {5, 3}, new int[] {1, 1}, 2));
+  }
+}
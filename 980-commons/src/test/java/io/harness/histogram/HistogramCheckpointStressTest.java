@@ -0,0 +1,113 @@
+package io.harness.histogram;
+
+import static io.harness.rule.OwnerRule.AVMOHAN;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.StressTests;
+import io.harness.rule.Owner;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+/**
+ * Recomputes the recommendations of a realistic number of workloads from a week of daily cpu checkpoints, once with
+ * the map checkpoints and a temporary histogram per day, and once with the compact checkpoints loaded in place.
+ */
+@Slf4j
+public class HistogramCheckpointStressTest extends CategoryTest {
+  // Same bucketing as the cpu histograms of the workload recommender
+  private static final HistogramOptions CPU_OPTIONS = new ExponentialHistogramOptions(1000.0, 0.01, 1.05, 0.0001);
+  private static final int CONTAINERS = 20_000;
+  private static final int DAYS = 7;
+  private static final int SAMPLES_PER_DAY = 288;
+  private static final double[] PERCENTILES = {0.5, 0.8, 0.9, 0.95, 0.99};
+
+  private List<List<HistogramCheckpoint>> checkpoints(Function<Histogram, HistogramCheckpoint> save) {
+    Random random = new Random(42);
+    List<List<HistogramCheckpoint>> checkpoints = new ArrayList<>(CONTAINERS);
+    for (int container = 0; container < CONTAINERS; container++) {
+      double mean = 0.05 + random.nextDouble() * 2;
+      List<HistogramCheckpoint> days = new ArrayList<>(DAYS);
+      for (int day = 0; day < DAYS; day++) {
+        Histogram histogram = new HistogramImpl(CPU_OPTIONS);
+        for (int sample = 0; sample < SAMPLES_PER_DAY; sample++) {
+          histogram.addSample(Math.abs(mean + random.nextGaussian() * mean / 4), 1.0, Instant.EPOCH);
+        }
+        days.add(save.apply(histogram));
+      }
+      checkpoints.add(days);
+    }
+    return checkpoints;
+  }
+
+  private double mergeWithTemporaryHistograms(List<List<HistogramCheckpoint>> checkpoints) {
+    double sum = 0;
+    for (List<HistogramCheckpoint> days : checkpoints) {
+      Histogram aggregate = new HistogramImpl(CPU_OPTIONS);
+      for (HistogramCheckpoint checkpoint : days) {
+        Histogram partial = new HistogramImpl(CPU_OPTIONS);
+        partial.loadFromCheckPoint(checkpoint);
+        aggregate.merge(partial);
+      }
+      for (double percentile : PERCENTILES) {
+        sum += aggregate.getPercentile(percentile);
+      }
+    }
+    return sum;
+  }
+
+  private double mergeInPlace(List<List<HistogramCheckpoint>> checkpoints) {
+    double sum = 0;
+    for (List<HistogramCheckpoint> days : checkpoints) {
+      Histogram aggregate = new HistogramImpl(CPU_OPTIONS);
+      for (HistogramCheckpoint checkpoint : days) {
+        aggregate.loadFromCheckPoint(checkpoint);
+      }
+      for (double percentile : aggregate.getPercentiles(PERCENTILES)) {
+        sum += percentile;
+      }
+    }
+    return sum;
+  }
+
+  private double measure(String name, List<List<HistogramCheckpoint>> checkpoints,
+      Function<List<List<HistogramCheckpoint>>, Double> recompute) {
+    recompute.apply(checkpoints);
+    long start = System.nanoTime();
+    double result = recompute.apply(checkpoints);
+    log.info("{}: {} ms for {} containers", name, (System.nanoTime() - start) / 1_000_000, CONTAINERS);
+    return result;
+  }
+
+  @Test
+  @Owner(developers = AVMOHAN)
+  @Category(StressTests.class)
+  @Ignore("This is stress test we should ignore it to allow for simple run of unit tests")
+  public void compareCheckpointMergePaths() {
+    List<List<HistogramCheckpoint>> mapCheckpoints = checkpoints(Histogram::saveToCheckpoint);
+    List<List<HistogramCheckpoint>> compactCheckpoints = checkpoints(Histogram::saveToCompactCheckpoint);
+
+    double expected = measure("map checkpoints", mapCheckpoints, this::mergeWithTemporaryHistograms);
+    double actual = measure("compact checkpoints", compactCheckpoints, this::mergeInPlace);
+    assertThat(actual).isEqualTo(expected);
+
+    long mapSize = mapCheckpoints.stream()
+                       .flatMap(List::stream)
+                       .mapToLong(checkpoint -> checkpoint.getBucketWeights().size() * 8L)
+                       .sum();
+    long compactSize = compactCheckpoints.stream()
+                           .flatMap(List::stream)
+                           .mapToLong(checkpoint -> checkpoint.getCompactBucketWeights().length)
+                           .sum();
+    log.info("bucket payload: {} bytes as int pairs, {} bytes compact", mapSize, compactSize);
+  }
+}
@@ -267,4 +267,57 @@ public class HistogramImplTest extends CategoryTest {
         .isThrownBy(() -> h.loadFromCheckPoint(null))
         .withMessage("Cannot load from empty checkpoint");
   }
+
+  @Test
+  @Owner(developers = AVMOHAN)
+  @Category(UnitTests.class)
+  public void testCompactCheckpointLoadsSameAsMapCheckpoint() throws Exception {
+    val h = new HistogramImpl(testHistogramOptions);
+    h.addSample(1.0, 1.0, anyTime);
+    h.addSample(2.0, 10000.0, anyTime);
+    h.addSample(8.0, 50.0, anyTime);
+
+    val compact = h.saveToCompactCheckpoint();
+    assertThat(compact.getBucketWeights()).isEmpty();
+    assertThat(compact.getCompactBucketWeights()).isNotEmpty();
+    assertThat(compact.getTotalWeight()).isEqualTo(10051.0);
+
+    val fromMap = new HistogramImpl(testHistogramOptions);
+    fromMap.loadFromCheckPoint(h.saveToCheckpoint());
+    val fromCompact = new HistogramImpl(testHistogramOptions);
+    fromCompact.loadFromCheckPoint(compact);
+    assertThat(fromCompact).isEqualTo(fromMap);
+  }
+
+  @Test
+  @Owner(developers = AVMOHAN)
+  @Category(UnitTests.class)
+  public void testCompactCheckpointOfEmptyHistogram() throws Exception {
+    val compact = new HistogramImpl(testHistogramOptions).saveToCompactCheckpoint();
+    assertThat(compact.getCompactBucketWeights()).isEmpty();
+
+    val h = new HistogramImpl(testHistogramOptions);
+    h.loadFromCheckPoint(compact);
+    assertThat(h.isEmpty()).isTrue();
+  }
+
+  @Test
+  @Owner(developers = AVMOHAN)
+  @Category(UnitTests.class)
+  public void testGetPercentilesMatchesGetPercentile() throws Exception {
+    val h = new HistogramImpl(testHistogramOptions);
+    for (int i = 1; i <= 4; i++) {
+      h.addSample(i, i, anyTime);
+    }
+    h.addSample(9.5, 0.5, anyTime);
+    double[] percentiles = new double[21];
+    for (int i = 0; i < percentiles.length; i++) {
+      percentiles[i] = i / 20.0;
+    }
+
+    double[] result = h.getPercentiles(percentiles);
+    for (int i = 0; i < percentiles.length; i++) {
+      assertThat(result[i]).isCloseTo(h.getPercentile(percentiles[i]), within(valueEpsilon));
+    }
+  }
 }
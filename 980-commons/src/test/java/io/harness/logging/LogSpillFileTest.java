@@ -0,0 +1,167 @@
+package io.harness.logging;
+
+import static io.harness.rule.OwnerRule.BRETT;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import com.google.cloud.logging.LogEntry;
+import com.google.cloud.logging.Payload.JsonPayload;
+import com.google.cloud.logging.Severity;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class LogSpillFileTest extends CategoryTest {
+  private static final int CAPACITY = 1024;
+
+  private final String appName = "test-" + UUID.randomUUID().toString();
+  private final String processId = "1";
+  private final List<LogSpillFile> spillFiles = new ArrayList<>();
+
+  @After
+  public void tearDown() throws Exception {
+    for (LogSpillFile spillFile : spillFiles) {
+      spillFile.close();
+    }
+    File directory = new File(System.getProperty("java.io.tmpdir"));
+    new File(directory, appName + "-log-spill.dat").delete();
+    new File(directory, appName + "-" + processId + "-log-spill.dat").delete();
+  }
+
+  @Test
+  @Owner(developers = BRETT)
+  @Category(UnitTests.class)
+  public void shouldReplaySpilledEntriesInOrder() throws Exception {
+    LogSpillFile spillFile = open();
+    for (int i = 0; i < 5; i++) {
+      assertThat(spillFile.write(logEntry(i))).isTrue();
+    }
+
+    List<LogEntry> replayed = new ArrayList<>();
+    assertThat(spillFile.read(replayed, 3)).isEqualTo(3);
+    assertThat(spillFile.isEmpty()).isFalse();
+    assertThat(spillFile.read(replayed, 10)).isEqualTo(2);
+    assertThat(spillFile.isEmpty()).isTrue();
+
+    assertThat(messages(replayed)).containsExactly(
+        entryMessage(0), entryMessage(1), entryMessage(2), entryMessage(3), entryMessage(4));
+    assertThat(replayed.get(2).getSeverity()).isEqualTo(Severity.WARNING);
+    assertThat(replayed.get(2).getTimestamp()).isEqualTo(1002L);
+  }
+
+  @Test
+  @Owner(developers = BRETT)
+  @Category(UnitTests.class)
+  public void shouldReplayEntriesSpilledBeforeRestart() throws Exception {
+    LogSpillFile spillFile = open();
+    for (int i = 0; i < 3; i++) {
+      spillFile.write(logEntry(i));
+    }
+    spillFile.read(new ArrayList<>(), 1);
+    spillFiles.remove(spillFile);
+    spillFile.close();
+
+    LogSpillFile restarted = open();
+    List<LogEntry> replayed = new ArrayList<>();
+    assertThat(restarted.read(replayed, 10)).isEqualTo(2);
+    assertThat(messages(replayed)).containsExactly(entryMessage(1), entryMessage(2));
+  }
+
+  @Test
+  @Owner(developers = BRETT)
+  @Category(UnitTests.class)
+  public void shouldRejectWhenFullAndReuseSpaceOfReplayedEntries() throws Exception {
+    LogSpillFile spillFile = open();
+    int written = 0;
+    while (spillFile.write(logEntry(written))) {
+      written++;
+    }
+    assertThat(written).isGreaterThan(2);
+
+    // Replaying the oldest entries moves the pending ones to the start of the file to make room
+    List<LogEntry> replayed = new ArrayList<>();
+    assertThat(spillFile.read(replayed, 2)).isEqualTo(2);
+    assertThat(spillFile.write(logEntry(written))).isTrue();
+    assertThat(spillFile.write(logEntry(written + 1))).isTrue();
+    assertThat(spillFile.write(logEntry(written + 2))).isFalse();
+
+    assertThat(spillFile.read(replayed, written + 10)).isEqualTo(written);
+    List<String> expected = new ArrayList<>();
+    for (int i = 0; i < written + 2; i++) {
+      expected.add(entryMessage(i));
+    }
+    assertThat(messages(replayed)).containsExactlyElementsOf(expected);
+  }
+
+  @Test
+  @Owner(developers = BRETT)
+  @Category(UnitTests.class)
+  public void shouldStartOverOnceDrained() throws Exception {
+    LogSpillFile spillFile = open();
+    int written = 0;
+    while (spillFile.write(logEntry(written))) {
+      written++;
+    }
+    spillFile.read(new ArrayList<>(), written);
+    assertThat(spillFile.isEmpty()).isTrue();
+
+    // The whole file is available again, nothing of the drained entries is replayed after a restart
+    for (int i = 0; i < written; i++) {
+      assertThat(spillFile.write(logEntry(i))).isTrue();
+    }
+    spillFile.read(new ArrayList<>(), written);
+    spillFiles.remove(spillFile);
+    spillFile.close();
+
+    LogSpillFile restarted = open();
+    assertThat(restarted.isEmpty()).isTrue();
+    assertThat(restarted.read(new ArrayList<>(), 10)).isEqualTo(0);
+  }
+
+  @Test
+  @Owner(developers = BRETT)
+  @Category(UnitTests.class)
+  public void shouldUseProcessFileWhenSharedFileIsLocked() throws Exception {
+    LogSpillFile shared = open();
+    shared.write(logEntry(0));
+
+    LogSpillFile own = open();
+    assertThat(own.isEmpty()).isTrue();
+    assertThat(new File(System.getProperty("java.io.tmpdir"), appName + "-" + processId + "-log-spill.dat"))
+        .exists();
+  }
+
+  private LogSpillFile open() throws Exception {
+    LogSpillFile spillFile = LogSpillFile.open(appName, processId, CAPACITY);
+    spillFiles.add(spillFile);
+    return spillFile;
+  }
+
+  private static LogEntry logEntry(int index) {
+    // Every entry has the same size, so the test knows how many fit in the file
+    return LogEntry.newBuilder(JsonPayload.of(Collections.singletonMap("message", entryMessage(index))))
+        .setSeverity(Severity.WARNING)
+        .setTimestamp(1000L + index)
+        .build();
+  }
+
+  private static String entryMessage(int index) {
+    return String.format("entry-%03d", index);
+  }
+
+  private static List<String> messages(List<LogEntry> logEntries) {
+    return logEntries.stream()
+        .map(logEntry -> (String) ((JsonPayload) logEntry.getPayload()).getDataAsMap().get("message"))
+        .collect(Collectors.toList());
+  }
+}
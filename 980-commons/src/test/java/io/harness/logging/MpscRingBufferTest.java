@@ -0,0 +1,95 @@
+package io.harness.logging;
+
+import static io.harness.rule.OwnerRule.BRETT;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class MpscRingBufferTest extends CategoryTest {
+  @Test
+  @Owner(developers = BRETT)
+  @Category(UnitTests.class)
+  public void shouldRejectWhenFull() {
+    MpscRingBuffer<Integer> ringBuffer = new MpscRingBuffer<>(4);
+    for (int i = 0; i < 4; i++) {
+      assertThat(ringBuffer.offer(i)).isTrue();
+    }
+    assertThat(ringBuffer.offer(4)).isFalse();
+    assertThat(ringBuffer.size()).isEqualTo(4);
+
+    assertThat(ringBuffer.poll()).isEqualTo(0);
+    assertThat(ringBuffer.offer(4)).isTrue();
+
+    List<Integer> drained = new ArrayList<>();
+    assertThat(ringBuffer.drain(drained::add, 10)).isEqualTo(4);
+    assertThat(drained).containsExactly(1, 2, 3, 4);
+    assertThat(ringBuffer.isEmpty()).isTrue();
+    assertThat(ringBuffer.poll()).isNull();
+  }
+
+  @Test
+  @Owner(developers = BRETT)
+  @Category(UnitTests.class)
+  public void shouldRequirePowerOfTwoCapacity() {
+    assertThatThrownBy(() -> new MpscRingBuffer<>(1000)).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  @Owner(developers = BRETT)
+  @Category(UnitTests.class)
+  public void shouldKeepEveryElementOfConcurrentProducers() throws Exception {
+    MpscRingBuffer<Integer> ringBuffer = new MpscRingBuffer<>(1024);
+    int producers = 4;
+    int perProducer = 50000;
+    ExecutorService executorService = Executors.newFixedThreadPool(producers);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int p = 0; p < producers; p++) {
+        int base = p * perProducer;
+        futures.add(executorService.submit(() -> {
+          for (int i = 0; i < perProducer; i++) {
+            while (!ringBuffer.offer(base + i)) {
+              Thread.yield();
+            }
+          }
+        }));
+      }
+
+      Set<Integer> consumed = new HashSet<>();
+      int[] lastOfProducer = new int[producers];
+      Arrays.fill(lastOfProducer, -1);
+      while (consumed.size() < producers * perProducer) {
+        Integer value = ringBuffer.poll();
+        if (value == null) {
+          Thread.yield();
+          continue;
+        }
+        // Elements of one producer come out in the order they were offered.
+        assertThat(value).isGreaterThan(lastOfProducer[value / perProducer]);
+        lastOfProducer[value / perProducer] = value;
+        consumed.add(value);
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+      assertThat(ringBuffer.isEmpty()).isTrue();
+    } finally {
+      executorService.shutdownNow();
+    }
+  }
+}
@@ -0,0 +1,93 @@
+package io.harness.serializer;
+
+import static io.harness.rule.OwnerRule.GEORGE;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.StressTests;
+import io.harness.rule.Owner;
+
+import com.esotericsoftware.kryo.io.Output;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+/**
+ * Compares the stream based deflate path the serializer used to have with the pooled buffer paths.
+ */
+@Slf4j
+public class KryoSerializerStressTest extends CategoryTest {
+  private static final int WARMUP = 20000;
+  private static final int ITERATIONS = 200000;
+
+  private final KryoSerializer kryoSerializer = new KryoSerializer(new HashSet<>());
+
+  private byte[] streamDeflate(Object obj) {
+    try {
+      ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
+      DeflaterOutputStream outputStream = new DeflaterOutputStream(byteStream);
+      Output output = new Output(outputStream);
+      output.writeBytes(kryoSerializer.asBytes(obj));
+      output.flush();
+      outputStream.finish();
+      return byteStream.toByteArray();
+    } catch (Exception exception) {
+      throw new RuntimeException(exception);
+    }
+  }
+
+  private Object streamInflate(byte[] bytes) {
+    try (InflaterInputStream inputStream = new InflaterInputStream(new ByteArrayInputStream(bytes))) {
+      ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+      byte[] buffer = new byte[4096];
+      int read;
+      while ((read = inputStream.read(buffer)) > 0) {
+        outputStream.write(buffer, 0, read);
+      }
+      return kryoSerializer.asObject(outputStream.toByteArray());
+    } catch (IOException exception) {
+      throw new RuntimeException(exception);
+    }
+  }
+
+  private void measure(String name, Map<String, Object> payload, Function<Object, byte[]> serialize,
+      Function<byte[], Object> deserialize) {
+    for (int i = 0; i < WARMUP; i++) {
+      deserialize.apply(serialize.apply(payload));
+    }
+
+    long size = 0;
+    long start = System.nanoTime();
+    for (int i = 0; i < ITERATIONS; i++) {
+      byte[] bytes = serialize.apply(payload);
+      size += bytes.length;
+      assertThat(deserialize.apply(bytes)).isNotNull();
+    }
+    long elapsed = System.nanoTime() - start;
+    log.info("{}: {} ns per round trip, {} bytes", name, elapsed / ITERATIONS, size / ITERATIONS);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(StressTests.class)
+  @Ignore("This is stress test we should ignore it to allow for simple run of unit tests")
+  public void compareCompressionPaths() {
+    for (int lines : new int[] {1, 100, 5000}) {
+      Map<String, Object> payload = KryoSerializerTest.payload(lines);
+      measure("stream deflate " + lines, payload, this::streamDeflate, this::streamInflate);
+      measure("pooled deflate " + lines, payload, kryoSerializer::asDeflatedBytes, kryoSerializer::asInflatedObject);
+      measure("pooled lz4 " + lines, payload, obj -> kryoSerializer.asCompressedBytes(obj, KryoCompression.LZ4),
+          kryoSerializer::asInflatedObject);
+    }
+  }
+}
@@ -0,0 +1,96 @@
+package io.harness.serializer;
+
+import static io.harness.rule.OwnerRule.GEORGE;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import com.esotericsoftware.kryo.io.Input;
+import com.esotericsoftware.kryo.io.Output;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class KryoSerializerTest extends CategoryTest {
+  private final KryoSerializer kryoSerializer = new KryoSerializer(new HashSet<>());
+
+  static Map<String, Object> payload(int size) {
+    Map<String, Object> payload = new HashMap<>();
+    List<String> output = new ArrayList<>();
+    for (int i = 0; i < size; i++) {
+      output.add("line " + i + " of the command execution output");
+    }
+    payload.put("status", "SUCCESS");
+    payload.put("output", output);
+    return payload;
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldReadLegacyDeflatedBytes() throws Exception {
+    Map<String, Object> payload = payload(100);
+
+    ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
+    DeflaterOutputStream deflaterStream = new DeflaterOutputStream(byteStream);
+    Output output = new Output(deflaterStream);
+    output.writeBytes(kryoSerializer.asBytes(payload));
+    output.flush();
+    deflaterStream.finish();
+
+    assertThat(kryoSerializer.asInflatedObject(byteStream.toByteArray())).isEqualTo(payload);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldWriteDeflatedBytesReadableByLegacyReaders() throws Exception {
+    Map<String, Object> payload = payload(100);
+
+    Input input = new Input(new InflaterInputStream(new Input(kryoSerializer.asDeflatedBytes(payload))));
+    byte[] serialized = kryoSerializer.asBytes(payload);
+    assertThat(input.readBytes(serialized.length)).isEqualTo(serialized);
+    input.close();
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldRoundTripCompressedBytes() {
+    Map<String, Object> payload = payload(10000);
+
+    for (KryoCompression compression : KryoCompression.values()) {
+      byte[] bytes = kryoSerializer.asCompressedBytes(payload, compression);
+      assertThat(kryoSerializer.asInflatedObject(bytes)).isEqualTo(payload);
+      assertThat(kryoSerializer.asInflatedObject(ByteBuffer.wrap(bytes))).isEqualTo(payload);
+
+      ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+      direct.put(bytes).flip();
+      assertThat(kryoSerializer.asInflatedObject(direct)).isEqualTo(payload);
+    }
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldReuseBuffersAcrossCalls() {
+    for (int i = 0; i < 3; i++) {
+      Map<String, Object> large = payload(50000);
+      Map<String, Object> small = payload(1);
+      assertThat(kryoSerializer.asInflatedObject(kryoSerializer.asDeflatedBytes(large))).isEqualTo(large);
+      assertThat(kryoSerializer.asInflatedObject(kryoSerializer.asDeflatedBytes(small))).isEqualTo(small);
+      assertThat(kryoSerializer.asObject(kryoSerializer.asBytes(small))).isEqualTo(small);
+    }
+  }
+}
@@ -0,0 +1,342 @@
+package io.harness.callgraph.instr;
+
+import io.harness.callgraph.util.StackNode;
+import io.harness.callgraph.util.Target;
+import io.harness.callgraph.util.config.Config;
+import io.harness.callgraph.util.log.Logger;
+import io.harness.callgraph.writer.BinaryGraphWriter;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Records the call graph with as little work as possible on the instrumented threads.
+ *
+ * Methods are interned to int ids the first time they are seen, the tracers hand in the same node for every call of a
+ * site so the id is kept on the node. Every thread keeps its call stack of ids in a thread local and appends its events
+ * to a buffer, an edge is only appended the first time it is seen within a test. Full buffers, and the buffer of a
+ * thread whose test completed, are handed to a background thread that writes them to a {@link BinaryGraphWriter} and
+ * recycles them. A thread only holds a buffer and an edge set while it runs a test, so the many threads of the
+ * application that never enter one cost no more than their call stack.
+ */
+public class BinaryCallRecorder {
+  private static final Logger logger = new Logger(BinaryCallRecorder.class);
+  static final int BUFFER_SIZE = 1 << 16;
+  private static final int INITIAL_STACK_SIZE = 64;
+
+  private final BinaryGraphWriter writer;
+  private final ConcurrentHashMap<StackNode, Integer> ids = new ConcurrentHashMap<>();
+  private final AtomicInteger nextId = new AtomicInteger();
+  private final Queue<StackNode> newNodes = new ConcurrentLinkedQueue<>();
+  private final BlockingQueue<Chunk> chunks = new LinkedBlockingQueue<>();
+  private final Queue<int[]> freeBuffers = new ConcurrentLinkedQueue<>();
+  private final Queue<EdgeSet> freeEdgeSets = new ConcurrentLinkedQueue<>();
+  // The threads that are running a test
+  private final Set<ThreadState> threads = ConcurrentHashMap.newKeySet();
+  private final ThreadLocal<ThreadState> state =
+      ThreadLocal.withInitial(() -> new ThreadState(Thread.currentThread().getId()));
+  private final Thread flusher;
+  private volatile boolean running = true;
+
+  private static class Chunk {
+    private final long threadId;
+    private final int[] events;
+    private final int size;
+
+    Chunk(long threadId, int[] events, int size) {
+      this.threadId = threadId;
+      this.events = events;
+      this.size = size;
+    }
+  }
+
+  /**
+   * Only the owning thread records into its state, shutdown hands off the buffers of the other threads. The methods are
+   * synchronized so that shutdown does not split the events of a call, the lock is uncontended until then.
+   */
+  private class ThreadState {
+    private final long threadId;
+    private int[] stack = new int[INITIAL_STACK_SIZE];
+    private int depth;
+    private int[] buffer;
+    private int size;
+    private EdgeSet edges;
+
+    ThreadState(long threadId) {
+      this.threadId = threadId;
+    }
+
+    synchronized void called(int id, boolean testMethod) {
+      if (depth == 0) {
+        // The first method on the stack has to be a test, calls outside of tests are not recorded.
+        if (!testMethod) {
+          return;
+        }
+        start();
+        push(id);
+        append(BinaryGraphWriter.TEST, id);
+        return;
+      }
+      int top = stack[depth - 1];
+      if (edges.add(top, id)) {
+        append(top, id);
+      }
+      push(id);
+    }
+
+    synchronized void returned(int id) {
+      if (depth == 0) {
+        return;
+      }
+      while (depth > 0) {
+        if (stack[--depth] == id) {
+          break;
+        }
+      }
+      if (depth == 0) {
+        ensureBuffer(1);
+        buffer[size++] = BinaryGraphWriter.END;
+        handOff();
+        finish();
+      }
+    }
+
+    private void start() {
+      if (edges == null) {
+        EdgeSet free = freeEdgeSets.poll();
+        edges = free == null ? new EdgeSet() : free;
+      }
+      threads.add(this);
+    }
+
+    // Gives the edge set back once the test completed, the buffer was already handed off with the events of the test.
+    private void finish() {
+      threads.remove(this);
+      if (edges != null) {
+        edges.clear();
+        freeEdgeSets.add(edges);
+        edges = null;
+      }
+    }
+
+    private void push(int id) {
+      if (depth == stack.length) {
+        stack = Arrays.copyOf(stack, depth * 2);
+      }
+      stack[depth++] = id;
+    }
+
+    private void append(int first, int second) {
+      ensureBuffer(2);
+      buffer[size++] = first;
+      buffer[size++] = second;
+    }
+
+    private void ensureBuffer(int events) {
+      if (buffer != null && size + events > buffer.length) {
+        handOff();
+      }
+      if (buffer == null) {
+        buffer = newBuffer();
+      }
+    }
+
+    synchronized void handOff() {
+      if (size == 0) {
+        return;
+      }
+      chunks.add(new Chunk(threadId, buffer, size));
+      buffer = null;
+      size = 0;
+    }
+  }
+
+  /**
+   * Set of the edges a thread has already recorded within the current test, open addressing over the edges packed in
+   * longs.
+   */
+  private static class EdgeSet {
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private long[] keys = new long[INITIAL_CAPACITY];
+    private int size;
+
+    boolean add(int from, int to) {
+      // Ids are not negative, so the packed edge plus one is never 0, which marks a free slot.
+      long key = (((long) from << 32) | to) + 1;
+      if (size * 2 >= keys.length) {
+        grow();
+      }
+      int mask = keys.length - 1;
+      int index = hash(key) & mask;
+      while (keys[index] != 0) {
+        if (keys[index] == key) {
+          return false;
+        }
+        index = (index + 1) & mask;
+      }
+      keys[index] = key;
+      size++;
+      return true;
+    }
+
+    void clear() {
+      if (size == 0) {
+        return;
+      }
+      if (keys.length > INITIAL_CAPACITY * 64) {
+        keys = new long[INITIAL_CAPACITY];
+      } else {
+        Arrays.fill(keys, 0);
+      }
+      size = 0;
+    }
+
+    private void grow() {
+      long[] old = keys;
+      keys = new long[old.length * 2];
+      int mask = keys.length - 1;
+      for (long key : old) {
+        if (key != 0) {
+          int index = hash(key) & mask;
+          while (keys[index] != 0) {
+            index = (index + 1) & mask;
+          }
+          keys[index] = key;
+        }
+      }
+    }
+
+    private static int hash(long key) {
+      long h = key * 0x9E3779B97F4A7C15L;
+      return (int) (h ^ (h >>> 32));
+    }
+  }
+
+  /**
+   * Creates the recorder when the config asks for the binary target, returns null otherwise.
+   */
+  static BinaryCallRecorder fromConfig() {
+    Config config = Config.getInst();
+    if (config == null || config.writeTo() == null || !Arrays.asList(config.writeTo()).contains(Target.BINARY)) {
+      return null;
+    }
+    String processId = ManagementFactory.getRuntimeMXBean().getName().split("@")[0];
+    File target = new File(config.outDir() + String.format("cg/callgraph-%s-%d.bin", processId, System.nanoTime()));
+    try {
+      return new BinaryCallRecorder(new BinaryGraphWriter(target));
+    } catch (IOException e) {
+      logger.error("Error creating binary call graph {}", target, e);
+      return null;
+    }
+  }
+
+  BinaryCallRecorder(BinaryGraphWriter writer) {
+    this.writer = writer;
+    flusher = new Thread(this::flushLoop, "callgraph-flusher");
+    flusher.setDaemon(true);
+    flusher.start();
+  }
+
+  private int[] newBuffer() {
+    int[] buffer = freeBuffers.poll();
+    return buffer == null ? new int[BUFFER_SIZE] : buffer;
+  }
+
+  private int intern(StackNode node) {
+    int id = node.getId();
+    if (id >= 0) {
+      return id;
+    }
+    // Only the first calls of a site get here, until the id set on the node is visible to the calling thread.
+    Integer interned = ids.get(node);
+    if (interned == null) {
+      interned = ids.computeIfAbsent(node, n -> {
+        int newId = nextId.getAndIncrement();
+        n.setId(newId);
+        // Queued before any event refers to the id, so the flusher always writes the node first.
+        newNodes.add(n);
+        return newId;
+      });
+    }
+    node.setId(interned);
+    return interned;
+  }
+
+  public void called(StackNode node) {
+    state.get().called(intern(node), node.isTestMethod());
+  }
+
+  public void returned(StackNode node) {
+    state.get().returned(intern(node));
+  }
+
+  // Visible for testing
+  int runningTests() {
+    return threads.size();
+  }
+
+  private void flushLoop() {
+    while (running) {
+      try {
+        Chunk chunk = chunks.poll(1, TimeUnit.SECONDS);
+        if (chunk != null) {
+          write(chunk);
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      } catch (Throwable e) {
+        logger.error("Error writing binary call graph", e);
+      }
+    }
+  }
+
+  private void write(Chunk chunk) throws IOException {
+    synchronized (writer) {
+      StackNode node;
+      while ((node = newNodes.poll()) != null) {
+        writer.node(node.getId(), node);
+      }
+      writer.chunk(chunk.threadId, chunk.events, chunk.size);
+    }
+    freeBuffers.add(chunk.events);
+  }
+
+  /**
+   * Writes out the events of all threads, including those of tests that are still running, and closes the file. Meant
+   * to be called on shutdown, the threads are not stopped so the last events of a running test may be missed.
+   */
+  public void shutdown() {
+    for (ThreadState threadState : threads) {
+      threadState.handOff();
+    }
+    running = false;
+    try {
+      flusher.join(TimeUnit.SECONDS.toMillis(5));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    try {
+      Chunk chunk;
+      while ((chunk = chunks.poll()) != null) {
+        write(chunk);
+      }
+      synchronized (writer) {
+        writer.close();
+      }
+    } catch (IOException e) {
+      logger.error("Error closing binary call graph", e);
+    }
+  }
+}
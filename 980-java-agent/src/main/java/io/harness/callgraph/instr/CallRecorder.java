@@ -37,7 +37,20 @@ public class CallRecorder {
    * Collect the call graph per thread.
    */
   static final Map<Long, CallGraph> GRAPHS = new ConcurrentHashMap<>();
+  /**
+   * Records the call graph instead of the per thread graphs when the binary target is configured.
+   */
+  private static final BinaryCallRecorder BINARY_RECORDER = BinaryCallRecorder.fromConfig();
+
   public static void beforeMethod(StackNode node) {
+    if (BINARY_RECORDER != null) {
+      try {
+        BINARY_RECORDER.called(node);
+      } catch (Throwable e) {
+        logger.error("Error in beforeMethod", e);
+      }
+      return;
+    }
     try {
       logger.trace(">> {}", node);
       Long threadId = Thread.currentThread().getId();
@@ -51,6 +64,14 @@ public class CallRecorder {
   }
 
   public static void afterMethod(StackNode node) {
+    if (BINARY_RECORDER != null) {
+      try {
+        BINARY_RECORDER.returned(node);
+      } catch (Throwable e) {
+        logger.error("Error in afterMethod", e);
+      }
+      return;
+    }
     try {
       logger.trace("<< {}", node);
       long threadId = Thread.currentThread().getId();
@@ -66,6 +87,10 @@ public class CallRecorder {
   }
 
   public static void shutdown() {
+    if (BINARY_RECORDER != null) {
+      BINARY_RECORDER.shutdown();
+      return;
+    }
     for (CallGraph g : GRAPHS.values()) {
       try {
         g.finish();
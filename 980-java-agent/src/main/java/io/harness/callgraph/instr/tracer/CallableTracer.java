@@ -4,11 +4,22 @@ import io.harness.callgraph.instr.CallRecorder;
 import io.harness.callgraph.util.Format;
 import io.harness.callgraph.util.StackNode;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 public abstract class CallableTracer {
-  public static StackNode enter(String type, String method, String signature, boolean testMethod) {
-    signature = Format.simplifySignatureArrays(signature);
+  /**
+   * The node of every instrumented call site. The site is a string constant of the instrumented method, so the same
+   * instance comes back on every call: its hash is computed once and the lookup compares references.
+   */
+  private static final Map<String, StackNode> NODES = new ConcurrentHashMap<>();
 
-    StackNode node = new StackNode(type, method, signature, testMethod);
+  public static StackNode enter(String site, String type, String method, String signature, boolean testMethod) {
+    StackNode node = NODES.get(site);
+    if (node == null) {
+      node = NODES.computeIfAbsent(
+          site, key -> new StackNode(type, method, Format.simplifySignatureArrays(signature), testMethod));
+    }
     CallRecorder.beforeMethod(node);
     return node;
   }
@@ -32,9 +32,9 @@ public class ConstructorTracer {
   public static final Logger LOG = new Logger(ConstructorTracer.class);
 
   @Advice.OnMethodEnter(inline = false, suppress = Throwable.class)
-  public static StackNode enter(
-      @Advice.Origin("#t") String type, @Advice.Origin("#m") String method, @Advice.Origin("#s") String signature) {
-    return CallableTracer.enter(type, method, signature, false);
+  public static StackNode enter(@Advice.Origin String site, @Advice.Origin("#t") String type,
+      @Advice.Origin("#m") String method, @Advice.Origin("#s") String signature) {
+    return CallableTracer.enter(site, type, method, signature, false);
   }
 
   @Advice.OnMethodExit(inline = false, suppress = Throwable.class)
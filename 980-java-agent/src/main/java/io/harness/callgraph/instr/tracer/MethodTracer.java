@@ -12,9 +12,9 @@ import net.bytebuddy.asm.Advice;
  */
 public class MethodTracer {
   @Advice.OnMethodEnter(inline = false, suppress = Throwable.class)
-  public static StackNode enter(
-      @Advice.Origin("#t") String type, @Advice.Origin("#m") String method, @Advice.Origin("#s") String signature) {
-    return CallableTracer.enter(type, method, signature, false);
+  public static StackNode enter(@Advice.Origin String site, @Advice.Origin("#t") String type,
+      @Advice.Origin("#m") String method, @Advice.Origin("#s") String signature) {
+    return CallableTracer.enter(site, type, method, signature, false);
   }
 
   @Advice.OnMethodExit(inline = false, onThrowable = Throwable.class, suppress = Throwable.class)
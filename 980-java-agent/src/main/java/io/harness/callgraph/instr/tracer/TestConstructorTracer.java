@@ -32,9 +32,9 @@ public class TestConstructorTracer {
   public static final Logger LOG = new Logger(TestConstructorTracer.class);
 
   @Advice.OnMethodEnter(inline = false, suppress = Throwable.class)
-  public static StackNode enter(
-      @Advice.Origin("#t") String type, @Advice.Origin("#m") String method, @Advice.Origin("#s") String signature) {
-    return CallableTracer.enter(type, method, signature, true);
+  public static StackNode enter(@Advice.Origin String site, @Advice.Origin("#t") String type,
+      @Advice.Origin("#m") String method, @Advice.Origin("#s") String signature) {
+    return CallableTracer.enter(site, type, method, signature, true);
   }
 
   @Advice.OnMethodExit(inline = false, suppress = Throwable.class)
@@ -13,6 +13,8 @@ public class StackNode {
   private final String methodName;
   private final String signature;
   private final boolean testMethod;
+  // Interned id of the node, assigned by the binary recorder.
+  @EqualsAndHashCode.Exclude private int id = -1;
 
   public StackNode(String type, String methodName, String signature, boolean testMethod) {
     this.packageName = getPackageName(type);
@@ -35,5 +35,11 @@ public enum Target {
   /**
    * All methods used per entry in Graph DB format. It is in csv format, delimited by '|'
    */
-  GRAPH_DB_CSV;
+  GRAPH_DB_CSV,
+
+  /**
+   * Compact binary call graph of all threads, recorded with the least overhead. Convert it to the other formats with
+   * BinaryGraphConverter.
+   */
+  BINARY;
 }
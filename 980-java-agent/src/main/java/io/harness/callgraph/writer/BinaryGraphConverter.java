@@ -0,0 +1,163 @@
+package io.harness.callgraph.writer;
+
+import io.harness.callgraph.util.StackNode;
+import io.harness.callgraph.util.Target;
+import io.harness.callgraph.util.config.Config;
+import io.harness.callgraph.util.config.ConfigReader;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Converts binary call graphs written by {@link BinaryGraphWriter} to the per thread JSON coverage and GraphDB CSV
+ * files, in the output directory of the config.
+ */
+public class BinaryGraphConverter {
+  private final Target[] targets;
+  private final Map<Integer, StackNode> nodes = new HashMap<>();
+  private final Map<Long, List<GraphWriter>> writers = new HashMap<>();
+
+  public BinaryGraphConverter(Target... targets) {
+    this.targets = targets;
+  }
+
+  /**
+   * Usage: BinaryGraphConverter config-file binary-file-or-directory...
+   */
+  public static void main(String[] args) throws IOException {
+    if (args.length < 2) {
+      System.err.println("Usage: BinaryGraphConverter <config file> <binary call graph file or directory>...");
+      System.exit(1);
+    }
+    new ConfigReader(BinaryGraphConverter.class.getResourceAsStream("/io/harness/callgraph/defaults.ini"),
+        new FileInputStream(new File(args[0])))
+        .read();
+    Target[] targets = Arrays.stream(Config.getInst().writeTo())
+                           .filter(target -> target != Target.BINARY)
+                           .toArray(Target[] ::new);
+    for (int i = 1; i < args.length; i++) {
+      File input = new File(args[i]);
+      File[] files = input.isDirectory() ? input.listFiles((dir, name) -> name.endsWith(".bin")) : new File[] {input};
+      if (files == null) {
+        continue;
+      }
+      for (File file : files) {
+        new BinaryGraphConverter(targets).convert(file);
+      }
+    }
+  }
+
+  public void convert(File input) throws IOException {
+    try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(input)))) {
+      if (in.readInt() != BinaryGraphWriter.MAGIC) {
+        throw new IOException(input + " is not a binary call graph");
+      }
+      int version = in.readInt();
+      if (version != BinaryGraphWriter.VERSION) {
+        throw new IOException("Unsupported binary call graph version " + version);
+      }
+      while (true) {
+        int record;
+        try {
+          record = in.readByte();
+        } catch (EOFException e) {
+          break;
+        }
+        switch (record) {
+          case BinaryGraphWriter.NODE_RECORD:
+            readNode(in);
+            break;
+          case BinaryGraphWriter.CHUNK_RECORD:
+            readChunk(in);
+            break;
+          default:
+            throw new IOException("Unknown record " + record + " in " + input);
+        }
+      }
+    } finally {
+      for (List<GraphWriter> threadWriters : writers.values()) {
+        for (GraphWriter writer : threadWriters) {
+          writer.close();
+        }
+      }
+      writers.clear();
+    }
+  }
+
+  private void readNode(DataInputStream in) throws IOException {
+    int id = in.readInt();
+    boolean testMethod = in.readBoolean();
+    String packageName = in.readUTF();
+    String className = in.readUTF();
+    String methodName = in.readUTF();
+    String signature = in.readUTF();
+    nodes.put(id, new StackNode(packageName + '.' + className, methodName, signature, testMethod));
+  }
+
+  private void readChunk(DataInputStream in) throws IOException {
+    long threadId = in.readLong();
+    int size = in.readInt();
+    List<GraphWriter> threadWriters = writers(threadId);
+    int i = 0;
+    while (i < size) {
+      int event = in.readInt();
+      i++;
+      if (event == BinaryGraphWriter.END) {
+        for (GraphWriter writer : threadWriters) {
+          writer.end();
+        }
+      } else if (event == BinaryGraphWriter.TEST) {
+        StackNode test = node(in.readInt());
+        i++;
+        for (GraphWriter writer : threadWriters) {
+          writer.node(test);
+        }
+      } else {
+        StackNode from = node(event);
+        StackNode to = node(in.readInt());
+        i++;
+        for (GraphWriter writer : threadWriters) {
+          writer.edge(from, to);
+        }
+      }
+    }
+  }
+
+  private StackNode node(int id) throws IOException {
+    StackNode node = nodes.get(id);
+    if (node == null) {
+      throw new IOException("Binary call graph refers to unknown node " + id);
+    }
+    return node;
+  }
+
+  private List<GraphWriter> writers(long threadId) throws IOException {
+    List<GraphWriter> threadWriters = writers.get(threadId);
+    if (threadWriters == null) {
+      threadWriters = new ArrayList<>();
+      for (Target target : targets) {
+        switch (target) {
+          case COVERAGE_JSON:
+            threadWriters.add(new JSONCoverageFileWriter(threadId));
+            break;
+          case GRAPH_DB_CSV:
+            threadWriters.add(new GraphDBCSVFileWriter(threadId));
+            break;
+          default:
+            throw new IllegalArgumentException("Cannot convert to " + target);
+        }
+      }
+      writers.put(threadId, threadWriters);
+    }
+    return threadWriters;
+  }
+}
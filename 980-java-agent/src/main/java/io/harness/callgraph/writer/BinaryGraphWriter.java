@@ -0,0 +1,71 @@
+package io.harness.callgraph.writer;
+
+import io.harness.callgraph.util.StackNode;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Writes the compact binary call graph.
+ *
+ * The file starts with {@link #MAGIC} and {@link #VERSION}, followed by records of two kinds. A node record assigns an
+ * id to a method, it always comes before the first chunk that refers to the id. A chunk record holds the events one
+ * thread recorded, as ints: {@link #TEST} followed by the id of a test method that starts a graph, a pair of ids for an
+ * edge from the first to the second method, or {@link #END} once the graph of the test is complete.
+ */
+public class BinaryGraphWriter implements Closeable {
+  public static final int MAGIC = 0x43474246;
+  public static final int VERSION = 1;
+  public static final byte NODE_RECORD = 1;
+  public static final byte CHUNK_RECORD = 2;
+  public static final int TEST = -1;
+  public static final int END = -2;
+
+  private static final int BUFFER_SIZE = 1 << 16;
+
+  private final DataOutputStream out;
+  private ByteBuffer chunkBytes = ByteBuffer.allocate(0);
+
+  public BinaryGraphWriter(File target) throws IOException {
+    target.getParentFile().mkdirs();
+    out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(target), BUFFER_SIZE));
+    out.writeInt(MAGIC);
+    out.writeInt(VERSION);
+  }
+
+  public void node(int id, StackNode node) throws IOException {
+    out.writeByte(NODE_RECORD);
+    out.writeInt(id);
+    out.writeBoolean(node.isTestMethod());
+    out.writeUTF(node.getPackageName());
+    out.writeUTF(node.getClassName());
+    out.writeUTF(node.getMethodName());
+    out.writeUTF(node.getSignature());
+  }
+
+  public void chunk(long threadId, int[] events, int size) throws IOException {
+    if (chunkBytes.capacity() < size * 4) {
+      chunkBytes = ByteBuffer.allocate(size * 4);
+    }
+    chunkBytes.clear();
+    chunkBytes.asIntBuffer().put(events, 0, size);
+    out.writeByte(CHUNK_RECORD);
+    out.writeLong(threadId);
+    out.writeInt(size);
+    out.write(chunkBytes.array(), 0, size * 4);
+  }
+
+  public void flush() throws IOException {
+    out.flush();
+  }
+
+  @Override
+  public void close() throws IOException {
+    out.close();
+  }
+}
@@ -0,0 +1,141 @@
+package io.harness.callgraph.instr;
+
+import static io.harness.rule.OwnerRule.SHIVAKUMAR;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.callgraph.util.StackNode;
+import io.harness.callgraph.util.Target;
+import io.harness.callgraph.util.config.Config;
+import io.harness.callgraph.util.config.ConfigUtils;
+import io.harness.callgraph.writer.BinaryGraphConverter;
+import io.harness.callgraph.writer.BinaryGraphWriter;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.Mockito;
+
+public class BinaryCallRecorderTest {
+  @Rule public TemporaryFolder tmp = new TemporaryFolder();
+
+  private StackNode node(String method, boolean testMethod) {
+    return new StackNode("io.harness.Sample", method, "", testMethod);
+  }
+
+  @Test
+  @Owner(developers = SHIVAKUMAR)
+  @Category(UnitTests.class)
+  public void testRecordAndConvert() throws IOException {
+    Config config = Mockito.mock(Config.class);
+    Mockito.when(config.outDir()).thenReturn(tmp.getRoot().getCanonicalPath() + File.separator);
+    Mockito.when(config.writeTo()).thenReturn(new Target[] {Target.BINARY});
+    ConfigUtils.inject(config);
+
+    File binary = new File(tmp.getRoot(), "callgraph.bin");
+    BinaryCallRecorder recorder = new BinaryCallRecorder(new BinaryGraphWriter(binary));
+
+    // Calls before a test are not recorded.
+    recorder.called(node("setup", false));
+    recorder.returned(node("setup", false));
+
+    StackNode test = node("test", true);
+    recorder.called(test);
+    for (int i = 0; i < 3; i++) {
+      StackNode outer = node("outer", false);
+      recorder.called(outer);
+      StackNode inner = node("inner", false);
+      recorder.called(inner);
+      recorder.returned(inner);
+      recorder.returned(outer);
+    }
+    recorder.returned(test);
+    recorder.shutdown();
+
+    new BinaryGraphConverter(Target.GRAPH_DB_CSV).convert(binary);
+
+    List<String> lines = Files.readAllLines(
+        new File(tmp.getRoot(), String.format("cg/graphdb-%d.csv", Thread.currentThread().getId())).toPath());
+    assertThat(lines).hasSize(2);
+    assertThat(lines.get(0))
+        .contains("Test|io.harness|Sample|test|void")
+        .contains("Source|io.harness|Sample|outer|void");
+    assertThat(lines.get(1))
+        .contains("Source|io.harness|Sample|outer|void")
+        .contains("Source|io.harness|Sample|inner|void");
+  }
+
+  @Test
+  @Owner(developers = SHIVAKUMAR)
+  @Category(UnitTests.class)
+  public void testOnlyThreadsRunningTestsAreTracked() throws IOException {
+    BinaryCallRecorder recorder = new BinaryCallRecorder(new BinaryGraphWriter(new File(tmp.getRoot(), "cg.bin")));
+
+    recorder.called(node("setup", false));
+    assertThat(recorder.runningTests()).isEqualTo(0);
+    recorder.returned(node("setup", false));
+
+    for (int i = 0; i < 2; i++) {
+      StackNode test = node("test", true);
+      recorder.called(test);
+      recorder.called(node("outer", false));
+      assertThat(recorder.runningTests()).isEqualTo(1);
+      recorder.returned(node("outer", false));
+      recorder.returned(test);
+      assertThat(recorder.runningTests()).isEqualTo(0);
+    }
+    recorder.shutdown();
+  }
+
+  @Test
+  @Owner(developers = SHIVAKUMAR)
+  @Category(UnitTests.class)
+  public void testShutdownWritesEventsOfRunningTests() throws Exception {
+    Config config = Mockito.mock(Config.class);
+    Mockito.when(config.outDir()).thenReturn(tmp.getRoot().getCanonicalPath() + File.separator);
+    Mockito.when(config.writeTo()).thenReturn(new Target[] {Target.BINARY});
+    ConfigUtils.inject(config);
+
+    File binary = new File(tmp.getRoot(), "callgraph.bin");
+    BinaryCallRecorder recorder = new BinaryCallRecorder(new BinaryGraphWriter(binary));
+
+    CountDownLatch recorded = new CountDownLatch(1);
+    CountDownLatch shutdown = new CountDownLatch(1);
+    Thread testThread = new Thread(() -> {
+      recorder.called(node("test", true));
+      recorder.called(node("outer", false));
+      recorder.called(node("inner", false));
+      recorded.countDown();
+      try {
+        shutdown.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    });
+    testThread.start();
+    recorded.await();
+    recorder.shutdown();
+    shutdown.countDown();
+    testThread.join();
+
+    new BinaryGraphConverter(Target.GRAPH_DB_CSV).convert(binary);
+
+    List<String> lines = Files.readAllLines(
+        new File(tmp.getRoot(), String.format("cg/graphdb-%d.csv", testThread.getId())).toPath());
+    assertThat(lines).hasSize(2);
+    assertThat(lines.get(0))
+        .contains("Test|io.harness|Sample|test|void")
+        .contains("Source|io.harness|Sample|outer|void");
+    assertThat(lines.get(1))
+        .contains("Source|io.harness|Sample|outer|void")
+        .contains("Source|io.harness|Sample|inner|void");
+  }
+}